@@ -29,6 +29,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.Body;
 import org.apache.camel.CamelContext;
@@ -65,6 +67,7 @@ public class BeanInfo {
         "clone", "equals", "finalize", "getClass", "hashCode", "notify", "notifyAll", "wait", // java.lang.Object
         "getInvocationHandler", "getProxyClass", "isProxyClass", "newProxyInstance" // java.lang.Proxy
     };
+    private static final int MAX_CHOSEN_METHODS = 1000;
     private final CamelContext camelContext;
     private final BeanComponent component;
     private final Class<?> type;
@@ -77,6 +80,8 @@ public class BeanInfo {
     private List<MethodInfo> operationsWithCustomAnnotation = new ArrayList<>();
     private List<MethodInfo> operationsWithHandlerAnnotation = new ArrayList<>();
     private Map<Method, MethodInfo> methodMap = new HashMap<>();
+    // cache of the chosen methods (shared state as well) so the method is only chosen once per kind of exchange
+    private Map<ChosenMethodKey, MethodInfo> chosenMethods = new ConcurrentHashMap<>();
     private boolean publicConstructors;
     private boolean publicNoArgConstructors;
 
@@ -111,6 +116,7 @@ public class BeanInfo {
             operationsWithCustomAnnotation = beanInfo.operationsWithCustomAnnotation;
             operationsWithHandlerAnnotation = beanInfo.operationsWithHandlerAnnotation;
             methodMap = beanInfo.methodMap;
+            chosenMethods = beanInfo.chosenMethods;
             publicConstructors = beanInfo.publicConstructors;
             publicNoArgConstructors = beanInfo.publicNoArgConstructors;
             return;
@@ -233,7 +239,7 @@ public class BeanInfo {
 
                     // but first let's try to choose a method and see if that complies with the name
                     // must use the method name which may have qualifiers
-                    methodInfo = chooseMethod(pojo, exchange, methodName);
+                    methodInfo = chooseMethodCached(pojo, exchange, methodName);
 
                     // validate that if we want an explicit no-arg method, then that's what we get
                     if (emptyParameters) {
@@ -255,7 +261,7 @@ public class BeanInfo {
 
         if (methodInfo == null && methodMap.size() >= 2) {
             // only try to choose if there is at least 2 methods
-            methodInfo = chooseMethod(pojo, exchange, null);
+            methodInfo = chooseMethodCached(pojo, exchange, null);
         }
         if (methodInfo == null) {
             methodInfo = defaultMethod;
@@ -848,6 +854,41 @@ public class BeanInfo {
         return null;
     }
 
+    /**
+     * Chooses a method to invoke, which is cached when the choice only depends on the method name, the type of the message body,
+     * the exchange pattern and whether the exchange has an exception.
+     *
+     * @see #chooseMethod(Object, Exchange, String)
+     */
+    private MethodInfo chooseMethodCached(Object pojo, Exchange exchange, String name) throws AmbiguousMethodCallException {
+        // method names with parameter values are evaluated per exchange so they cannot be cached
+        boolean cacheable = name == null || name.indexOf('(') == -1 || name.endsWith("()");
+        if (!cacheable) {
+            return chooseMethod(pojo, exchange, name);
+        }
+
+        Object body = exchange.getIn().getBody();
+        Class<?> bodyType = body != null ? body.getClass() : null;
+        boolean exception = exchange.getException() != null || exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null;
+        ChosenMethodKey key = new ChosenMethodKey(name, bodyType, exchange.getPattern().isOutCapable(), exception);
+
+        MethodInfo answer = chosenMethods.get(key);
+        if (answer == null) {
+            answer = chooseMethod(pojo, exchange, name);
+            // do not cache if the body was converted to the parameter type, as then the body must be converted again
+            Class<?> parameterType = answer != null ? answer.getBodyParameterType() : null;
+            if (answer != null && (body == null || parameterType == null || parameterType.isInstance(body))) {
+                if (chosenMethods.size() >= MAX_CHOSEN_METHODS) {
+                    chosenMethods.clear();
+                }
+                chosenMethods.put(key, answer);
+            }
+        } else {
+            LOG.trace("Using cached chosen method: {}", answer);
+        }
+        return answer;
+    }
+
     /**
      * Validates whether the given method is a valid candidate for Camel Bean Binding.
      *
@@ -1266,4 +1307,41 @@ public class BeanInfo {
         return name;
     }
 
+
+    /**
+     * Key for the cache of the chosen methods
+     */
+    private static final class ChosenMethodKey {
+        private final String name;
+        private final Class<?> bodyType;
+        private final boolean outCapable;
+        private final boolean exception;
+        private final int hash;
+
+        ChosenMethodKey(String name, Class<?> bodyType, boolean outCapable, boolean exception) {
+            this.name = name;
+            this.bodyType = bodyType;
+            this.outCapable = outCapable;
+            this.exception = exception;
+            this.hash = Objects.hash(name, bodyType, outCapable, exception);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ChosenMethodKey)) {
+                return false;
+            }
+            ChosenMethodKey that = (ChosenMethodKey) o;
+            return outCapable == that.outCapable && exception == that.exception
+                && bodyType == that.bodyType && Objects.equals(name, that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
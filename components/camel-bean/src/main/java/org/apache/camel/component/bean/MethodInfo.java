@@ -17,6 +17,9 @@
 package org.apache.camel.component.bean;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.InvocationTargetException;
@@ -45,6 +48,7 @@ import org.apache.camel.Pattern;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.RuntimeExchangeException;
 import org.apache.camel.StreamCache;
+import org.apache.camel.spi.Language;
 import org.apache.camel.support.DefaultMessage;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.ExpressionAdapter;
@@ -64,6 +68,7 @@ import static org.apache.camel.util.ObjectHelper.asString;
  */
 public class MethodInfo {
     private static final Logger LOG = LoggerFactory.getLogger(MethodInfo.class);
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
 
     private CamelContext camelContext;
     private Class<?> type;
@@ -72,6 +77,12 @@ public class MethodInfo {
     private final List<ParameterInfo> bodyParameters;
     private final boolean hasCustomAnnotation;
     private final boolean hasHandlerAnnotation;
+    private final Class<?>[] parameterTypes;
+    private final Class<?>[] methodParameterTypes;
+    private final Class<?>[] boxedParameterTypes;
+    private volatile MethodHandle methodHandle;
+    private volatile boolean methodHandleResolved;
+    private volatile Language simple;
     private Expression parametersExpression;
     private ExchangePattern pattern = ExchangePattern.InOut;
     private AsyncProcessor recipientList;
@@ -114,6 +125,15 @@ public class MethodInfo {
         this.bodyParameters = bodyParameters;
         this.hasCustomAnnotation = hasCustomAnnotation;
         this.hasHandlerAnnotation = hasHandlerAnnotation;
+        this.parameterTypes = new Class<?>[parameters.size()];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypes[i] = parameters.get(i).getType();
+        }
+        this.methodParameterTypes = method.getParameterTypes();
+        this.boxedParameterTypes = new Class<?>[methodParameterTypes.length];
+        for (int i = 0; i < boxedParameterTypes.length; i++) {
+            boxedParameterTypes[i] = org.apache.camel.util.ObjectHelper.convertPrimitiveTypeToWrapperType(methodParameterTypes[i]);
+        }
         this.parametersExpression = createParametersExpression();
 
         Map<Class<?>, Annotation> collectedMethodAnnotation = collectMethodAnnotations(type, method);
@@ -417,6 +437,18 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (mth == method) {
+            // invoke using a method handle which is faster than reflection, but only when the arguments
+            // matches the parameter types, so any error is reported the same way as when using reflection
+            MethodHandle handle = getMethodHandle();
+            if (handle != null && isInvokableWith(pojo, arguments)) {
+                try {
+                    return (Object) handle.invokeExact(pojo, arguments);
+                } catch (Throwable e) {
+                    throw new InvocationTargetException(e);
+                }
+            }
+        }
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -426,6 +458,51 @@ public class MethodInfo {
         }
     }
 
+    /**
+     * Gets the method handle (adapted to the signature <tt>Object (Object pojo, Object[] arguments)</tt>)
+     * used for invoking the method, or <tt>null</tt> if a method handle cannot be used and reflection is used instead.
+     */
+    protected MethodHandle getMethodHandle() {
+        if (!methodHandleResolved) {
+            MethodHandle handle = null;
+            try {
+                method.setAccessible(true);
+                handle = MethodHandles.lookup().unreflect(method);
+                if (isStaticMethod()) {
+                    // ignore the pojo for static methods
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                }
+                int count = methodParameterTypes.length;
+                handle = handle.asType(MethodType.genericMethodType(count + 1))
+                        .asSpreader(Object[].class, count)
+                        .asType(INVOKER_TYPE);
+            } catch (Exception e) {
+                LOG.debug("Cannot create method handle for method: {} (reflection is used instead) due to: {}", method, e.getMessage());
+                handle = null;
+            }
+            methodHandle = handle;
+            methodHandleResolved = true;
+        }
+        return methodHandle;
+    }
+
+    private boolean isInvokableWith(Object pojo, Object[] arguments) {
+        if (!isStaticMethod() && !method.getDeclaringClass().isInstance(pojo)) {
+            return false;
+        }
+        int count = arguments != null ? arguments.length : 0;
+        if (count != boxedParameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            Object arg = arguments[i];
+            if (arg == null ? methodParameterTypes[i].isPrimitive() : !boxedParameterTypes[i].isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -573,9 +650,12 @@ public class MethodInfo {
      */
     private final class ParameterExpression implements Expression {
         private final Expression[] expressions;
+        // the parameter values from the method name compiled on first use, per parameter
+        private final ParameterValueExpression[] valueExpressions;
 
         ParameterExpression(Expression[] expressions) {
             this.expressions = expressions;
+            this.valueExpressions = new ParameterValueExpression[expressions.length];
         }
 
         @Override
@@ -624,7 +704,7 @@ public class MethodInfo {
                 // grab the parameter value for the given index
                 Object parameterValue = it != null && it.hasNext() ? it.next() : null;
                 // and the expected parameter type
-                Class<?> parameterType = parameters.get(i).getType();
+                Class<?> parameterType = parameterTypes[i];
                 // the value for the parameter to use
                 Object value = null;
 
@@ -666,23 +746,22 @@ public class MethodInfo {
             // convert the parameter value to a String
             String exp = exchange.getContext().getTypeConverter().convertTo(String.class, exchange, parameterValue);
             if (exp != null) {
-                // check if its a valid parameter value
-                boolean valid = BeanHelper.isValidParameterValue(exp);
-
-                if (!valid) {
-                    // it may be a parameter type instead, and if so, then we should return null,
+                // the method name is usually the same for every exchange so only compile the parameter value once
+                ParameterValueExpression valueExpression = valueExpressions[index];
+                if (valueExpression == null || !valueExpression.value.equals(exp)) {
+                    valueExpression = createParameterValueExpression(exchange, index, exp, parameterType);
+                    valueExpressions[index] = valueExpression;
+                }
+                if (valueExpression.expression == null) {
+                    // its a parameter type instead, and then we should return null,
                     // as this method is only for evaluating parameter values
-                    Boolean isClass = BeanHelper.isAssignableToExpectedType(exchange.getContext().getClassResolver(), exp, parameterType);
-                    // the method will return a non null value if exp is a class
-                    if (isClass != null) {
-                        return null;
-                    }
+                    return null;
                 }
+                boolean valid = valueExpression.valid;
 
                 // use simple language to evaluate the expression, as it may use the simple language to refer to message body, headers etc.
-                Expression expression = null;
+                Expression expression = valueExpression.expression;
                 try {
-                    expression = exchange.getContext().resolveLanguage("simple").createExpression(exp);
                     parameterValue = expression.evaluate(exchange, Object.class);
                     // use "null" to indicate the expression returned a null value which is a valid response we need to honor
                     if (parameterValue == null) {
@@ -738,6 +817,34 @@ public class MethodInfo {
             return answer;
         }
 
+        /**
+         * Creates the simple expression for the given parameter value, or one without an expression if the parameter
+         * value is a parameter type.
+         */
+        private ParameterValueExpression createParameterValueExpression(Exchange exchange, int index, String exp, Class<?> parameterType) {
+            // check if its a valid parameter value
+            boolean valid = BeanHelper.isValidParameterValue(exp);
+
+            if (!valid) {
+                // it may be a parameter type instead
+                Boolean isClass = BeanHelper.isAssignableToExpectedType(exchange.getContext().getClassResolver(), exp, parameterType);
+                // the method will return a non null value if exp is a class
+                if (isClass != null) {
+                    return new ParameterValueExpression(exp, false, null);
+                }
+            }
+
+            try {
+                if (simple == null) {
+                    simple = exchange.getContext().resolveLanguage("simple");
+                }
+                return new ParameterValueExpression(exp, valid, simple.createExpression(exp));
+            } catch (Exception e) {
+                throw new ExpressionEvaluationException(null, "Cannot create/evaluate simple expression: " + exp
+                        + " to be bound to parameter at index: " + index + " on method: " + getMethod(), exchange, e);
+            }
+        }
+
         /**
          * Evaluate using classic parameter binding using the pre compute expression
          */
@@ -777,4 +884,19 @@ public class MethodInfo {
         }
 
     }
+
+    /**
+     * A parameter value from the method name with its compiled simple expression
+     */
+    private static final class ParameterValueExpression {
+        private final String value;
+        private final boolean valid;
+        private final Expression expression;
+
+        ParameterValueExpression(String value, boolean valid, Expression expression) {
+            this.value = value;
+            this.valid = valid;
+            this.expression = expression;
+        }
+    }
 }
@@ -21,6 +21,7 @@ import java.util.Map;
 
 import org.apache.camel.Component;
 import org.apache.camel.Consumer;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.spi.Metadata;
@@ -96,6 +97,17 @@ public class DirectEndpoint extends DefaultEndpoint {
 
     protected DirectConsumer getConsumer() throws InterruptedException {
         String key = getKey();
+        synchronized (consumers) {
+            DirectConsumer answer = consumers.get(key);
+            if (answer != null) {
+                return answer;
+            }
+        }
+
+        // the route may be dormant (lazy started) so start the route on first use
+        // (must be done outside the lock as the route adds its consumer when started)
+        getCamelContext().adapt(ExtendedCamelContext.class).startDormantRoute(this);
+
         synchronized (consumers) {
             DirectConsumer answer = consumers.get(key);
             if (answer == null && block) {
@@ -112,9 +112,13 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "moveExistingFileStrategy": target.setMoveExistingFileStrategy(property(camelContext, org.apache.camel.component.file.strategy.FileMoveExistingStrategy.class, value)); return true;
         case "movefailed":
         case "moveFailed": target.setMoveFailed(property(camelContext, java.lang.String.class, value)); return true;
+        case "nioscan":
+        case "nioScan": target.setNioScan(property(camelContext, boolean.class, value)); return true;
         case "noop": target.setNoop(property(camelContext, boolean.class, value)); return true;
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": target.setOnCompletionExceptionHandler(property(camelContext, org.apache.camel.spi.ExceptionHandler.class, value)); return true;
+        case "parallelscan":
+        case "parallelScan": target.setParallelScan(property(camelContext, boolean.class, value)); return true;
         case "pollstrategy":
         case "pollStrategy": target.setPollStrategy(property(camelContext, org.apache.camel.spi.PollingConsumerPollStrategy.class, value)); return true;
         case "premove":
@@ -186,6 +190,9 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
         case "usefixeddelay":
         case "useFixedDelay": target.setUseFixedDelay(property(camelContext, boolean.class, value)); return true;
+        case "watch": target.setWatch(property(camelContext, boolean.class, value)); return true;
+        case "watchrescaninterval":
+        case "watchRescanInterval": target.setWatchRescanInterval(property(camelContext, long.class, value)); return true;
         default: return false;
         }
     }
@@ -245,8 +252,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         answer.put("moveExisting", java.lang.String.class);
         answer.put("moveExistingFileStrategy", org.apache.camel.component.file.strategy.FileMoveExistingStrategy.class);
         answer.put("moveFailed", java.lang.String.class);
+        answer.put("nioScan", boolean.class);
         answer.put("noop", boolean.class);
         answer.put("onCompletionExceptionHandler", org.apache.camel.spi.ExceptionHandler.class);
+        answer.put("parallelScan", boolean.class);
         answer.put("pollStrategy", org.apache.camel.spi.PollingConsumerPollStrategy.class);
         answer.put("preMove", java.lang.String.class);
         answer.put("preSort", boolean.class);
@@ -285,6 +294,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         answer.put("tempPrefix", java.lang.String.class);
         answer.put("timeUnit", java.util.concurrent.TimeUnit.class);
         answer.put("useFixedDelay", boolean.class);
+        answer.put("watch", boolean.class);
+        answer.put("watchRescanInterval", long.class);
         return answer;
     }
 
@@ -385,9 +396,13 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "moveExistingFileStrategy": return target.getMoveExistingFileStrategy();
         case "movefailed":
         case "moveFailed": return target.getMoveFailed();
+        case "nioscan":
+        case "nioScan": return target.isNioScan();
         case "noop": return target.isNoop();
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": return target.getOnCompletionExceptionHandler();
+        case "parallelscan":
+        case "parallelScan": return target.isParallelScan();
         case "pollstrategy":
         case "pollStrategy": return target.getPollStrategy();
         case "premove":
@@ -459,6 +474,9 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return target.getTimeUnit();
         case "usefixeddelay":
         case "useFixedDelay": return target.isUseFixedDelay();
+        case "watch": return target.isWatch();
+        case "watchrescaninterval":
+        case "watchRescanInterval": return target.getWatchRescanInterval();
         default: return null;
         }
     }
@@ -18,19 +18,39 @@ package org.apache.camel.component.file;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -44,6 +64,15 @@ public class FileConsumer extends GenericFileConsumer<File> {
     private static final Logger LOG = LoggerFactory.getLogger(FileConsumer.class);
     private String endpointPath;
     private Set<String> extendedAttributes;
+    private ExecutorService scanPool;
+    // the state of the watch mode, which is only accessed by the watcher thread (after started)
+    private volatile WatchService watchService;
+    private ExecutorService watchExecutor;
+    private Path watchRoot;
+    private boolean rootWatched;
+    private boolean watchFullScan;
+    private boolean watchLimitHit;
+    private final Set<Path> changedFiles = new LinkedHashSet<>();
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations, GenericFileProcessStrategy<File> processStrategy) {
         super(endpoint, processor, operations, processStrategy);
@@ -57,22 +86,37 @@ public class FileConsumer extends GenericFileConsumer<File> {
 
     @Override
     protected boolean pollDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
+        if (watchService != null && depth == 0) {
+            boolean answer;
+            if (watchFullScan) {
+                // the changed files are included in the full scan
+                changedFiles.clear();
+                answer = scanDirectory(fileName, fileList, depth);
+            } else {
+                answer = pollChangedFiles(fileList);
+            }
+            watchLimitHit = !answer;
+            return answer;
+        }
+        return scanDirectory(fileName, fileList, depth);
+    }
+
+    private boolean scanDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
+        if (scanPool != null) {
+            return pollDirectoryParallel(fileName, fileList, depth);
+        } else if (getEndpoint().isNioScan()) {
+            return pollDirectoryStream(fileName, fileList, depth);
+        }
+
         LOG.trace("pollDirectory from fileName: {}", fileName);
 
         depth++;
 
         File directory = new File(fileName);
-        if (!directory.exists() || !directory.isDirectory()) {
-            LOG.debug("Cannot poll as directory does not exists or its not a directory: {}", directory);
-            if (getEndpoint().isDirectoryMustExist()) {
-                throw new GenericFileOperationFailedException("Directory does not exist: " + directory);
-            }
+        if (!isPollableDirectory(directory)) {
             return true;
         }
 
-        if (LOG.isTraceEnabled()) {
-            LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
-        }
         File[] dirFiles = directory.listFiles();
         if (dirFiles == null || dirFiles.length == 0) {
             // no files in this directory to poll
@@ -123,50 +167,349 @@ public class FileConsumer extends GenericFileConsumer<File> {
                     LOG.trace("Adding valid file: {}", file);
                     // matched file so add
                     if (extendedAttributes != null) {
-                        Path path = file.toPath();
-                        Map<String, Object> allAttributes = new HashMap<>();
-                        for (String attribute : extendedAttributes) {
-                            try {
-                                String prefix = null;
-                                if (attribute.endsWith(":*")) {
-                                    prefix = attribute.substring(0, attribute.length() - 1);
-                                } else if (attribute.equals("*")) {
-                                    prefix = "basic:";
-                                }
-
-                                if (ObjectHelper.isNotEmpty(prefix)) {
-                                    Map<String, Object> attributes = Files.readAttributes(path, attribute);
-                                    if (attributes != null) {
-                                        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
-                                            allAttributes.put(prefix + entry.getKey(), entry.getValue());
-                                        }
-                                    }
-                                } else if (!attribute.contains(":")) {
-                                    allAttributes.put("basic:" + attribute, Files.getAttribute(path, attribute));
-                                } else {
-                                    allAttributes.put(attribute, Files.getAttribute(path, attribute));
-                                }
-                            } catch (IOException e) {
-                                if (LOG.isDebugEnabled()) {
-                                    LOG.debug("Unable to read attribute {} on file {}", attribute, file, e);
-                                }
-                            }
+                        gf.setExtendedAttributes(readExtendedAttributes(file));
+                    }
+
+                    fileList.add(gf);
+                }
+
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Polls the directory using a {@link DirectoryStream} which lists the files lazily, so the polling can stop
+     * as soon as the maximum messages per poll has been gathered.
+     */
+    protected boolean pollDirectoryStream(String fileName, List<GenericFile<File>> fileList, int depth) {
+        LOG.trace("pollDirectoryStream from fileName: {}", fileName);
+
+        depth++;
+
+        File directory = new File(fileName);
+        if (!isPollableDirectory(directory)) {
+            return true;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
+            Iterable<Path> paths = stream;
+            if (getEndpoint().isPreSort()) {
+                // the files must be sorted so we need all the files in the directory
+                List<Path> sorted = new ArrayList<>();
+                stream.forEach(sorted::add);
+                sorted.sort(null);
+                paths = sorted;
+            }
+            for (Path path : paths) {
+                // check if we can continue polling in files
+                if (!canPollMoreFiles(fileList)) {
+                    return false;
+                }
+
+                BasicFileAttributes attributes = readAttributes(path);
+                if (attributes == null) {
+                    continue;
+                }
+                File file = new File(fileName + File.separator + path.getFileName());
+                GenericFile<File> gf = asGenericFile(endpointPath, file, attributes, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+
+                if (attributes.isDirectory()) {
+                    if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, null)) {
+                        // recursive scan and add the sub files and folders
+                        boolean canPollMore = pollDirectoryStream(file.getPath(), fileList, depth);
+                        if (!canPollMore) {
+                            return false;
+                        }
+                    }
+                } else if (depth >= endpoint.minDepth && isValidFile(gf, false, null)) {
+                    addValidFile(gf, fileList);
+                }
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            LOG.debug("Cannot list files in directory: {} due to: {}", directory, e.getMessage());
+        }
+
+        return true;
+    }
+
+    /**
+     * Polls the directory where the directories are listed in parallel using a thread pool, while the files
+     * are filtered on the current thread. The sub directories are listed in parallel as soon as they are found,
+     * which means the files are gathered breadth first, directory by directory.
+     */
+    protected boolean pollDirectoryParallel(String fileName, List<GenericFile<File>> fileList, int depth) {
+        LOG.trace("pollDirectoryParallel from fileName: {}", fileName);
+
+        if (!isPollableDirectory(new File(fileName))) {
+            return true;
+        }
+
+        Deque<ScanTask> pending = new ArrayDeque<>();
+        pending.add(scan(fileName, depth + 1));
+        try {
+            while (!pending.isEmpty()) {
+                ScanTask task = pending.poll();
+                for (ScanEntry entry : task.entries()) {
+                    // check if we can continue polling in files
+                    if (!canPollMoreFiles(fileList)) {
+                        return false;
+                    }
+
+                    GenericFile<File> gf = asGenericFile(endpointPath, entry.file, entry.attributes, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+                    if (entry.attributes.isDirectory()) {
+                        if (endpoint.isRecursive() && task.depth < endpoint.getMaxDepth() && isValidFile(gf, true, null)) {
+                            // list the sub directory in parallel
+                            pending.add(scan(entry.file.getPath(), task.depth + 1));
                         }
+                    } else if (task.depth >= endpoint.minDepth && isValidFile(gf, false, null)) {
+                        addValidFile(gf, fileList);
+                    }
+                }
+            }
+        } finally {
+            // the sub directories which are not needed anymore
+            for (ScanTask task : pending) {
+                task.cancel(false);
+            }
+        }
+
+        return true;
+    }
+
+    private ScanTask scan(String directory, int depth) {
+        ScanTask task = new ScanTask(directory, depth, getEndpoint().isPreSort());
+        scanPool.execute(task);
+        return task;
+    }
+
+    /**
+     * Polls the files which the watch service has reported as created or modified since the last poll. The files are
+     * in the watched directories only, which are the directories that would be scanned when polling.
+     */
+    protected boolean pollChangedFiles(List<GenericFile<File>> fileList) {
+        LOG.trace("pollChangedFiles with {} changed files", changedFiles.size());
 
-                        gf.setExtendedAttributes(allAttributes);
+        for (Iterator<Path> it = changedFiles.iterator(); it.hasNext();) {
+            // check if we can continue polling in files (the remainder is polled next time)
+            if (!canPollMoreFiles(fileList)) {
+                return false;
+            }
+
+            Path path = it.next();
+            it.remove();
+
+            BasicFileAttributes attributes = readAttributes(path);
+            if (attributes == null || attributes.isDirectory()) {
+                continue;
+            }
+            Path relative = watchRoot.relativize(path);
+            if (relative.getNameCount() < endpoint.minDepth) {
+                continue;
+            }
+            File file = new File(endpointPath + File.separator + relative);
+            GenericFile<File> gf = asGenericFile(endpointPath, file, attributes, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+            if (isValidFile(gf, false, null)) {
+                addValidFile(gf, fileList);
+            }
+        }
+
+        return true;
+    }
+
+    private void watchFiles() {
+        final WatchService service = watchService;
+        final long interval = getEndpoint().getWatchRescanInterval();
+        long nextScan = 0;
+        while (isRunAllowed()) {
+            try {
+                if (!rootWatched) {
+                    rootWatched = watchDirectory(watchRoot, false);
+                }
+                if (!watchFullScan && !watchLimitHit) {
+                    // wait for changes until its time to scan the directory in full
+                    long timeout = interval > 0 ? Math.max(nextScan - System.currentTimeMillis(), 0) : -1;
+                    if (!rootWatched) {
+                        // the directory does not exist yet, so check again later
+                        timeout = timeout < 0 ? getDelay() : Math.min(timeout, getDelay());
                     }
+                    WatchKey key = timeout < 0 ? service.take() : service.poll(timeout, TimeUnit.MILLISECONDS);
+                    while (key != null) {
+                        onWatchEvents(key);
+                        key = service.poll();
+                    }
+                    if (interval > 0 && System.currentTimeMillis() >= nextScan) {
+                        watchFullScan = true;
+                    }
+                }
+                if (watchFullScan || watchLimitHit || !changedFiles.isEmpty()) {
+                    boolean fullScan = watchFullScan;
+                    watchLimitHit = false;
+                    run();
+                    // scan in full again if there were more files than could be polled at once
+                    if (fullScan && !watchLimitHit) {
+                        watchFullScan = false;
+                        nextScan = System.currentTimeMillis() + interval;
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                LOG.trace("Watching directory: {} is stopped", watchRoot);
+                return;
+            }
+        }
+    }
 
-                    fileList.add(gf);
+    private void onWatchEvents(WatchKey key) {
+        Path dir = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                LOG.debug("Events for directory: {} were lost, will scan the directory in full", watchRoot);
+                watchFullScan = true;
+                continue;
+            }
+            Path path = dir.resolve((Path) event.context());
+            if (Files.isDirectory(path)) {
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && isWatchedDirectory(path)) {
+                    // the files may be created before the directory is watched
+                    watchDirectory(path, true);
+                }
+            } else if (endpoint.getDoneFileName() != null && endpoint.isDoneFile(path.getFileName().toString())) {
+                // the files in the directory may now be done
+                addChangedFiles(dir);
+            } else {
+                changedFiles.add(path);
+            }
+        }
+        if (!key.reset()) {
+            LOG.debug("Directory: {} is no longer watched", dir);
+            if (dir.equals(watchRoot)) {
+                rootWatched = false;
+            }
+        }
+    }
+
+    private boolean watchDirectory(Path dir, boolean created) {
+        WatchService service = watchService;
+        if (service == null) {
+            return false;
+        }
+        try {
+            dir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            LOG.debug("Cannot watch directory: {} due to: {}", dir, e.getMessage());
+            return false;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path path : stream) {
+                if (Files.isDirectory(path)) {
+                    if (isWatchedDirectory(path)) {
+                        watchDirectory(path, created);
+                    }
+                } else if (created) {
+                    changedFiles.add(path);
                 }
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            LOG.debug("Cannot list files in directory: {} due to: {}", dir, e.getMessage());
+        }
+        return true;
+    }
 
+    private boolean isWatchedDirectory(Path dir) {
+        if (!endpoint.isRecursive() || watchRoot.relativize(dir).getNameCount() >= endpoint.getMaxDepth()) {
+            return false;
+        }
+        File file = new File(endpointPath + File.separator + watchRoot.relativize(dir));
+        return isValidFile(asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType()), true, null);
+    }
+
+    private void addChangedFiles(Path dir) {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path path : stream) {
+                changedFiles.add(path);
             }
+        } catch (IOException | DirectoryIteratorException e) {
+            LOG.debug("Cannot list files in directory: {} due to: {}", dir, e.getMessage());
         }
+    }
 
+    private boolean isPollableDirectory(File directory) {
+        if (!directory.exists() || !directory.isDirectory()) {
+            LOG.debug("Cannot poll as directory does not exists or its not a directory: {}", directory);
+            if (getEndpoint().isDirectoryMustExist()) {
+                throw new GenericFileOperationFailedException("Directory does not exist: " + directory);
+            }
+            return false;
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
+        }
         return true;
     }
 
+    private void addValidFile(GenericFile<File> gf, List<GenericFile<File>> fileList) {
+        LOG.trace("Adding valid file: {}", gf.getFile());
+        if (extendedAttributes != null) {
+            gf.setExtendedAttributes(readExtendedAttributes(gf.getFile()));
+        }
+        fileList.add(gf);
+    }
+
+    private Map<String, Object> readExtendedAttributes(File file) {
+        Path path = file.toPath();
+        Map<String, Object> allAttributes = new HashMap<>();
+        for (String attribute : extendedAttributes) {
+            try {
+                String prefix = null;
+                if (attribute.endsWith(":*")) {
+                    prefix = attribute.substring(0, attribute.length() - 1);
+                } else if (attribute.equals("*")) {
+                    prefix = "basic:";
+                }
+
+                if (ObjectHelper.isNotEmpty(prefix)) {
+                    Map<String, Object> attributes = Files.readAttributes(path, attribute);
+                    if (attributes != null) {
+                        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                            allAttributes.put(prefix + entry.getKey(), entry.getValue());
+                        }
+                    }
+                } else if (!attribute.contains(":")) {
+                    allAttributes.put("basic:" + attribute, Files.getAttribute(path, attribute));
+                } else {
+                    allAttributes.put(attribute, Files.getAttribute(path, attribute));
+                }
+            } catch (IOException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Unable to read attribute {} on file {}", attribute, file, e);
+                }
+            }
+        }
+        return allAttributes;
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // the file may have been deleted in the meantime
+            LOG.trace("Cannot read attributes of file: {} due to: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
     @Override
     protected boolean isMatched(GenericFile<File> file, String doneFileName, List<File> files) {
+        if (files == null) {
+            // the directory was not listed in full so check the done file exists
+            if (new File(doneFileName).exists()) {
+                return true;
+            }
+            LOG.trace("Done file: {} does not exist", doneFileName);
+            return false;
+        }
         String onlyName = FileUtil.stripPath(doneFileName);
         // the done file name must be among the files
         for (File f : files) {
@@ -190,6 +533,33 @@ public class FileConsumer extends GenericFileConsumer<File> {
      */
     public static GenericFile<File> asGenericFile(String endpointPath, File file, String charset, boolean probeContentType) {
         GenericFile<File> answer = new GenericFile<>(probeContentType);
+        answer.setFileLength(file.length());
+        answer.setDirectory(file.isDirectory());
+        answer.setLastModified(file.lastModified());
+        return asGenericFile(answer, endpointPath, file, charset);
+    }
+
+    /**
+     * Creates a new GenericFile<File> based on the given file and its attributes, which avoids reading the
+     * attributes from the file system again.
+     *
+     * @param endpointPath the starting directory the endpoint was configured
+     *            with
+     * @param file the source file
+     * @param attributes the attributes of the file
+     * @param probeContentType whether to probe the content type of the file or
+     *            not
+     * @return wrapped as a GenericFile
+     */
+    public static GenericFile<File> asGenericFile(String endpointPath, File file, BasicFileAttributes attributes, String charset, boolean probeContentType) {
+        GenericFile<File> answer = new GenericFile<>(probeContentType);
+        answer.setFileLength(attributes.size());
+        answer.setDirectory(attributes.isDirectory());
+        answer.setLastModified(attributes.lastModifiedTime().toMillis());
+        return asGenericFile(answer, endpointPath, file, charset);
+    }
+
+    private static GenericFile<File> asGenericFile(GenericFile<File> answer, String endpointPath, File file, String charset) {
         // use file specific binding
         answer.setBinding(new FileBinding());
 
@@ -197,8 +567,6 @@ public class FileConsumer extends GenericFileConsumer<File> {
         answer.setEndpointPath(endpointPath);
         answer.setFile(file);
         answer.setFileNameOnly(file.getName());
-        answer.setFileLength(file.length());
-        answer.setDirectory(file.isDirectory());
         // must use FileUtil.isAbsolute to have consistent check for whether the
         // file is
         // absolute or not. As windows do not consider \ paths as absolute where
@@ -210,7 +578,6 @@ public class FileConsumer extends GenericFileConsumer<File> {
         // to return a consistent answer for all OS platforms.
         answer.setAbsolute(FileUtil.isAbsolute(file));
         answer.setAbsoluteFilePath(file.getAbsolutePath());
-        answer.setLastModified(file.lastModified());
 
         // compute the file path as relative to the starting directory
         File path;
@@ -258,9 +625,116 @@ public class FileConsumer extends GenericFileConsumer<File> {
         return (FileEndpoint)super.getEndpoint();
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        if (getEndpoint().isParallelScan() && scanPool == null) {
+            // the threads are only kept while polling, and the directories to list are queued (not rejected)
+            int poolSize = Runtime.getRuntime().availableProcessors();
+            ThreadPoolProfile profile = new ThreadPoolProfile("FileScan");
+            profile.setPoolSize(poolSize);
+            profile.setMaxPoolSize(poolSize);
+            profile.setKeepAliveTime(60L);
+            profile.setTimeUnit(TimeUnit.SECONDS);
+            profile.setAllowCoreThreadTimeOut(true);
+            profile.setMaxQueueSize(Integer.MAX_VALUE);
+            scanPool = getEndpoint().getCamelContext().getExecutorServiceManager().newThreadPool(this, "FileScan", profile);
+        }
+        if (getEndpoint().isWatch()) {
+            // the files are polled by the watcher thread instead of the scheduler
+            setStartScheduler(false);
+        }
+        super.doStart();
+        if (getEndpoint().isWatch() && watchService == null) {
+            watchRoot = Paths.get(endpointPath);
+            watchService = watchRoot.getFileSystem().newWatchService();
+            // watch before the first scan so no changes are missed in between
+            rootWatched = watchDirectory(watchRoot, false);
+            watchFullScan = true;
+            watchLimitHit = false;
+            changedFiles.clear();
+            watchExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadExecutor(this, "FileWatch");
+            watchExecutor.submit(this::watchFiles);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (watchService != null) {
+            // closing the watch service stops the watcher thread
+            watchService.close();
+            watchService = null;
+        }
+        if (watchExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(watchExecutor);
+            watchExecutor = null;
+        }
+        super.doStop();
+        if (scanPool != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(scanPool);
+            scanPool = null;
+        }
+    }
+
     private boolean fileHasMoved(GenericFile<File> file) {
         // GenericFile's absolute path is always up to date whereas the
         // underlying file is not
         return !file.getFile().getAbsolutePath().equals(file.getAbsoluteFilePath());
     }
+
+    /**
+     * A file found when listing a directory
+     */
+    private static final class ScanEntry {
+        private final File file;
+        private final BasicFileAttributes attributes;
+
+        private ScanEntry(File file, BasicFileAttributes attributes) {
+            this.file = file;
+            this.attributes = attributes;
+        }
+    }
+
+    /**
+     * Task which lists a directory and reads the attributes of its files
+     */
+    private static final class ScanTask extends FutureTask<List<ScanEntry>> {
+        private final int depth;
+
+        private ScanTask(String directory, int depth, boolean sort) {
+            super(() -> list(directory, sort));
+            this.depth = depth;
+        }
+
+        /**
+         * Waits for the directory to be listed
+         */
+        List<ScanEntry> entries() {
+            try {
+                return get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            } catch (ExecutionException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e.getCause());
+            }
+        }
+
+        private static List<ScanEntry> list(String directory, boolean sort) {
+            List<ScanEntry> answer = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(directory))) {
+                for (Path path : stream) {
+                    BasicFileAttributes attributes = readAttributes(path);
+                    if (attributes != null) {
+                        answer.add(new ScanEntry(new File(directory + File.separator + path.getFileName()), attributes));
+                    }
+                }
+            } catch (IOException | DirectoryIteratorException e) {
+                LOG.debug("Cannot list files in directory: {} due to: {}", directory, e.getMessage());
+            }
+            if (sort) {
+                answer.sort(Comparator.comparing(e -> e.file));
+            }
+            return answer;
+        }
+    }
 }
@@ -73,6 +73,14 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean nioScan;
+    @UriParam(label = "consumer,advanced")
+    private boolean parallelScan;
+    @UriParam(label = "consumer,advanced")
+    private boolean watch;
+    @UriParam(label = "consumer,advanced", defaultValue = "60000")
+    private long watchRescanInterval = 60000;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -365,6 +373,60 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isNioScan() {
+        return nioScan;
+    }
+
+    /**
+     * Whether to scan the directories using a java.nio DirectoryStream, which lists the files in a directory lazily
+     * instead of all at once, and reads the attributes of each file only once. When maxMessagesPerPoll is in use then
+     * the scanning stops as soon as enough files has been found, which is much faster for directories with many files.
+     */
+    public void setNioScan(boolean nioScan) {
+        this.nioScan = nioScan;
+    }
+
+    public boolean isParallelScan() {
+        return parallelScan;
+    }
+
+    /**
+     * Whether to list the sub directories in parallel (using a thread pool) when the consumer is recursive. The
+     * files are filtered by the consumer thread and gathered breadth first, directory by directory. The directories are
+     * listed using a java.nio DirectoryStream as with the nioScan option.
+     */
+    public void setParallelScan(boolean parallelScan) {
+        this.parallelScan = parallelScan;
+    }
+
+    public boolean isWatch() {
+        return watch;
+    }
+
+    /**
+     * Whether to use a java.nio WatchService to consume the files as soon as they are created or modified, instead of
+     * polling the directory using the scheduler. Only the changed files are checked (using the same filters, readLock,
+     * idempotent and move options as when polling), and the directory is scanned in full on startup and periodically
+     * (see watchRescanInterval) to pick up files that the file system did not report, or which could not be consumed
+     * the first time. The scheduler options such as delay are not in use.
+     */
+    public void setWatch(boolean watch) {
+        this.watch = watch;
+    }
+
+    public long getWatchRescanInterval() {
+        return watchRescanInterval;
+    }
+
+    /**
+     * When using watch, the interval in millis to scan the directory in full, to recover from events which were missed,
+     * such as when the file system reports too many events, or the file is on a network share. Use zero or a negative
+     * value to only scan the directory in full on startup.
+     */
+    public void setWatchRescanInterval(long watchRescanInterval) {
+        this.watchRescanInterval = watchRescanInterval;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like
      * in 0755 we will ignore it.
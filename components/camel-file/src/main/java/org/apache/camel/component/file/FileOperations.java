@@ -39,6 +39,7 @@ import java.util.Set;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.FileInputStreamCache;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -442,24 +443,29 @@ public class FileOperations implements GenericFileOperations<File> {
         boolean exists = target.exists();
         try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
 
-            LOG.debug("Using InputStream to write file: {}", target);
-            int size = endpoint.getBufferSize();
-            byte[] buffer = new byte[size];
-            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
-            int bytesRead;
-            while ((bytesRead = in.read(buffer)) != -1) {
-                if (bytesRead < size) {
-                    byteBuffer.limit(bytesRead);
+            if (in instanceof FileInputStreamCache) {
+                // the data is spooled to disk by stream caching so transfer the data without copying through the heap
+                LOG.debug("Using FileInputStreamCache to write file: {}", target);
+                ((FileInputStreamCache) in).transferTo(out);
+            } else {
+                LOG.debug("Using InputStream to write file: {}", target);
+                int size = endpoint.getBufferSize();
+                byte[] buffer = new byte[size];
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+                int bytesRead;
+                while ((bytesRead = in.read(buffer)) != -1) {
+                    if (bytesRead < size) {
+                        byteBuffer.limit(bytesRead);
+                    }
+                    out.write(byteBuffer);
+                    byteBuffer.clear();
                 }
-                out.write(byteBuffer);
-                byteBuffer.clear();
             }
 
             boolean append = endpoint.getFileExist() == GenericFileExist.Append;
             if (append && exists && endpoint.getAppendChars() != null) {
-                byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
+                ByteBuffer byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
                 out.write(byteBuffer);
-                byteBuffer.clear();
             }
 
         } finally {
@@ -20,6 +20,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.BiConsumer;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.support.DefaultTimeoutMap;
 
 import static org.apache.camel.TimeoutMap.Listener.Type.*;
@@ -34,8 +35,8 @@ class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
 
     private final BiConsumer<ReplyHandler, String> evictionTask;
 
-    CorrelationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, ExecutorService executorService) {
-        super(executor, requestMapPollTimeMillis);
+    CorrelationTimeoutMap(CamelContext camelContext, ScheduledExecutorService executor, long requestMapPollTimeMillis, ExecutorService executorService) {
+        super(camelContext, executor, requestMapPollTimeMillis);
         // Support synchronous or asynchronous handling of evictions
         evictionTask = executorService == null
                 ? ReplyHandler::onTimeout
@@ -18,6 +18,7 @@ package org.apache.camel.component.rabbitmq.reply;
 
 import java.util.concurrent.ScheduledExecutorService;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.support.DefaultTimeoutMap;
 
 import static org.apache.camel.TimeoutMap.Listener.Type.*;
@@ -29,8 +30,8 @@ import static org.apache.camel.TimeoutMap.Listener.Type.*;
  */
 class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
 
-    CorrelationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
-        super(executor, requestMapPollTimeMillis);
+    CorrelationTimeoutMap(CamelContext camelContext, ScheduledExecutorService executor, long requestMapPollTimeMillis) {
+        super(camelContext, executor, requestMapPollTimeMillis);
         addListener(this::listener);
     }
 
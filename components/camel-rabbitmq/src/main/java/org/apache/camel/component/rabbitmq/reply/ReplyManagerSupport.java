@@ -244,7 +244,7 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         // waiting for an expected reply
         // when doing request/reply over JMS
         LOG.debug("Using timeout checker interval with {} millis", endpoint.getRequestTimeoutCheckerInterval());
-        correlation = new CorrelationTimeoutMap(executorService, endpoint.getRequestTimeoutCheckerInterval());
+        correlation = new CorrelationTimeoutMap(camelContext, executorService, endpoint.getRequestTimeoutCheckerInterval());
         ServiceHelper.startService(correlation);
 
         // create listener and start it
@@ -0,0 +1,351 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded {@link BlockingQueue} backed by an array, where adding and taking elements is lock-free.
+ * <p/>
+ * Each slot in the array has a sequence number which tells whether the slot is ready to be written by a producer or
+ * read by a consumer, so producers and consumers only compete on updating the head and tail positions with
+ * compare-and-set, and never on a lock as with {@link java.util.concurrent.ArrayBlockingQueue}. The queue supports any
+ * number of producers and consumers (such as when using concurrent consumers), and is most efficient with many producers
+ * and a single consumer.
+ * <p/>
+ * A lock is only used to park and signal consumers waiting for the queue to have elements (and producers waiting for
+ * the queue to have capacity), and only if there are any waiting threads.
+ * <p/>
+ * Removing an element (such as when a consumer of a seda endpoint is removed) clears the slot of the element, which
+ * is then skipped when the consumers take it. A removed element still holds on to its slot until the consumers reach it,
+ * so the queue may be full even if {@link #size()} is less than the capacity.
+ */
+public class LockFreeArrayBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private final int capacity;
+    private final int length;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicInteger removed = new AtomicInteger();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private volatile int waitingConsumers;
+    private volatile int waitingProducers;
+
+    public LockFreeArrayBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be a positive number, was: " + capacity);
+        }
+        this.capacity = capacity;
+        // the sequence numbers need at least two slots to tell a full slot from an empty slot
+        this.length = Math.max(capacity, 2);
+        this.elements = new AtomicReferenceArray<>(length);
+        this.sequences = new AtomicLongArray(length);
+        for (int i = 0; i < length; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    @Override
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        for (;;) {
+            long pos = tail.get();
+            int index = (int) (pos % length);
+            long dif = sequences.get(index) - pos;
+            if (dif == 0 && length > capacity && pos - head.get() >= capacity) {
+                return false;
+            }
+            if (dif == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    elements.lazySet(index, e);
+                    // publish the element to the consumers
+                    sequences.set(index, pos + 1);
+                    if (waitingConsumers > 0) {
+                        signal(notEmpty);
+                    }
+                    return true;
+                }
+            } else if (dif < 0) {
+                // the slot has not been taken yet so the queue is full
+                return false;
+            }
+            // another producer added an element so try again
+        }
+    }
+
+    @Override
+    public E poll() {
+        for (;;) {
+            long pos = head.get();
+            int index = (int) (pos % length);
+            long dif = sequences.get(index) - (pos + 1);
+            if (dif == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    // take the element with getAndSet, so either this consumer or remove gets the element
+                    E e = elements.getAndSet(index, null);
+                    // release the slot to the producers
+                    sequences.set(index, pos + length);
+                    if (waitingProducers > 0) {
+                        signal(notFull);
+                    }
+                    if (e != null) {
+                        return e;
+                    }
+                    // the element was removed so take the next
+                    removed.decrementAndGet();
+                }
+            } else if (dif < 0) {
+                // the slot has not been published yet so the queue is empty
+                return null;
+            }
+            // another consumer took the element so try again
+        }
+    }
+
+    @Override
+    public E peek() {
+        long pos = head.get();
+        long end = tail.get();
+        for (; pos < end; pos++) {
+            int index = (int) (pos % length);
+            E e = elements.get(index);
+            if (e != null && sequences.get(index) == pos + 1) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        if (offer(e)) {
+            return;
+        }
+        lock.lockInterruptibly();
+        try {
+            waitingProducers++;
+            try {
+                while (!offer(e)) {
+                    notFull.await();
+                }
+            } finally {
+                waitingProducers--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        if (offer(e)) {
+            return true;
+        }
+        long nanos = unit.toNanos(timeout);
+        if (nanos <= 0) {
+            return false;
+        }
+        lock.lockInterruptibly();
+        try {
+            waitingProducers++;
+            try {
+                while (!offer(e)) {
+                    if (nanos <= 0) {
+                        return false;
+                    }
+                    nanos = notFull.awaitNanos(nanos);
+                }
+                return true;
+            } finally {
+                waitingProducers--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E e = poll();
+        if (e != null) {
+            return e;
+        }
+        lock.lockInterruptibly();
+        try {
+            waitingConsumers++;
+            try {
+                while ((e = poll()) == null) {
+                    notEmpty.await();
+                }
+                return e;
+            } finally {
+                waitingConsumers--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E e = poll();
+        if (e != null) {
+            return e;
+        }
+        long nanos = unit.toNanos(timeout);
+        if (nanos <= 0) {
+            return null;
+        }
+        lock.lockInterruptibly();
+        try {
+            waitingConsumers++;
+            try {
+                while ((e = poll()) == null) {
+                    if (nanos <= 0) {
+                        return null;
+                    }
+                    nanos = notEmpty.awaitNanos(nanos);
+                }
+                return e;
+            } finally {
+                waitingConsumers--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        long pos = head.get();
+        long end = tail.get();
+        for (; pos < end; pos++) {
+            int index = (int) (pos % length);
+            // clear the element, which the consumers then skip when they take the slot
+            if (elements.get(index) == o && sequences.get(index) == pos + 1 && elements.compareAndSet(index, (E) o, null)) {
+                removed.incrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        // read the head first so the size is never negative, and do not count the removed elements
+        long pos = head.get();
+        long size = tail.get() - pos - removed.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    @Override
+    public int remainingCapacity() {
+        // the removed elements hold on to their slots until they are taken
+        long pos = head.get();
+        long used = tail.get() - pos;
+        return (int) Math.max(0, capacity - Math.min(used, capacity));
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        int n = 0;
+        E e;
+        while (n < maxElements && (e = poll()) != null) {
+            c.add(e);
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the elements in the queue.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        List<E> answer = new ArrayList<>();
+        long pos = head.get();
+        long end = tail.get();
+        for (; pos < end; pos++) {
+            int index = (int) (pos % length);
+            E e = elements.get(index);
+            if (e != null && sequences.get(index) == pos + 1) {
+                answer.add(e);
+            }
+        }
+        Iterator<E> it = answer.iterator();
+        return new Iterator<E>() {
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                LockFreeArrayBlockingQueue.this.remove(last);
+            }
+        };
+    }
+
+    private void signal(Condition condition) {
+        lock.lock();
+        try {
+            condition.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
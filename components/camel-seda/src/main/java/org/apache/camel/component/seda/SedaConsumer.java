@@ -16,13 +16,16 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
@@ -50,15 +53,22 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private static final Logger LOG = LoggerFactory.getLogger(SedaConsumer.class);
 
     private final AtomicInteger taskCount = new AtomicInteger();
+    // the exchanges taken from the queue into a batch which have not been routed yet
+    private final AtomicInteger batchPendingExchanges = new AtomicInteger();
     private volatile CountDownLatch latch;
     private volatile boolean shutdownPending;
     private volatile boolean forceShutdown;
+    private volatile boolean flushBatch;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int batchSize;
+    private final long batchTimeout;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.batchSize = endpoint.getBatchSize();
+        this.batchTimeout = endpoint.getBatchTimeout();
     }
 
     @Override
@@ -76,11 +86,13 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     @Override
     public int getPendingExchangesSize() {
         // the route is shutting down, so either we should purge the queue,
-        // or return how many exchanges are still on the queue
+        // or return how many exchanges are still on the queue or taken into a batch
+        // (and then route the batch at once instead of waiting for it to fill up)
+        flushBatch = true;
         if (getEndpoint().isPurgeWhenStopping()) {
             getEndpoint().purgeQueue();
         }
-        return getEndpoint().getQueue().size();
+        return getEndpoint().getQueue().size() + batchPendingExchanges.get();
     }
 
     @Override
@@ -137,6 +149,7 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
     protected void doRun() {
         BlockingQueue<Exchange> queue = getEndpoint().getQueue();
+        List<Exchange> batch = batchSize > 1 ? new ArrayList<>(batchSize) : null;
         // loop while we are allowed, or if we are stopping loop until the queue is empty
         while (queue != null && isRunAllowed()) {
 
@@ -171,6 +184,7 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
             }
 
             Exchange exchange = null;
+            int routed = 0;
             try {
                 // use the end user configured poll timeout
                 exchange = queue.poll(pollTimeout, TimeUnit.MILLISECONDS);
@@ -178,24 +192,22 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                     LOG.trace("Polled queue {} with timeout {} ms. -> {}", ObjectHelper.getIdentityHashCode(queue), pollTimeout, exchange);
                 }
                 if (exchange != null) {
-                    try {
-                        // send a new copied exchange with new camel context
-                        Exchange newExchange = prepareExchange(exchange);
-                        // process the exchange
-                        sendToConsumers(newExchange);
-                        // copy the message back
-                        if (newExchange.hasOut()) {
-                            exchange.setOut(newExchange.getOut().copy());
-                        } else {
-                            exchange.setIn(newExchange.getIn());
-                        }
-                        // log exception if an exception occurred and was not handled
-                        if (newExchange.getException() != null) {
-                            exchange.setException(newExchange.getException());
-                            getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+                    if (batchSize > 1) {
+                        batch.add(exchange);
+                        batchPendingExchanges.incrementAndGet();
+                        // take the remainder of the batch from the queue at once
+                        fillBatch(queue, batch);
+                        int total = batch.size();
+                        for (int i = 0; i < total; i++) {
+                            exchange = batch.get(i);
+                            batchPendingExchanges.decrementAndGet();
+                            routed++;
+                            processExchange(exchange, i, total);
                         }
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                        exchange = null;
+                        batch.clear();
+                    } else {
+                        processExchange(exchange, -1, -1);
                     }
                 } else if (shutdownPending && queue.isEmpty()) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
@@ -206,6 +218,11 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                 LOG.debug("Sleep interrupted, are we stopping? {}", isStopping() || isStopped());
                 continue;
             } catch (Throwable e) {
+                if (batch != null) {
+                    // the exchanges in the batch which was not routed are no longer pending
+                    batchPendingExchanges.addAndGet(routed - batch.size());
+                    batch.clear();
+                }
                 if (exchange != null) {
                     getExceptionHandler().handleException("Error processing exchange", exchange, e);
                 } else {
@@ -215,6 +232,79 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    /**
+     * Takes more exchanges from the queue until the batch is full, waiting at most the batch timeout for
+     * more exchanges to arrive. The batch is not waited for when the route is stopping or suspending.
+     */
+    private void fillBatch(BlockingQueue<Exchange> queue, List<Exchange> batch) {
+        batchPendingExchanges.addAndGet(queue.drainTo(batch, batchSize - batch.size()));
+        if (batchTimeout > 0 && batch.size() < batchSize) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeout);
+            try {
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || flushBatch || shutdownPending || isStopping() || isSuspending()) {
+                        break;
+                    }
+                    // wait at most the poll timeout at a time so we notice if we are stopping
+                    Exchange exchange = queue.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(pollTimeout)), TimeUnit.NANOSECONDS);
+                    if (exchange != null) {
+                        batch.add(exchange);
+                        batchPendingExchanges.incrementAndGet();
+                        batchPendingExchanges.addAndGet(queue.drainTo(batch, batchSize - batch.size()));
+                    }
+                }
+            } catch (InterruptedException e) {
+                // route the exchanges we have taken
+                LOG.debug("Waiting for batch interrupted, are we stopping? {}", isStopping() || isStopped());
+            }
+        }
+        LOG.trace("Polled batch of {} exchanges from queue {}", batch.size(), ObjectHelper.getIdentityHashCode(queue));
+    }
+
+    /**
+     * Processes the exchange taken from the queue
+     *
+     * @param exchange the exchange
+     * @param index    the index of the exchange in the batch, or <tt>-1</tt> if not batching
+     * @param total    the number of exchanges in the batch, or <tt>-1</tt> if not batching
+     */
+    private void processExchange(Exchange exchange, int index, int total) {
+        try {
+            // send a new copied exchange with new camel context
+            Exchange newExchange = prepareExchange(exchange);
+            if (total > 0) {
+                newExchange.setProperty(Exchange.BATCH_INDEX, index);
+                newExchange.setProperty(Exchange.BATCH_SIZE, total);
+                newExchange.setProperty(Exchange.BATCH_COMPLETE, index == total - 1);
+            }
+            // the exchange is released when both the routing is done and we have copied the message back
+            final AtomicBoolean done = new AtomicBoolean();
+            // process the exchange
+            sendToConsumers(newExchange, doneSync -> {
+                if (!done.compareAndSet(false, true)) {
+                    releaseExchange(newExchange);
+                }
+            });
+            // copy the message back
+            if (newExchange.hasOut()) {
+                exchange.setOut(newExchange.getOut().copy());
+            } else {
+                exchange.setIn(newExchange.getIn());
+            }
+            // log exception if an exception occurred and was not handled
+            if (newExchange.getException() != null) {
+                exchange.setException(newExchange.getException());
+                getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+            }
+            if (!done.compareAndSet(false, true)) {
+                releaseExchange(newExchange);
+            }
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
     /**
      * Strategy to prepare exchange for being processed by this consumer
      *
@@ -222,10 +312,9 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
      * @return the exchange to process by this consumer.
      */
     protected Exchange prepareExchange(Exchange exchange) {
-        // send a new copied exchange with new camel context
-        Exchange newExchange = ExchangeHelper.copyExchangeAndSetCamelContext(exchange, getEndpoint().getCamelContext());
-        // set the from endpoint
-        newExchange.adapt(ExtendedExchange.class).setFromEndpoint(getEndpoint());
+        // send a new copied exchange (created by this consumer so it can be pooled) with new camel context
+        Exchange newExchange = createExchange();
+        ExchangeHelper.copyExchange(exchange, newExchange, true);
         return newExchange;
     }
 
@@ -241,6 +330,17 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
      * @throws Exception can be thrown if processing of the exchange failed
      */
     protected void sendToConsumers(final Exchange exchange) throws Exception {
+        sendToConsumers(exchange, EmptyAsyncCallback.get());
+    }
+
+    /**
+     * Send the given {@link Exchange} to the consumer(s), and invokes the callback when the exchange is done.
+     *
+     * @param exchange the exchange
+     * @param callback the callback invoked when the exchange is done being routed
+     * @throws Exception can be thrown if processing of the exchange failed
+     */
+    protected void sendToConsumers(final Exchange exchange, final AsyncCallback callback) throws Exception {
         // validate multiple consumers has been enabled
         int size = getEndpoint().getConsumers().size();
         if (size > 1 && !getEndpoint().isMultipleConsumersSupported()) {
@@ -265,10 +365,11 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
             mp.process(exchange, doneSync -> {
                 // done the uow on the completions
                 UnitOfWorkHelper.doneSynchronizations(exchange, completions, LOG);
+                callback.done(doneSync);
             });
         } else {
             // use the regular processor and use the asynchronous routing engine to support it
-            getAsyncProcessor().process(exchange, EmptyAsyncCallback.get());
+            getAsyncProcessor().process(exchange, callback);
         }
     }
 
@@ -278,6 +379,7 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         latch = new CountDownLatch(getEndpoint().getConcurrentConsumers());
         shutdownPending = false;
         forceShutdown = false;
+        flushBatch = false;
 
         setupTasks();
         getEndpoint().onStarted(this);
@@ -290,6 +392,7 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
     @Override
     protected void doResume() throws Exception {
+        flushBatch = false;
         getEndpoint().onStarted(this);
     }
 
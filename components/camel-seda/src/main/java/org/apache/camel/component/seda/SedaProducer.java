@@ -23,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.WaitForTaskToComplete;
 import org.apache.camel.support.DefaultAsyncProducer;
@@ -205,6 +206,11 @@ public class SedaProducer extends DefaultAsyncProducer {
         }
 
         boolean empty = !queueReference.hasConsumers();
+        if (empty) {
+            // the route may be dormant (lazy started) so start the route on first use
+            endpoint.getCamelContext().adapt(ExtendedCamelContext.class).startDormantRoute(endpoint);
+            empty = !queueReference.hasConsumers();
+        }
         if (empty) {
             if (endpoint.isFailIfNoConsumers()) {
                 throw new SedaConsumerNotAvailableException("No consumers available on endpoint: " + endpoint, exchange);
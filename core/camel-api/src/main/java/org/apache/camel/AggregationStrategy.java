@@ -105,6 +105,39 @@ public interface AggregationStrategy {
         return false;
     }
 
+    /**
+     * Indicates if this aggregation strategy can combine partial aggregation results using {@link #combine(Exchange, Exchange)}.
+     * <p/>
+     * When using parallel processing with the Multicast, Recipient List or Splitter EIPs, then a combinable strategy allows
+     * the exchanges to be aggregated concurrently into partial results, which are then combined, instead of aggregating
+     * the exchanges one by one while holding a lock.
+     *
+     * @return <tt>true</tt> if this strategy can combine partial results, or <tt>false</tt> otherwise.
+     */
+    default boolean canCombine() {
+        return false;
+    }
+
+    /**
+     * Combines two partial aggregation results into a single result. Each partial result is the result of aggregating
+     * a consecutive run of exchanges, starting from a <tt>null</tt> old exchange, where the exchanges of the
+     * <tt>oldExchange</tt> precedes the exchanges of the <tt>newExchange</tt>.
+     * <p/>
+     * The result must be the same as aggregating all the exchanges of both partial results in order, so partial results
+     * can be combined in any grouping (the combining is associative).
+     * This callback will only be called if {@link #canCombine()} returns <tt>true</tt>.
+     * <p/>
+     * Important: Do not create a new exchange instance to return, instead return either the old or new exchange from the
+     * input parameters; favor returning the old exchange whenever possible.
+     *
+     * @param oldExchange the partial result of the preceding exchanges
+     * @param newExchange the partial result of the following exchanges
+     * @return the combined result, return either the old or new exchange from the input parameters
+     */
+    default Exchange combine(Exchange oldExchange, Exchange newExchange) {
+        throw new UnsupportedOperationException("AggregationStrategy " + this + " cannot combine partial results");
+    }
+
     /**
      * The aggregated {@link Exchange} has completed
      *
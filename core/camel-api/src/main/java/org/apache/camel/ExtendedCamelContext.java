@@ -36,6 +36,7 @@ import org.apache.camel.spi.ConfigurerResolver;
 import org.apache.camel.spi.DataFormatResolver;
 import org.apache.camel.spi.DeferServiceFactory;
 import org.apache.camel.spi.EndpointStrategy;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
 import org.apache.camel.spi.HeadersMapFactory;
@@ -56,6 +57,7 @@ import org.apache.camel.spi.Registry;
 import org.apache.camel.spi.RestBindingJaxbDataFormatFactory;
 import org.apache.camel.spi.RouteController;
 import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.TimeoutScheduler;
 import org.apache.camel.spi.UnitOfWorkFactory;
 import org.apache.camel.spi.XMLRoutesDefinitionLoader;
 
@@ -493,6 +495,26 @@ public interface ExtendedCamelContext extends CamelContext {
      */
     void setReactiveExecutor(ReactiveExecutor reactiveExecutor);
 
+    /**
+     * Gets the {@link ExchangeFactory} to use.
+     */
+    ExchangeFactory getExchangeFactory();
+
+    /**
+     * Sets a custom {@link ExchangeFactory} to be used.
+     */
+    void setExchangeFactory(ExchangeFactory exchangeFactory);
+
+    /**
+     * Gets the shared {@link TimeoutScheduler} to use for scheduling timeouts.
+     */
+    TimeoutScheduler getTimeoutScheduler();
+
+    /**
+     * Sets a custom {@link TimeoutScheduler} to be used.
+     */
+    void setTimeoutScheduler(TimeoutScheduler timeoutScheduler);
+
     /**
      * Whether event notification is applicable (possible).
      * This API is used internally in Camel as optimization.
@@ -504,6 +526,55 @@ public interface ExtendedCamelContext extends CamelContext {
      */
     void setEventNotificationApplicable(boolean eventNotificationApplicable);
 
+    /**
+     * Whether routes which consumes from internal endpoints (direct and seda) should be lazy started.
+     * <p/>
+     * When enabled then such routes are dormant on startup (they are not created and started), and are first
+     * created and started when a producer sends a message to the endpoint the route consumes from.
+     * This allows to reduce startup time and memory footprint when having many routes which are rarely in use.
+     * Routes which are configured to not auto startup are not lazy started.
+     */
+    void setLazyStartRoutes(boolean lazyStartRoutes);
+
+    /**
+     * Whether routes which consumes from internal endpoints (direct and seda) should be lazy started.
+     */
+    boolean isLazyStartRoutes();
+
+    /**
+     * Sets the maximum number of routes to start in parallel when Camel is starting.
+     * <p/>
+     * The default value is 1, which means the routes are started one after another in their startup order.
+     * When using a higher number, then the routes which depends on each other are started one after another in their
+     * startup order, but independent routes are started concurrently on a thread pool of the given size.
+     * A route with an explicit startup order is started when the routes before it has been started, and is started
+     * before the routes after it. Routes which shares endpoints are started one after another.
+     * This can reduce the startup time when having routes which are slow to start, such as routes which connects
+     * to remote systems.
+     */
+    void setRouteStartupParallelism(int routeStartupParallelism);
+
+    /**
+     * Gets the maximum number of routes to start in parallel when Camel is starting.
+     */
+    int getRouteStartupParallelism();
+
+    /**
+     * Starts the dormant route (if any) which consumes from the given endpoint.
+     * This API is used internally by the direct and seda components to start the route on first use
+     * when lazy start routes is enabled.
+     *
+     * @param endpoint the endpoint a producer is sending to
+     * @return <tt>true</tt> if a dormant route was started, <tt>false</tt> if there was no dormant route
+     * @throws RuntimeCamelException is thrown if error starting the route
+     */
+    boolean startDormantRoute(Endpoint endpoint);
+
+    /**
+     * Gets the ids of the routes which are dormant, eg they are lazy started on first use, and have not yet been started.
+     */
+    Set<String> getDormantRouteIds();
+
     /**
      * Sets a custom {@link XMLRoutesDefinitionLoader} to be used.
      */
@@ -334,6 +334,16 @@ public interface CamelEvent {
         default Type getType() {
             return Type.RouteStarted;
         }
+
+        /**
+         * Gets the time taken (in millis) to start the route, which is the time to warm up the route
+         * and start its consumers.
+         *
+         * @return the time taken, or <tt>0</tt> if not known.
+         */
+        default long getStartupTime() {
+            return 0;
+        }
     }
 
     interface RouteStoppedEvent extends RouteEvent {
@@ -155,6 +155,17 @@ public interface EventFactory {
      */
     CamelEvent createRouteStartedEvent(Route route);
 
+    /**
+     * Creates an {@link CamelEvent} for {@link Route} has been started successfully.
+     *
+     * @param route the route
+     * @param startupTime the time taken (in millis) to start the route
+     * @return the created event
+     */
+    default CamelEvent createRouteStartedEvent(Route route, long startupTime) {
+        return createRouteStartedEvent(route);
+    }
+
     /**
      * Creates an {@link CamelEvent} for {@link Route} has been stopped successfully.
      *
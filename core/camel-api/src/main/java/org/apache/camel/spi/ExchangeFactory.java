@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+
+/**
+ * Factory used by {@link Consumer} to create the {@link Exchange} holding the incoming message received by the consumer.
+ * <p/>
+ * The factory is pluggable which allows to use different strategies. The default factory creates a new
+ * {@link Exchange} instance per message, and a pooled factory can reuse the exchanges to reduce object allocations.
+ * <p/>
+ * Only consumers which are in control of when they are done with the exchange should use this factory,
+ * as the exchange may be reused after it has been released.
+ */
+public interface ExchangeFactory {
+
+    /**
+     * Service factory key.
+     */
+    String FACTORY = "exchange-factory";
+
+    /**
+     * Creates a new {@link ExchangeFactory} that is private for the given consumer.
+     *
+     * @param consumer the consumer that will use the created {@link ExchangeFactory}
+     * @return the created factory.
+     */
+    ExchangeFactory newExchangeFactory(Consumer consumer);
+
+    /**
+     * Gets a new {@link Exchange}
+     *
+     * @param fromEndpoint the from endpoint
+     * @return the exchange
+     */
+    Exchange create(Endpoint fromEndpoint);
+
+    /**
+     * Releases the exchange back into the pool (if pooled), after which the exchange must no longer be used.
+     *
+     * @param exchange the exchange
+     * @return true if released into the pool, or false if the exchange is not pooled (and can be garbage collected)
+     */
+    boolean release(Exchange exchange);
+
+    /**
+     * Whether the factory is pooled.
+     */
+    boolean isPooled();
+
+    /**
+     * The capacity the pool uses for storing exchanges. The default capacity is 100.
+     */
+    int getCapacity();
+
+    /**
+     * The capacity the pool uses for storing exchanges. The default capacity is 100.
+     */
+    void setCapacity(int capacity);
+
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.spi;
 
+import java.util.Collection;
+
 import org.apache.camel.Exchange;
 import org.apache.camel.Service;
 
@@ -133,4 +135,17 @@ public interface IdempotentRepository extends Service {
         return confirm(key);
     }
 
+    /**
+     * Gets all the keys in the repository, when the repository is local to this JVM (such as in memory or a local file),
+     * so all the keys which can be in the repository are known.
+     * <p/>
+     * This is used by the idempotent consumer to warm up its pre-filter of the keys when starting.
+     *
+     * @return the keys, or <tt>null</tt> if the keys are not known, such as when the repository is remote,
+     *         or shared with other JVMs
+     */
+    default Collection<String> getLocalKeys() {
+        return null;
+    }
+
 }
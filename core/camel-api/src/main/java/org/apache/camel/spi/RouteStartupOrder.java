@@ -59,4 +59,14 @@ public interface RouteStartupOrder {
      */
     List<Service> getServices();
 
+    /**
+     * Gets the time taken (in millis) to start this route, which is the time to warm up the route
+     * and start its consumers.
+     *
+     * @return the time taken, or <tt>0</tt> if not known.
+     */
+    default long getStartupTime() {
+        return 0;
+    }
+
 }
@@ -21,6 +21,7 @@ import java.io.File;
 import org.apache.camel.Exchange;
 import org.apache.camel.StaticService;
 import org.apache.camel.StreamCache;
+import org.apache.camel.util.BufferPool;
 
 /**
  * Strategy for using <a href="http://camel.apache.org/stream-caching.html">stream caching</a>.
@@ -164,6 +165,37 @@ public interface StreamCachingStrategy extends StaticService {
 
     int getBufferSize();
 
+    /**
+     * Sets the maximum number of free buffers to keep in a pool of buffers, which are shared by the in-memory stream caches,
+     * and by the type converters which reads streams into byte arrays. The buffers are of the size of {@link #getBufferSize()},
+     * and are borrowed from the pool when caching a stream, and returned to the pool when the exchange is done.
+     * <p/>
+     * This reduces the allocation of short lived byte arrays, however the in-memory stream caches must not be used
+     * after the exchange is done.
+     * <p/>
+     * By default this is <tt>0</tt> which means the buffers are not pooled.
+     */
+    void setBufferPoolSize(int bufferPoolSize);
+
+    int getBufferPoolSize();
+
+    /**
+     * Sets whether to detect in-memory stream caches which are garbage collected without returning their buffers to the
+     * pool of buffers. A leak is logged at WARN level and counted in the utilization statistics.
+     * <p/>
+     * This is only in use when {@link #setBufferPoolSize(int)} has been configured, and is by default disabled.
+     */
+    void setBufferPoolLeakDetection(boolean bufferPoolLeakDetection);
+
+    boolean isBufferPoolLeakDetection();
+
+    /**
+     * Gets the pool of buffers for in-memory stream caches.
+     *
+     * @return the pool, or <tt>null</tt> if the buffers are not pooled
+     */
+    BufferPool getBufferPool();
+
     /**
      * Sets a cipher name to use when spooling to disk to write with encryption.
      * <p/>
@@ -173,6 +205,20 @@ public interface StreamCachingStrategy extends StaticService {
 
     String getSpoolCipher();
 
+    /**
+     * Sets whether to use memory mapped files when reading the data which has been spooled to disk.
+     * <p/>
+     * The spooled data is mapped into memory once and shared by the stream caches of the same spooled data, so re-reading
+     * the data such as when using multicast, wire tap or redelivery does not re-open the file and copy the data through
+     * the heap. This is not in use when a spool cipher is in use, for spooled data which are bigger than 2gb, or on Windows
+     * as a memory mapped file cannot be deleted until the mapping has been garbage collected.
+     * <p/>
+     * By default this is disabled.
+     */
+    void setSpoolMemoryMapped(boolean spoolMemoryMapped);
+
+    boolean isSpoolMemoryMapped();
+
     /**
      * Whether to remove the temporary directory when stopping.
      * <p/>
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A scheduler for a large number of timeouts, such as the completion timeouts of the aggregator
+ * or the entries in a {@link org.apache.camel.TimeoutMap}.
+ * <p/>
+ * Scheduling and cancelling a timeout is cheap, so the scheduler can keep track of millions of pending timeouts.
+ * The timeouts are not precise, as they are checked at a fixed tick duration, and the tasks run on the thread of the scheduler,
+ * so a task should hand off any long running work to a thread pool.
+ */
+public interface TimeoutScheduler {
+
+    /**
+     * Service factory key.
+     */
+    String FACTORY = "timeout-scheduler";
+
+    /**
+     * Schedules the task to run once after the given delay.
+     *
+     * @param task  the task to run when the timeout expires
+     * @param delay the delay
+     * @param unit  the time unit of the delay
+     * @return the timeout which can be used to cancel the task
+     */
+    Timeout schedule(Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * Number of timeouts which are pending (not expired or cancelled)
+     */
+    long getPendingTimeouts();
+
+    /**
+     * The duration in millis of a tick, which is the precision of the timeouts.
+     */
+    long getTickDuration();
+
+    /**
+     * A timeout scheduled by the {@link TimeoutScheduler}.
+     */
+    interface Timeout {
+
+        /**
+         * Cancels the timeout so its task will not run.
+         *
+         * @return true if cancelled, or false if the timeout has already expired or been cancelled
+         */
+        boolean cancel();
+
+        /**
+         * Whether the timeout has expired and its task has been run (or is about to be run).
+         */
+        boolean isExpired();
+
+        /**
+         * Whether the timeout has been cancelled.
+         */
+        boolean isCancelled();
+    }
+
+}
@@ -16,7 +16,9 @@
  */
 package org.apache.camel.spi;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.LoggingLevel;
@@ -63,6 +65,17 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getFailedCounter();
 
+        /**
+         * Gets the most used type conversions (from -> to) with the number of conversion attempts,
+         * ordered with the most used first.
+         *
+         * @param limit maximum number of conversions to return
+         * @return the type conversions
+         */
+        default Map<String, Long> getTopConversions(int limit) {
+            return Collections.emptyMap();
+        }
+
         /**
          * Reset the counters
          */
@@ -45,8 +45,11 @@ import java.util.stream.Stream;
 
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
+import org.apache.camel.converter.stream.PooledByteArrayOutputStream;
+import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.InputStreamIterator;
+import org.apache.camel.util.BufferPool;
 import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -248,8 +251,24 @@ public final class IOConverter {
         }
     }
 
-    @Converter
     public static byte[] toBytes(InputStream stream) throws IOException {
+        return toBytes(stream, null);
+    }
+
+    @Converter
+    public static byte[] toBytes(InputStream stream, Exchange exchange) throws IOException {
+        BufferPool pool = getBufferPool(exchange);
+        if (pool != null) {
+            // read into pooled buffers so the only array allocated is the result
+            PooledByteArrayOutputStream pos = new PooledByteArrayOutputStream(pool);
+            try {
+                pos.readFrom(stream);
+                return pos.toByteArray();
+            } finally {
+                pos.release();
+            }
+        }
+
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
         IOHelper.copy(IOHelper.buffered(stream), bos);
 
@@ -263,8 +282,21 @@ public final class IOConverter {
         return os.toByteArray();
     }
 
-    @Converter
     public static ByteBuffer covertToByteBuffer(InputStream is) throws IOException {
+        return covertToByteBuffer(is, null);
+    }
+
+    @Converter
+    public static ByteBuffer covertToByteBuffer(InputStream is, Exchange exchange) throws IOException {
+        BufferPool pool = getBufferPool(exchange);
+        if (pool != null) {
+            try {
+                return ByteBuffer.wrap(toBytes(is, exchange));
+            } finally {
+                IOHelper.close(is, "input stream", LOG);
+            }
+        }
+
         ByteArrayOutputStream os = new ByteArrayOutputStream();
         IOHelper.copyAndCloseInput(is, os);
         return ByteBuffer.wrap(os.toByteArray());
@@ -309,4 +341,14 @@ public final class IOConverter {
         return prop;
     }
 
+    private static BufferPool getBufferPool(Exchange exchange) {
+        if (exchange != null) {
+            StreamCachingStrategy strategy = exchange.getContext().getStreamCachingStrategy();
+            if (strategy != null) {
+                return strategy.getBufferPool();
+            }
+        }
+        return null;
+    }
+
 }
@@ -17,7 +17,10 @@
 package org.apache.camel.impl.converter;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -57,6 +60,9 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     private static final Logger LOG = LoggerFactory.getLogger(CoreTypeConverterRegistry.class);
 
     protected final DoubleMap<Class<?>, Class<?>, TypeConverter> typeMappings = new DoubleMap<>(200);
+    // cache of the resolved conversions (to, from) which are stale when the registry is changed
+    protected final DoubleMap<Class<?>, Class<?>, Conversion> conversions = new DoubleMap<>(200);
+    protected volatile int conversionsVersion;
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
     protected TypeConverterExists typeConverterExists = TypeConverterExists.Override;
     protected LoggingLevel typeConverterExistsLoggingLevel = LoggingLevel.WARN;
@@ -326,7 +332,11 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
 
         // try to find a suitable type converter
-        TypeConverter converter = getOrFindTypeConverter(type, value.getClass());
+        Conversion conversion = getOrCreateConversion(type, value.getClass());
+        if (statisticsEnabled) {
+            conversion.counter.increment();
+        }
+        TypeConverter converter = conversion.converter;
         if (converter != null) {
             if (trace) {
                 LOG.trace("Using converter: {} to convert [{}=>{}]", converter, value.getClass(), type);
@@ -368,15 +378,16 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             }
         }
 
-        // fallback converters
+        // fallback converters, where we skip the fallback converters that could not convert these types before
+        long skip = conversion.version == conversionsVersion ? conversion.skipFallbacks : 0;
+        int index = -1;
         for (FallbackTypeConverter fallback : fallbackConverters) {
-            TypeConverter tc = fallback.getFallbackTypeConverter();
-            Object rc;
-            if (tryConvert) {
-                rc = tc.tryConvertTo(type, exchange, value);
-            } else {
-                rc = tc.convertTo(type, exchange, value);
+            index++;
+            if (skip != 0 && index < 64 && (skip & (1L << index)) != 0) {
+                continue;
             }
+            TypeConverter tc = fallback.getFallbackTypeConverter();
+            Object rc = doConvertToFallback(tc, type, exchange, value, tryConvert);
             if (rc == null && tc.allowNull()) {
                 return null;
             }
@@ -405,18 +416,56 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 // return converted value
                 return rc;
             }
+
+            if (!tryConvert && fallback.isCanPromote() && index < 64) {
+                // a promotable fallback converts depending on the types only (like the misses) so remember to skip it
+                // do not remember misses for try conversions
+                conversion.skipFallbacks |= 1L << index;
+            }
         }
 
         if (!tryConvert) {
             // Could not find suitable conversion, so remember it
             // do not register misses for try conversions
             typeMappings.put(type, value.getClass(), MISS_CONVERTER);
+            conversion.converter = MISS_CONVERTER;
         }
 
         // Could not find suitable conversion, so return Void to indicate not found
         return TypeConverter.MISS_VALUE;
     }
 
+    private static Object doConvertToFallback(TypeConverter tc, Class<?> type, Exchange exchange, Object value, boolean tryConvert) {
+        if (tryConvert) {
+            return tc.tryConvertTo(type, exchange, value);
+        } else {
+            return tc.convertTo(type, exchange, value);
+        }
+    }
+
+    /**
+     * Gets the resolved conversion (to, from) from the cache, which avoids looking up the type converter,
+     * which is expensive when there is no direct type converter, such as when the fallback converters are in use.
+     */
+    protected Conversion getOrCreateConversion(Class<?> toType, Class<?> fromType) {
+        int version = conversionsVersion;
+        Conversion conversion = conversions.get(toType, fromType);
+        if (conversion == null || conversion.version != version) {
+            // keep the counter from the stale conversion
+            LongAdder counter = conversion != null ? conversion.counter : new LongAdder();
+            conversion = new Conversion(getOrFindTypeConverter(toType, fromType), version, counter);
+            conversions.put(toType, fromType, conversion);
+        }
+        return conversion;
+    }
+
+    /**
+     * Marks the cached resolved conversions as stale, which must be done when the registry is changed
+     */
+    protected void clearConversions() {
+        conversionsVersion++;
+    }
+
     public TypeConverter getTypeConverter(Class<?> toType, Class<?> fromType) {
         return typeMappings.get(toType, fromType);
     }
@@ -449,13 +498,16 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                clearConversions();
             }
         }
     }
 
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
-        return typeMappings.remove(toType, fromType);
+        boolean answer = typeMappings.remove(toType, fromType);
+        clearConversions();
+        return answer;
     }
 
     @Override
@@ -469,6 +521,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        clearConversions();
     }
 
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
@@ -598,10 +651,13 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 }
             });
             info += String.format(" mappings[total=%s, misses=%s]", typeMappings.size(), misses);
+            info += String.format(" top[%s]", statistics.getTopConversions(5));
             LOG.info(info);
         }
 
         typeMappings.clear();
+        conversions.clear();
+        clearConversions();
         statistics.reset();
     }
 
@@ -644,6 +700,24 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             hitCounter.reset();
             missCounter.reset();
             failedCounter.reset();
+            conversions.forEach((k1, k2, v) -> v.counter.reset());
+        }
+
+        @Override
+        public Map<String, Long> getTopConversions(int limit) {
+            List<Object[]> list = new ArrayList<>();
+            conversions.forEach((k1, k2, v) -> {
+                long count = v.counter.sum();
+                if (count > 0) {
+                    list.add(new Object[]{k2.getName() + " -> " + k1.getName(), count});
+                }
+            });
+            list.sort(Comparator.comparingLong(e -> -((Long) e[1])));
+            Map<String, Long> answer = new LinkedHashMap<>();
+            for (int i = 0; i < list.size() && i < limit; i++) {
+                answer.put((String) list.get(i)[0], (Long) list.get(i)[1]);
+            }
+            return answer;
         }
 
         @Override
@@ -663,6 +737,25 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
     }
 
+    /**
+     * Represents a resolved type conversion (to, from)
+     */
+    protected static final class Conversion {
+        // the type converter, or null if there is no type converter so only the fallback converters can convert
+        volatile TypeConverter converter;
+        // the (promotable) fallback type converters which could not convert, as a bit per index in the fallback converters
+        volatile long skipFallbacks;
+        // number of conversion attempts (only when statistics is enabled)
+        final LongAdder counter;
+        final int version;
+
+        Conversion(TypeConverter converter, int version, LongAdder counter) {
+            this.converter = converter;
+            this.version = version;
+            this.counter = counter;
+        }
+    }
+
     /**
      * Represents a fallback type converter
      */
@@ -34,8 +34,13 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -50,6 +55,7 @@ import org.apache.camel.Component;
 import org.apache.camel.Consumer;
 import org.apache.camel.ConsumerTemplate;
 import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointAware;
 import org.apache.camel.ErrorHandlerFactory;
 import org.apache.camel.ExchangeConstantProvider;
 import org.apache.camel.ExtendedCamelContext;
@@ -102,6 +108,7 @@ import org.apache.camel.spi.DeferServiceFactory;
 import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.spi.EndpointStrategy;
 import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -141,6 +148,7 @@ import org.apache.camel.spi.RouteStartupOrder;
 import org.apache.camel.spi.RuntimeEndpointRegistry;
 import org.apache.camel.spi.ShutdownStrategy;
 import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.TimeoutScheduler;
 import org.apache.camel.spi.Tracer;
 import org.apache.camel.spi.Transformer;
 import org.apache.camel.spi.TransformerRegistry;
@@ -154,7 +162,6 @@ import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.EndpointHelper;
 import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.LRUCacheFactory;
-import org.apache.camel.support.NormalizedUri;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.ProcessorEndpoint;
 import org.apache.camel.support.jsse.SSLContextParameters;
@@ -166,6 +173,7 @@ import org.apache.camel.util.StopWatch;
 import org.apache.camel.util.StringHelper;
 import org.apache.camel.util.TimeUtils;
 import org.apache.camel.util.URISupport;
+import org.apache.camel.util.function.ThrowingConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -188,6 +196,9 @@ public abstract class AbstractCamelContext extends BaseService
     private String managementName;
     private ClassLoader applicationContextClassLoader;
     private final AtomicInteger endpointKeyCounter = new AtomicInteger();
+    // cache of the recently normalized endpoint uris (keyed by the uri before normalization)
+    private final Map<String, EndpointKey> normalizedUris = new ConcurrentHashMap<>();
+    private int maxNormalizedUris = 1000;
     private final List<EndpointStrategy> endpointStrategies = new ArrayList<>();
     private final GlobalEndpointConfiguration globalEndpointConfiguration = new DefaultGlobalEndpointConfiguration();
     private final Map<String, Component> components = new ConcurrentHashMap<>();
@@ -239,6 +250,8 @@ public abstract class AbstractCamelContext extends BaseService
     private volatile PropertiesComponent propertiesComponent;
     private volatile CamelContextNameStrategy nameStrategy;
     private volatile ReactiveExecutor reactiveExecutor;
+    private volatile ExchangeFactory exchangeFactory;
+    private volatile TimeoutScheduler timeoutScheduler;
     private volatile ManagementNameStrategy managementNameStrategy;
     private volatile Registry registry;
     private volatile TypeConverter typeConverter;
@@ -281,6 +294,8 @@ public abstract class AbstractCamelContext extends BaseService
     private volatile BeanIntrospection beanIntrospection;
     private volatile Tracer tracer;
     private volatile boolean eventNotificationApplicable;
+    private boolean lazyStartRoutes;
+    private int routeStartupParallelism = 1;
     private final DeferServiceFactory deferServiceFactory = new DefaultDeferServiceFactory();
     private final AnnotationBasedProcessorFactory annotationBasedProcessorFactory = new DefaultAnnotationBasedProcessorFactory();
 
@@ -752,8 +767,9 @@ public abstract class AbstractCamelContext extends BaseService
     public NormalizedEndpointUri normalizeUri(String uri) {
         try {
             uri = resolvePropertyPlaceholders(uri);
-            uri = URISupport.normalizeUri(uri);
-            return new NormalizedUri(uri);
+            return normalizeEndpointKey(uri);
+        } catch (ResolveEndpointFailedException e) {
+            throw e;
         } catch (Exception e) {
             throw new ResolveEndpointFailedException(uri, e);
         }
@@ -801,8 +817,10 @@ public abstract class AbstractCamelContext extends BaseService
 
         // normalize uri so we can do endpoint hits with minor mistakes and
         // parameters is not in the same order
+        EndpointKey key = null;
         if (!normalized) {
-            uri = EndpointHelper.normalizeEndpointUri(uri);
+            key = normalizeEndpointKey(uri);
+            uri = key.get();
         }
 
         LOG.trace("Getting endpoint with raw uri: {}, normalized uri: {}", rawUri, uri);
@@ -811,7 +829,9 @@ public abstract class AbstractCamelContext extends BaseService
         Endpoint answer = null;
         if (!prototype) {
             // use optimized method to get the endpoint uri
-            EndpointKey key = getEndpointKeyPreNormalized(uri);
+            if (key == null) {
+                key = getEndpointKeyPreNormalized(uri);
+            }
             // only lookup and reuse existing endpoints if not prototype scoped
             answer = endpoints.get(key);
         }
@@ -915,16 +935,19 @@ public abstract class AbstractCamelContext extends BaseService
 
         // normalize uri so we can do endpoint hits with minor mistakes and
         // parameters is not in the same order
+        EndpointKey key;
         if (!normalized) {
-            uri = EndpointHelper.normalizeEndpointUri(uri);
+            key = normalizeEndpointKey(uri);
+            uri = key.get();
+        } else {
+            // use optimized method to get the endpoint uri
+            key = getEndpointKeyPreNormalized(uri);
         }
 
         LOG.trace("Getting endpoint with raw uri: {}, normalized uri: {}", rawUri, uri);
 
         Endpoint answer;
         String scheme = null;
-        // use optimized method to get the endpoint uri
-        EndpointKey key = getEndpointKeyPreNormalized(uri);
         answer = endpoints.get(key);
         if (answer == null) {
             try {
@@ -1043,6 +1066,29 @@ public abstract class AbstractCamelContext extends BaseService
         return new EndpointKey(uri);
     }
 
+    /**
+     * Normalizes the endpoint uri (with property placeholders resolved) to the endpoint key to use for lookup
+     * in the {@link DefaultEndpointRegistry}.
+     * <p/>
+     * Normalizing an uri is expensive, and the same uris are used over and over again, such as when using
+     * toD or the recipient list EIP, so the recently normalized uris are cached.
+     *
+     * @param uri the endpoint uri
+     * @return the key
+     */
+    protected EndpointKey normalizeEndpointKey(String uri) {
+        EndpointKey answer = normalizedUris.get(uri);
+        if (answer == null) {
+            answer = getEndpointKey(uri);
+            if (normalizedUris.size() >= maxNormalizedUris) {
+                // the cache is bounded so start over when its full, which avoids the cost of a LRU cache on lookups
+                normalizedUris.clear();
+            }
+            normalizedUris.put(uri, answer);
+        }
+        return answer;
+    }
+
     /**
      * Gets the endpoint key to use for lookup or whe adding endpoints to the
      * {@link DefaultEndpointRegistry}
@@ -2279,6 +2325,37 @@ public abstract class AbstractCamelContext extends BaseService
         this.eventNotificationApplicable = eventNotificationApplicable;
     }
 
+    @Override
+    public boolean isLazyStartRoutes() {
+        return lazyStartRoutes;
+    }
+
+    @Override
+    public void setLazyStartRoutes(boolean lazyStartRoutes) {
+        this.lazyStartRoutes = lazyStartRoutes;
+    }
+
+    @Override
+    public int getRouteStartupParallelism() {
+        return routeStartupParallelism;
+    }
+
+    @Override
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+    }
+
+    @Override
+    public boolean startDormantRoute(Endpoint endpoint) {
+        // routes can only be dormant when using the model
+        return false;
+    }
+
+    @Override
+    public Set<String> getDormantRouteIds() {
+        return Collections.emptySet();
+    }
+
     @Override
     public String getVersion() {
         if (version == null) {
@@ -2569,6 +2646,8 @@ public abstract class AbstractCamelContext extends BaseService
         // re-create endpoint registry as the cache size limit may be set after the constructor of this instance was called.
         // and we needed to create endpoints up-front as it may be accessed before this context is started
         endpoints = doAddService(createEndpointRegistry(endpoints));
+        maxNormalizedUris = CamelContextHelper.getMaximumEndpointCacheSize(this);
+        normalizedUris.clear();
 
         // optimised to not include runtimeEndpointRegistry unless startServices
         // is enabled or JMX statistics is in extended mode
@@ -2670,6 +2749,12 @@ public abstract class AbstractCamelContext extends BaseService
                 LOG.info("Total {} routes, of which {} are started, and {} are managed by RouteController: {}", getRoutes().size(), started, controlledRoutes.size(),
                         getRouteController().getClass().getName());
             }
+            if (LOG.isDebugEnabled()) {
+                for (RouteStartupOrder order : routeStartupOrder) {
+                    LOG.debug("Route: {} (startupOrder: {}) started in {}", order.getRoute().getId(), order.getStartupOrder(),
+                            TimeUtils.printDuration(order.getStartupTime()));
+                }
+            }
             LOG.info("Apache Camel {} (CamelContext: {}) started in {}", getVersion(), getName(), TimeUtils.printDuration(stopWatch.taken()));
         }
     }
@@ -2773,6 +2858,13 @@ public abstract class AbstractCamelContext extends BaseService
             LOG.info("Case-insensitive headers is not in use. This can cause problems for protocols such as HTTP based, which rely on case-insensitive headers.");
         }
 
+        // lets log at INFO level if we are using a pooled exchange factory
+        if (getExchangeFactory().isPooled()) {
+            LOG.info("Using ExchangeFactory: {}", getExchangeFactory());
+        } else {
+            LOG.debug("Using ExchangeFactory: {}", getExchangeFactory());
+        }
+
         // lets log at INFO level if we are not using the default reactive executor
         if (!getReactiveExecutor().getClass().getSimpleName().equals("DefaultReactiveExecutor")) {
             LOG.info("Using ReactiveExecutor: {}", getReactiveExecutor());
@@ -3294,29 +3386,39 @@ public abstract class AbstractCamelContext extends BaseService
         return true;
     }
 
-    private void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws FailedToStartRouteException {
+    private void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws Exception {
         // now prepare the routes by starting its services before we start the
         // input
-        for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
-            // defer starting inputs till later as we want to prepare the routes
-            // by starting
-            // all their processors and child services etc.
-            // then later we open the floods to Camel by starting the inputs
-            // what this does is to ensure Camel is more robust on starting
-            // routes as all routes
-            // will then be prepared in time before we start inputs which will
-            // consume messages to be routed
-            RouteService routeService = entry.getValue().getRouteService();
-            try {
-                LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
-                setupRoute.set(routeService.getRoute());
-                routeService.warmUp();
-            } finally {
-                setupRoute.remove();
+        if (isParallelRouteStartup(inputs.size())) {
+            doStartRoutesInParallel(inputs.values(), order -> doWarmUpRoute(order, autoStartup));
+        } else {
+            for (DefaultRouteStartupOrder order : inputs.values()) {
+                doWarmUpRoute(order, autoStartup);
             }
         }
     }
 
+    private void doWarmUpRoute(DefaultRouteStartupOrder order, boolean autoStartup) throws FailedToStartRouteException {
+        // defer starting inputs till later as we want to prepare the routes
+        // by starting
+        // all their processors and child services etc.
+        // then later we open the floods to Camel by starting the inputs
+        // what this does is to ensure Camel is more robust on starting
+        // routes as all routes
+        // will then be prepared in time before we start inputs which will
+        // consume messages to be routed
+        RouteService routeService = order.getRouteService();
+        StopWatch watch = new StopWatch();
+        try {
+            LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+            setupRoute.set(routeService.getRoute());
+            routeService.warmUp();
+        } finally {
+            setupRoute.remove();
+            order.addStartupTime(watch.taken());
+        }
+    }
+
     private void doResumeRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes) throws Exception {
         doStartOrResumeRouteConsumers(inputs, true, addingRoutes);
     }
@@ -3326,6 +3428,11 @@ public abstract class AbstractCamelContext extends BaseService
     }
 
     private void doStartOrResumeRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute) throws Exception {
+        if (!resumeOnly && isParallelRouteStartup(inputs.size())) {
+            doStartRouteConsumersInParallel(inputs, addingRoute);
+            return;
+        }
+
         List<Endpoint> routeInputs = new ArrayList<>();
 
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
@@ -3341,34 +3448,13 @@ public abstract class AbstractCamelContext extends BaseService
                 continue;
             }
 
+            StopWatch watch = new StopWatch();
+
             // start the service
             for (Consumer consumer : routeService.getInputs().values()) {
                 Endpoint endpoint = consumer.getEndpoint();
 
-                // check multiple consumer violation, with the other routes to
-                // be started
-                if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
-                    throw new FailedToStartRouteException(routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
-
-                // check for multiple consumer violations with existing routes
-                // which
-                // have already been started, or is currently starting
-                List<Endpoint> existingEndpoints = new ArrayList<>();
-                for (Route existingRoute : getRoutes()) {
-                    if (route.getId().equals(existingRoute.getId())) {
-                        // skip ourselves
-                        continue;
-                    }
-                    Endpoint existing = existingRoute.getEndpoint();
-                    ServiceStatus status = getRouteStatus(existingRoute.getId());
-                    if (status != null && (status.isStarted() || status.isStarting())) {
-                        existingEndpoints.add(existing);
-                    }
-                }
-                if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
-                    throw new FailedToStartRouteException(routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
+                doCheckMultipleConsumers(route, endpoint, routeInputs);
 
                 // start the consumer on the route
                 LOG.debug("Route: {} >>> {}", route.getId(), route);
@@ -3386,56 +3472,301 @@ public abstract class AbstractCamelContext extends BaseService
                     uri = URISupport.sanitizeUri(uri);
                     LOG.info("Route: {} resumed and consuming from: {}", route.getId(), uri);
                 } else {
-                    // when starting we should invoke the lifecycle strategies
-                    for (LifecycleStrategy strategy : lifecycleStrategies) {
-                        strategy.onServiceAdd(getCamelContextReference(), consumer, route);
-                    }
-                    try {
-                        startService(consumer);
-                        route.getProperties().remove("route.start.exception");
-                    } catch (Exception e) {
-                        route.getProperties().put("route.start.exception", e);
-                        throw e;
-                    }
-
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    LOG.info("Route: {} started and consuming from: {}", route.getId(), uri);
+                    doStartRouteConsumer(route, consumer);
                 }
 
                 routeInputs.add(endpoint);
 
                 // add to the order which they was started, so we know how to
                 // stop them in reverse order
-                // but only add if we haven't already registered it before (we
-                // dont want to double add when restarting)
-                boolean found = false;
-                for (RouteStartupOrder other : routeStartupOrder) {
-                    if (other.getRoute().getId().equals(route.getId())) {
-                        found = true;
-                        break;
-                    }
-                }
-                if (!found) {
-                    routeStartupOrder.add(entry.getValue());
-                }
+                addRouteStartupOrder(entry.getValue());
             }
 
             if (resumeOnly) {
                 routeService.resume();
             } else {
+                entry.getValue().addStartupTime(watch.taken());
+                routeService.setStartupTime(entry.getValue().getStartupTime());
                 // and start the route service (no need to start children as
                 // they are already warmed up)
+                doStartRouteService(route, routeService);
+            }
+        }
+    }
+
+    private void doStartRouteConsumersInParallel(Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoute) throws Exception {
+        // check for multiple consumers violations upfront as if the routes was started one after another
+        List<Endpoint> routeInputs = new ArrayList<>();
+        List<DefaultRouteStartupOrder> orders = new ArrayList<>();
+        for (DefaultRouteStartupOrder order : inputs.values()) {
+            RouteService routeService = order.getRouteService();
+            // if we are starting camel, then skip routes which are configured
+            // to not be auto started
+            if (addingRoute && !routeService.isAutoStartup()) {
+                LOG.info("Skipping starting of route {} as it's configured with autoStartup=false", routeService.getId());
+                continue;
+            }
+            for (Consumer consumer : routeService.getInputs().values()) {
+                doCheckMultipleConsumers(order.getRoute(), consumer.getEndpoint(), routeInputs);
+                routeInputs.add(consumer.getEndpoint());
+            }
+            orders.add(order);
+        }
+
+        Set<DefaultRouteStartupOrder> started = ConcurrentHashMap.newKeySet();
+        try {
+            doStartRoutesInParallel(orders, order -> {
+                Route route = order.getRoute();
+                RouteService routeService = order.getRouteService();
+                StopWatch watch = new StopWatch();
+                for (Consumer consumer : routeService.getInputs().values()) {
+                    LOG.debug("Route: {} >>> {}", route.getId(), route);
+                    LOG.debug("Starting consumer (order: {}) on route: {}", order.getStartupOrder(), route.getId());
+                    doStartRouteConsumer(route, consumer);
+                }
+                order.addStartupTime(watch.taken());
+                routeService.setStartupTime(order.getStartupTime());
+                doStartRouteService(route, routeService);
+                started.add(order);
+            });
+        } finally {
+            // add to the order as if they was started one after another, so we know how to
+            // stop them in reverse order
+            for (DefaultRouteStartupOrder order : orders) {
+                if (started.contains(order) && !order.getRouteService().getInputs().isEmpty()) {
+                    addRouteStartupOrder(order);
+                }
+            }
+        }
+    }
+
+    private void doCheckMultipleConsumers(Route route, Endpoint endpoint, List<Endpoint> routeInputs) throws FailedToStartRouteException {
+        // check multiple consumer violation, with the other routes to
+        // be started
+        if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
+            throw new FailedToStartRouteException(route.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+
+        // check for multiple consumer violations with existing routes
+        // which
+        // have already been started, or is currently starting
+        List<Endpoint> existingEndpoints = new ArrayList<>();
+        for (Route existingRoute : getRoutes()) {
+            if (route.getId().equals(existingRoute.getId())) {
+                // skip ourselves
+                continue;
+            }
+            Endpoint existing = existingRoute.getEndpoint();
+            ServiceStatus status = getRouteStatus(existingRoute.getId());
+            if (status != null && (status.isStarted() || status.isStarting())) {
+                existingEndpoints.add(existing);
+            }
+        }
+        if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
+            throw new FailedToStartRouteException(route.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+    }
+
+    private void doStartRouteConsumer(Route route, Consumer consumer) throws Exception {
+        // when starting we should invoke the lifecycle strategies
+        for (LifecycleStrategy strategy : lifecycleStrategies) {
+            strategy.onServiceAdd(getCamelContextReference(), consumer, route);
+        }
+        try {
+            startService(consumer);
+            route.getProperties().remove("route.start.exception");
+        } catch (Exception e) {
+            route.getProperties().put("route.start.exception", e);
+            throw e;
+        }
+
+        // use basic endpoint uri to not log verbose details or potential sensitive data
+        String uri = consumer.getEndpoint().getEndpointBaseUri();
+        uri = URISupport.sanitizeUri(uri);
+        LOG.info("Route: {} started and consuming from: {}", route.getId(), uri);
+    }
+
+    private void doStartRouteService(Route route, RouteService routeService) throws Exception {
+        try {
+            routeService.start();
+            route.getProperties().remove("route.start.exception");
+        } catch (Exception e) {
+            route.getProperties().put("route.start.exception", e);
+            throw e;
+        }
+    }
+
+    private void addRouteStartupOrder(DefaultRouteStartupOrder order) {
+        // but only add if we haven't already registered it before (we
+        // dont want to double add when restarting)
+        for (RouteStartupOrder other : routeStartupOrder) {
+            if (other.getRoute().getId().equals(order.getRoute().getId())) {
+                return;
+            }
+        }
+        routeStartupOrder.add(order);
+    }
+
+    private boolean isParallelRouteStartup(int routes) {
+        return routeStartupParallelism > 1 && routes > 1;
+    }
+
+    /**
+     * Starts the routes in parallel on a bounded thread pool.
+     * <p/>
+     * The routes are started in levels by their startup order, where each route with an explicit startupOrder
+     * is a level of its own, and the routes without a startupOrder are in the same level. A level is started
+     * when all the routes in the levels before has been started. The routes in a level which shares endpoints
+     * are grouped together and started one after another, and the groups are started concurrently.
+     * If a route fails to start then no further routes are started, and the exception from the first route
+     * which failed is thrown.
+     */
+    private void doStartRoutesInParallel(Collection<DefaultRouteStartupOrder> orders, ThrowingConsumer<DefaultRouteStartupOrder, Exception> task) throws Exception {
+        ExecutorService executor = null;
+        try {
+            for (List<DefaultRouteStartupOrder> level : groupRoutesByStartupOrder(orders)) {
+                List<List<DefaultRouteStartupOrder>> groups = groupRoutesBySharedEndpoints(level);
+                if (groups.size() <= 1) {
+                    for (DefaultRouteStartupOrder order : level) {
+                        task.accept(order);
+                    }
+                    continue;
+                }
+                if (executor == null) {
+                    executor = getExecutorServiceManager().newFixedThreadPool(this, "RouteStartup", routeStartupParallelism);
+                }
+                LOG.debug("Starting {} routes in {} groups using {} threads", level.size(), groups.size(), Math.min(routeStartupParallelism, groups.size()));
+                doStartRouteGroups(executor, groups, task);
+            }
+        } finally {
+            if (executor != null) {
+                // wait for the routes which are currently starting to complete
+                getExecutorServiceManager().shutdownGraceful(executor);
+            }
+        }
+    }
+
+    private void doStartRouteGroups(ExecutorService executor, List<List<DefaultRouteStartupOrder>> groups,
+                                    ThrowingConsumer<DefaultRouteStartupOrder, Exception> task) throws Exception {
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Future<?>> futures = new ArrayList<>(groups.size());
+        CompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+        for (List<DefaultRouteStartupOrder> group : groups) {
+            futures.add(completion.submit(() -> {
+                setStartingRoutes(true);
                 try {
-                    routeService.start();
-                    route.getProperties().remove("route.start.exception");
+                    for (DefaultRouteStartupOrder order : group) {
+                        // fail fast if another route failed to start
+                        if (failed.get()) {
+                            break;
+                        }
+                        task.accept(order);
+                    }
                 } catch (Exception e) {
-                    route.getProperties().put("route.start.exception", e);
+                    failed.set(true);
                     throw e;
+                } finally {
+                    setStartingRoutes(false);
+                }
+                return null;
+            }));
+        }
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                completion.take().get();
+            }
+        } catch (ExecutionException e) {
+            failed.set(true);
+            // do not start the groups which are still waiting to start
+            futures.forEach(f -> f.cancel(false));
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : RuntimeCamelException.wrapRuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            failed.set(true);
+            futures.forEach(f -> f.cancel(false));
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    /**
+     * Groups the routes in levels by their startup order, where each route with an explicit startupOrder
+     * is a level of its own, and the routes in between without a startupOrder are in the same level.
+     *
+     * @return the levels in startup order
+     */
+    private static List<List<DefaultRouteStartupOrder>> groupRoutesByStartupOrder(Collection<DefaultRouteStartupOrder> orders) {
+        List<List<DefaultRouteStartupOrder>> answer = new ArrayList<>();
+        List<DefaultRouteStartupOrder> unordered = null;
+        for (DefaultRouteStartupOrder order : orders) {
+            if (order.getRoute().getStartupOrder() != null) {
+                unordered = null;
+                answer.add(Collections.singletonList(order));
+            } else {
+                if (unordered == null) {
+                    unordered = new ArrayList<>();
+                    answer.add(unordered);
+                }
+                unordered.add(order);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Groups the routes which shares endpoints.
+     *
+     * @return the groups with the routes in their startup order
+     */
+    private static List<List<DefaultRouteStartupOrder>> groupRoutesBySharedEndpoints(List<DefaultRouteStartupOrder> orders) {
+        int[] groups = new int[orders.size()];
+        Map<Endpoint, Integer> endpoints = new HashMap<>();
+        for (int i = 0; i < orders.size(); i++) {
+            groups[i] = i;
+            for (Endpoint endpoint : gatherRouteEndpoints(orders.get(i).getRoute())) {
+                Integer other = endpoints.putIfAbsent(endpoint, i);
+                if (other != null) {
+                    joinGroups(groups, other, i);
                 }
             }
         }
+
+        Map<Integer, List<DefaultRouteStartupOrder>> answer = new LinkedHashMap<>();
+        for (int i = 0; i < orders.size(); i++) {
+            answer.computeIfAbsent(findGroup(groups, i), k -> new ArrayList<>()).add(orders.get(i));
+        }
+        return new ArrayList<>(answer.values());
+    }
+
+    private static Set<Endpoint> gatherRouteEndpoints(Route route) {
+        Set<Endpoint> answer = new LinkedHashSet<>();
+        if (route.getEndpoint() != null) {
+            answer.add(route.getEndpoint());
+        }
+        if (route.getProcessor() instanceof Service) {
+            for (Service service : ServiceHelper.getChildServices((Service) route.getProcessor())) {
+                if (service instanceof EndpointAware) {
+                    Endpoint endpoint = ((EndpointAware) service).getEndpoint();
+                    if (endpoint != null) {
+                        answer.add(endpoint);
+                    }
+                }
+            }
+        }
+        return answer;
+    }
+
+    private static void joinGroups(int[] groups, int a, int b) {
+        int groupA = findGroup(groups, a);
+        int groupB = findGroup(groups, b);
+        // use the lowest as the group so the groups are in startup order
+        groups[Math.max(groupA, groupB)] = Math.min(groupA, groupB);
+    }
+
+    private static int findGroup(int[] groups, int i) {
+        while (groups[i] != i) {
+            i = groups[i];
+        }
+        return i;
     }
 
     private boolean doCheckMultipleConsumerSupportClash(Endpoint endpoint, List<Endpoint> routeInputs) {
@@ -3515,6 +3846,7 @@ public abstract class AbstractCamelContext extends BaseService
             // ignore in case camel-rest is not on the classpath
         }
         getReactiveExecutor();
+        getExchangeFactory();
         getBeanIntrospection();
         getPropertiesComponent();
 
@@ -3563,6 +3895,8 @@ public abstract class AbstractCamelContext extends BaseService
         typeConverterRegistry = null;
         typeConverter = null;
         reactiveExecutor = null;
+        exchangeFactory = null;
+        timeoutScheduler = null;
     }
 
     /**
@@ -4374,6 +4708,40 @@ public abstract class AbstractCamelContext extends BaseService
         this.reactiveExecutor = doAddService(reactiveExecutor, false);
     }
 
+    @Override
+    public ExchangeFactory getExchangeFactory() {
+        if (exchangeFactory == null) {
+            synchronized (lock) {
+                if (exchangeFactory == null) {
+                    setExchangeFactory(createExchangeFactory());
+                }
+            }
+        }
+        return exchangeFactory;
+    }
+
+    @Override
+    public void setExchangeFactory(ExchangeFactory exchangeFactory) {
+        this.exchangeFactory = doAddService(exchangeFactory);
+    }
+
+    @Override
+    public TimeoutScheduler getTimeoutScheduler() {
+        if (timeoutScheduler == null) {
+            synchronized (lock) {
+                if (timeoutScheduler == null) {
+                    setTimeoutScheduler(createTimeoutScheduler());
+                }
+            }
+        }
+        return timeoutScheduler;
+    }
+
+    @Override
+    public void setTimeoutScheduler(TimeoutScheduler timeoutScheduler) {
+        this.timeoutScheduler = doAddService(timeoutScheduler);
+    }
+
     @Override
     public DeferServiceFactory getDeferServiceFactory() {
         return deferServiceFactory;
@@ -4471,6 +4839,10 @@ public abstract class AbstractCamelContext extends BaseService
 
     protected abstract ReactiveExecutor createReactiveExecutor();
 
+    protected abstract ExchangeFactory createExchangeFactory();
+
+    protected abstract TimeoutScheduler createTimeoutScheduler();
+
     protected abstract StreamCachingStrategy createStreamCachingStrategy();
 
     protected abstract TypeConverter createTypeConverter();
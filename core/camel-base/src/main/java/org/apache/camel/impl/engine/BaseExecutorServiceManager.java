@@ -28,6 +28,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.NamedNode;
@@ -65,6 +66,7 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     private String defaultThreadPoolProfileId = "defaultThreadPoolProfile";
     private final Map<String, ThreadPoolProfile> threadPoolProfiles = new ConcurrentHashMap<>();
     private ThreadPoolProfile defaultProfile;
+    private final AtomicBoolean virtualThreadsWarned = new AtomicBoolean();
 
     public BaseExecutorServiceManager(CamelContext camelContext) {
         this.camelContext = camelContext;
@@ -78,6 +80,7 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         defaultProfile.setMaxQueueSize(1000);
         defaultProfile.setAllowCoreThreadTimeOut(false);
         defaultProfile.setRejectedPolicy(ThreadPoolRejectedPolicy.CallerRuns);
+        defaultProfile.setVirtualThreads(false);
 
         registerThreadPoolProfile(defaultProfile);
     }
@@ -186,7 +189,7 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true, isVirtualThreads(profile));
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
@@ -212,7 +215,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     @Override
     public ExecutorService newCachedThreadPool(Object source, String name) {
         String sanitizedName = URISupport.sanitizeUri(name);
-        ExecutorService answer = threadPoolFactory.newCachedThreadPool(createThreadFactory(sanitizedName, true));
+        boolean virtual = isVirtualThreads(getDefaultThreadPoolProfile());
+        ExecutorService answer = threadPoolFactory.newCachedThreadPool(createThreadFactory(sanitizedName, true, virtual));
         onThreadPoolCreated(answer, source, null);
 
         if (LOG.isDebugEnabled()) {
@@ -239,7 +243,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     public ScheduledExecutorService newScheduledThreadPool(Object source, String name, ThreadPoolProfile profile) {
         String sanitizedName = URISupport.sanitizeUri(name);
         profile.addDefaults(getDefaultThreadPoolProfile());
-        ScheduledExecutorService answer = threadPoolFactory.newScheduledThreadPool(profile, createThreadFactory(sanitizedName, true));
+        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true, isVirtualThreads(profile));
+        ScheduledExecutorService answer = threadPoolFactory.newScheduledThreadPool(profile, threadFactory);
         onThreadPoolCreated(answer, source, null);
 
         if (LOG.isDebugEnabled()) {
@@ -543,4 +548,26 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         return new CamelThreadFactory(threadNamePattern, name, isDaemon);
     }
 
+    protected ThreadFactory createThreadFactory(String name, boolean isDaemon, boolean isVirtual) {
+        if (isVirtual) {
+            return new CamelThreadFactory(threadNamePattern, name, isDaemon, true);
+        }
+        return createThreadFactory(name, isDaemon);
+    }
+
+    private boolean isVirtualThreads(ThreadPoolProfile profile) {
+        if (profile == null || !profile.isVirtualThreads()) {
+            return false;
+        }
+        if (!CamelThreadFactory.isVirtualThreadsSupported()) {
+            // only log once to not flood the log
+            if (virtualThreadsWarned.compareAndSet(false, true)) {
+                LOG.warn("Virtual threads is not supported on this JVM (Java {}). Using platform threads instead.",
+                        System.getProperty("java.version"));
+            }
+            return false;
+        }
+        return true;
+    }
+
 }
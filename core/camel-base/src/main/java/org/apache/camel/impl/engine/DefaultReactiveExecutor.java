@@ -19,6 +19,7 @@ package org.apache.camel.impl.engine;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 import org.apache.camel.StaticService;
@@ -46,9 +47,10 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
     });
 
     // use for statistics so we have insights at runtime
+    // (use adders as they are per thread and thus do not contend when updated from many threads)
     private final AtomicInteger createdWorkers = new AtomicInteger();
-    private final AtomicInteger runningWorkers = new AtomicInteger();
-    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private final LongAdder runningWorkers = new LongAdder();
+    private final LongAdder pendingTasks = new LongAdder();
 
     @Override
     public void schedule(Runnable runnable) {
@@ -77,12 +79,12 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
 
     @ManagedAttribute(description = "Number of running workers")
     public int getRunningWorkers() {
-        return runningWorkers.get();
+        return runningWorkers.intValue();
     }
 
     @ManagedAttribute(description = "Number of pending tasks")
     public int getPendingTasks() {
-        return pendingTasks.get();
+        return pendingTasks.intValue();
     }
 
     @Override
@@ -121,14 +123,14 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
             }
             if (first) {
                 queue.addFirst(runnable);
-                executor.pendingTasks.incrementAndGet();
+                executor.pendingTasks.increment();
             } else {
                 queue.addLast(runnable);
-                executor.pendingTasks.incrementAndGet();
+                executor.pendingTasks.increment();
             }
             if (!running || sync) {
                 running = true;
-                executor.runningWorkers.incrementAndGet();
+                executor.runningWorkers.increment();
                 try {
                     for (;;) {
                         final Runnable polled = queue.pollFirst();
@@ -141,7 +143,7 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
                             }
                         }
                         try {
-                            executor.pendingTasks.decrementAndGet();
+                            executor.pendingTasks.decrement();
                             if (LOG.isTraceEnabled()) {
                                 LOG.trace("Worker #{} running: {}", number, runnable);
                             }
@@ -152,7 +154,7 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
                     }
                 } finally {
                     running = false;
-                    executor.runningWorkers.decrementAndGet();
+                    executor.runningWorkers.decrement();
                 }
             } else {
                 if (LOG.isTraceEnabled()) {
@@ -167,7 +169,7 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
                 return false;
             }
             try {
-                executor.pendingTasks.decrementAndGet();
+                executor.pendingTasks.decrement();
                 if (LOG.isTraceEnabled()) {
                     LOG.trace("Running: {}", polled);
                 }
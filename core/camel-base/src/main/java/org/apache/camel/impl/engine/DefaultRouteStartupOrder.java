@@ -33,6 +33,7 @@ public class DefaultRouteStartupOrder implements RouteStartupOrder {
     private final int startupOrder;
     private final Route route;
     private final RouteService routeService;
+    private volatile long startupTime;
 
     public DefaultRouteStartupOrder(int startupOrder, Route route, RouteService routeService) {
         this.startupOrder = startupOrder;
@@ -62,6 +63,15 @@ public class DefaultRouteStartupOrder implements RouteStartupOrder {
         return new ArrayList<>(services);
     }
 
+    @Override
+    public long getStartupTime() {
+        return startupTime;
+    }
+
+    public void addStartupTime(long time) {
+        this.startupTime += time;
+    }
+
     public RouteService getRouteService() {
         return routeService;
     }
@@ -29,6 +29,7 @@ import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.BufferPool;
 import org.apache.camel.util.FilePathResolver;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
@@ -51,7 +52,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private int spoolUsedHeapMemoryThreshold;
     private SpoolUsedHeapMemoryLimit spoolUsedHeapMemoryLimit;
     private String spoolCipher;
+    private boolean spoolMemoryMapped;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
+    private int bufferPoolSize;
+    private boolean bufferPoolLeakDetection;
+    private volatile BufferPool bufferPool;
     private boolean removeSpoolDirectoryWhenStopping = true;
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
@@ -132,6 +137,16 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.spoolCipher = spoolCipher;
     }
 
+    @Override
+    public boolean isSpoolMemoryMapped() {
+        return spoolMemoryMapped;
+    }
+
+    @Override
+    public void setSpoolMemoryMapped(boolean spoolMemoryMapped) {
+        this.spoolMemoryMapped = spoolMemoryMapped;
+    }
+
     @Override
     public int getBufferSize() {
         return bufferSize;
@@ -142,6 +157,31 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.bufferSize = bufferSize;
     }
 
+    @Override
+    public int getBufferPoolSize() {
+        return bufferPoolSize;
+    }
+
+    @Override
+    public void setBufferPoolSize(int bufferPoolSize) {
+        this.bufferPoolSize = bufferPoolSize;
+    }
+
+    @Override
+    public boolean isBufferPoolLeakDetection() {
+        return bufferPoolLeakDetection;
+    }
+
+    @Override
+    public void setBufferPoolLeakDetection(boolean bufferPoolLeakDetection) {
+        this.bufferPoolLeakDetection = bufferPoolLeakDetection;
+    }
+
+    @Override
+    public BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
     @Override
     public boolean isRemoveSpoolDirectoryWhenStopping() {
         return removeSpoolDirectoryWhenStopping;
@@ -318,6 +358,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
         }
 
+        if (bufferPoolSize > 0) {
+            bufferPool = new BufferPool(bufferSize, bufferPoolSize);
+            bufferPool.setLeakDetection(bufferPoolLeakDetection);
+        }
+
         LOG.debug("StreamCaching configuration {}", this);
 
         if (spoolDirectory != null) {
@@ -338,6 +383,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             LOG.debug("Stopping StreamCachingStrategy with statistics: {}", statistics);
         }
 
+        if (bufferPool != null) {
+            LOG.debug("Stopping StreamCachingStrategy with buffer pool: {}", bufferPool);
+            bufferPool.clear();
+            bufferPool = null;
+        }
+
         statistics.reset();
     }
 
@@ -346,9 +397,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         return "DefaultStreamCachingStrategy["
             + "spoolDirectory=" + spoolDirectory
             + ", spoolCipher=" + spoolCipher
+            + ", spoolMemoryMapped=" + spoolMemoryMapped
             + ", spoolThreshold=" + spoolThreshold
             + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
             + ", bufferSize=" + bufferSize
+            + ", bufferPoolSize=" + bufferPoolSize
             + ", anySpoolRules=" + anySpoolRules + "]";
     }
 
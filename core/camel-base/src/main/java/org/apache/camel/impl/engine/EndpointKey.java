@@ -27,6 +27,9 @@ import org.apache.camel.util.StringHelper;
  */
 public final class EndpointKey extends ValueHolder<String> implements NormalizedEndpointUri {
 
+    // the key is used for lookup very often so compute the hash code once
+    private final int hash;
+
     public EndpointKey(String uri) {
         this(uri, false);
     }
@@ -37,6 +40,7 @@ public final class EndpointKey extends ValueHolder<String> implements Normalized
     public EndpointKey(String uri, boolean normalized) {
         super(normalized ? uri : EndpointHelper.normalizeEndpointUri(uri));
         StringHelper.notEmpty(uri, "uri");
+        this.hash = get().hashCode();
     }
 
     @Override
@@ -44,6 +48,23 @@ public final class EndpointKey extends ValueHolder<String> implements Normalized
         return get();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EndpointKey)) {
+            return false;
+        }
+        EndpointKey that = (EndpointKey) o;
+        return hash == that.hash && get().equals(that.get());
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
     @Override
     public String toString() {
         return get();
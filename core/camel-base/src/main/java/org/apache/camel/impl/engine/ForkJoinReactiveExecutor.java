@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Experimental;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.ThreadHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} that runs the tasks on a bounded work-stealing {@link ForkJoinPool}.
+ * <p/>
+ * Tasks scheduled from a thread of the pool are pushed to the local queue of the current worker, so continuations
+ * stays on the same thread (and core) unless an idle worker steals them. Tasks scheduled from other threads, such as
+ * the thread of a consumer, are submitted to the pool. Tasks scheduled synchronously (such as for transacted exchanges)
+ * are run on the current thread as with {@link DefaultReactiveExecutor}, and so are any task scheduled while
+ * running a synchronous task.
+ * <p/>
+ * A synchronous send (such as from a {@link org.apache.camel.ProducerTemplate}) from a thread of the pool blocks the
+ * worker as a {@link ForkJoinPool.ManagedBlocker}, which lets the pool start a spare worker, so the continuations
+ * of the blocked workers can still run.
+ * <p/>
+ * To use this executor then set it on the {@link org.apache.camel.ExtendedCamelContext#setReactiveExecutor(ReactiveExecutor)},
+ * or add it as a bean to the registry, which Camel will detect on startup.
+ */
+@Experimental
+@ManagedResource(description = "Managed ReactiveExecutor")
+public class ForkJoinReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ForkJoinReactiveExecutor.class);
+
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(() -> new Worker(this));
+
+    // use for statistics so we have insights at runtime
+    // (use adders as they are per thread and thus do not contend when updated from many threads)
+    private final LongAdder syncPendingTasks = new LongAdder();
+    private final LongAdder submittedTasks = new LongAdder();
+
+    private CamelContext camelContext;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private volatile ForkJoinPool pool;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of threads in the work-stealing pool.
+     * Is by default the number of available processors.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        doSchedule(runnable);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        doSchedule(runnable);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        workers.get().schedule(runnable, true);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        Worker worker = workers.get();
+        if (worker.running) {
+            return worker.executeFromQueue();
+        }
+        // help run the pending tasks from the local queue of the current worker thread
+        if (isPoolThread()) {
+            return Task.runNextLocalTask();
+        }
+        return false;
+    }
+
+    @ManagedAttribute(description = "Maximum number of worker threads")
+    public int getMaximumWorkers() {
+        return parallelism;
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        ForkJoinPool pool = this.pool;
+        return pool != null ? pool.getPoolSize() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        ForkJoinPool pool = this.pool;
+        return pool != null ? pool.getActiveThreadCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        ForkJoinPool pool = this.pool;
+        long pending = syncPendingTasks.sum();
+        if (pool != null) {
+            pending += pool.getQueuedTaskCount() + pool.getQueuedSubmissionCount();
+        }
+        return (int) pending;
+    }
+
+    @ManagedAttribute(description = "Number of tasks submitted from threads outside the pool")
+    public long getSubmittedTasks() {
+        return submittedTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen by idle workers from other workers")
+    public long getStolenTasks() {
+        ForkJoinPool pool = this.pool;
+        return pool != null ? pool.getStealCount() : 0;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be a positive number, was: " + parallelism);
+        }
+        if (pool == null) {
+            final String pattern = camelContext != null ? camelContext.getExecutorServiceManager().getThreadNamePattern() : null;
+            // use async mode so the local queues are FIFO which ensures scheduled tasks are run fairly
+            pool = new ForkJoinPool(parallelism, p -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                thread.setName(ThreadHelper.resolveThreadName(pattern, "ReactiveExecutor"));
+                return thread;
+            }, null, true);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ForkJoinPool pool = this.pool;
+        if (pool != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Stopping ForkJoinReactiveExecutor [createdWorkers: {}, runningWorkers: {}, pendingTasks: {}, stolenTasks: {}]",
+                        getCreatedWorkers(), getRunningWorkers(), getPendingTasks(), getStolenTasks());
+            }
+            this.pool = null;
+            pool.shutdown();
+            // allow pending tasks a little time to complete
+            if (!pool.awaitTermination(1, TimeUnit.SECONDS)) {
+                LOG.debug("Shutting down ForkJoinReactiveExecutor with {} pending tasks", pool.getQueuedTaskCount());
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ForkJoinReactiveExecutor[parallelism=" + parallelism + "]";
+    }
+
+    private void doSchedule(Runnable runnable) {
+        Worker worker = workers.get();
+        if (worker.running) {
+            // we are running a synchronous task so we must stay on the current thread
+            worker.schedule(runnable, false);
+            return;
+        }
+
+        ForkJoinPool pool = this.pool;
+        if (pool == null) {
+            // not started (or stopped) so run on the current thread
+            worker.schedule(runnable, false);
+            return;
+        }
+
+        Task task = new Task(runnable);
+        if (isPoolThread(pool)) {
+            // keep the continuation on the current worker
+            task.fork();
+        } else {
+            try {
+                pool.execute(task);
+                submittedTasks.increment();
+            } catch (RejectedExecutionException e) {
+                // the pool is shutting down so run on the current thread
+                worker.schedule(runnable, false);
+            }
+        }
+    }
+
+    private boolean isPoolThread() {
+        ForkJoinPool pool = this.pool;
+        return pool != null && isPoolThread(pool);
+    }
+
+    private static boolean isPoolThread(ForkJoinPool pool) {
+        Thread thread = Thread.currentThread();
+        return thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == pool;
+    }
+
+    /**
+     * Task running on the fork join pool
+     */
+    private static final class Task extends ForkJoinTask<Void> {
+
+        private final Runnable runnable;
+
+        private Task(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public Void getRawResult() {
+            return null;
+        }
+
+        @Override
+        protected void setRawResult(Void value) {
+        }
+
+        @Override
+        protected boolean exec() {
+            try {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", runnable);
+                }
+                runnable.run();
+            } catch (Throwable t) {
+                LOG.warn("Error executing reactive work due to " + t.getMessage() + ". This exception is ignored.", t);
+            }
+            return true;
+        }
+
+        static boolean runNextLocalTask() {
+            ForkJoinTask<?> task = pollNextLocalTask();
+            if (task == null) {
+                return false;
+            }
+            task.quietlyInvoke();
+            return true;
+        }
+    }
+
+    /**
+     * Worker which runs synchronous tasks on the current thread
+     */
+    private static class Worker {
+
+        private final ForkJoinReactiveExecutor executor;
+        private final Deque<Runnable> queue = new ArrayDeque<>();
+        private boolean running;
+
+        Worker(ForkJoinReactiveExecutor executor) {
+            this.executor = executor;
+        }
+
+        void schedule(Runnable runnable, boolean sync) {
+            queue.addLast(runnable);
+            executor.syncPendingTasks.increment();
+            if (!running || sync) {
+                boolean wasRunning = running;
+                running = true;
+                try {
+                    for (;;) {
+                        final Runnable polled = queue.pollFirst();
+                        if (polled == null) {
+                            break;
+                        }
+                        run(polled);
+                    }
+                } finally {
+                    running = wasRunning;
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        boolean executeFromQueue() {
+            final Runnable polled = queue.pollFirst();
+            if (polled == null) {
+                return false;
+            }
+            run(polled);
+            return true;
+        }
+
+        private void run(Runnable runnable) {
+            try {
+                executor.syncPendingTasks.decrement();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", runnable);
+                }
+                runnable.run();
+            } catch (Throwable t) {
+                LOG.warn("Error executing reactive work due to " + t.getMessage() + ". This exception is ignored.", t);
+            }
+        }
+    }
+
+}
@@ -63,6 +63,7 @@ public class RouteService extends ChildServiceSupport {
     private final Map<Route, Consumer> inputs = new HashMap<>();
     private final AtomicBoolean warmUpDone = new AtomicBoolean(false);
     private final AtomicBoolean endpointDone = new AtomicBoolean(false);
+    private volatile long startupTime;
 
     public RouteService(Route route) {
         this.route = route;
@@ -110,6 +111,18 @@ public class RouteService extends ChildServiceSupport {
         return inputs;
     }
 
+    /**
+     * Gets the time taken (in millis) to warm up the route and start its consumers, which is included in the
+     * event when the route is started.
+     */
+    public long getStartupTime() {
+        return startupTime;
+    }
+
+    public void setStartupTime(long startupTime) {
+        this.startupTime = startupTime;
+    }
+
     public boolean isRemovingRoutes() {
         return removingRoutes;
     }
@@ -216,7 +229,7 @@ public class RouteService extends ChildServiceSupport {
             routePolicyCallback(RoutePolicy::onStart);
 
             // fire event
-            EventHelper.notifyRouteStarted(camelContext, route);
+            EventHelper.notifyRouteStarted(camelContext, route, startupTime);
         }
     }
 
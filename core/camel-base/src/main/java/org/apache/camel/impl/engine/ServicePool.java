@@ -16,20 +16,20 @@
  */
 package org.apache.camel.impl.engine;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.apache.camel.Endpoint;
 import org.apache.camel.NonManagedService;
 import org.apache.camel.Service;
-import org.apache.camel.support.LRUCache;
-import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.function.ThrowingFunction;
 import org.slf4j.Logger;
@@ -38,6 +38,15 @@ import org.slf4j.LoggerFactory;
 /**
  * A base class for a pool for either producers or consumers used by
  * {@link org.apache.camel.spi.ProducerCache} and {@link org.apache.camel.spi.ConsumerCache}.
+ * <p/>
+ * The pool does not use locks when acquiring and releasing producers/consumers. There is a pool per endpoint
+ * (kept in a {@link ConcurrentHashMap} which is striped), and the idle producers/consumers of non-singleton endpoints
+ * are kept in a lock-free stack so the most recently used (and thus warm) instance is reused first.
+ * <p/>
+ * When the number of producers/consumers exceeds the capacity then the least recently used are evicted using a
+ * clock (second chance) algorithm. A non-singleton producer/consumer is never stopped while it is in use, also not when
+ * the pool is stopped: its stopped when its released back to the pool. A singleton which is evicted while in use is
+ * removed from the pool and stopped when its released by the last worker thread using it.
  */
 abstract class ServicePool<S extends Service> extends ServiceSupport implements NonManagedService {
 
@@ -45,43 +54,33 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
 
     private final ThrowingFunction<Endpoint, S, Exception> creator;
     private final Function<S, Endpoint> getEndpoint;
-    private final ConcurrentMap<Endpoint, Pool<S>> pool = new ConcurrentHashMap<>();
-    // keep track of all singleton endpoints with a pooled producer that are evicted
-    // for multi pool then they have their own house-keeping for evictions (more complex)
-    private final ConcurrentMap<Endpoint, Pool<S>> singlePoolEvicted = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Endpoint, Pool> pool = new ConcurrentHashMap<>();
+    // the pools in the order they are visited by the eviction (clock hand)
+    private final Queue<Pool> clock = new ConcurrentLinkedQueue<>();
+    // the pools which are evicted or stopped while in use, by their producer/consumer
+    private final ConcurrentMap<S, Pool> detachedPools = new ConcurrentHashMap<>();
+    // number of producers/consumers created by the pools which has not been stopped (whether in use or idle)
+    private final AtomicInteger services = new AtomicInteger();
+    private final AtomicBoolean evicting = new AtomicBoolean();
     private int capacity;
-    private Map<S, S> cache;
-
-    private interface Pool<S> {
-        S acquire() throws Exception;
-        void release(S s);
-        int size();
-        void stop();
-        void evict(S s);
-        void cleanUp();
-    }
 
     public ServicePool(ThrowingFunction<Endpoint, S, Exception> creator, Function<S, Endpoint> getEndpoint, int capacity) {
         this.creator = creator;
         this.getEndpoint = getEndpoint;
         this.capacity = capacity;
-        // only use a LRU cache if capacity is more than one
-        // the LRU cache is a facade that handles the logic to know which producers/consumers to evict/remove
-        // when we hit max capacity. Then we remove them in the associated pool ConcurrentMap instance.
-        this.cache = capacity > 1 ? LRUCacheFactory.newLRUCache(capacity, this::onEvict) : null;
     }
 
     /**
-     * This callback is invoked by LRUCache from a separate background cleanup thread.
-     * Therefore we mark the entries to be evicted from this thread only,
-     * and then let SinglePool and MultiPool handle the evictions (stop the producer/consumer safely)
-     * when they are acquiring/releases producers/consumers. If we sop the producer/consumer from the
-     * LRUCache background thread we can have a race condition with a pooled producer may have been
-     * acquired at the same time its being evicted.
+     * Evicts the given producer/consumer. If the producer/consumer is in use then its stopped
+     * when its released back to the pool, so we do not have a race condition with a pooled producer/consumer
+     * that is being evicted while its in use by another worker thread.
      */
     protected void onEvict(S s) {
         Endpoint e = getEndpoint.apply(s);
-        Pool<S> p = pool.get(e);
+        Pool p = detachedPools.isEmpty() ? null : detachedPools.get(s);
+        if (p == null) {
+            p = pool.get(e);
+        }
         if (p != null) {
             p.evict(s);
         } else {
@@ -105,11 +104,19 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         if (!isStarted()) {
             return null;
         }
-        S s = getOrCreatePool(endpoint).acquire();
-        if (s != null && cache != null) {
-            cache.putIfAbsent(s, s);
+        for (;;) {
+            Pool p = pool.computeIfAbsent(endpoint, this::createPool);
+            if (p.enter()) {
+                try {
+                    return p.acquire();
+                } catch (Exception e) {
+                    p.exit();
+                    throw e;
+                }
+            }
+            // the pool has just been evicted so try again with a new pool
+            pool.remove(endpoint, p);
         }
-        return s;
     }
 
     /**
@@ -119,23 +126,22 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
      * @param s the producer/consumer
      */
     public void release(Endpoint endpoint, S s) {
-        Pool<S> p = pool.get(endpoint);
+        Pool p = detachedPools.isEmpty() ? null : detachedPools.get(s);
+        if (p == null) {
+            p = pool.get(endpoint);
+        }
         if (p != null) {
             p.release(s);
         }
     }
 
-    private Pool<S> getOrCreatePool(Endpoint endpoint) {
-        return pool.computeIfAbsent(endpoint, this::createPool);
-    }
-
-    private Pool<S> createPool(Endpoint endpoint) {
+    private Pool createPool(Endpoint endpoint) {
         boolean singleton = endpoint.isSingletonProducer();
-        if (singleton) {
-            return new SinglePool(endpoint);
-        } else {
-            return new MultiplePool(endpoint);
+        Pool answer = singleton ? new SinglePool(endpoint) : new MultiplePool(endpoint);
+        if (capacity > 1) {
+            clock.add(answer);
         }
+        return answer;
     }
 
     /**
@@ -149,10 +155,9 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
      * Cleanup the pool (removing stale instances that should be evicted)
      */
     public void cleanUp() {
-        if (cache instanceof LRUCache) {
-            ((LRUCache) cache).cleanUp();
-        }
         pool.values().forEach(Pool::cleanUp);
+        detachedPools.values().forEach(Pool::cleanUp);
+        evictIfNeeded();
     }
 
     @Override
@@ -166,12 +171,51 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
 
         pool.values().forEach(Pool::stop);
         pool.clear();
-        if (cache != null) {
-            cache.values().forEach(ServicePool::stop);
-            cache.clear();
+        clock.clear();
+        // the producers/consumers which are still in use are stopped (and removed) when they are released
+        detachedPools.values().forEach(Pool::stop);
+    }
+
+    /**
+     * Evicts the least recently used producers/consumers until we are within the capacity.
+     * <p/>
+     * Only one thread runs the eviction at any given time, and the other threads will not wait for it.
+     */
+    private void evictIfNeeded() {
+        // only evict if capacity is more than one
+        if (capacity <= 1 || services.get() <= capacity || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // visit each pool at most twice, as the first visit may only clear its referenced flag
+            int max = 2 * pool.size();
+            for (int i = 0; i < max; i++) {
+                int overflow = services.get() - capacity;
+                if (overflow <= 0) {
+                    break;
+                }
+                Pool p = clock.poll();
+                if (p == null) {
+                    break;
+                }
+                if (pool.get(p.endpoint) != p) {
+                    // evicted or stopped
+                    continue;
+                }
+                if (p.referenced) {
+                    // give it a second chance
+                    p.referenced = false;
+                } else {
+                    p.evictIdle(overflow);
+                    if (pool.get(p.endpoint) != p) {
+                        continue;
+                    }
+                }
+                clock.add(p);
+            }
+        } finally {
+            evicting.set(false);
         }
-        singlePoolEvicted.values().forEach(Pool::stop);
-        singlePoolEvicted.clear();
     }
 
     /**
@@ -185,86 +229,199 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         }
     }
 
+    /**
+     * Pool of producers or consumers for a given endpoint.
+     */
+    private abstract class Pool {
+        final Endpoint endpoint;
+        // number of acquired producers/consumers which are not yet released, or -1 when the pool is retired
+        final AtomicInteger inflight = new AtomicInteger();
+        // whether the pool has been used since the eviction visited it
+        volatile boolean referenced = true;
+
+        Pool(Endpoint endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        abstract S acquire() throws Exception;
+
+        abstract void release(S s);
+
+        abstract int size();
+
+        abstract void evict(S s);
+
+        abstract void evictIdle(int max);
+
+        abstract void cleanUp();
+
+        abstract void stop();
+
+        boolean enter() {
+            for (;;) {
+                int current = inflight.get();
+                if (current < 0) {
+                    return false;
+                }
+                if (inflight.compareAndSet(current, current + 1)) {
+                    // only write when changed to avoid contention on the cache line
+                    if (!referenced) {
+                        referenced = true;
+                    }
+                    return true;
+                }
+            }
+        }
+
+        void exit() {
+            for (;;) {
+                int current = inflight.get();
+                if (current <= 0) {
+                    // released more than acquired, or the pool is retired
+                    return;
+                }
+                if (inflight.compareAndSet(current, current - 1)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Retires the pool if no producers/consumers are in use, which means the pool can no longer be acquired
+         */
+        boolean retire() {
+            if (inflight.compareAndSet(0, -1)) {
+                pool.remove(endpoint, this);
+                return true;
+            }
+            return false;
+        }
+
+        boolean isRetired() {
+            return inflight.get() < 0;
+        }
+
+        void doStop(Service s) {
+            ServicePool.stop(s);
+            try {
+                endpoint.getCamelContext().removeService(s);
+            } catch (Exception e) {
+                LOG.debug("Error removing service: {}", s, e);
+            }
+        }
+    }
+
     /**
      * Pool used for singleton producers or consumers which are thread-safe
      * and can be shared by multiple worker threads at any given time.
      */
-    private class SinglePool implements Pool<S> {
-        private final Endpoint endpoint;
+    private class SinglePool extends Pool {
         private volatile S s;
+        // whether the pool is evicted while in use, and the producer/consumer is stopped when no longer in use
+        private volatile boolean detached;
 
         SinglePool(Endpoint endpoint) {
-            this.endpoint = endpoint;
+            super(endpoint);
         }
 
         @Override
-        public S acquire() throws Exception {
-            cleanupEvicts();
-
-            if (s == null) {
+        S acquire() throws Exception {
+            S answer = s;
+            if (answer == null) {
+                // only lock when creating the service
                 synchronized (this) {
-                    if (s == null) {
+                    answer = s;
+                    if (answer == null) {
                         LOG.trace("Creating service from endpoint: {}", endpoint);
-                        S tempS = creator.apply(endpoint);
-                        endpoint.getCamelContext().addService(tempS, true, true);
-                        s = tempS;
+                        answer = creator.apply(endpoint);
+                        endpoint.getCamelContext().addService(answer, true, true);
+                        services.incrementAndGet();
+                        s = answer;
                     }
                 }
+                evictIfNeeded();
             }
-            LOG.trace("Acquired service: {}", s);
-            return s;
+            LOG.trace("Acquired service: {}", answer);
+            return answer;
         }
 
         @Override
-        public void release(S s) {
-            cleanupEvicts();
-
-            // noop
+        void release(S s) {
             LOG.trace("Released service: {}", s);
+            exit();
+            if (detached) {
+                stopIfRetired();
+            }
         }
 
         @Override
-        public int size() {
-            return s != null ? 1 : 0;
+        int size() {
+            return s != null && !detached && !isRetired() ? 1 : 0;
         }
 
         @Override
-        public void stop() {
-            S toStop;
-            synchronized (this) {
-                toStop = s;
-                s = null;
-            }
-            doStop(toStop);
-            pool.remove(endpoint);
+        void evict(S s) {
+            evictSingle();
         }
 
         @Override
-        public void evict(S s) {
-            singlePoolEvicted.putIfAbsent(endpoint, this);
+        void evictIdle(int max) {
+            evictSingle();
         }
 
         @Override
-        public void cleanUp() {
-            cleanupEvicts();
+        void cleanUp() {
+            if (detached) {
+                stopIfRetired();
+            }
         }
 
-        private void cleanupEvicts() {
-            singlePoolEvicted.forEach((e, p) -> {
-                doStop(e);
-                p.stop();
-                singlePoolEvicted.remove(e);
-            });
+        @Override
+        void stop() {
+            inflight.set(-1);
+            pool.remove(endpoint, this);
+            stopService();
         }
 
-        void doStop(Service s) {
-            if (s != null) {
-                ServicePool.stop(s);
-                try {
-                    endpoint.getCamelContext().removeService(s);
-                } catch (Exception e) {
-                    LOG.debug("Error removing service: {}", s, e);
+        private void evictSingle() {
+            if (retire()) {
+                stopService();
+                return;
+            }
+            // its in use so detach the pool, which means its no longer in the cache,
+            // and the producer/consumer is stopped when its released by the last worker thread
+            synchronized (this) {
+                if (detached || s == null) {
+                    return;
+                }
+                detached = true;
+                services.decrementAndGet();
+                detachedPools.put(s, this);
+                pool.remove(endpoint, this);
+            }
+            // it may have been released in the meantime
+            stopIfRetired();
+        }
+
+        private void stopIfRetired() {
+            if (retire()) {
+                stopService();
+            }
+        }
+
+        private void stopService() {
+            S toStop;
+            synchronized (this) {
+                toStop = s;
+                s = null;
+            }
+            if (toStop != null) {
+                if (detached) {
+                    detachedPools.remove(toStop);
+                } else {
+                    services.decrementAndGet();
                 }
+                doStop(toStop);
             }
         }
     }
@@ -273,85 +430,145 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
      * Pool used for non-singleton producers or consumers which are not thread-safe
      * and can only be used by one worker thread at any given time.
      */
-    private class MultiplePool implements Pool<S> {
-        private final Endpoint endpoint;
-        private final BlockingQueue<S> queue;
-        private final List<S> evicts;
+    private class MultiplePool extends Pool {
+        // the idle producers/consumers used as a stack (most recently used first)
+        private final Deque<S> idle = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger idleSize = new AtomicInteger();
+        // all the created producers/consumers (whether in use or idle) which is only updated on create and stop
+        private final Set<S> created = ConcurrentHashMap.newKeySet();
+        // the producers/consumers to be evicted when they are released
+        private final Set<S> evicts = ConcurrentHashMap.newKeySet();
 
         MultiplePool(Endpoint endpoint) {
-            this.endpoint = endpoint;
-            this.queue = new ArrayBlockingQueue<>(capacity);
-            this.evicts = new ArrayList<>();
+            super(endpoint);
         }
 
-        private void cleanupEvicts() {
-            if (!evicts.isEmpty()) {
-                synchronized (this) {
-                    if (!evicts.isEmpty()) {
-                        evicts.forEach(this::doStop);
-                        evicts.forEach(queue::remove);
-                        evicts.clear();
-                        if (queue.isEmpty()) {
-                            pool.remove(endpoint);
-                        }
-                    }
+        @Override
+        S acquire() throws Exception {
+            S s;
+            while ((s = idle.pollFirst()) != null) {
+                idleSize.decrementAndGet();
+                if (evicts.isEmpty() || !evicts.remove(s)) {
+                    return s;
                 }
+                doStop(s);
             }
-        }
-
-        @Override
-        public S acquire() throws Exception {
-            cleanupEvicts();
 
-            S s = queue.poll();
-            if (s == null) {
-                s = creator.apply(endpoint);
-                s.start();
+            s = creator.apply(endpoint);
+            s.start();
+            created.add(s);
+            services.incrementAndGet();
+            if (isRetired()) {
+                // the pool has been stopped while creating so stop it when its released
+                evicts.add(s);
+                detachedPools.put(s, this);
+            } else {
+                evictIfNeeded();
             }
             return s;
         }
 
         @Override
-        public void release(S s) {
-            cleanupEvicts();
-
-            if (!queue.offer(s)) {
+        void release(S s) {
+            if (!evicts.isEmpty() && evicts.remove(s)) {
+                doStop(s);
+            } else if (idleSize.incrementAndGet() <= capacity) {
+                idle.offerFirst(s);
+            } else {
                 // there is no room so lets just stop and discard this
+                idleSize.decrementAndGet();
                 doStop(s);
             }
+            exit();
+            if (isRetired()) {
+                // the pool has been stopped while in use
+                stopIdle();
+            } else {
+                evictIfNeeded();
+            }
         }
 
         @Override
-        public int size() {
-            return queue.size();
+        int size() {
+            return Math.max(0, idleSize.get());
         }
 
         @Override
-        public void stop() {
-            queue.forEach(this::doStop);
-            queue.clear();
-            pool.remove(endpoint);
+        void evict(S s) {
+            if (idle.remove(s)) {
+                idleSize.decrementAndGet();
+                doStop(s);
+            } else if (created.contains(s)) {
+                // in use so stop it when its released
+                evicts.add(s);
+            }
+        }
+
+        @Override
+        void evictIdle(int max) {
+            // the least recently used are at the bottom of the stack
+            S s;
+            for (int i = 0; i < max && (s = idle.pollLast()) != null; i++) {
+                idleSize.decrementAndGet();
+                evicts.remove(s);
+                doStop(s);
+            }
+            if (created.isEmpty() && retire()) {
+                // a producer/consumer may have been created and released in the meantime
+                stopAll();
+            }
         }
 
         @Override
-        public void evict(S s) {
-            // to be evicted
-            evicts.add(s);
+        void cleanUp() {
+            if (!evicts.isEmpty()) {
+                // stop the evicted which are idle
+                for (S s : evicts) {
+                    if (idle.remove(s)) {
+                        idleSize.decrementAndGet();
+                        evicts.remove(s);
+                        doStop(s);
+                    }
+                }
+            }
         }
 
         @Override
-        public void cleanUp() {
-            cleanupEvicts();
+        void stop() {
+            inflight.set(-1);
+            pool.remove(endpoint, this);
+            stopAll();
+        }
+
+        /**
+         * Stops the idle producers/consumers, and the producers/consumers in use are stopped when they are released
+         */
+        private void stopAll() {
+            for (S s : created) {
+                evicts.add(s);
+                detachedPools.put(s, this);
+            }
+            stopIdle();
         }
 
+        private void stopIdle() {
+            S s;
+            while ((s = idle.pollFirst()) != null) {
+                idleSize.decrementAndGet();
+                evicts.remove(s);
+                doStop(s);
+            }
+        }
+
+        @Override
         void doStop(Service s) {
-            if (s != null) {
-                ServicePool.stop(s);
-                try {
-                    endpoint.getCamelContext().removeService(s);
-                } catch (Exception e) {
-                    LOG.debug("Error removing service: {}", s, e);
+            // only stop once
+            if (created.remove(s)) {
+                if (!detachedPools.isEmpty()) {
+                    detachedPools.remove(s, this);
                 }
+                services.decrementAndGet();
+                super.doStop(s);
             }
         }
     }
@@ -45,6 +45,7 @@ import org.apache.camel.spi.ComponentResolver;
 import org.apache.camel.spi.ConfigurerResolver;
 import org.apache.camel.spi.DataFormatResolver;
 import org.apache.camel.spi.EndpointRegistry;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -68,6 +69,7 @@ import org.apache.camel.spi.RestRegistryFactory;
 import org.apache.camel.spi.RouteController;
 import org.apache.camel.spi.ShutdownStrategy;
 import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.TimeoutScheduler;
 import org.apache.camel.spi.Tracer;
 import org.apache.camel.spi.TransformerRegistry;
 import org.apache.camel.spi.TypeConverterRegistry;
@@ -76,6 +78,8 @@ import org.apache.camel.spi.UuidGenerator;
 import org.apache.camel.spi.ValidatorRegistry;
 import org.apache.camel.spi.XMLRoutesDefinitionLoader;
 import org.apache.camel.support.DefaultRegistry;
+import org.apache.camel.support.HashedWheelTimeoutScheduler;
+import org.apache.camel.support.PrototypeExchangeFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -379,6 +383,20 @@ public class SimpleCamelContext extends AbstractCamelContext {
                 .orElseGet(DefaultReactiveExecutor::new);
     }
 
+    @Override
+    protected ExchangeFactory createExchangeFactory() {
+        return new BaseServiceResolver<>(ExchangeFactory.FACTORY, ExchangeFactory.class)
+                .resolve(getCamelContextReference())
+                .orElseGet(PrototypeExchangeFactory::new);
+    }
+
+    @Override
+    protected TimeoutScheduler createTimeoutScheduler() {
+        return new BaseServiceResolver<>(TimeoutScheduler.FACTORY, TimeoutScheduler.class)
+                .resolve(getCamelContextReference())
+                .orElseGet(HashedWheelTimeoutScheduler::new);
+    }
+
     @Override
     public AsyncProcessor createMulticast(Collection<Processor> processors, ExecutorService executor, boolean shutdownExecutorService) {
         return new MulticastProcessor(getCamelContextReference(), null, processors, null, true, executor, shutdownExecutorService, false, false, 0, null, false, false);
@@ -105,6 +105,11 @@ public class DefaultEventFactory implements EventFactory {
         return new RouteStartedEvent(route);
     }
 
+    @Override
+    public CamelEvent createRouteStartedEvent(Route route, long startupTime) {
+        return new RouteStartedEvent(route, startupTime);
+    }
+
     @Override
     public CamelEvent createRouteStoppedEvent(Route route) {
         return new RouteStoppedEvent(route);
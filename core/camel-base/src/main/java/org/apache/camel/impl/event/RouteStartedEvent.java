@@ -22,8 +22,20 @@ import org.apache.camel.spi.CamelEvent;
 public class RouteStartedEvent extends AbstractRouteEvent implements CamelEvent.RouteStartedEvent {
     private static final long serialVersionUID = 1330257282431407329L;
 
+    private final long startupTime;
+
     public RouteStartedEvent(Route source) {
+        this(source, 0);
+    }
+
+    public RouteStartedEvent(Route source, long startupTime) {
         super(source);
+        this.startupTime = startupTime;
+    }
+
+    @Override
+    public long getStartupTime() {
+        return startupTime;
     }
 
     @Override
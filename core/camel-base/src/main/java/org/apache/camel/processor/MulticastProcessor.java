@@ -19,9 +19,11 @@ package org.apache.camel.processor;
 import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
@@ -163,6 +165,9 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
     private final long timeout;
     private final ConcurrentMap<ErrorHandlerKey, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
+    private int maxInflight;
+    // the tasks currently running in parallel, used for statistics about the exchanges in flight
+    private final Set<MulticastTask> parallelTasks = ConcurrentHashMap.newKeySet();
 
     public MulticastProcessor(CamelContext camelContext, Route route, Collection<Processor> processors) {
         this(camelContext, route, processors, null);
@@ -294,9 +299,12 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
         final AsyncCompletionService<Exchange> completion;
         final AtomicReference<Exchange> result;
         final AtomicInteger nbExchangeSent = new AtomicInteger();
+        final AtomicInteger nbCompleted = new AtomicInteger();
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean waiting = new AtomicBoolean();
+        final PartialResults partials;
 
         MulticastTask(Exchange original, Iterable<ProcessorExchangePair> pairs, AsyncCallback callback) {
             this.original = original;
@@ -306,9 +314,16 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
             this.lock = new ReentrantLock();
             this.completion = new AsyncCompletionService<>(MulticastProcessor.this::schedule, !isStreaming(), lock);
             this.result = new AtomicReference<>();
+            // when processing in parallel with a strategy which can combine partial results, then the results
+            // are aggregated concurrently instead of one by one (not when using a timeout as it needs the results in order)
+            AggregationStrategy strategy = isParallelProcessing() && timeout <= 0 ? getAggregationStrategy(original) : null;
+            this.partials = strategy != null && strategy.canCombine() ? new PartialResults(strategy, original) : null;
             if (timeout > 0) {
                 schedule(aggregateExecutorService, this::timeout, timeout, TimeUnit.MILLISECONDS);
             }
+            if (isParallelProcessing()) {
+                parallelTasks.add(this);
+            }
         }
 
         @Override
@@ -347,19 +362,29 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                 // Schedule the processing of the next pair
                 if (hasNext) {
                     if (isParallelProcessing()) {
-                        schedule(this);
+                        if (maxInflight > 0) {
+                            // only split the next message when there is a free slot in the window,
+                            // otherwise the next message is split when a slot is released
+                            waiting.set(true);
+                            releaseSlot();
+                        } else {
+                            schedule(this);
+                        }
                     }
                 } else {
                     allSent.set(true);
                 }
 
-                completion.submit(exchangeResult -> {
+                // submit using the index as the next pair may be submitted before this pair when processing
+                // in parallel, and the replies must be aggregated in the same order as the pairs
+                completion.submit(index, exchangeResult -> {
                     // compute time taken if sending to another endpoint
                     StopWatch watch = beforeSend(pair);
 
                     AsyncProcessor async = AsyncProcessorConverterHelper.convert(pair.getProcessor());
                     async.process(exchange, doneSync -> {
                         afterSend(pair, watch);
+                        nbCompleted.incrementAndGet();
 
                         // Decide whether to continue with the multicast or not; similar logic to the Pipeline
                         // remember to test for stop on exception and aggregate before copying back results
@@ -379,10 +404,14 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                             return;
                         }
 
-                        exchangeResult.accept(exchange);
+                        if (partials != null) {
+                            combine(exchange, index);
+                        } else {
+                            exchangeResult.accept(exchange);
 
-                        // aggregate exchanges if any
-                        aggregate();
+                            // aggregate exchanges if any
+                            aggregate();
+                        }
 
                         // next step
                         if (hasNext && !isParallelProcessing()) {
@@ -405,6 +434,8 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                         doAggregate(result, exchange, original);
                         if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
                             doDone(result.get(), true);
+                        } else {
+                            releaseSlot();
                         }
                     }
                 } catch (Throwable e) {
@@ -417,6 +448,35 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
             }
         }
 
+        protected void combine(Exchange exchange, int index) {
+            if (done.get()) {
+                return;
+            }
+            try {
+                partials.add(exchange, index);
+                if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
+                    result.set(partials.complete());
+                    doDone(result.get(), true);
+                } else {
+                    releaseSlot();
+                }
+            } catch (Throwable e) {
+                original.setException(e);
+                // and do the done work
+                doDone(null, false);
+            }
+        }
+
+        /**
+         * Continues splitting the next message if it is waiting for a free slot, and the number of exchanges
+         * which are in flight or waiting to be aggregated in order is below the max inflight limit.
+         */
+        protected void releaseSlot() {
+            if (waiting.get() && nbExchangeSent.get() - nbAggregated.get() < maxInflight && waiting.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
         protected void timeout() {
             Lock lock = this.lock;
             if (lock.tryLock()) {
@@ -447,6 +507,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
 
         protected void doDone(Exchange exchange, boolean forceExhaust) {
             if (done.compareAndSet(false, true)) {
+                parallelTasks.remove(this);
                 MulticastProcessor.this.doDone(original, exchange, pairs, callback, false, forceExhaust);
             }
         }
@@ -619,6 +680,78 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
         }
     }
 
+    /**
+     * The partial results when aggregating concurrently with an {@link AggregationStrategy} which can combine partial results.
+     * <p/>
+     * The results are the leaves of a binary tree ordered by their index. When a result is added then its aggregated
+     * (starting from <tt>null</tt>) into a partial result, which is combined with the partial result of its sibling in the tree,
+     * and so on up the tree, as long as the sibling is complete. Otherwise the partial result is parked in the tree
+     * until its sibling is complete, so the results are combined in order without holding a lock.
+     */
+    private static final class PartialResults {
+
+        private final AggregationStrategy strategy;
+        private final Exchange inputExchange;
+        // the partial results waiting for their sibling, keyed by the level and index of their parent in the tree
+        private final ConcurrentMap<Long, Partial> parked = new ConcurrentHashMap<>();
+
+        PartialResults(AggregationStrategy strategy, Exchange inputExchange) {
+            this.strategy = strategy;
+            this.inputExchange = inputExchange;
+        }
+
+        void add(Exchange exchange, int index) {
+            ExchangeHelper.prepareAggregation(null, exchange);
+            Partial partial = new Partial(index, strategy.aggregate(null, exchange, inputExchange));
+            long node = index;
+            for (int level = 0; level < Integer.SIZE; level++) {
+                Partial sibling = parked.putIfAbsent(((long) level << Integer.SIZE) | (node >> 1), partial);
+                if (sibling == null) {
+                    // the sibling will combine with us when its complete
+                    return;
+                }
+                parked.remove(((long) level << Integer.SIZE) | (node >> 1));
+                partial = (node & 1) == 0 ? combine(partial, sibling) : combine(sibling, partial);
+                node >>= 1;
+            }
+        }
+
+        Exchange complete() {
+            // the remainder are the partial results at the end which has no sibling
+            List<Partial> remainder = new ArrayList<>(parked.values());
+            remainder.sort(Comparator.comparingLong(p -> p.start));
+            Exchange answer = null;
+            for (Partial partial : remainder) {
+                answer = answer == null ? partial.exchange : combine(answer, partial.exchange);
+            }
+            return answer;
+        }
+
+        private Partial combine(Partial first, Partial second) {
+            return new Partial(first.start, combine(first.exchange, second.exchange));
+        }
+
+        private Exchange combine(Exchange first, Exchange second) {
+            if (first == null) {
+                return second;
+            } else if (second == null) {
+                return first;
+            }
+            return strategy.combine(first, second);
+        }
+    }
+
+    private static final class Partial {
+
+        private final long start;
+        private final Exchange exchange;
+
+        Partial(long start, Exchange exchange) {
+            this.start = start;
+            this.exchange = exchange;
+        }
+    }
+
     protected void updateNewExchange(Exchange exchange, int index, Iterable<ProcessorExchangePair> allPairs, boolean hasNext) {
         exchange.setProperty(Exchange.MULTICAST_INDEX, index);
         if (hasNext) {
@@ -980,6 +1113,41 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
         return shareUnitOfWork;
     }
 
+    /**
+     * The maximum number of exchanges which can be in flight (or waiting to be aggregated in order)
+     * at the same time when using parallel processing, or 0 for unlimited.
+     */
+    public int getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(int maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
+    /**
+     * Number of exchanges currently being processed when using parallel processing
+     */
+    public int getInflightExchanges() {
+        int answer = 0;
+        for (MulticastTask task : parallelTasks) {
+            answer += task.nbExchangeSent.get() - task.nbCompleted.get();
+        }
+        return answer;
+    }
+
+    /**
+     * Number of exchanges which has been processed and are waiting to be aggregated in order
+     * when using parallel processing
+     */
+    public int getPendingAggregations() {
+        int answer = 0;
+        for (MulticastTask task : parallelTasks) {
+            answer += task.nbCompleted.get() - task.nbAggregated.get();
+        }
+        return answer;
+    }
+
     public ExecutorService getAggregateExecutorService() {
         return aggregateExecutorService;
     }
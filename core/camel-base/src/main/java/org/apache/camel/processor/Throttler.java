@@ -63,15 +63,15 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
 
     private static final Logger LOG = LoggerFactory.getLogger(Throttler.class);
 
-    private static final String DEFAULT_KEY = "CamelThrottlerDefaultKey";
+    protected static final String DEFAULT_KEY = "CamelThrottlerDefaultKey";
 
     private static final String PROPERTY_EXCHANGE_QUEUED_TIMESTAMP = "CamelThrottlerExchangeQueuedTimestamp";
     private static final String PROPERTY_EXCHANGE_STATE = "CamelThrottlerExchangeState";
 
     private enum State { SYNC, ASYNC, ASYNC_REJECTED }
 
-    private final CamelContext camelContext;
-    private final ScheduledExecutorService asyncExecutor;
+    protected final CamelContext camelContext;
+    protected final ScheduledExecutorService asyncExecutor;
     private final boolean shutdownAsyncExecutor;
 
     private volatile long timePeriodMillis;
@@ -82,7 +82,7 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
     private boolean rejectExecution;
     private boolean asyncDelayed;
     private boolean callerRunsWhenRejected = true;
-    private Expression correlationExpression;
+    protected Expression correlationExpression;
     private Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
 
     public Throttler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression, final long timePeriodMillis,
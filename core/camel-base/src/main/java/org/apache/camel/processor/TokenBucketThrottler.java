@@ -0,0 +1,310 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.spi.TimeoutScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> which uses a token bucket to limit the rate
+ * of the exchanges, which is implemented using the generic cell rate algorithm (GCRA).
+ * <p/>
+ * The bucket holds up to maxRequestsPerPeriod permits, which are refilled at a steady rate of maxRequestsPerPeriod
+ * per timePeriodMillis. Instead of keeping the permits in a queue, then the state of each bucket is a single
+ * timestamp (the theoretical arrival time) which is updated using compare and set, and from which the time of
+ * the next permit is computed arithmetically. A permit can therefore be reserved without any locking, and the
+ * exchange is then either continued at once, or scheduled to continue when the permit is due.
+ * <p/>
+ * Compared to the rolling window of the {@link Throttler} then a full bucket allows a burst of maxRequestsPerPeriod
+ * exchanges, after which the exchanges are evenly spaced at the refill rate.
+ * <p/>
+ * The exchanges which must wait for a permit are continued by the {@link org.apache.camel.spi.ReactiveExecutor}
+ * when the permit is due, which is scheduled using the {@link TimeoutScheduler} of the {@link CamelContext},
+ * so no thread is blocked while waiting. Transacted exchanges must continue on the same thread, so the current
+ * thread sleeps until the permit is due instead.
+ * <p/>
+ * The buckets of the correlation keys which have been idle long enough to be full again are evicted periodically,
+ * using the executor service if any, or otherwise the {@link TimeoutScheduler} of the {@link CamelContext}.
+ */
+public class TokenBucketThrottler extends Throttler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenBucketThrottler.class);
+
+    // marks a bucket which has been evicted and should no longer be used
+    private static final long EVICTED = Long.MIN_VALUE;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private volatile ScheduledFuture<?> evictTask;
+    private volatile TimeoutScheduler.Timeout evictTimeout;
+    private volatile Limit limit;
+    private TimeoutScheduler timeoutScheduler;
+    private ReactiveExecutor reactiveExecutor;
+
+    public TokenBucketThrottler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression, final long timePeriodMillis,
+                                final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor, final boolean rejectExecution,
+                                Expression correlation) {
+        super(camelContext, maxRequestsPerPeriodExpression, timePeriodMillis, asyncExecutor, shutdownAsyncExecutor, rejectExecution, correlation);
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            String key = DEFAULT_KEY;
+            if (correlationExpression != null) {
+                key = correlationExpression.evaluate(exchange, String.class);
+            }
+            Integer rate = getMaximumRequestsPerPeriodExpression().evaluate(exchange, Integer.class);
+            if (rate != null && rate <= 0) {
+                throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + rate);
+            }
+
+            long delay = reserve(exchange, key, rate);
+            if (delay < 0) {
+                throw new ThrottlerRejectedExecutionException("Exceeded the max throttle rate of "
+                        + getCurrentRate(key) + " within " + getTimePeriodMillis() + "ms");
+            }
+
+            if (delay == 0) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                }
+            } else if (!exchange.isTransacted()) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Throttled for {}ms, exchangeId: {}", TimeUnit.NANOSECONDS.toMillis(delay), exchange.getExchangeId());
+                }
+                // the permit is already reserved so just continue routing when its due
+                timeoutScheduler.schedule(() -> reactiveExecutor.schedule(() -> callback.done(false)), delay, TimeUnit.NANOSECONDS);
+                return false;
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Throttled for {}ms in the current thread as the exchange is transacted, exchangeId: {}",
+                            TimeUnit.NANOSECONDS.toMillis(delay), exchange.getExchangeId());
+                }
+                // transacted exchanges must continue on the same thread
+                TimeUnit.NANOSECONDS.sleep(delay);
+            }
+        } catch (final InterruptedException e) {
+            // determine if we can still run, or the camel context is forcing a shutdown
+            boolean forceShutdown = exchange.getContext().getShutdownStrategy().forceShutdown(this);
+            if (forceShutdown) {
+                String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: " + exchange;
+                LOG.debug(msg);
+                exchange.setException(new RejectedExecutionException(msg, e));
+            } else {
+                exchange.setException(e);
+            }
+        } catch (final Throwable t) {
+            exchange.setException(t);
+        }
+
+        callback.done(true);
+        return true;
+    }
+
+    /**
+     * Reserves a permit from the bucket of the given key.
+     *
+     * @param rate the maximum requests per period, or <tt>null</tt> to keep the current rate of the bucket
+     * @return the delay in nanos until the permit is due, or <tt>-1</tt> if rejecting and there is no permit
+     *         available now
+     */
+    private long reserve(Exchange exchange, String key, Integer rate) {
+        while (true) {
+            Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket());
+            long now = System.nanoTime();
+            long tat = bucket.tat.get();
+            if (tat == EVICTED) {
+                // the bucket is being evicted so try again with a new bucket
+                buckets.remove(key, bucket);
+                continue;
+            }
+            Limit limit = bucket.limit;
+            if (rate != null && (limit == null || limit.rate != rate || limit.periodMillis != getTimePeriodMillis())) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate set to {} for key: {}, triggered by ExchangeId: {}", rate, key, exchange.getExchangeId());
+                }
+                limit = createLimit(rate);
+                bucket.limit = limit;
+            } else if (limit == null) {
+                throw new RuntimeExchangeException("The maxRequestsPerPeriodExpression was evaluated as null: " + getMaximumRequestsPerPeriodExpression(), exchange);
+            }
+
+            // the bucket is full when the theoretical arrival time is in the past
+            long start = tat - now > 0 ? tat : now;
+            // the permit is due when there is room in the bucket for the burst tolerance
+            long due = start - limit.tolerance;
+            long delay = due - now > 0 ? due - now : 0;
+            if (delay > 0 && isRejectExecution()) {
+                return -1;
+            }
+            if (bucket.tat.compareAndSet(tat, start + limit.interval)) {
+                return delay;
+            }
+        }
+    }
+
+    private Limit createLimit(int rate) {
+        long period = getTimePeriodMillis();
+        Limit limit = this.limit;
+        if (limit == null || limit.rate != rate || limit.periodMillis != period) {
+            limit = new Limit(rate, period);
+            // cache the last limit as the rate is typically the same for all the buckets
+            this.limit = limit;
+        }
+        return limit;
+    }
+
+    private int getCurrentRate(String key) {
+        Bucket bucket = buckets.get(key);
+        Limit limit = bucket != null ? bucket.limit : null;
+        return limit != null ? limit.rate : 0;
+    }
+
+    /**
+     * Evicts the buckets which are full, as they are the same as a new bucket.
+     */
+    private void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int count = 0;
+        for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+            Bucket bucket = entry.getValue();
+            long tat = bucket.tat.get();
+            if (tat != EVICTED && tat - now <= 0 && bucket.tat.compareAndSet(tat, EVICTED)) {
+                buckets.remove(entry.getKey(), bucket);
+                count++;
+            }
+        }
+        if (count > 0) {
+            LOG.trace("Evicted {} idle throttling buckets", count);
+        }
+    }
+
+    @Override
+    public int getCurrentMaximumRequestsPerPeriod() {
+        return buckets.values().stream().map(b -> b.limit).filter(Objects::nonNull).mapToInt(l -> l.rate).max().orElse(0);
+    }
+
+    /**
+     * Number of correlation keys which are currently throttled
+     */
+    public int getThrottledKeys() {
+        return buckets.size();
+    }
+
+    private void scheduleEviction() {
+        long period = getTimePeriodMillis() * 10;
+        evictTimeout = timeoutScheduler.schedule(() -> {
+            if (isRunAllowed()) {
+                evictIdleBuckets();
+                scheduleEviction();
+            }
+        }, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        ExtendedCamelContext ecc = camelContext.adapt(ExtendedCamelContext.class);
+        timeoutScheduler = ecc.getTimeoutScheduler();
+        reactiveExecutor = ecc.getReactiveExecutor();
+        if (asyncExecutor != null) {
+            if (evictTask == null) {
+                long period = getTimePeriodMillis() * 10;
+                evictTask = asyncExecutor.scheduleWithFixedDelay(this::evictIdleBuckets, period, period, TimeUnit.MILLISECONDS);
+            }
+        } else if (evictTimeout == null) {
+            scheduleEviction();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (evictTask != null) {
+            evictTask.cancel(false);
+            evictTask = null;
+        }
+        if (evictTimeout != null) {
+            evictTimeout.cancel();
+            evictTimeout = null;
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        super.doShutdown();
+        buckets.clear();
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "throttle[" + getMaximumRequestsPerPeriodExpression() + " per: " + getTimePeriodMillis() + " using token bucket]";
+    }
+
+    /**
+     * The rate limit as the emission interval and burst tolerance of the algorithm
+     */
+    private static final class Limit {
+        private final int rate;
+        private final long periodMillis;
+        private final long interval;
+        private final long tolerance;
+
+        private Limit(int rate, long periodMillis) {
+            this.rate = rate;
+            this.periodMillis = periodMillis;
+            long period = TimeUnit.MILLISECONDS.toNanos(periodMillis);
+            this.interval = period / rate;
+            // allow a burst of up to rate permits
+            this.tolerance = period - interval;
+        }
+    }
+
+    /**
+     * The token bucket of a correlation key
+     */
+    private static final class Bucket {
+        private final AtomicLong tat;
+        private volatile Limit limit;
+
+        private Bucket() {
+            // a new bucket is full
+            this.tat = new AtomicLong(System.nanoTime());
+        }
+    }
+}
@@ -33,6 +33,11 @@ import org.apache.camel.Exchange;
  * <br/>
  * The default behavior to store as message body, allows to more easily group together a list of values
  * and have its result stored as a {@link List} on the completed {@link Exchange}.
+ * <p/>
+ * The strategy can {@link #combine(Exchange, Exchange) combine} partial results by concatenating their lists,
+ * which allows parallel processing to aggregate without holding a lock. A sub-class which changes how the values are
+ * aggregated in {@link #aggregate(Exchange, Exchange)} should override {@link #canCombine()} to return <tt>false</tt>
+ * unless it can combine partial results as well.
  *
  * @since 2.11
  */
@@ -99,6 +104,27 @@ public abstract class AbstractListAggregationStrategy<V> implements AggregationS
         return oldExchange != null ? oldExchange : newExchange;
     }
 
+    @Override
+    public boolean canCombine() {
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Exchange combine(Exchange oldExchange, Exchange newExchange) {
+        if (oldExchange == null) {
+            return newExchange;
+        } else if (newExchange == null) {
+            return oldExchange;
+        }
+
+        List<V> other = newExchange.getProperty(Exchange.GROUPED_EXCHANGE, List.class);
+        if (other != null) {
+            getList(oldExchange).addAll(other);
+        }
+        return oldExchange;
+    }
+
     @SuppressWarnings("unchecked")
     private List<V> getList(Exchange exchange) {
         List<V> list = exchange.getProperty(Exchange.GROUPED_EXCHANGE, List.class);
@@ -103,9 +103,13 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     public static final String COMPLETED_BY_TIMEOUT = "timeout";
     public static final String COMPLETED_BY_FORCE = "force";
 
+    public static final int DEFAULT_LOCK_STRIPES = 64;
+
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
 
     private volatile Lock lock;
+    private volatile Lock[] stripedLocks;
+    private final AtomicBoolean forceCompletionOfAllGroupsPending = new AtomicBoolean();
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -233,6 +237,8 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private boolean stripedLocking;
+    private int lockStripes = DEFAULT_LOCK_STRIPES;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -401,13 +407,14 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             aggregated = doAggregation(key, copy);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -416,6 +423,11 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        // when using striped locking then force completion of all groups is deferred until we are outside the lock
+        if (forceCompletionOfAllGroupsPending.compareAndSet(true, false)) {
+            forceCompletionOfAllGroups();
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
@@ -566,7 +578,13 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (stripedLocking) {
+                // we only hold the lock for this correlation key, and must not acquire the locks
+                // of the other groups as that can dead-lock with other threads, so defer it
+                forceCompletionOfAllGroupsPending.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -905,6 +923,26 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                 timeoutMap.size(), TimeUtils.printDuration(watch.taken()));
     }
 
+    /**
+     * Gets the lock to use for aggregating the given correlation key.
+     * <p/>
+     * When using striped locking then the lock is selected from the lock stripes by the hash code of the key,
+     * otherwise the shared aggregation lock is used.
+     *
+     * @param key the correlation key
+     * @return the lock
+     */
+    private Lock getLock(String key) {
+        Lock[] locks = stripedLocks;
+        if (locks != null) {
+            int hash = key.hashCode();
+            // spread the hash so keys with similar hash codes do not end up in the same stripe
+            hash ^= hash >>> 16;
+            return locks[(hash & 0x7fffffff) % locks.length];
+        }
+        return lock;
+    }
+
     /**
      * Adds the given exchange to the timeout map, which is used by the timeout checker task to trigger timeouts.
      *
@@ -1070,6 +1108,30 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         this.optimisticLocking = optimisticLocking;
     }
 
+    public boolean isStripedLocking() {
+        return stripedLocking;
+    }
+
+    /**
+     * Whether to use striped locking, where only exchanges which have correlation keys
+     * in the same lock stripe are aggregated one at a time, instead of using a single lock for all
+     * correlation keys.
+     */
+    public void setStripedLocking(boolean stripedLocking) {
+        this.stripedLocking = stripedLocking;
+    }
+
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Number of lock stripes to use when striped locking is enabled.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1208,20 +1270,24 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     }
 
     /**
-     * Background task that looks for aggregated exchanges which is triggered by completion timeouts.
+     * Background task that completes the aggregated exchanges which is triggered by completion timeouts.
      */
     private final class AggregationTimeoutMap extends DefaultTimeoutMap<String, String> {
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // (unless striped locking is in use, as then there is no shared lock)
+            super(executor, requestMapPollTimeMillis, optimisticLocking || stripedLocking);
             addListener(this::onEviction);
         }
 
         @Override
         protected void purge() {
-            // wait for lock to be created
-            if (lock != null) {
+            if (stripedLocking) {
+                // the lock for the correlation key is acquired when the eviction is processed
+                super.purge();
+            } else if (lock != null) {
+                // wait for lock to be created
                 // must acquire the shared aggregation lock to be able to purge
                 lock.lock();
                 try {
@@ -1238,6 +1304,26 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             }
             log.debug("Completion timeout triggered for correlation key: {}", key);
 
+            if (stripedLocking) {
+                Lock keyLock = getLock(key);
+                keyLock.lock();
+                try {
+                    // the group may have received a new exchange after the timeout was triggered
+                    // and before we got the lock, which means its being tracked again in the timeout map
+                    if (get(key) != null) {
+                        log.trace("Correlation key: {} has been updated since the completion timeout was triggered.", key);
+                        return;
+                    }
+                    doEviction(key, exchangeId);
+                } finally {
+                    keyLock.unlock();
+                }
+            } else {
+                doEviction(key, exchangeId);
+            }
+        }
+
+        private void doEviction(String key, String exchangeId) {
             boolean inProgress = inProgressCompleteExchanges.contains(exchangeId);
             if (inProgress) {
                 log.trace("Aggregated exchange with id: {} is already in progress.", exchangeId);
@@ -1293,21 +1379,27 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                 try {
                     for (String key : keys) {
                         boolean stolenInterval = false;
-                        Exchange exchange = aggregationRepository.get(camelContext, key);
-                        if (exchange == null) {
-                            stolenInterval = true;
-                        } else {
-                            LOG.trace("Completion interval triggered for correlation key: {}", key);
-                            // indicate it was completed by interval
-                            exchange.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
-                            try {
-                                Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                                if (answer != null) {
-                                    onSubmitCompletion(key, answer);
-                                }
-                            } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                        Lock keyLock = getLock(key);
+                        keyLock.lock();
+                        try {
+                            Exchange exchange = aggregationRepository.get(camelContext, key);
+                            if (exchange == null) {
                                 stolenInterval = true;
+                            } else {
+                                LOG.trace("Completion interval triggered for correlation key: {}", key);
+                                // indicate it was completed by interval
+                                exchange.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
+                                try {
+                                    Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                                    if (answer != null) {
+                                        onSubmitCompletion(key, answer);
+                                    }
+                                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                                    stolenInterval = true;
+                                }
                             }
+                        } finally {
+                            keyLock.unlock();
                         }
                         if (optimisticLocking && stolenInterval) {
                             LOG.debug("Another Camel instance has already processed this interval aggregation for exchange with correlation id: {}", key);
@@ -1470,6 +1562,20 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             LOG.info("Optimistic locking is enabled");
         }
 
+        if (stripedLocking) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Only one of optimisticLocking or stripedLocking can be used, not both.");
+            }
+            // these completions span across multiple correlation groups
+            if (isCompletionFromBatchConsumer() || isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException("Striped locking cannot be used together with completionFromBatchConsumer or completionOnNewCorrelationGroup.");
+            }
+            if (lockStripes <= 0) {
+                throw new IllegalArgumentException("Option lockStripes must be a positive number, was: " + lockStripes);
+            }
+            LOG.info("Striped locking is enabled with {} lock stripes", lockStripes);
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1525,7 +1631,9 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                 setTimeoutCheckerExecutorService(camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, AGGREGATE_TIMEOUT_CHECKER));
                 shutdownTimeoutCheckerExecutorService = true;
             }
-            // check for timed out aggregated messages once every second
+            // the completion timeouts are kept in a timing wheel which the timeout checker ticks every checker interval,
+            // so only the timed out aggregated messages are visited (we do not use the shared timeout scheduler of
+            // CamelContext as completing a group routes the aggregated message on the thread of the timeout checker)
             timeoutMap = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
             // fill in existing timeout values from the aggregation repository, for example if a restart occurred, then we
             // need to re-establish the timeout map so timeout can trigger
@@ -1546,6 +1654,13 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             }
         } else {
             lock = new ReentrantLock();
+            if (stripedLocking) {
+                Lock[] locks = new Lock[lockStripes];
+                for (int i = 0; i < locks.length; i++) {
+                    locks[i] = new ReentrantLock();
+                }
+                stripedLocks = locks;
+            }
         }
     }
 
@@ -1655,7 +1770,8 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1669,7 +1785,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                 }
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1700,15 +1816,21 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force completion triggered for correlation key: {}", key);
-                        // indicate it was completed by a force completion request
-                        exchange.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
-                        Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                        if (answer != null) {
-                            onSubmitCompletion(key, answer);
+                    Lock keyLock = getLock(key);
+                    keyLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            LOG.trace("Force completion triggered for correlation key: {}", key);
+                            // indicate it was completed by a force completion request
+                            exchange.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+                            Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                            if (answer != null) {
+                                onSubmitCompletion(key, answer);
+                            }
                         }
+                    } finally {
+                        keyLock.unlock();
                     }
                 }
             } finally {
@@ -1727,7 +1849,8 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1737,7 +1860,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -1768,11 +1891,17 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force discarded triggered for correlation key: {}", key);
-                        // force discarding by setting aggregate failed as true
-                        onCompletion(key, exchange, exchange, false, true);
+                    Lock keyLock = getLock(key);
+                    keyLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            LOG.trace("Force discarded triggered for correlation key: {}", key);
+                            // force discarding by setting aggregate failed as true
+                            onCompletion(key, exchange, exchange, false, true);
+                        }
+                    } finally {
+                        keyLock.unlock();
                     }
                 }
             } finally {
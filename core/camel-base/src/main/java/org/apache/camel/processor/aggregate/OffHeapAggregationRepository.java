@@ -0,0 +1,835 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.CamelObjectInputStream;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link org.apache.camel.spi.AggregationRepository} which stores the aggregated {@link Exchange}s serialized
+ * outside the heap, so large numbers of partial aggregates do not grow the old generation of the heap.
+ * <p/>
+ * The exchanges are serialized using {@link DefaultExchangeHolder} (as the LevelDB and JDBC repositories) and appended
+ * to segments of direct memory, up to {@link #getMaxMemorySize()}, and when the memory is used, then to memory-mapped
+ * segment files in the {@link #getDirectory()}. Only the keys and the locations of the exchanges are kept on the heap.
+ * Segments which no longer have any current exchanges are reused, and the oldest segment is compacted when more than
+ * half of the segments are outdated exchanges.
+ * <p/>
+ * When {@link #isPersistent()} is enabled, then all the segments are memory-mapped files which are recovered when the
+ * repository is started again, and the completed exchanges which are not confirmed can be recovered as with the
+ * other {@link RecoverableAggregationRepository} implementations.
+ */
+public class OffHeapAggregationRepository extends ServiceSupport implements RecoverableAggregationRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OffHeapAggregationRepository.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    // the record header is the length of the record, the type and the length of the key
+    private static final int HEADER_SIZE = 9;
+    private static final byte AGGREGATE = 1;
+    private static final byte COMPLETED = 2;
+    private static final byte REMOVED = 3;
+    private static final byte CONFIRMED = 4;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Location> aggregates = new ConcurrentHashMap<>();
+    private final Map<String, Location> completed = new ConcurrentHashMap<>();
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final Deque<Segment> freeSegments = new ArrayDeque<>();
+
+    private long maxMemorySize = 64 * 1024 * 1024L;
+    private int segmentSize = 4 * 1024 * 1024;
+    private File directory;
+    private boolean persistent;
+    private boolean sync;
+    private boolean returnOldExchange;
+    private boolean allowSerializedHeaders;
+    private long recoveryInterval = 5000;
+    private boolean useRecovery = true;
+    private int maximumRedeliveries;
+    private String deadLetterUri;
+
+    private Segment head;
+    private int nextSegmentId;
+    private long memorySize;
+    private long fileSize;
+    private long allocatedSize;
+    private long liveSize;
+    private long compactions;
+    private boolean tempDirectory;
+
+    public OffHeapAggregationRepository() {
+    }
+
+    /**
+     * Creates a persistent repository which stores the segment files in the given directory.
+     *
+     * @param directory the directory for the segment files
+     */
+    public OffHeapAggregationRepository(File directory) {
+        this.directory = directory;
+        this.persistent = true;
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String key, Exchange exchange) {
+        byte[] data = marshal(exchange);
+        byte[] old = null;
+
+        lock.writeLock().lock();
+        try {
+            Location location = append(AGGREGATE, key, data);
+            Location previous = aggregates.put(key, location);
+            if (previous != null) {
+                if (returnOldExchange) {
+                    old = previous.read();
+                }
+                release(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return old != null ? unmarshal(camelContext, old) : null;
+    }
+
+    @Override
+    public Exchange get(CamelContext camelContext, String key) {
+        byte[] data;
+        lock.readLock().lock();
+        try {
+            Location location = aggregates.get(key);
+            data = location != null ? location.read() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+        return data != null ? unmarshal(camelContext, data) : null;
+    }
+
+    @Override
+    public void remove(CamelContext camelContext, String key, Exchange exchange) {
+        byte[] data = marshal(exchange);
+
+        lock.writeLock().lock();
+        try {
+            Location previous = aggregates.remove(key);
+            if (previous != null) {
+                release(previous);
+                if (persistent) {
+                    append(REMOVED, key, null);
+                }
+                // keep the exchange until its confirmed so it can be recovered
+                Location location = append(COMPLETED, exchange.getExchangeId(), data);
+                Location old = completed.put(exchange.getExchangeId(), location);
+                if (old != null) {
+                    release(old);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void confirm(CamelContext camelContext, String exchangeId) {
+        lock.writeLock().lock();
+        try {
+            Location previous = completed.remove(exchangeId);
+            if (previous != null) {
+                release(previous);
+                if (persistent) {
+                    append(CONFIRMED, exchangeId, null);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<String> getKeys() {
+        // do not allow edits to the set
+        return Collections.unmodifiableSet(aggregates.keySet());
+    }
+
+    @Override
+    public Set<String> scan(CamelContext camelContext) {
+        return new LinkedHashSet<>(completed.keySet());
+    }
+
+    @Override
+    public Exchange recover(CamelContext camelContext, String exchangeId) {
+        byte[] data;
+        lock.readLock().lock();
+        try {
+            Location location = completed.get(exchangeId);
+            data = location != null ? location.read() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+        return data != null ? unmarshal(camelContext, data) : null;
+    }
+
+    public long getMaxMemorySize() {
+        return maxMemorySize;
+    }
+
+    /**
+     * Sets the maximum size in bytes of the direct memory to use for the segments. When the memory is used, then
+     * the segments are stored in files in the directory.
+     * <p/>
+     * This option is not in use when the repository is persistent. The default is 64mb.
+     */
+    public void setMaxMemorySize(long maxMemorySize) {
+        this.maxMemorySize = maxMemorySize;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Sets the size in bytes of the segments. Exchanges which are bigger than the segment size are stored in a segment
+     * of their own.
+     * <p/>
+     * The default is 4mb.
+     */
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Sets the directory for the segment files. If not set, then the segment files are stored in a temporary
+     * directory, which is deleted when the repository is stopped.
+     */
+    public void setDirectory(File directory) {
+        this.directory = directory;
+    }
+
+    public boolean isPersistent() {
+        return persistent;
+    }
+
+    /**
+     * Whether to store all the segments as memory-mapped files in the directory, which are recovered when the
+     * repository is started again.
+     */
+    public void setPersistent(boolean persistent) {
+        this.persistent = persistent;
+    }
+
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Whether to force the segment files to disk on every change, when the repository is persistent.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    public boolean isReturnOldExchange() {
+        return returnOldExchange;
+    }
+
+    /**
+     * Whether to return the old exchange when adding an exchange, which requires to deserialize the old exchange.
+     */
+    public void setReturnOldExchange(boolean returnOldExchange) {
+        this.returnOldExchange = returnOldExchange;
+    }
+
+    public boolean isAllowSerializedHeaders() {
+        return allowSerializedHeaders;
+    }
+
+    /**
+     * Whether headers that are Java objects that are {@link java.io.Serializable} should be stored.
+     */
+    public void setAllowSerializedHeaders(boolean allowSerializedHeaders) {
+        this.allowSerializedHeaders = allowSerializedHeaders;
+    }
+
+    @Override
+    public void setRecoveryInterval(long interval, TimeUnit timeUnit) {
+        this.recoveryInterval = timeUnit.toMillis(interval);
+    }
+
+    @Override
+    public void setRecoveryInterval(long interval) {
+        this.recoveryInterval = interval;
+    }
+
+    @Override
+    public long getRecoveryIntervalInMillis() {
+        return recoveryInterval;
+    }
+
+    @Override
+    public boolean isUseRecovery() {
+        return useRecovery;
+    }
+
+    @Override
+    public void setUseRecovery(boolean useRecovery) {
+        this.useRecovery = useRecovery;
+    }
+
+    @Override
+    public int getMaximumRedeliveries() {
+        return maximumRedeliveries;
+    }
+
+    @Override
+    public void setMaximumRedeliveries(int maximumRedeliveries) {
+        this.maximumRedeliveries = maximumRedeliveries;
+    }
+
+    @Override
+    public String getDeadLetterUri() {
+        return deadLetterUri;
+    }
+
+    @Override
+    public void setDeadLetterUri(String deadLetterUri) {
+        this.deadLetterUri = deadLetterUri;
+    }
+
+    /**
+     * Gets the size in bytes of the direct memory in use for the segments
+     */
+    public long getMemorySize() {
+        return memorySize;
+    }
+
+    /**
+     * Gets the size in bytes of the segment files
+     */
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * Gets the size in bytes of the current exchanges in the segments
+     */
+    public long getLiveSize() {
+        return liveSize;
+    }
+
+    /**
+     * Gets the number of compacted segments
+     */
+    public long getCompactions() {
+        return compactions;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (segmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("SegmentSize must be bigger than " + HEADER_SIZE + ", was: " + segmentSize);
+        }
+        if (persistent && directory == null) {
+            throw new IllegalArgumentException("Directory must be configured when persistent is enabled");
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (persistent) {
+                loadSegments();
+            }
+            if (head == null) {
+                head = newSegment(segmentSize);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (persistent) {
+            LOG.info("On startup there are {} aggregate exchanges (not completed) and {} completed exchanges to be recovered in directory: {}",
+                    aggregates.size(), completed.size(), directory);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        lock.writeLock().lock();
+        try {
+            for (Segment segment : segments) {
+                segment.close();
+                if (!persistent) {
+                    segment.delete();
+                }
+            }
+            for (Segment segment : freeSegments) {
+                segment.close();
+                segment.delete();
+            }
+            segments.clear();
+            freeSegments.clear();
+            aggregates.clear();
+            completed.clear();
+            head = null;
+            memorySize = 0;
+            fileSize = 0;
+            allocatedSize = 0;
+            liveSize = 0;
+            if (tempDirectory) {
+                FileUtil.removeDir(directory);
+                directory = null;
+                tempDirectory = false;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private byte[] marshal(Exchange exchange) {
+        // use DefaultExchangeHolder to marshal to a serialized object
+        DefaultExchangeHolder pe = DefaultExchangeHolder.marshal(exchange, false, allowSerializedHeaders);
+        // add the aggregated size and timeout property as the only properties we want to retain
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_SIZE, exchange.getProperty(Exchange.AGGREGATED_SIZE, Integer.class));
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_TIMEOUT, exchange.getProperty(Exchange.AGGREGATED_TIMEOUT, Long.class));
+        // add the aggregated completed by property to retain
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_COMPLETED_BY, exchange.getProperty(Exchange.AGGREGATED_COMPLETED_BY, String.class));
+        // add the aggregated correlation key property to retain
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_CORRELATION_KEY, exchange.getProperty(Exchange.AGGREGATED_CORRELATION_KEY, String.class));
+        // and a guard property if using the flexible toolbox aggregator
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_COLLECTION_GUARD, exchange.getProperty(Exchange.AGGREGATED_COLLECTION_GUARD, String.class));
+        // persist the from endpoint as well
+        if (exchange.getFromEndpoint() != null) {
+            DefaultExchangeHolder.addProperty(pe, "CamelAggregatedFromEndpoint", exchange.getFromEndpoint().getEndpointUri());
+        }
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(1024);
+        try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            out.writeObject(pe);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+        return bos.toByteArray();
+    }
+
+    private Exchange unmarshal(CamelContext camelContext, byte[] data) {
+        DefaultExchangeHolder pe;
+        ObjectInputStream in = null;
+        try {
+            in = new CamelObjectInputStream(new ByteArrayInputStream(data), camelContext);
+            pe = (DefaultExchangeHolder) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            IOHelper.close(in);
+        }
+
+        Exchange answer = new DefaultExchange(camelContext);
+        DefaultExchangeHolder.unmarshal(answer, pe);
+        // restore the from endpoint
+        String fromEndpointUri = (String) answer.removeProperty("CamelAggregatedFromEndpoint");
+        if (fromEndpointUri != null) {
+            Endpoint fromEndpoint = camelContext.hasEndpoint(fromEndpointUri);
+            if (fromEndpoint != null) {
+                answer.adapt(ExtendedExchange.class).setFromEndpoint(fromEndpoint);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Appends the record to the head segment (must hold the write lock)
+     */
+    private Location append(byte type, String key, byte[] data) {
+        byte[] keyData = key.getBytes(StandardCharsets.UTF_8);
+        int length = HEADER_SIZE + keyData.length + (data != null ? data.length : 0);
+
+        if (head.capacity - head.position < length) {
+            // use a new segment which fits the record
+            compact();
+            if (head.capacity - head.position < length) {
+                head = newSegment(Math.max(segmentSize, length));
+            }
+        }
+
+        Segment segment = head;
+        int offset = segment.position;
+        ByteBuffer buffer = segment.buffer;
+        buffer.put(offset + 4, type);
+        buffer.putInt(offset + 5, keyData.length);
+        write(buffer, offset + HEADER_SIZE, keyData);
+        if (data != null) {
+            write(buffer, offset + HEADER_SIZE + keyData.length, data);
+        }
+        // write the length last so an incomplete record is not recovered
+        buffer.putInt(offset, length);
+        if (persistent && sync) {
+            ((MappedByteBuffer) buffer).force();
+        }
+        segment.position += length;
+
+        Location location = new Location(segment, offset, length);
+        if (type == AGGREGATE || type == COMPLETED) {
+            segment.live += length;
+            liveSize += length;
+        }
+        return location;
+    }
+
+    private static void write(ByteBuffer buffer, int offset, byte[] data) {
+        ByteBuffer target = buffer.duplicate();
+        target.position(offset);
+        target.put(data);
+    }
+
+    /**
+     * Releases the record which is no longer current (must hold the write lock)
+     */
+    private void release(Location location) {
+        Segment segment = location.segment;
+        segment.live -= location.length;
+        liveSize -= location.length;
+        if (segment.live == 0 && segment != head && !persistent) {
+            // the segment has no current records so it can be reused
+            freeSegment(segment);
+        } else if (persistent) {
+            // the oldest segments must be removed first as otherwise outdated records can be recovered
+            while (segments.size() > 1 && segments.peekFirst().live == 0 && segments.peekFirst() != head) {
+                freeSegment(segments.peekFirst());
+            }
+        }
+    }
+
+    /**
+     * Compacts the oldest segment by moving its current records to the head, when more than half of the segments
+     * are outdated records (must hold the write lock)
+     */
+    private void compact() {
+        while (segments.size() > 2 && allocatedSize - liveSize > liveSize) {
+            Segment oldest = segments.peekFirst();
+            if (oldest == head) {
+                return;
+            }
+            LOG.trace("Compacting segment: {} with {} of {} bytes in use", oldest.id, oldest.live, oldest.position);
+
+            int offset = 0;
+            while (offset < oldest.position) {
+                ByteBuffer buffer = oldest.buffer;
+                int length = buffer.getInt(offset);
+                byte type = buffer.get(offset + 4);
+                if (type == AGGREGATE || type == COMPLETED) {
+                    Map<String, Location> index = type == AGGREGATE ? aggregates : completed;
+                    String key = readKey(buffer, offset);
+                    Location location = index.get(key);
+                    if (location != null && location.segment == oldest && location.offset == offset) {
+                        // move the current record to the head
+                        byte[] record = location.readRecord();
+                        Location moved = appendRecord(record);
+                        index.put(key, moved);
+                        oldest.live -= length;
+                        liveSize -= length;
+                    }
+                }
+                offset += length;
+            }
+            freeSegment(oldest);
+            compactions++;
+        }
+    }
+
+    private Location appendRecord(byte[] record) {
+        if (head.capacity - head.position < record.length) {
+            head = newSegment(Math.max(segmentSize, record.length));
+        }
+        Segment segment = head;
+        int offset = segment.position;
+        // write the length last so an incomplete record is not recovered
+        ByteBuffer target = segment.buffer.duplicate();
+        target.position(offset + 4);
+        target.put(record, 4, record.length - 4);
+        segment.buffer.putInt(offset, record.length);
+        if (persistent && sync) {
+            ((MappedByteBuffer) segment.buffer).force();
+        }
+        segment.position += record.length;
+        segment.live += record.length;
+        liveSize += record.length;
+        return new Location(segment, offset, record.length);
+    }
+
+    private static String readKey(ByteBuffer buffer, int offset) {
+        int keyLength = buffer.getInt(offset + 5);
+        byte[] key = new byte[keyLength];
+        ByteBuffer source = buffer.duplicate();
+        source.position(offset + HEADER_SIZE);
+        source.get(key);
+        return new String(key, StandardCharsets.UTF_8);
+    }
+
+    private Segment newSegment(int capacity) {
+        Segment segment = null;
+        if (capacity == segmentSize && !freeSegments.isEmpty()) {
+            segment = freeSegments.pollFirst();
+            segment.position = 0;
+            segment.live = 0;
+        } else if (!persistent && memorySize + capacity <= maxMemorySize) {
+            segment = new Segment(nextSegmentId++, ByteBuffer.allocateDirect(capacity), null);
+            memorySize += capacity;
+        } else {
+            segment = newFileSegment(nextSegmentId++, capacity);
+            fileSize += capacity;
+        }
+        allocatedSize += segment.capacity;
+        segments.addLast(segment);
+        LOG.trace("Using segment: {} with capacity: {}", segment.id, segment.capacity);
+        return segment;
+    }
+
+    private Segment newFileSegment(int id, int capacity) {
+        try {
+            if (directory == null) {
+                directory = Files.createTempDirectory("camel-aggregation-").toFile();
+                tempDirectory = true;
+            }
+            if (!directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Cannot create directory: " + directory);
+            }
+            File file = new File(directory, SEGMENT_PREFIX + id + SEGMENT_SUFFIX);
+            if (!persistent) {
+                LOG.debug("Maximum memory size: {} of aggregation repository hit. Using segment file: {}", maxMemorySize, file);
+            }
+            return new Segment(id, map(file, capacity), file);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    private void freeSegment(Segment segment) {
+        segments.remove(segment);
+        allocatedSize -= segment.capacity;
+        if (segment.capacity == segmentSize && !persistent) {
+            // keep the segment for reuse (persistent segments are not reused as the segment files are
+            // recovered in the order of their ids)
+            freeSegments.addLast(segment);
+        } else {
+            segment.close();
+            segment.delete();
+            if (segment.file != null) {
+                fileSize -= segment.capacity;
+            } else {
+                memorySize -= segment.capacity;
+            }
+        }
+    }
+
+    private static MappedByteBuffer map(File file, int capacity) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            return raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, Math.max(capacity, raf.length()));
+        }
+    }
+
+    /**
+     * Loads the segment files and recovers the exchanges (must hold the write lock)
+     */
+    private void loadSegments() throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Cannot create directory: " + directory);
+        }
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+        if (files == null) {
+            return;
+        }
+        List<Segment> loaded = new ArrayList<>();
+        for (File file : files) {
+            String name = file.getName();
+            int id = Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+            loaded.add(new Segment(id, map(file, (int) file.length()), file));
+        }
+        loaded.sort((a, b) -> Integer.compare(a.id, b.id));
+
+        for (Segment segment : loaded) {
+            ByteBuffer buffer = segment.buffer;
+            int offset = 0;
+            while (offset + HEADER_SIZE <= segment.capacity) {
+                int length = buffer.getInt(offset);
+                if (length < HEADER_SIZE || offset + length > segment.capacity) {
+                    break;
+                }
+                int keyLength = buffer.getInt(offset + 5);
+                if (keyLength < 0 || HEADER_SIZE + keyLength > length) {
+                    LOG.warn("Corrupt record at offset: {} in segment file: {}. Skipping the remainder of the file.", offset, segment.file);
+                    break;
+                }
+                byte type = buffer.get(offset + 4);
+                String key = readKey(buffer, offset);
+                Location location = new Location(segment, offset, length);
+                Location previous = null;
+                if (type == AGGREGATE) {
+                    previous = aggregates.put(key, location);
+                    segment.live += length;
+                    liveSize += length;
+                } else if (type == COMPLETED) {
+                    previous = completed.put(key, location);
+                    segment.live += length;
+                    liveSize += length;
+                } else if (type == REMOVED) {
+                    previous = aggregates.remove(key);
+                } else if (type == CONFIRMED) {
+                    previous = completed.remove(key);
+                }
+                if (previous != null) {
+                    previous.segment.live -= previous.length;
+                    liveSize -= previous.length;
+                }
+                offset += length;
+            }
+            segment.position = offset;
+            segments.addLast(segment);
+            allocatedSize += segment.capacity;
+            fileSize += segment.capacity;
+            nextSegmentId = segment.id + 1;
+        }
+
+        if (!segments.isEmpty()) {
+            head = segments.peekLast();
+            // clear any incomplete record so it is not recovered after the records which are appended next
+            ByteBuffer buffer = head.buffer;
+            for (int i = head.position; i < head.capacity; i++) {
+                buffer.put(i, (byte) 0);
+            }
+            // remove the oldest segments without any current records
+            while (segments.size() > 1 && segments.peekFirst().live == 0) {
+                Segment segment = segments.pollFirst();
+                allocatedSize -= segment.capacity;
+                fileSize -= segment.capacity;
+                segment.close();
+                segment.delete();
+            }
+        }
+    }
+
+    /**
+     * A segment of memory or a memory-mapped file
+     */
+    private static final class Segment {
+        private final int id;
+        private final ByteBuffer buffer;
+        private final File file;
+        private final int capacity;
+        private int position;
+        private long live;
+
+        private Segment(int id, ByteBuffer buffer, File file) {
+            this.id = id;
+            this.buffer = buffer;
+            this.file = file;
+            this.capacity = buffer.capacity();
+        }
+
+        private void close() {
+            if (buffer instanceof MappedByteBuffer) {
+                ((MappedByteBuffer) buffer).force();
+            }
+        }
+
+        private void delete() {
+            if (file != null) {
+                FileUtil.deleteFile(file);
+            }
+        }
+    }
+
+    /**
+     * The location of a record in a segment
+     */
+    private static final class Location {
+        private final Segment segment;
+        private final int offset;
+        private final int length;
+
+        private Location(Segment segment, int offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Reads the record
+         */
+        private byte[] read() {
+            ByteBuffer buffer = segment.buffer;
+            int keyLength = buffer.getInt(offset + 5);
+            byte[] data = new byte[length - HEADER_SIZE - keyLength];
+            ByteBuffer source = buffer.duplicate();
+            source.position(offset + HEADER_SIZE + keyLength);
+            source.get(data);
+            return data;
+        }
+
+        /**
+         * Reads the record including its header
+         */
+        private byte[] readRecord() {
+            byte[] data = new byte[length];
+            ByteBuffer source = segment.buffer.duplicate();
+            source.position(offset);
+            source.get(data);
+            return data;
+        }
+    }
+
+}
@@ -68,6 +68,21 @@ public final class ShareUnitOfWorkAggregationStrategy extends ServiceSupport imp
         return strategy.preComplete(oldExchange, newExchange);
     }
 
+    @Override
+    public boolean canCombine() {
+        return strategy.canCombine();
+    }
+
+    @Override
+    public Exchange combine(Exchange oldExchange, Exchange newExchange) {
+        Exchange answer = strategy.combine(oldExchange, newExchange);
+        // ensure any errors is propagated from the partial results to the answer
+        if (answer != null && newExchange != null && answer != newExchange) {
+            propagateFailure(answer, newExchange);
+        }
+        return answer;
+    }
+
     @Override
     public void onCompletion(Exchange exchange) {
         strategy.onCompletion(exchange);
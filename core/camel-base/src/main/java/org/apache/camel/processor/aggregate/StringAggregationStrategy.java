@@ -30,6 +30,9 @@ import org.apache.camel.support.builder.ExpressionBuilder;
  */
 public class StringAggregationStrategy implements AggregationStrategy {
 
+    // marks a partial result where nothing was picked from the first exchange, and therefore starts with a delimiter
+    private static final String LEADING_DELIMITER = "CamelStringAggregationLeadingDelimiter";
+
     private String delimiter = "";
     private Expression pickExpression = ExpressionBuilder.bodyExpression();
 
@@ -74,15 +77,43 @@ public class StringAggregationStrategy implements AggregationStrategy {
             if (pick != null) {
                 value.append(pick);
                 result.append(value);
+            } else if (oldExchange == null) {
+                newExchange.setProperty(LEADING_DELIMITER, Boolean.TRUE);
             }
         }
 
         return oldExchange != null ? oldExchange : newExchange;
     }
 
+    @Override
+    public boolean canCombine() {
+        return true;
+    }
+
+    @Override
+    public Exchange combine(Exchange oldExchange, Exchange newExchange) {
+        if (oldExchange == null) {
+            return newExchange;
+        } else if (newExchange == null) {
+            return oldExchange;
+        }
+
+        StringBuffer other = newExchange.getProperty(Exchange.GROUPED_EXCHANGE, StringBuffer.class);
+        if (other != null && other.length() > 0) {
+            StringBuffer result = getStringBuffer(oldExchange);
+            // the delimiter is already in front of the other values, but not in front of the first value
+            if (newExchange.removeProperty(LEADING_DELIMITER) == null) {
+                result.append(delimiter);
+            }
+            result.append(other);
+        }
+        return oldExchange;
+    }
+
     @Override
     public void onCompletion(Exchange exchange) {
         if (exchange != null) {
+            exchange.removeProperty(LEADING_DELIMITER);
             StringBuffer stringBuffer = (StringBuffer) exchange.removeProperty(Exchange.GROUPED_EXCHANGE);
             if (stringBuffer != null) {
                 exchange.getIn().setBody(stringBuffer.toString());
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.idempotent;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe Bloom filter of string keys, which is used by the {@link IdempotentConsumer} to detect new keys
+ * without calling the idempotent repository.
+ * <p/>
+ * The filter can tell that a key has <b>definitely not</b> been added, or that the key has <b>possibly</b> been
+ * added. The number of bits and hash functions are calculated from the expected number of keys and the false
+ * positive probability. If more keys than expected are added then the false positive probability increases.
+ * <p/>
+ * Keys cannot be removed from the filter.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long numberOfBits;
+    private final int numberOfHashes;
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Creates a filter
+     *
+     * @param expectedInsertions the expected number of keys
+     * @param falsePositiveProbability the false positive probability when the expected number of keys has been added
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("ExpectedInsertions must be a positive number, was: " + expectedInsertions);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("FalsePositiveProbability must be between 0 and 1, was: " + falsePositiveProbability);
+        }
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (LN2 * LN2));
+        // the bit index is computed from a positive int so more than 2^31 bits cannot be used
+        int words = (int) Math.min(1 << 25, Math.max(1, (m + 63) >>> 6));
+        this.bits = new AtomicLongArray(words);
+        this.numberOfBits = (long) words << 6;
+        this.numberOfHashes = Math.max(1, (int) Math.round((double) numberOfBits / expectedInsertions * LN2));
+    }
+
+    /**
+     * Whether the key has possibly been added to the filter
+     *
+     * @return <tt>false</tt> if the key has definitely not been added, <tt>true</tt> if the key has possibly been added
+     */
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numberOfHashes; i++) {
+            long index = index(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the key to the filter
+     */
+    public void put(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numberOfHashes; i++) {
+            long index = index(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long value = bits.get(word);
+            while ((value & mask) == 0 && !bits.compareAndSet(word, value, value | mask)) {
+                value = bits.get(word);
+            }
+        }
+        size.increment();
+    }
+
+    /**
+     * Removes all the keys from the filter.
+     * <p/>
+     * This is not atomic, and keys added while clearing may be lost.
+     */
+    public void clear() {
+        for (int i = 0; i < bits.length(); i++) {
+            bits.set(i, 0);
+        }
+        size.reset();
+    }
+
+    /**
+     * Number of keys which has been added to the filter
+     */
+    public long getSize() {
+        return size.sum();
+    }
+
+    public long getNumberOfBits() {
+        return numberOfBits;
+    }
+
+    public int getNumberOfHashes() {
+        return numberOfHashes;
+    }
+
+    /**
+     * The estimated false positive probability based on the number of keys which has been added to the filter
+     */
+    public double getFalsePositiveProbability() {
+        return Math.pow(1 - Math.exp(-numberOfHashes * (double) getSize() / numberOfBits), numberOfHashes);
+    }
+
+    private long index(int combined) {
+        // flip negative hash codes to positive
+        if (combined < 0) {
+            combined = ~combined;
+        }
+        return combined % numberOfBits;
+    }
+
+    private static long hash(String key) {
+        // 64 bit FNV-1a hash of the characters, mixed using the finalizer of murmur3
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "BloomFilter[bits=" + numberOfBits + ", hashes=" + numberOfHashes + ", size=" + getSize() + "]";
+    }
+}
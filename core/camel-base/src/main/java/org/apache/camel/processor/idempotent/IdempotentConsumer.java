@@ -17,8 +17,12 @@
 package org.apache.camel.processor.idempotent;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
@@ -44,12 +48,22 @@ import org.slf4j.LoggerFactory;
  * href="http://camel.apache.org/idempotent-consumer.html">Idempotent Consumer</a> pattern.
  * <p/>
  * This implementation supports idempotent repositories implemented as {@link org.apache.camel.spi.IdempotentRepository}.
+ * <p/>
+ * An optional {@link BloomFilter} can be used as a local pre-filter of the keys, so keys which has definitely not been
+ * seen before are regarded as new without calling the repository, and the key is added to the repository when the
+ * exchange is done. Only the keys which may have been seen before are checked with the repository. The pre-filter is
+ * warmed up with the keys of the repository when starting, and can therefore only be used with a repository which is
+ * local to this JVM and knows all its keys (see {@link IdempotentRepository#getLocalKeys()}), such as the in-memory
+ * and file based repositories. This idempotent consumer must also be the only one adding keys to the repository.
  *
  * @see org.apache.camel.spi.IdempotentRepository
  */
 public class IdempotentConsumer extends AsyncProcessorSupport implements CamelContextAware, Navigate<Processor>, IdAware, RouteIdAware {
 
+    public static final double DEFAULT_PRE_FILTER_FALSE_POSITIVE_RATE = 0.01;
+
     private static final Logger LOG = LoggerFactory.getLogger(IdempotentConsumer.class);
+    private static final int PRE_FILTER_LOCK_STRIPES = 64;
 
     private CamelContext camelContext;
     private String id;
@@ -62,6 +76,16 @@ public class IdempotentConsumer extends AsyncProcessorSupport implements CamelCo
     private final boolean skipDuplicate;
     private final boolean removeOnFailure;
     private final AtomicLong duplicateMessageCount = new AtomicLong();
+    private long preFilterSize;
+    private double preFilterFalsePositiveRate = DEFAULT_PRE_FILTER_FALSE_POSITIVE_RATE;
+    private volatile BloomFilter preFilter;
+    // the locks are striped by the key so new keys can be added to the pre-filter concurrently
+    private Object[] preFilterLocks;
+    // the keys regarded as new by the pre-filter which are not yet added to the repository
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+    private final LongAdder preFilterHitCount = new LongAdder();
+    private final LongAdder preFilterMissCount = new LongAdder();
+    private final LongAdder preFilterFalsePositiveCount = new LongAdder();
 
     public IdempotentConsumer(Expression messageIdExpression, IdempotentRepository idempotentRepository,
                               boolean eager, boolean completionEager, boolean skipDuplicate, boolean removeOnFailure, Processor processor) {
@@ -125,6 +149,11 @@ public class IdempotentConsumer extends AsyncProcessorSupport implements CamelCo
             return true;
         }
 
+        BloomFilter filter = preFilter;
+        if (filter != null) {
+            return processWithPreFilter(exchange, messageId, filter, callback);
+        }
+
         try {
             boolean newKey;
             if (eager) {
@@ -166,6 +195,78 @@ public class IdempotentConsumer extends AsyncProcessorSupport implements CamelCo
         return processor.process(exchange, target);
     }
 
+    private boolean processWithPreFilter(final Exchange exchange, final String messageId, final BloomFilter preFilter, final AsyncCallback callback) {
+        final AsyncCallback target;
+
+        try {
+            boolean newKey;
+            boolean preFiltered = false;
+            Object lock = preFilterLocks[(messageId.hashCode() & 0x7fffffff) % preFilterLocks.length];
+            synchronized (lock) {
+                if (!preFilter.mightContain(messageId)) {
+                    // the key has definitely not been seen before so its new without calling the repository
+                    // (add to the pending keys before the filter so the key is pending when the filter contains it)
+                    pendingKeys.add(messageId);
+                    preFilter.put(messageId);
+                    preFiltered = true;
+                }
+            }
+
+            if (preFiltered) {
+                preFilterHitCount.increment();
+                newKey = true;
+            } else {
+                preFilterMissCount.increment();
+                if (pendingKeys.contains(messageId)) {
+                    // the key is being processed and not yet added to the repository
+                    newKey = false;
+                } else if (eager) {
+                    newKey = idempotentRepository.add(exchange, messageId);
+                } else {
+                    newKey = !idempotentRepository.contains(exchange, messageId);
+                }
+                if (newKey) {
+                    preFilterFalsePositiveCount.increment();
+                }
+            }
+
+            if (!newKey) {
+                // mark the exchange as duplicate
+                exchange.setProperty(Exchange.DUPLICATE_MESSAGE, Boolean.TRUE);
+
+                // we already have this key so its a duplicate message
+                onDuplicate(exchange, messageId);
+
+                if (skipDuplicate) {
+                    // if we should skip duplicate then we are done
+                    LOG.debug("Ignoring duplicate message with id: {} for exchange: {}", messageId, exchange);
+                    callback.done(true);
+                    return true;
+                }
+            }
+
+            final Synchronization onCompletion;
+            if (preFiltered) {
+                // the key is added to the repository when the exchange is done
+                onCompletion = new PreFilteredOnCompletion(idempotentRepository, messageId, eager, removeOnFailure, pendingKeys);
+            } else {
+                onCompletion = new IdempotentOnCompletion(idempotentRepository, messageId, eager, removeOnFailure);
+            }
+            target = new IdempotentConsumerCallback(exchange, onCompletion, callback, completionEager);
+            if (!completionEager) {
+                // the scope is to do the idempotent completion work as an unit of work on the exchange when its done being routed
+                exchange.adapt(ExtendedExchange.class).addOnCompletion(onCompletion);
+            }
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        // process the exchange
+        return processor.process(exchange, target);
+    }
+
     @Override
     public List<Processor> next() {
         if (!hasNext()) {
@@ -199,6 +300,62 @@ public class IdempotentConsumer extends AsyncProcessorSupport implements CamelCo
         return duplicateMessageCount.get();
     }
 
+    public long getPreFilterSize() {
+        return preFilterSize;
+    }
+
+    /**
+     * Sets the expected number of keys, which is used for sizing the pre-filter. Is by default 0 which means the
+     * pre-filter is not in use.
+     */
+    public void setPreFilterSize(long preFilterSize) {
+        this.preFilterSize = preFilterSize;
+    }
+
+    public double getPreFilterFalsePositiveRate() {
+        return preFilterFalsePositiveRate;
+    }
+
+    /**
+     * Sets the rate of keys which are checked with the repository even though the key has not been seen before,
+     * when the expected number of keys has been added to the pre-filter. Is by default 0.01 (1%).
+     */
+    public void setPreFilterFalsePositiveRate(double preFilterFalsePositiveRate) {
+        this.preFilterFalsePositiveRate = preFilterFalsePositiveRate;
+    }
+
+    public BloomFilter getPreFilter() {
+        return preFilter;
+    }
+
+    /**
+     * Number of keys regarded as new by the pre-filter without calling the repository
+     */
+    public long getPreFilterHitCount() {
+        return preFilterHitCount.sum();
+    }
+
+    /**
+     * Number of keys which may have been seen before by the pre-filter, and therefore checked with the repository
+     */
+    public long getPreFilterMissCount() {
+        return preFilterMissCount.sum();
+    }
+
+    /**
+     * Number of keys which was checked with the repository and found to be new
+     */
+    public long getPreFilterFalsePositiveCount() {
+        return preFilterFalsePositiveCount.sum();
+    }
+
+    /**
+     * Number of keys regarded as new by the pre-filter which are not yet added to the repository
+     */
+    public int getPreFilterPendingCount() {
+        return pendingKeys.size();
+    }
+
     // Implementation methods
     // -------------------------------------------------------------------------
 
@@ -209,11 +366,33 @@ public class IdempotentConsumer extends AsyncProcessorSupport implements CamelCo
             camelContext.addService(idempotentRepository);
         }
         ServiceHelper.startService(processor, idempotentRepository);
+
+        if (preFilterSize > 0) {
+            // the pre-filter must know all the keys in the repository, as otherwise keys which has been added before
+            // (such as before a restart or by another node) would be regarded as new without checking the repository
+            Collection<String> keys = idempotentRepository.getLocalKeys();
+            if (keys == null) {
+                throw new IllegalArgumentException("The pre-filter can only be used with an idempotent repository which is local"
+                        + " and knows all its keys, such as the in-memory or file based repositories. Repository: " + idempotentRepository);
+            }
+            BloomFilter filter = new BloomFilter(preFilterSize, preFilterFalsePositiveRate);
+            for (String key : keys) {
+                filter.put(key);
+            }
+            preFilterLocks = new Object[PRE_FILTER_LOCK_STRIPES];
+            for (int i = 0; i < preFilterLocks.length; i++) {
+                preFilterLocks[i] = new Object();
+            }
+            preFilter = filter;
+            LOG.debug("Using pre-filter: {} warmed up with {} keys from the repository", preFilter, keys.size());
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
         ServiceHelper.stopService(processor, idempotentRepository);
+        // keys may be added to the repository while stopped, so the pre-filter is warmed up again when starting
+        preFilter = null;
     }
 
     @Override
@@ -243,6 +422,9 @@ public class IdempotentConsumer extends AsyncProcessorSupport implements CamelCo
      */
     public void resetDuplicateMessageCount() {
         duplicateMessageCount.set(0L);
+        preFilterHitCount.reset();
+        preFilterMissCount.reset();
+        preFilterFalsePositiveCount.reset();
     }
 
     private void onDuplicate(Exchange exchange, String messageId) {
@@ -256,6 +438,11 @@ public class IdempotentConsumer extends AsyncProcessorSupport implements CamelCo
      */
     public void clear() {
         idempotentRepository.clear();
+        BloomFilter filter = preFilter;
+        if (filter != null) {
+            // keys which are still pending remains in the pending keys so they are not regarded as new
+            filter.clear();
+        }
     }
 
     /**
@@ -269,6 +456,48 @@ public class IdempotentConsumer extends AsyncProcessorSupport implements CamelCo
         // noop
     }
 
+    /**
+     * On completion for keys regarded as new by the pre-filter, which adds the key to the repository when the exchange
+     * is done, as the key was not added to the repository before processing.
+     */
+    private static final class PreFilteredOnCompletion extends IdempotentOnCompletion {
+        private final IdempotentRepository idempotentRepository;
+        private final boolean eager;
+        private final boolean removeOnFailure;
+        private final Set<String> pendingKeys;
+
+        PreFilteredOnCompletion(IdempotentRepository idempotentRepository, String messageId, boolean eager, boolean removeOnFailure,
+                                Set<String> pendingKeys) {
+            // not eager as the key must be added on completion
+            super(idempotentRepository, messageId, false, removeOnFailure);
+            this.idempotentRepository = idempotentRepository;
+            this.eager = eager;
+            this.removeOnFailure = removeOnFailure;
+            this.pendingKeys = pendingKeys;
+        }
+
+        @Override
+        protected void onCompletedMessage(Exchange exchange, String messageId) {
+            try {
+                super.onCompletedMessage(exchange, messageId);
+            } finally {
+                pendingKeys.remove(messageId);
+            }
+        }
+
+        @Override
+        protected void onFailedMessage(Exchange exchange, String messageId) {
+            try {
+                if (eager && !removeOnFailure) {
+                    // in eager mode the key is kept when failed
+                    idempotentRepository.add(exchange, messageId);
+                }
+            } finally {
+                pendingKeys.remove(messageId);
+            }
+        }
+    }
+
     /**
      * {@link org.apache.camel.AsyncCallback} that is invoked when the idempotent consumer block ends
      */
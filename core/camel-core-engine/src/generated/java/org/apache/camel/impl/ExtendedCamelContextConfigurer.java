@@ -53,6 +53,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "ErrorHandlerFactory": target.setErrorHandlerFactory(property(camelContext, org.apache.camel.ErrorHandlerFactory.class, value)); return true;
         case "eventnotificationapplicable":
         case "EventNotificationApplicable": target.setEventNotificationApplicable(property(camelContext, boolean.class, value)); return true;
+        case "exchangefactory":
+        case "ExchangeFactory": target.setExchangeFactory(property(camelContext, org.apache.camel.spi.ExchangeFactory.class, value)); return true;
         case "executorservicemanager":
         case "ExecutorServiceManager": target.setExecutorServiceManager(property(camelContext, org.apache.camel.spi.ExecutorServiceManager.class, value)); return true;
         case "factoryfinderresolver":
@@ -67,6 +69,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "Injector": target.setInjector(property(camelContext, org.apache.camel.spi.Injector.class, value)); return true;
         case "languageresolver":
         case "LanguageResolver": target.setLanguageResolver(property(camelContext, org.apache.camel.spi.LanguageResolver.class, value)); return true;
+        case "lazystartroutes":
+        case "LazyStartRoutes": target.setLazyStartRoutes(property(camelContext, boolean.class, value)); return true;
         case "loadtypeconverters":
         case "LoadTypeConverters": target.setLoadTypeConverters(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "logexhaustedmessagebody":
@@ -115,6 +119,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "RestRegistry": target.setRestRegistry(property(camelContext, org.apache.camel.spi.RestRegistry.class, value)); return true;
         case "routecontroller":
         case "RouteController": target.setRouteController(property(camelContext, org.apache.camel.spi.RouteController.class, value)); return true;
+        case "routestartupparallelism":
+        case "RouteStartupParallelism": target.setRouteStartupParallelism(property(camelContext, int.class, value)); return true;
         case "runtimecamelcatalog":
         case "RuntimeCamelCatalog": target.setRuntimeCamelCatalog(property(camelContext, org.apache.camel.catalog.RuntimeCamelCatalog.class, value)); return true;
         case "runtimeendpointregistry":
@@ -131,6 +137,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "StreamCaching": target.setStreamCaching(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "streamcachingstrategy":
         case "StreamCachingStrategy": target.setStreamCachingStrategy(property(camelContext, org.apache.camel.spi.StreamCachingStrategy.class, value)); return true;
+        case "timeoutscheduler":
+        case "TimeoutScheduler": target.setTimeoutScheduler(property(camelContext, org.apache.camel.spi.TimeoutScheduler.class, value)); return true;
         case "tracer":
         case "Tracer": target.setTracer(property(camelContext, org.apache.camel.spi.Tracer.class, value)); return true;
         case "tracing":
@@ -177,6 +185,7 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         answer.put("Delayer", java.lang.Long.class);
         answer.put("ErrorHandlerFactory", org.apache.camel.ErrorHandlerFactory.class);
         answer.put("EventNotificationApplicable", boolean.class);
+        answer.put("ExchangeFactory", org.apache.camel.spi.ExchangeFactory.class);
         answer.put("ExecutorServiceManager", org.apache.camel.spi.ExecutorServiceManager.class);
         answer.put("FactoryFinderResolver", org.apache.camel.spi.FactoryFinderResolver.class);
         answer.put("GlobalOptions", java.util.Map.class);
@@ -184,6 +193,7 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         answer.put("InflightRepository", org.apache.camel.spi.InflightRepository.class);
         answer.put("Injector", org.apache.camel.spi.Injector.class);
         answer.put("LanguageResolver", org.apache.camel.spi.LanguageResolver.class);
+        answer.put("LazyStartRoutes", boolean.class);
         answer.put("LoadTypeConverters", java.lang.Boolean.class);
         answer.put("LogExhaustedMessageBody", java.lang.Boolean.class);
         answer.put("LogMask", java.lang.Boolean.class);
@@ -208,6 +218,7 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         answer.put("RestConfiguration", org.apache.camel.spi.RestConfiguration.class);
         answer.put("RestRegistry", org.apache.camel.spi.RestRegistry.class);
         answer.put("RouteController", org.apache.camel.spi.RouteController.class);
+        answer.put("RouteStartupParallelism", int.class);
         answer.put("RuntimeCamelCatalog", org.apache.camel.catalog.RuntimeCamelCatalog.class);
         answer.put("RuntimeEndpointRegistry", org.apache.camel.spi.RuntimeEndpointRegistry.class);
         answer.put("SSLContextParameters", org.apache.camel.support.jsse.SSLContextParameters.class);
@@ -216,6 +227,7 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         answer.put("ShutdownStrategy", org.apache.camel.spi.ShutdownStrategy.class);
         answer.put("StreamCaching", java.lang.Boolean.class);
         answer.put("StreamCachingStrategy", org.apache.camel.spi.StreamCachingStrategy.class);
+        answer.put("TimeoutScheduler", org.apache.camel.spi.TimeoutScheduler.class);
         answer.put("Tracer", org.apache.camel.spi.Tracer.class);
         answer.put("Tracing", java.lang.Boolean.class);
         answer.put("TracingPattern", java.lang.String.class);
@@ -268,6 +280,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "ErrorHandlerFactory": return target.getErrorHandlerFactory();
         case "eventnotificationapplicable":
         case "EventNotificationApplicable": return target.isEventNotificationApplicable();
+        case "exchangefactory":
+        case "ExchangeFactory": return target.getExchangeFactory();
         case "executorservicemanager":
         case "ExecutorServiceManager": return target.getExecutorServiceManager();
         case "factoryfinderresolver":
@@ -282,6 +296,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "Injector": return target.getInjector();
         case "languageresolver":
         case "LanguageResolver": return target.getLanguageResolver();
+        case "lazystartroutes":
+        case "LazyStartRoutes": return target.isLazyStartRoutes();
         case "loadtypeconverters":
         case "LoadTypeConverters": return target.isLoadTypeConverters();
         case "logexhaustedmessagebody":
@@ -330,6 +346,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "RestRegistry": return target.getRestRegistry();
         case "routecontroller":
         case "RouteController": return target.getRouteController();
+        case "routestartupparallelism":
+        case "RouteStartupParallelism": return target.getRouteStartupParallelism();
         case "runtimecamelcatalog":
         case "RuntimeCamelCatalog": return target.getRuntimeCamelCatalog();
         case "runtimeendpointregistry":
@@ -346,6 +364,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "StreamCaching": return target.isStreamCaching();
         case "streamcachingstrategy":
         case "StreamCachingStrategy": return target.getStreamCachingStrategy();
+        case "timeoutscheduler":
+        case "TimeoutScheduler": return target.getTimeoutScheduler();
         case "tracer":
         case "Tracer": return target.getTracer();
         case "tracing":
@@ -19,14 +19,23 @@ package org.apache.camel.impl;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.function.Function;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
 import org.apache.camel.Expression;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.FailedToStartRouteException;
 import org.apache.camel.Predicate;
 import org.apache.camel.Processor;
 import org.apache.camel.Route;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.ServiceStatus;
 import org.apache.camel.ValueHolder;
 import org.apache.camel.builder.AdviceWithRouteBuilder;
 import org.apache.camel.health.HealthCheckRegistry;
@@ -64,6 +73,7 @@ import org.apache.camel.spi.Validator;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.DefaultRegistry;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.StringHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,6 +85,10 @@ public class DefaultCamelContext extends SimpleCamelContext implements ModelCame
     private static final Logger LOG = LoggerFactory.getLogger(DefaultCamelContext.class);
 
     private Model model = new DefaultModel(this);
+    // routes which are lazy started on first use (keyed by the endpoint base uri the route consumes from)
+    private final Map<String, RouteDefinition> dormantRoutes = new ConcurrentHashMap<>();
+    // dormant routes which are being started on first use
+    private final Map<String, FutureTask<Boolean>> startingDormantRoutes = new ConcurrentHashMap<>();
 
     /**
      * Creates the {@link ModelCamelContext} using
@@ -365,15 +379,15 @@ public class DefaultCamelContext extends SimpleCamelContext implements ModelCame
                     throw new FailedToStartRouteException(routeDefinition.getId(), "duplicate id detected: " + duplicate + ". Please correct ids to be unique among all your routes.");
                 }
 
-                // must ensure route is prepared, before we can start it
-                if (!routeDefinition.isPrepared()) {
-                    RouteDefinitionHelper.prepareRoute(getCamelContextReference(), routeDefinition);
-                    routeDefinition.markPrepared();
+                if (isLazyStartRoutes()) {
+                    String key = getDormantRouteKey(routeDefinition);
+                    if (key != null && dormantRoutes.putIfAbsent(key, routeDefinition) == null) {
+                        LOG.debug("Route: {} is dormant and will be started on first use of: {}", routeDefinition.getId(), key);
+                        continue;
+                    }
                 }
 
-                Route route = new RouteReifier(getCamelContextReference(), routeDefinition).createRoute();
-                RouteService routeService = new RouteService(route);
-                startRouteService(routeService, true);
+                doStartRouteDefinition(routeDefinition);
             }
         } finally {
             if (!alreadyStartingRoutes) {
@@ -382,6 +396,155 @@ public class DefaultCamelContext extends SimpleCamelContext implements ModelCame
         }
     }
 
+    private RouteService doStartRouteDefinition(RouteDefinition routeDefinition) throws Exception {
+        // must ensure route is prepared, before we can start it
+        if (!routeDefinition.isPrepared()) {
+            RouteDefinitionHelper.prepareRoute(getCamelContextReference(), routeDefinition);
+            routeDefinition.markPrepared();
+        }
+
+        Route route = new RouteReifier(getCamelContextReference(), routeDefinition).createRoute();
+        RouteService routeService = new RouteService(route);
+        startRouteService(routeService, true);
+        return routeService;
+    }
+
+    /**
+     * Gets the key (the endpoint base uri) to use for the route if the route can be dormant,
+     * which is routes consuming from direct or seda endpoints that should auto startup.
+     *
+     * @return the key, or <tt>null</tt> if the route should not be dormant
+     */
+    private String getDormantRouteKey(RouteDefinition routeDefinition) throws Exception {
+        if (!isAutoStartup() || routeDefinition.getInput() == null) {
+            return null;
+        }
+        Boolean autoStartup = CamelContextHelper.parseBoolean(this, routeDefinition.getAutoStartup());
+        if (autoStartup != null && !autoStartup) {
+            return null;
+        }
+        String uri = routeDefinition.getInput().getEndpointUri();
+        if (uri == null) {
+            return null;
+        }
+        String key = adapt(ExtendedCamelContext.class).normalizeUri(uri).getUri();
+        String scheme = StringHelper.before(key, ":");
+        if (!"direct".equals(scheme) && !"seda".equals(scheme)) {
+            return null;
+        }
+        int pos = key.indexOf('?');
+        return pos > 0 ? key.substring(0, pos) : key;
+    }
+
+    @Override
+    public boolean startDormantRoute(Endpoint endpoint) {
+        if (dormantRoutes.isEmpty()) {
+            return false;
+        }
+        return startDormantRoute(endpoint.getEndpointBaseUri());
+    }
+
+    private boolean startDormantRoute(String key) {
+        if (!dormantRoutes.containsKey(key)) {
+            return false;
+        }
+        // only start the route once, and keep the route as dormant until its started, so any concurrent producers
+        // sending to the same endpoint waits for the route to be started (this is done without holding the lock on
+        // this camel context, so routes being started or stopped at the same time are not blocked)
+        FutureTask<Boolean> task = new FutureTask<>(() -> doStartDormantRoute(key));
+        FutureTask<Boolean> existing = startingDormantRoutes.putIfAbsent(key, task);
+        if (existing == null) {
+            try {
+                task.run();
+            } finally {
+                startingDormantRoutes.remove(key);
+            }
+            existing = task;
+        }
+        try {
+            return existing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } catch (ExecutionException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e.getCause());
+        }
+    }
+
+    private boolean doStartDormantRoute(String key) throws Exception {
+        RouteDefinition routeDefinition = dormantRoutes.get(key);
+        if (routeDefinition == null || !(isStarted() || isStarting())) {
+            return false;
+        }
+        LOG.debug("Starting dormant route: {} on first use of: {}", routeDefinition.getId(), key);
+        boolean alreadyStartingRoutes = isStartingRoutes();
+        if (!alreadyStartingRoutes) {
+            setStartingRoutes(true);
+        }
+        try {
+            RouteService routeService = doStartRouteDefinition(routeDefinition);
+            if (!shouldStartRoutes()) {
+                // camel is still starting up and may be done starting the routes, so we must start the route ourselves
+                safelyStartRouteServices(true, true, true, false, true, routeService);
+            }
+            return true;
+        } finally {
+            dormantRoutes.remove(key);
+            if (!alreadyStartingRoutes) {
+                setStartingRoutes(false);
+            }
+        }
+    }
+
+    /**
+     * Finds the key of the dormant route with the given id
+     *
+     * @return the key, or <tt>null</tt> if there is no dormant route with the given id
+     */
+    private String findDormantRouteKey(String routeId) {
+        for (Map.Entry<String, RouteDefinition> entry : dormantRoutes.entrySet()) {
+            if (routeId.equals(entry.getValue().getId())) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public ServiceStatus getRouteStatus(String routeId) {
+        ServiceStatus answer = super.getRouteStatus(routeId);
+        if (answer == null && findDormantRouteKey(routeId) != null) {
+            // the route is not created until its started on first use
+            answer = ServiceStatus.Stopped;
+        }
+        return answer;
+    }
+
+    @Override
+    public void startRoute(String routeId) throws Exception {
+        // the route may be dormant, which must be started without holding the lock on this camel context
+        String key = findDormantRouteKey(routeId);
+        if (key == null || !startDormantRoute(key)) {
+            super.startRoute(routeId);
+        }
+    }
+
+    @Override
+    public Set<String> getDormantRouteIds() {
+        Set<String> answer = new TreeSet<>();
+        for (RouteDefinition routeDefinition : dormantRoutes.values()) {
+            answer.add(routeDefinition.getId());
+        }
+        return answer;
+    }
+
+    @Override
+    public synchronized boolean removeRoute(String routeId) throws Exception {
+        // the route may be dormant
+        boolean dormant = dormantRoutes.values().removeIf(r -> routeId.equals(r.getId()));
+        return super.removeRoute(routeId) || dormant;
+    }
+
     @Override
     protected ExecutorServiceManager createExecutorServiceManager() {
         return new DefaultExecutorServiceManager(this);
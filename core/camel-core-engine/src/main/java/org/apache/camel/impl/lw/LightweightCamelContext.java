@@ -87,6 +87,7 @@ import org.apache.camel.spi.Debugger;
 import org.apache.camel.spi.DeferServiceFactory;
 import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.spi.EndpointStrategy;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -121,6 +122,7 @@ import org.apache.camel.spi.RouteStartupOrder;
 import org.apache.camel.spi.RuntimeEndpointRegistry;
 import org.apache.camel.spi.ShutdownStrategy;
 import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.TimeoutScheduler;
 import org.apache.camel.spi.Tracer;
 import org.apache.camel.spi.Transformer;
 import org.apache.camel.spi.TransformerRegistry;
@@ -1350,6 +1352,26 @@ public class LightweightCamelContext implements ExtendedCamelContext, CatalogCam
         getExtendedCamelContext().setReactiveExecutor(reactiveExecutor);
     }
 
+    @Override
+    public ExchangeFactory getExchangeFactory() {
+        return getExtendedCamelContext().getExchangeFactory();
+    }
+
+    @Override
+    public void setExchangeFactory(ExchangeFactory exchangeFactory) {
+        getExtendedCamelContext().setExchangeFactory(exchangeFactory);
+    }
+
+    @Override
+    public TimeoutScheduler getTimeoutScheduler() {
+        return getExtendedCamelContext().getTimeoutScheduler();
+    }
+
+    @Override
+    public void setTimeoutScheduler(TimeoutScheduler timeoutScheduler) {
+        getExtendedCamelContext().setTimeoutScheduler(timeoutScheduler);
+    }
+
     @Override
     public boolean isEventNotificationApplicable() {
         return getExtendedCamelContext().isEventNotificationApplicable();
@@ -1360,6 +1382,37 @@ public class LightweightCamelContext implements ExtendedCamelContext, CatalogCam
         getExtendedCamelContext().setEventNotificationApplicable(eventNotificationApplicable);
     }
 
+    @Override
+    public boolean isLazyStartRoutes() {
+        return getExtendedCamelContext().isLazyStartRoutes();
+    }
+
+    @Override
+    public void setLazyStartRoutes(boolean lazyStartRoutes) {
+        // the routes must all be created when the runtime context is created
+        throw new UnsupportedOperationException("Lazy start routes is not supported with lightweight context");
+    }
+
+    @Override
+    public int getRouteStartupParallelism() {
+        return getExtendedCamelContext().getRouteStartupParallelism();
+    }
+
+    @Override
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        getExtendedCamelContext().setRouteStartupParallelism(routeStartupParallelism);
+    }
+
+    @Override
+    public boolean startDormantRoute(Endpoint endpoint) {
+        return getExtendedCamelContext().startDormantRoute(endpoint);
+    }
+
+    @Override
+    public Set<String> getDormantRouteIds() {
+        return getExtendedCamelContext().getDormantRouteIds();
+    }
+
     @Override
     public void setXMLRoutesDefinitionLoader(XMLRoutesDefinitionLoader xmlRoutesDefinitionLoader) {
         getExtendedCamelContext().setXMLRoutesDefinitionLoader(xmlRoutesDefinitionLoader);
@@ -82,6 +82,7 @@ import org.apache.camel.spi.Debugger;
 import org.apache.camel.spi.DeferServiceFactory;
 import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.spi.EndpointStrategy;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -117,6 +118,7 @@ import org.apache.camel.spi.RouteStartupOrder;
 import org.apache.camel.spi.RuntimeEndpointRegistry;
 import org.apache.camel.spi.ShutdownStrategy;
 import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.TimeoutScheduler;
 import org.apache.camel.spi.Tracer;
 import org.apache.camel.spi.Transformer;
 import org.apache.camel.spi.TransformerRegistry;
@@ -158,6 +160,8 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
     private final BeanIntrospection beanIntrospection;
     private final HeadersMapFactory headersMapFactory;
     private final ReactiveExecutor reactiveExecutor;
+    private final ExchangeFactory exchangeFactory;
+    private final TimeoutScheduler timeoutScheduler;
     private final AsyncProcessorAwaitManager asyncProcessorAwaitManager;
     private final ExecutorServiceManager executorServiceManager;
     private final ShutdownStrategy shutdownStrategy;
@@ -202,6 +206,8 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
         beanIntrospection = context.adapt(ExtendedCamelContext.class).getBeanIntrospection();
         headersMapFactory = context.adapt(ExtendedCamelContext.class).getHeadersMapFactory();
         reactiveExecutor = context.adapt(ExtendedCamelContext.class).getReactiveExecutor();
+        exchangeFactory = context.adapt(ExtendedCamelContext.class).getExchangeFactory();
+        timeoutScheduler = context.adapt(ExtendedCamelContext.class).getTimeoutScheduler();
         asyncProcessorAwaitManager = context.adapt(ExtendedCamelContext.class).getAsyncProcessorAwaitManager();
         executorServiceManager = context.getExecutorServiceManager();
         shutdownStrategy = context.getShutdownStrategy();
@@ -1254,6 +1260,16 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
         return reactiveExecutor;
     }
 
+    @Override
+    public ExchangeFactory getExchangeFactory() {
+        return exchangeFactory;
+    }
+
+    @Override
+    public TimeoutScheduler getTimeoutScheduler() {
+        return timeoutScheduler;
+    }
+
     @Override
     public boolean isEventNotificationApplicable() {
         return eventNotificationApplicable;
@@ -1500,11 +1516,51 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public void setExchangeFactory(ExchangeFactory exchangeFactory) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setTimeoutScheduler(TimeoutScheduler timeoutScheduler) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void setEventNotificationApplicable(boolean eventNotificationApplicable) {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public boolean isLazyStartRoutes() {
+        return false;
+    }
+
+    @Override
+    public void setLazyStartRoutes(boolean lazyStartRoutes) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getRouteStartupParallelism() {
+        return 1;
+    }
+
+    @Override
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean startDormantRoute(Endpoint endpoint) {
+        return false;
+    }
+
+    @Override
+    public Set<String> getDormantRouteIds() {
+        return Collections.emptySet();
+    }
+
     @Override
     public void setXMLRoutesDefinitionLoader(XMLRoutesDefinitionLoader xmlRoutesDefinitionLoader) {
         throw new UnsupportedOperationException();
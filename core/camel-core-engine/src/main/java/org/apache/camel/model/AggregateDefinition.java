@@ -80,6 +80,12 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition> i
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String stripedLocking;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer", defaultValue = "64")
+    private String lockStripes;
+    @XmlAttribute
     private String executorServiceRef;
     @XmlAttribute
     private String timeoutCheckerExecutorServiceRef;
@@ -445,6 +451,22 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition> i
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getStripedLocking() {
+        return stripedLocking;
+    }
+
+    public void setStripedLocking(String stripedLocking) {
+        this.stripedLocking = stripedLocking;
+    }
+
+    public String getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(String lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -1027,6 +1049,31 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition> i
         return this;
     }
 
+    /**
+     * Turns on using striped locking, where only exchanges with correlation
+     * keys that share the same lock stripe are aggregated one at a time. This
+     * allows exchanges for different correlation keys to be aggregated
+     * concurrently, instead of using a single lock for all correlation keys.
+     * This cannot be used together with optimisticLocking,
+     * completionFromBatchConsumer or completionOnNewCorrelationGroup.
+     */
+    public AggregateDefinition stripedLocking() {
+        setStripedLocking(Boolean.toString(true));
+        return this;
+    }
+
+    /**
+     * Number of lock stripes to use when striped locking is enabled. The
+     * correlation keys are spread over the lock stripes by their hash code.
+     *
+     * @param lockStripes the number of lock stripes, must be a positive number
+     * @return builder
+     */
+    public AggregateDefinition lockStripes(int lockStripes) {
+        setLockStripes(Integer.toString(lockStripes));
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
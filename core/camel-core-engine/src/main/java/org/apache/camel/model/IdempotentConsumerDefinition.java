@@ -50,6 +50,12 @@ public class IdempotentConsumerDefinition extends OutputExpressionNode {
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean", defaultValue = "true")
     private String removeOnFailure;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Long", defaultValue = "0")
+    private String preFilterSize;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Double", defaultValue = "0.01")
+    private String preFilterFalsePositiveRate;
     @XmlTransient
     private IdempotentRepository idempotentRepository;
 
@@ -184,6 +190,45 @@ public class IdempotentConsumerDefinition extends OutputExpressionNode {
         return this;
     }
 
+    /**
+     * Sets the expected number of keys to use a local Bloom filter as
+     * pre-filter of the keys. Keys which has definitely not been seen before by
+     * the pre-filter are regarded as new without calling the repository, and
+     * are added to the repository when the exchange is done. Only keys which
+     * may have been seen before are checked with the repository.
+     * <p/>
+     * The pre-filter is warmed up with the keys of the repository when the
+     * route is started, so it can only be used with a repository which is
+     * local and knows all its keys, such as the in-memory or file based
+     * repositories, and this must be the only idempotent consumer adding keys
+     * to the repository.
+     * <p/>
+     * The default is 0 which means the pre-filter is not in use.
+     *
+     * @param preFilterSize the expected number of keys
+     * @return builder
+     */
+    public IdempotentConsumerDefinition preFilterSize(long preFilterSize) {
+        setPreFilterSize(Long.toString(preFilterSize));
+        return this;
+    }
+
+    /**
+     * Sets the rate of keys which are checked with the repository even though
+     * they have not been seen before, when the expected number of keys has
+     * been added to the pre-filter. The lower the rate the more memory is used
+     * by the pre-filter.
+     * <p/>
+     * The default rate is 0.01 (1%).
+     *
+     * @param preFilterFalsePositiveRate the false positive rate
+     * @return builder
+     */
+    public IdempotentConsumerDefinition preFilterFalsePositiveRate(double preFilterFalsePositiveRate) {
+        setPreFilterFalsePositiveRate(Double.toString(preFilterFalsePositiveRate));
+        return this;
+    }
+
     /**
      * Expression used to calculate the correlation key to use for duplicate
      * check. The Exchange which has the same correlation key is regarded as a
@@ -235,6 +280,22 @@ public class IdempotentConsumerDefinition extends OutputExpressionNode {
         this.removeOnFailure = removeOnFailure;
     }
 
+    public String getPreFilterSize() {
+        return preFilterSize;
+    }
+
+    public void setPreFilterSize(String preFilterSize) {
+        this.preFilterSize = preFilterSize;
+    }
+
+    public String getPreFilterFalsePositiveRate() {
+        return preFilterFalsePositiveRate;
+    }
+
+    public void setPreFilterFalsePositiveRate(String preFilterFalsePositiveRate) {
+        this.preFilterFalsePositiveRate = preFilterFalsePositiveRate;
+    }
+
     public String getCompletionEager() {
         return completionEager;
     }
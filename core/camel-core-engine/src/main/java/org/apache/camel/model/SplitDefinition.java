@@ -64,6 +64,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(defaultValue = "0", javaType = "java.lang.Long")
     private String timeout;
     @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "0", javaType = "java.lang.Integer")
+    private String maxInflight;
+    @XmlAttribute
     private String onPrepareRef;
     @XmlTransient
     private Processor onPrepare;
@@ -534,6 +537,45 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of splitted messages which can be in flight at
+     * the same time, when using parallel processing. The splitter will only
+     * split the next message when one of the messages in flight has been
+     * aggregated, so a slow route does not flood the thread pool and the
+     * memory when splitting big messages in streaming mode. When not streaming
+     * the replies are aggregated in the same order as the messages was
+     * splitted, and replies which comes back out of order are kept in a reorder
+     * buffer which also counts against the limit.
+     * <p/>
+     * The default value is 0 which means unlimited.
+     *
+     * @param maxInflight the maximum number of splitted messages in flight
+     * @return the builder
+     */
+    public SplitDefinition maxInflight(int maxInflight) {
+        return maxInflight(Integer.toString(maxInflight));
+    }
+
+    /**
+     * Sets the maximum number of splitted messages which can be in flight at
+     * the same time, when using parallel processing. The splitter will only
+     * split the next message when one of the messages in flight has been
+     * aggregated, so a slow route does not flood the thread pool and the
+     * memory when splitting big messages in streaming mode. When not streaming
+     * the replies are aggregated in the same order as the messages was
+     * splitted, and replies which comes back out of order are kept in a reorder
+     * buffer which also counts against the limit.
+     * <p/>
+     * The default value is 0 which means unlimited.
+     *
+     * @param maxInflight the maximum number of splitted messages in flight
+     * @return the builder
+     */
+    public SplitDefinition maxInflight(String maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
     /**
      * Shares the {@link org.apache.camel.spi.UnitOfWork} with the parent and
      * each of the sub messages. Splitter will by default not share unit of work
@@ -707,6 +749,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.timeout = timeout;
     }
 
+    public String getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(String maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     public String getOnPrepareRef() {
         return onPrepareRef;
     }
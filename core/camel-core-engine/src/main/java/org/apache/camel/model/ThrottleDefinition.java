@@ -58,6 +58,9 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String rejectExecution;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String tokenBucket;
 
     public ThrottleDefinition() {
     }
@@ -231,6 +234,45 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * Whether to use a token bucket to throttle the exchanges.
+     *
+     * @return the builder
+     * @see #tokenBucket(boolean)
+     */
+    public ThrottleDefinition tokenBucket() {
+        return tokenBucket(true);
+    }
+
+    /**
+     * Whether to use a token bucket to throttle the exchanges, instead of a
+     * rolling window. The bucket allows a burst of up to the maximum requests
+     * per period, after which the exchanges are evenly spaced over the time
+     * period. The permits are computed without locking or queueing, and no
+     * thread is blocked while waiting for a permit (except for transacted
+     * exchanges), which scales better for high rates and many correlation keys.
+     * <p/>
+     * Is by default <tt>false</tt>
+     *
+     * @param tokenBucket whether to use a token bucket
+     * @return the builder
+     */
+    public ThrottleDefinition tokenBucket(boolean tokenBucket) {
+        return tokenBucket(Boolean.toString(tokenBucket));
+    }
+
+    /**
+     * Whether to use a token bucket to throttle the exchanges.
+     *
+     * @param tokenBucket whether to use a token bucket
+     * @return the builder
+     * @see #tokenBucket(boolean)
+     */
+    public ThrottleDefinition tokenBucket(String tokenBucket) {
+        setTokenBucket(tokenBucket);
+        return this;
+    }
+
     /**
      * To use a custom thread pool (ScheduledExecutorService) by the throttler.
      *
@@ -321,6 +363,14 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.rejectExecution = rejectExecution;
     }
 
+    public String getTokenBucket() {
+        return tokenBucket;
+    }
+
+    public void setTokenBucket(String tokenBucket) {
+        this.tokenBucket = tokenBucket;
+    }
+
     /**
      * The expression used to calculate the correlation key to use for throttle
      * grouping. The Exchange which has the same correlation key is throttled
@@ -48,7 +48,16 @@ public class IdempotentConsumerReifier extends ExpressionReifier<IdempotentConsu
         // these boolean should be false by default
         boolean completionEager = parseBoolean(definition.getCompletionEager(), false);
 
-        return new IdempotentConsumer(expression, idempotentRepository, eager, completionEager, duplicate, remove, childProcessor);
+        IdempotentConsumer answer = new IdempotentConsumer(expression, idempotentRepository, eager, completionEager, duplicate, remove, childProcessor);
+        long preFilterSize = parseLong(definition.getPreFilterSize(), 0);
+        if (preFilterSize > 0) {
+            answer.setPreFilterSize(preFilterSize);
+            Double rate = parse(Double.class, definition.getPreFilterFalsePositiveRate());
+            if (rate != null) {
+                answer.setPreFilterFalsePositiveRate(rate);
+            }
+        }
+        return answer;
     }
 
     /**
@@ -62,6 +62,11 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         Splitter answer = new Splitter(camelContext, route, exp, childProcessor, definition.getAggregationStrategy(), isParallelProcessing, threadPool,
                                        shutdownThreadPool, isStreaming, isStopOnException, timeout, definition.getOnPrepare(), isShareUnitOfWork, isParallelAggregate,
                                        isStopOnAggregateException);
+        int maxInflight = definition.getMaxInflight() != null ? parseInt(definition.getMaxInflight()) : 0;
+        if (maxInflight > 0 && !isParallelProcessing) {
+            throw new IllegalArgumentException("MaxInflight is used but ParallelProcessing has not been enabled.");
+        }
+        answer.setMaxInflight(maxInflight);
         return answer;
     }
 
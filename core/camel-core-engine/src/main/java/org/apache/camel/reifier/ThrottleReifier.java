@@ -24,6 +24,7 @@ import org.apache.camel.Route;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.ThrottleDefinition;
 import org.apache.camel.processor.Throttler;
+import org.apache.camel.processor.TokenBucketThrottler;
 
 public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
 
@@ -52,7 +53,12 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
         }
 
         boolean reject = parseBoolean(definition.getRejectExecution(), false);
-        Throttler answer = new Throttler(camelContext, maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation);
+        Throttler answer;
+        if (parseBoolean(definition.getTokenBucket(), false)) {
+            answer = new TokenBucketThrottler(camelContext, maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation);
+        } else {
+            answer = new Throttler(camelContext, maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation);
+        }
 
         answer.setAsyncDelayed(async);
         // should be true by default
@@ -0,0 +1,542 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.language.simple.ast.BinaryExpression;
+import org.apache.camel.language.simple.ast.CompositeNodes;
+import org.apache.camel.language.simple.ast.DoubleQuoteStart;
+import org.apache.camel.language.simple.ast.LiteralExpression;
+import org.apache.camel.language.simple.ast.LiteralNode;
+import org.apache.camel.language.simple.ast.LogicalExpression;
+import org.apache.camel.language.simple.ast.SimpleFunctionStart;
+import org.apache.camel.language.simple.ast.SimpleNode;
+import org.apache.camel.language.simple.ast.SingleQuoteStart;
+import org.apache.camel.language.simple.types.BinaryOperatorType;
+import org.apache.camel.language.simple.types.LogicalOperatorType;
+import org.apache.camel.support.ExpressionToPredicateAdapter;
+import org.apache.camel.support.LanguageSupport;
+import org.apache.camel.support.ObjectHelper;
+import org.apache.camel.support.builder.ExpressionBuilder;
+import org.apache.camel.support.builder.PredicateBuilder;
+import org.apache.camel.support.builder.ValueBuilder;
+import org.apache.camel.util.OgnlHelper;
+import org.apache.camel.util.StringHelper;
+
+/**
+ * Compiles the AST of a parsed simple expression or predicate, when the simple language is in compiled mode.
+ * <p/>
+ * The compiled functions access the message body, headers and exchange properties directly, and the binary and logical
+ * operators are evaluated directly as predicates, where literal values (such as <tt>'gold'</tt> or <tt>100</tt>) are
+ * converted once per type instead of on every evaluation. Any node which cannot be compiled, such as OGNL expressions or
+ * nested functions, is created as a regular expression from the AST.
+ */
+final class SimpleCompiler {
+
+    private static final String[] HEADER_PREFIXES = {"in.headers", "in.header", "headers", "header"};
+    private static final Object NO_VALUE = new Object();
+
+    private SimpleCompiler() {
+    }
+
+    /**
+     * Compiles the node as a predicate.
+     *
+     * @param node       the node
+     * @param expression the simple expression
+     * @return the predicate, or <tt>null</tt> if the node does not create an expression
+     */
+    static Predicate compilePredicate(SimpleNode node, String expression) {
+        if (node instanceof LogicalExpression) {
+            return compileLogical((LogicalExpression) node, expression);
+        }
+        if (node instanceof BinaryExpression) {
+            Predicate answer = compileBinary((BinaryExpression) node, expression);
+            if (answer != null) {
+                return answer;
+            }
+        }
+        Expression exp = compileExpression(node, expression);
+        return exp != null ? ExpressionToPredicateAdapter.toPredicate(exp) : null;
+    }
+
+    /**
+     * Compiles the node as an expression.
+     *
+     * @param node       the node
+     * @param expression the simple expression
+     * @return the expression, or <tt>null</tt> if the node does not create an expression
+     */
+    static Expression compileExpression(SimpleNode node, String expression) {
+        if (node instanceof SimpleFunctionStart) {
+            String function = functionText((SimpleFunctionStart) node);
+            Expression answer = function != null ? compileFunction(function) : null;
+            if (answer != null) {
+                return answer;
+            }
+        }
+        return node.createExpression(expression);
+    }
+
+    private static Expression compileFunction(String function) {
+        if ("body".equals(function) || "in.body".equals(function)) {
+            return new CompiledExpression(function) {
+                @Override
+                protected Object evaluate(Exchange exchange) {
+                    return exchange.getIn().getBody();
+                }
+            };
+        } else if ("exchangeId".equals(function)) {
+            return new CompiledExpression(function) {
+                @Override
+                protected Object evaluate(Exchange exchange) {
+                    return exchange.getExchangeId();
+                }
+            };
+        }
+
+        final String header = headerName(function);
+        if (header != null) {
+            return new CompiledExpression(function) {
+                @Override
+                protected Object evaluate(Exchange exchange) {
+                    Object answer = exchange.getIn().getHeader(header);
+                    if (answer == null) {
+                        // fall back on a property
+                        answer = exchange.getProperty(header);
+                    }
+                    return answer;
+                }
+            };
+        }
+
+        final String property = propertyName(function);
+        if (property != null) {
+            return new CompiledExpression(function) {
+                @Override
+                protected Object evaluate(Exchange exchange) {
+                    return exchange.getProperty(property);
+                }
+            };
+        }
+
+        return null;
+    }
+
+    private static String headerName(String function) {
+        String remainder = null;
+        for (String prefix : HEADER_PREFIXES) {
+            if (function.startsWith(prefix)) {
+                remainder = function.substring(prefix.length());
+                break;
+            }
+        }
+        if (remainder == null) {
+            return null;
+        }
+        if (remainder.startsWith(".") || remainder.startsWith(":")) {
+            remainder = remainder.substring(1);
+        } else if (!remainder.startsWith("[")) {
+            // not a single header such as headerAs(key, type)
+            return null;
+        }
+        return plainName(remainder);
+    }
+
+    private static String propertyName(String function) {
+        if (!function.startsWith("exchangeProperty")) {
+            return null;
+        }
+        String remainder = function.substring("exchangeProperty".length());
+        if (remainder.startsWith(".")) {
+            remainder = remainder.substring(1);
+        } else if (!remainder.startsWith("[")) {
+            return null;
+        }
+        return plainName(remainder);
+    }
+
+    private static String plainName(String remainder) {
+        // remove starting and ending brackets
+        if (remainder.startsWith("[") && remainder.endsWith("]")) {
+            remainder = remainder.substring(1, remainder.length() - 1);
+        }
+        String name = StringHelper.removeLeadingAndEndingQuotes(remainder);
+        if (org.apache.camel.util.ObjectHelper.isEmpty(name) || LanguageSupport.hasSimpleFunction(name)
+                || OgnlHelper.isInvalidValidOgnlExpression(name) || OgnlHelper.isValidOgnlExpression(name)) {
+            // only plain names can be compiled
+            return null;
+        }
+        return name;
+    }
+
+    private static String functionText(SimpleFunctionStart function) {
+        List<SimpleNode> children = function.getBlock().getChildren();
+        if (children.size() == 1 && children.get(0) instanceof LiteralNode) {
+            return ((LiteralNode) children.get(0)).getText();
+        }
+        return null;
+    }
+
+    private static String literalText(SimpleNode node) {
+        CompositeNodes block;
+        if (node instanceof SingleQuoteStart) {
+            block = ((SingleQuoteStart) node).getBlock();
+        } else if (node instanceof DoubleQuoteStart) {
+            block = ((DoubleQuoteStart) node).getBlock();
+        } else if (node instanceof LiteralExpression) {
+            // such as numeric and boolean values
+            return ((LiteralExpression) node).getText();
+        } else {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (SimpleNode child : block.getChildren()) {
+            if (!(child instanceof LiteralNode)) {
+                // quoted text with embedded functions
+                return null;
+            }
+            sb.append(((LiteralNode) child).getText());
+        }
+        return sb.toString();
+    }
+
+    private static Predicate compileLogical(LogicalExpression node, String expression) {
+        if (node.getLeft() == null || node.getRight() == null) {
+            // let the regular expression report the error
+            return ExpressionToPredicateAdapter.toPredicate(node.createExpression(expression));
+        }
+
+        final Predicate left = compilePredicate(node.getLeft(), expression);
+        final Predicate right = compilePredicate(node.getRight(), expression);
+        if (node.getOperator() == LogicalOperatorType.AND) {
+            return new CompiledPredicate(node.toString()) {
+                @Override
+                public boolean matches(Exchange exchange) {
+                    return left.matches(exchange) && right.matches(exchange);
+                }
+            };
+        } else {
+            return new CompiledPredicate(node.toString()) {
+                @Override
+                public boolean matches(Exchange exchange) {
+                    return left.matches(exchange) || right.matches(exchange);
+                }
+            };
+        }
+    }
+
+    private static Predicate compileBinary(BinaryExpression node, String expression) {
+        BinaryOperatorType operator = node.getOperator();
+        if (node.getLeft() == null || node.getRight() == null || operator == BinaryOperatorType.IS
+                || operator == BinaryOperatorType.NOT_IS || operator == BinaryOperatorType.RANGE
+                || operator == BinaryOperatorType.NOT_RANGE) {
+            return null;
+        }
+
+        final String text = node.toString();
+        final Expression left = compileExpression(node.getLeft(), expression);
+        final String literal = literalText(node.getRight());
+        if (literal != null) {
+            Predicate answer = compileBinaryLiteral(text, operator, left, new Literal(literal));
+            if (answer != null) {
+                return answer;
+            }
+        } else if (operator == BinaryOperatorType.REGEX || operator == BinaryOperatorType.NOT_REGEX
+                || operator == BinaryOperatorType.IN || operator == BinaryOperatorType.NOT_IN) {
+            // the right hand side must be evaluated on every call
+            return null;
+        }
+
+        final Expression right = compileExpression(node.getRight(), expression);
+        switch (operator) {
+        case EQ:
+            return PredicateBuilder.isEqualTo(left, right);
+        case EQ_IGNORE:
+            return PredicateBuilder.isEqualToIgnoreCase(left, right);
+        case GT:
+            return PredicateBuilder.isGreaterThan(left, right);
+        case GTE:
+            return PredicateBuilder.isGreaterThanOrEqualTo(left, right);
+        case LT:
+            return PredicateBuilder.isLessThan(left, right);
+        case LTE:
+            return PredicateBuilder.isLessThanOrEqualTo(left, right);
+        case NOT_EQ:
+            return PredicateBuilder.isNotEqualTo(left, right);
+        case NOT_EQ_IGNORE:
+            return PredicateBuilder.not(PredicateBuilder.isEqualToIgnoreCase(left, right));
+        case CONTAINS:
+            return PredicateBuilder.contains(left, right);
+        case NOT_CONTAINS:
+            return PredicateBuilder.not(PredicateBuilder.contains(left, right));
+        case CONTAINS_IGNORECASE:
+            return PredicateBuilder.containsIgnoreCase(left, right);
+        case NOT_CONTAINS_IGNORECASE:
+            return PredicateBuilder.not(PredicateBuilder.containsIgnoreCase(left, right));
+        case STARTS_WITH:
+            return PredicateBuilder.startsWith(left, right);
+        case ENDS_WITH:
+            return PredicateBuilder.endsWith(left, right);
+        default:
+            return null;
+        }
+    }
+
+    private static Predicate compileBinaryLiteral(String text, BinaryOperatorType operator, final Expression left, final Literal literal) {
+        switch (operator) {
+        case EQ:
+            return new LiteralEqualsPredicate(text, left, literal, false, false);
+        case NOT_EQ:
+            return new LiteralEqualsPredicate(text, left, literal, false, true);
+        case EQ_IGNORE:
+            return new LiteralEqualsPredicate(text, left, literal, true, false);
+        case NOT_EQ_IGNORE:
+            return new LiteralEqualsPredicate(text, left, literal, true, true);
+        case GT:
+            return new LiteralComparePredicate(text, left, literal) {
+                @Override
+                protected boolean matches(int compare) {
+                    return compare > 0;
+                }
+            };
+        case GTE:
+            return new LiteralComparePredicate(text, left, literal) {
+                @Override
+                protected boolean matches(int compare) {
+                    return compare >= 0;
+                }
+            };
+        case LT:
+            return new LiteralComparePredicate(text, left, literal) {
+                @Override
+                protected boolean matches(int compare) {
+                    return compare < 0;
+                }
+            };
+        case LTE:
+            return new LiteralComparePredicate(text, left, literal) {
+                @Override
+                protected boolean matches(int compare) {
+                    return compare <= 0;
+                }
+            };
+        case REGEX:
+        case NOT_REGEX:
+            Pattern pattern;
+            try {
+                pattern = Pattern.compile(literal.text);
+            } catch (PatternSyntaxException e) {
+                // let the regular expression fail when evaluated
+                return null;
+            }
+            Predicate regex = PredicateBuilder.regex(left, pattern);
+            return operator == BinaryOperatorType.REGEX ? regex : PredicateBuilder.not(regex);
+        case IN:
+        case NOT_IN:
+            List<Object> values = new ArrayList<>();
+            Iterator<?> it = ObjectHelper.createIterator(literal.text);
+            while (it.hasNext()) {
+                values.add(it.next());
+            }
+            Predicate in = new ValueBuilder(left).in(values.toArray());
+            return operator == BinaryOperatorType.IN ? in : PredicateBuilder.not(in);
+        default:
+            // use the regular predicate with the literal as a constant
+            return null;
+        }
+    }
+
+    /**
+     * A literal value which is converted once per type.
+     */
+    private static final class Literal {
+
+        private final String text;
+        private volatile Conversions conversions;
+
+        Literal(String text) {
+            this.text = text;
+        }
+
+        Object convertTo(TypeConverter converter, Class<?> type) {
+            Conversions answer = conversions;
+            if (answer == null || answer.converter != converter) {
+                answer = new Conversions(converter);
+                conversions = answer;
+            }
+            Object value = answer.values.get(type);
+            if (value == null) {
+                value = converter.tryConvertTo(type, text);
+                answer.values.put(type, value != null ? value : NO_VALUE);
+                return value;
+            }
+            return value != NO_VALUE ? value : null;
+        }
+    }
+
+    private static final class Conversions {
+
+        private final TypeConverter converter;
+        private final Map<Class<?>, Object> values = new ConcurrentHashMap<>();
+
+        Conversions(TypeConverter converter) {
+            this.converter = converter;
+        }
+    }
+
+    private abstract static class CompiledExpression implements Expression {
+
+        private final String text;
+
+        CompiledExpression(String text) {
+            this.text = text;
+        }
+
+        protected abstract Object evaluate(Exchange exchange);
+
+        @Override
+        public <T> T evaluate(Exchange exchange, Class<T> type) {
+            Object value = evaluate(exchange);
+            if (value != null && type.isInstance(value)) {
+                return type.cast(value);
+            }
+            return exchange.getContext().getTypeConverter().convertTo(type, exchange, value);
+        }
+
+        @Override
+        public String toString() {
+            return "${" + text + "}";
+        }
+    }
+
+    private abstract static class CompiledPredicate implements Predicate {
+
+        private final String text;
+
+        CompiledPredicate(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    /**
+     * Compares with a literal for equality using the same type coercion as
+     * {@link ObjectHelper#typeCoerceEquals(TypeConverter, Object, Object, boolean)}
+     */
+    private static final class LiteralEqualsPredicate extends CompiledPredicate {
+
+        private final Expression left;
+        private final Literal literal;
+        private final boolean ignoreCase;
+        private final boolean negate;
+
+        LiteralEqualsPredicate(String text, Expression left, Literal literal, boolean ignoreCase, boolean negate) {
+            super(text);
+            this.left = left;
+            this.literal = literal;
+            this.ignoreCase = ignoreCase;
+            this.negate = negate;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            Object value = left.evaluate(exchange, Object.class);
+            boolean equal = value != null && isEqual(exchange, value);
+            return negate != equal;
+        }
+
+        private boolean isEqual(Exchange exchange, Object value) {
+            if (org.apache.camel.util.ObjectHelper.equal(value, literal.text, ignoreCase)) {
+                return true;
+            }
+            if (value.getClass().isInstance(literal.text)) {
+                // same type so they are not equal
+                return false;
+            }
+            TypeConverter converter = exchange.getContext().getTypeConverter();
+            Object converted = literal.convertTo(converter, value.getClass());
+            if (converted != null && org.apache.camel.util.ObjectHelper.equal(value, converted, ignoreCase)) {
+                return true;
+            }
+            return org.apache.camel.util.ObjectHelper.equal(converter.tryConvertTo(String.class, value), literal.text, ignoreCase);
+        }
+    }
+
+    /**
+     * Compares with a literal using the same type coercion as
+     * {@link ObjectHelper#typeCoerceCompare(TypeConverter, Object, Object)}
+     */
+    private abstract static class LiteralComparePredicate extends CompiledPredicate {
+
+        private final Expression left;
+        private final Literal literal;
+
+        LiteralComparePredicate(String text, Expression left, Literal literal) {
+            super(text);
+            this.left = left;
+            this.literal = literal;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            Object value = left.evaluate(exchange, Object.class);
+            if (value == null) {
+                return false;
+            }
+            return matches(compare(exchange.getContext().getTypeConverter(), value));
+        }
+
+        protected abstract boolean matches(int compare);
+
+        private int compare(TypeConverter converter, Object value) {
+            // if both values is numeric then compare using numeric
+            Long rightNum = (Long) literal.convertTo(converter, Long.class);
+            if (rightNum != null) {
+                Long leftNum = converter.tryConvertTo(Long.class, value);
+                if (leftNum != null) {
+                    return leftNum.compareTo(rightNum);
+                }
+            }
+            Double rightDouble = (Double) literal.convertTo(converter, Double.class);
+            if (rightDouble != null) {
+                Double leftDouble = converter.tryConvertTo(Double.class, value);
+                if (leftDouble != null) {
+                    return leftDouble.compareTo(rightDouble);
+                }
+            }
+            return ObjectHelper.typeCoerceCompare(converter, value, literal.text);
+        }
+    }
+
+}
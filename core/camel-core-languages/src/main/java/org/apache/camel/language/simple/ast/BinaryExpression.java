@@ -70,6 +70,14 @@ public class BinaryExpression extends BaseSimpleNode {
         return operator;
     }
 
+    public SimpleNode getLeft() {
+        return left;
+    }
+
+    public SimpleNode getRight() {
+        return right;
+    }
+
     @Override
     public Expression createExpression(String expression) {
         org.apache.camel.util.ObjectHelper.notNull(left, "left node", this);
@@ -94,6 +94,7 @@ import org.apache.camel.spi.Debugger;
 import org.apache.camel.spi.EndpointStrategy;
 import org.apache.camel.spi.EventFactory;
 import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinderResolver;
 import org.apache.camel.spi.HeadersMapFactory;
@@ -119,6 +120,7 @@ import org.apache.camel.spi.ShutdownStrategy;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.spi.TimeoutScheduler;
 import org.apache.camel.spi.Transformer;
 import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.spi.UnitOfWorkFactory;
@@ -624,6 +626,18 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
         if (spoolCipher != null) {
             getContext().getStreamCachingStrategy().setSpoolCipher(spoolCipher);
         }
+        Boolean spoolMemoryMapped = CamelContextHelper.parseBoolean(getContext(), streamCaching.getSpoolMemoryMapped());
+        if (spoolMemoryMapped != null) {
+            getContext().getStreamCachingStrategy().setSpoolMemoryMapped(spoolMemoryMapped);
+        }
+        Integer bufferPoolSize = CamelContextHelper.parseInteger(getContext(), streamCaching.getBufferPoolSize());
+        if (bufferPoolSize != null) {
+            getContext().getStreamCachingStrategy().setBufferPoolSize(bufferPoolSize);
+        }
+        Boolean bufferPoolLeakDetection = CamelContextHelper.parseBoolean(getContext(), streamCaching.getBufferPoolLeakDetection());
+        if (bufferPoolLeakDetection != null) {
+            getContext().getStreamCachingStrategy().setBufferPoolLeakDetection(bufferPoolLeakDetection);
+        }
         Boolean remove = CamelContextHelper.parseBoolean(getContext(), streamCaching.getRemoveSpoolDirectoryWhenStopping());
         if (remove != null) {
             getContext().getStreamCachingStrategy().setRemoveSpoolDirectoryWhenStopping(remove);
@@ -1062,6 +1076,7 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
         answer.setAllowCoreThreadTimeOut(CamelContextHelper.parseBoolean(context, definition.getAllowCoreThreadTimeOut()));
         answer.setRejectedPolicy(CamelContextHelper.parse(context, ThreadPoolRejectedPolicy.class, definition.getRejectedPolicy()));
         answer.setTimeUnit(CamelContextHelper.parse(context, TimeUnit.class, definition.getTimeUnit()));
+        answer.setVirtualThreads(CamelContextHelper.parseBoolean(context, definition.getVirtualThreads()));
         return answer;
     }
 
@@ -1238,5 +1253,14 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
             // already logged in CamelContext
             getContext().adapt(ExtendedCamelContext.class).setReactiveExecutor(reactiveExecutor);
         }
+        ExchangeFactory exchangeFactory = getBeanForType(ExchangeFactory.class);
+        if (exchangeFactory != null) {
+            // already logged in CamelContext
+            getContext().adapt(ExtendedCamelContext.class).setExchangeFactory(exchangeFactory);
+        }
+        TimeoutScheduler timeoutScheduler = getBeanForType(TimeoutScheduler.class);
+        if (timeoutScheduler != null) {
+            getContext().adapt(ExtendedCamelContext.class).setTimeoutScheduler(timeoutScheduler);
+        }
     }
 }
@@ -38,6 +38,8 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
     private String spoolDirectory;
     @XmlAttribute
     private String spoolCipher;
+    @XmlAttribute @Metadata(defaultValue = "false")
+    private String spoolMemoryMapped;
     @XmlAttribute
     private String spoolThreshold;
     @XmlAttribute
@@ -48,6 +50,10 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
     private String spoolRules;
     @XmlAttribute
     private String bufferSize;
+    @XmlAttribute @Metadata(defaultValue = "0")
+    private String bufferPoolSize;
+    @XmlAttribute @Metadata(defaultValue = "false")
+    private String bufferPoolLeakDetection;
     @XmlAttribute @Metadata(defaultValue = "true")
     private String removeSpoolDirectoryWhenStopping;
     @XmlAttribute
@@ -95,6 +101,19 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
         this.spoolCipher = spoolCipher;
     }
 
+    public String getSpoolMemoryMapped() {
+        return spoolMemoryMapped;
+    }
+
+    /**
+     * Sets whether to use memory mapped files when reading the data which has been spooled to disk, which allows
+     * re-reading the data without copying the data through the heap. This is not in use when a spool cipher is in use.
+     * By default this is disabled.
+     */
+    public void setSpoolMemoryMapped(String spoolMemoryMapped) {
+        this.spoolMemoryMapped = spoolMemoryMapped;
+    }
+
     public String getSpoolThreshold() {
         return spoolThreshold;
     }
@@ -157,6 +176,31 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
         this.bufferSize = bufferSize;
     }
 
+    public String getBufferPoolSize() {
+        return bufferPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of free buffers to keep in a pool of buffers shared by the in-memory stream caches,
+     * which are returned to the pool when the exchange is done. The in-memory stream caches must then not be used after
+     * the exchange is done. By default this is 0 which means the buffers are not pooled.
+     */
+    public void setBufferPoolSize(String bufferPoolSize) {
+        this.bufferPoolSize = bufferPoolSize;
+    }
+
+    public String getBufferPoolLeakDetection() {
+        return bufferPoolLeakDetection;
+    }
+
+    /**
+     * Sets whether to detect in-memory stream caches which are garbage collected without returning their buffers to the
+     * pool of buffers. By default this is disabled.
+     */
+    public void setBufferPoolLeakDetection(String bufferPoolLeakDetection) {
+        this.bufferPoolLeakDetection = bufferPoolLeakDetection;
+    }
+
     public String getRemoveSpoolDirectoryWhenStopping() {
         return removeSpoolDirectoryWhenStopping;
     }
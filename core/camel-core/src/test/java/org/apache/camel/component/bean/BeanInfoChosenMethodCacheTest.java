@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class BeanInfoChosenMethodCacheTest extends ContextTestSupport {
+
+    @Test
+    public void testChosenMethodPerBodyType() throws Exception {
+        // the chosen methods are cached so send each kind of body twice
+        for (int i = 0; i < 2; i++) {
+            assertEquals("String:Hello", template.requestBody("direct:start", "Hello"));
+            assertEquals("Integer:123", template.requestBody("direct:start", 123));
+            assertEquals("Boolean:true", template.requestBody("direct:start", Boolean.TRUE));
+        }
+    }
+
+    @Test
+    public void testChosenMethodWithConvertedBody() throws Exception {
+        // the body must be converted on each invocation as the chosen method is not cached
+        for (int i = 0; i < 2; i++) {
+            assertEquals("Integer:456", template.requestBody("direct:convert", "456"));
+        }
+    }
+
+    @Test
+    public void testChosenMethodWithMethodName() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            assertEquals("Bye Hello", template.requestBody("direct:name", "Hello"));
+            assertEquals("Bye 123", template.requestBody("direct:name", 123));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").bean(MyBean.class);
+
+                from("direct:convert").bean(MyIntegerBean.class);
+
+                from("direct:name").bean(MyNamedBean.class, "bye");
+            }
+        };
+    }
+
+    public static class MyBean {
+
+        public String hello(String body) {
+            return "String:" + body;
+        }
+
+        public String hello(Integer body) {
+            return "Integer:" + body;
+        }
+
+        public String hello(Boolean body) {
+            return "Boolean:" + body;
+        }
+    }
+
+    public static class MyNamedBean {
+
+        public String hello(String body) {
+            return "Hello " + body;
+        }
+
+        public String bye(String body) {
+            return "Bye " + body;
+        }
+
+        public String bye(Integer body) {
+            return "Bye " + body;
+        }
+    }
+
+    public static class MyIntegerBean {
+
+        public String hello(Integer body) {
+            return "Integer:" + body;
+        }
+
+        public String hello(MyOrder body) {
+            return "Order:" + body;
+        }
+    }
+
+    public static class MyOrder {
+    }
+
+}
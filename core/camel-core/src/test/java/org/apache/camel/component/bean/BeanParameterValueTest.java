@@ -83,6 +83,18 @@ public class BeanParameterValueTest extends ContextTestSupport {
         assertMockEndpointsSatisfied();
     }
 
+    @Test
+    public void testBeanParameterValueHeaderIntegerPerExchange() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("WorldWorld", "Camel", "BeerBeerBeer");
+
+        // the parameter value is compiled once but evaluated for each exchange
+        template.sendBodyAndHeader("direct:echo2", "World", "times", 2);
+        template.sendBodyAndHeader("direct:echo2", "Camel", "times", 1);
+        template.sendBodyAndHeader("direct:echo2", "Beer", "times", 3);
+
+        assertMockEndpointsSatisfied();
+    }
+
     @Test
     public void testBeanParameterValueMap() throws Exception {
         getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
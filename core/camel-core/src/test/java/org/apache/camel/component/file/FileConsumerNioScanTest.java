@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FileConsumerNioScanTest extends ContextTestSupport {
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/scan");
+        super.setUp();
+    }
+
+    protected String scanOption() {
+        return "nioScan=true";
+    }
+
+    @Test
+    public void testRecursiveDepth() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:depth");
+        mock.expectedBodiesReceivedInAnyOrder("a2", "b2", "a3", "b3");
+
+        template.sendBodyAndHeader("file:target/data/scan/depth", "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader("file:target/data/scan/depth", "b", Exchange.FILE_NAME, "b.txt");
+        template.sendBodyAndHeader("file:target/data/scan/depth/bar", "b2", Exchange.FILE_NAME, "b2.txt");
+        template.sendBodyAndHeader("file:target/data/scan/depth/foo", "a2", Exchange.FILE_NAME, "a2.txt");
+        template.sendBodyAndHeader("file:target/data/scan/depth/foo/bar", "a3", Exchange.FILE_NAME, "a3.txt");
+        template.sendBodyAndHeader("file:target/data/scan/depth/bar/foo", "b3", Exchange.FILE_NAME, "b3.txt");
+        template.sendBodyAndHeader("file:target/data/scan/depth/bar/foo/baz", "b4", Exchange.FILE_NAME, "b4.txt");
+
+        context.getRouteController().startRoute("depth");
+
+        assertMockEndpointsSatisfied();
+        mock.assertNoDuplicates(body());
+    }
+
+    @Test
+    public void testMaxMessagesPerPoll() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:max");
+        mock.expectedMessageCount(5);
+        mock.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(2);
+        mock.message(1).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(2);
+        mock.message(2).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(2);
+        mock.message(4).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(1);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBodyAndHeader("file:target/data/scan/max/sub", "Message " + i, Exchange.FILE_NAME, i + ".txt");
+        }
+
+        context.getRouteController().startRoute("max");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testPreSort() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:sort");
+        mock.expectedBodiesReceived("a", "b", "c", "d");
+        mock.expectedPropertyReceived(Exchange.BATCH_SIZE, 4);
+
+        template.sendBodyAndHeader("file:target/data/scan/sort", "c", Exchange.FILE_NAME, "c.txt");
+        template.sendBodyAndHeader("file:target/data/scan/sort", "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader("file:target/data/scan/sort", "d", Exchange.FILE_NAME, "d.txt");
+        template.sendBodyAndHeader("file:target/data/scan/sort", "b", Exchange.FILE_NAME, "b.txt");
+
+        context.getRouteController().startRoute("sort");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testDoneFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:done");
+        mock.expectedBodiesReceived("Hello World");
+        mock.expectedHeaderReceived(Exchange.FILE_LENGTH, 11L);
+
+        template.sendBodyAndHeader("file:target/data/scan/done", "Hello World", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader("file:target/data/scan/done", "Bye World", Exchange.FILE_NAME, "bye.txt");
+        template.sendBodyAndHeader("file:target/data/scan/done", "", Exchange.FILE_NAME, "hello.done");
+
+        context.getRouteController().startRoute("done");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        final String options = "&" + scanOption() + "&initialDelay=0&delay=10";
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("file:target/data/scan/depth?recursive=true&minDepth=2&maxDepth=3" + options).routeId("depth").noAutoStartup()
+                    .convertBodyTo(String.class).to("mock:depth");
+
+                from("file:target/data/scan/max?recursive=true&maxMessagesPerPoll=2&sortBy=file:name" + options).routeId("max").noAutoStartup()
+                    .to("mock:max");
+
+                from("file:target/data/scan/sort?preSort=true" + options).routeId("sort").noAutoStartup()
+                    .convertBodyTo(String.class).to("mock:sort");
+
+                from("file:target/data/scan/done?doneFileName=${file:name.noext}.done" + options).routeId("done").noAutoStartup()
+                    .convertBodyTo(String.class).to("mock:done");
+            }
+        };
+    }
+}
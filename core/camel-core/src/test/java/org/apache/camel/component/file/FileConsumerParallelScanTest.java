@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+import static org.awaitility.Awaitility.await;
+
+public class FileConsumerParallelScanTest extends FileConsumerNioScanTest {
+
+    @Override
+    protected String scanOption() {
+        return "parallelScan=true";
+    }
+
+    @Test
+    public void testScanPoolShutdownOnStop() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:depth");
+        mock.expectedBodiesReceived("a2");
+
+        template.sendBodyAndHeader("file:target/data/scan/depth/foo", "a2", Exchange.FILE_NAME, "a2.txt");
+
+        context.getRouteController().startRoute("depth");
+        assertMockEndpointsSatisfied();
+
+        // the threads listing the directories are from a thread pool of the executor service manager
+        assertTrue(Thread.getAllStackTraces().keySet().stream().anyMatch(t -> t.getName().endsWith("FileScan")));
+
+        context.getRouteController().stopRoute("depth");
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(
+            () -> assertFalse(Thread.getAllStackTraces().keySet().stream().anyMatch(t -> t.isAlive() && t.getName().endsWith("FileScan"))));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FileConsumerWatchTest extends ContextTestSupport {
+
+    // the files are written using a temp prefix so they appear at once when renamed
+    private static final String TEMP = "?tempPrefix=.";
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/watch");
+        super.setUp();
+    }
+
+    @Test
+    public void testWatch() throws Exception {
+        NotifyBuilder notify = new NotifyBuilder(context).fromRoute("watch").whenDone(2).create();
+
+        MockEndpoint mock = getMockEndpoint("mock:watch");
+        mock.expectedBodiesReceivedInAnyOrder("Hello World", "Bye World");
+
+        // the scheduler is not in use so the files are consumed from the events
+        template.sendBodyAndHeader("file:target/data/watch/inbox" + TEMP, "Hello World", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader("file:target/data/watch/inbox" + TEMP, "Bye World", Exchange.FILE_NAME, "bye.txt");
+
+        assertMockEndpointsSatisfied();
+        mock.assertNoDuplicates(body());
+
+        // the files should be moved as usual
+        assertTrue(notify.matches(5, TimeUnit.SECONDS));
+        assertFileExists("target/data/watch/inbox/.camel/hello.txt");
+    }
+
+    @Test
+    public void testExistingFiles() throws Exception {
+        context.getRouteController().stopRoute("watch");
+
+        MockEndpoint mock = getMockEndpoint("mock:watch");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBodyAndHeader("file:target/data/watch/inbox", "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        // the directory is scanned in full on startup
+        context.getRouteController().startRoute("watch");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testRecursive() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:recursive");
+        mock.expectedBodiesReceivedInAnyOrder("a", "b", "c");
+
+        template.sendBodyAndHeader("file:target/data/watch/recursive" + TEMP, "a", Exchange.FILE_NAME, "a.txt");
+        // new sub directories should be watched as well
+        template.sendBodyAndHeader("file:target/data/watch/recursive/foo" + TEMP, "b", Exchange.FILE_NAME, "b.txt");
+        template.sendBodyAndHeader("file:target/data/watch/recursive/foo/bar" + TEMP, "c", Exchange.FILE_NAME, "c.txt");
+        // but only up till the max depth
+        template.sendBodyAndHeader("file:target/data/watch/recursive/foo/bar/baz" + TEMP, "d", Exchange.FILE_NAME, "d.txt");
+
+        assertMockEndpointsSatisfied();
+        mock.assertNoDuplicates(body());
+    }
+
+    @Test
+    public void testReadLockChanged() throws Exception {
+        NotifyBuilder notify = new NotifyBuilder(context).wereSentTo("mock:changed").whenDone(1).create();
+
+        MockEndpoint mock = getMockEndpoint("mock:changed");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBodyAndHeader("file:target/data/watch/changed", "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        assertMockEndpointsSatisfied();
+        assertTrue(notify.matches(5, TimeUnit.SECONDS));
+        assertFileNotExists("target/data/watch/changed/hello.txt");
+    }
+
+    @Test
+    public void testDoneFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:done");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBodyAndHeader("file:target/data/watch/done" + TEMP, "Hello World", Exchange.FILE_NAME, "hello.txt");
+        Thread.sleep(100);
+        assertFileExists("target/data/watch/done/hello.txt");
+        assertEquals(0, mock.getReceivedCounter());
+
+        // the file should be consumed when the done file is written
+        template.sendBodyAndHeader("file:target/data/watch/done" + TEMP, "", Exchange.FILE_NAME, "hello.done");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testRescan() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:rescan");
+        mock.expectedBodiesReceived("Hello World");
+
+        // the file fails the first time, and is left in the directory, which is not changed again
+        template.sendBodyAndHeader("file:target/data/watch/rescan" + TEMP, "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        // so the file should be consumed again from the periodic scan
+        assertMockEndpointsSatisfied();
+        assertEquals(2, attempts.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        final String options = "&watch=true&watchRescanInterval=0&initialDelay=0&delay=60000";
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("file:target/data/watch/inbox?" + options.substring(1)).routeId("watch")
+                    .convertBodyTo(String.class).to("mock:watch");
+
+                from("file:target/data/watch/recursive?recursive=true&maxDepth=3" + options)
+                    .convertBodyTo(String.class).to("mock:recursive");
+
+                from("file:target/data/watch/changed?readLock=changed&readLockCheckInterval=100" + options)
+                    .convertBodyTo(String.class).to("mock:changed");
+
+                from("file:target/data/watch/done?doneFileName=${file:name.noext}.done" + options)
+                    .convertBodyTo(String.class).to("mock:done");
+
+                from("file:target/data/watch/rescan?watch=true&watchRescanInterval=500&initialDelay=0&delay=60000")
+                    .process(e -> {
+                        if (attempts.incrementAndGet() == 1) {
+                            throw new IllegalArgumentException("Forced");
+                        }
+                    })
+                    .convertBodyTo(String.class).to("mock:rescan");
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class FileProducerStreamCachingTest extends ContextTestSupport {
+
+    @Override
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/streamcache");
+        super.setUp();
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory("target/data/streamcache/spool");
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setSpoolMemoryMapped(true);
+        return context;
+    }
+
+    @Test
+    public void testSpooledStreamCache() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("Hello World ").append(i).append("\n");
+        }
+        String body = sb.toString();
+        template.sendBodyAndHeader("direct:start", new BufferedInputStream(new ByteArrayInputStream(body.getBytes())), Exchange.FILE_NAME, "hello.txt");
+
+        assertMockEndpointsSatisfied();
+
+        // the spooled stream cache is written to both files
+        assertEquals(body, context.getTypeConverter().convertTo(String.class, new File("target/data/streamcache/a/hello.txt")));
+        assertEquals(body, context.getTypeConverter().convertTo(String.class, new File("target/data/streamcache/b/hello.txt")));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .to("file:target/data/streamcache/a")
+                    .to("file:target/data/streamcache/b")
+                    .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LockFreeArrayBlockingQueueTest extends Assert {
+
+    @Test
+    public void testOfferPoll() throws Exception {
+        LockFreeArrayBlockingQueue<String> queue = new LockFreeArrayBlockingQueue<>(3);
+        assertNull(queue.poll());
+        assertTrue(queue.offer("A"));
+        assertTrue(queue.offer("B"));
+        assertTrue(queue.offer("C"));
+        assertFalse("Queue should be full", queue.offer("D"));
+        assertEquals(3, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals("A", queue.peek());
+
+        assertEquals("A", queue.poll());
+        assertTrue(queue.offer("D"));
+        assertEquals("B", queue.poll());
+        assertEquals("C", queue.poll());
+        assertEquals("D", queue.poll());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testRemoveAndDrain() throws Exception {
+        LockFreeArrayBlockingQueue<String> queue = new LockFreeArrayBlockingQueue<>(10);
+        for (String s : new String[]{"A", "B", "C", "D"}) {
+            queue.put(s);
+        }
+        assertTrue(queue.contains("B"));
+        assertTrue(queue.remove("B"));
+        assertFalse(queue.remove("B"));
+        assertEquals("[A, C, D]", new ArrayList<>(queue).toString());
+        // the removed element is not counted
+        assertEquals(3, queue.size());
+
+        List<String> list = new ArrayList<>();
+        assertEquals(2, queue.drainTo(list, 2));
+        assertEquals("[A, C]", list.toString());
+
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertEquals(10, queue.remainingCapacity());
+    }
+
+    @Test
+    public void testConcurrentPollAndRemove() throws Exception {
+        final int count = 1000;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (int round = 0; round < 50; round++) {
+                LockFreeArrayBlockingQueue<Integer> queue = new LockFreeArrayBlockingQueue<>(count);
+                List<Integer> elements = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    elements.add(i);
+                    queue.put(i);
+                }
+
+                // remove every element while the queue is being polled concurrently
+                Future<List<Integer>> removed = executor.submit(() -> {
+                    List<Integer> answer = new ArrayList<>();
+                    for (Integer e : elements) {
+                        if (queue.remove(e)) {
+                            answer.add(e);
+                        }
+                    }
+                    return answer;
+                });
+                List<Integer> polled = new ArrayList<>();
+                Integer e;
+                while ((e = queue.poll()) != null || !removed.isDone()) {
+                    if (e != null) {
+                        polled.add(e);
+                    }
+                }
+
+                // each element must be either polled or removed, but not both
+                Set<Integer> all = new HashSet<>(polled);
+                for (Integer r : removed.get()) {
+                    assertTrue("Element " + r + " was both polled and removed", all.add(r));
+                }
+                assertEquals(count, polled.size() + removed.get().size());
+                assertEquals(count, all.size());
+                assertEquals(0, queue.size());
+                assertTrue(queue.isEmpty());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBlocking() throws Exception {
+        LockFreeArrayBlockingQueue<String> queue = new LockFreeArrayBlockingQueue<>(1);
+        assertNull(queue.poll(50, TimeUnit.MILLISECONDS));
+
+        queue.put("A");
+        assertFalse(queue.offer("B", 50, TimeUnit.MILLISECONDS));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // the producer is blocked until the consumer takes from the queue
+            executor.submit(() -> {
+                queue.put("B");
+                return null;
+            });
+            assertEquals("A", queue.take());
+            assertEquals("B", queue.poll(5, TimeUnit.SECONDS));
+
+            // the consumer is woken up when the producer adds to the queue
+            executor.submit(() -> {
+                Thread.sleep(50);
+                queue.put("C");
+                return null;
+            });
+            assertEquals("C", queue.poll(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        final int producers = 4;
+        final int count = 20000;
+        LockFreeArrayBlockingQueue<int[]> queue = new LockFreeArrayBlockingQueue<>(100);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch latch = new CountDownLatch(producers);
+        try {
+            for (int p = 0; p < producers; p++) {
+                final int producer = p;
+                executor.submit(() -> {
+                    for (int i = 0; i < count; i++) {
+                        queue.put(new int[]{producer, i});
+                    }
+                    latch.countDown();
+                    return null;
+                });
+            }
+
+            // the messages from each producer must be taken in order
+            int[] next = new int[producers];
+            for (int i = 0; i < producers * count; i++) {
+                int[] message = queue.poll(5, TimeUnit.SECONDS);
+                assertNotNull("Should take message " + i, message);
+                assertEquals(next[message[0]]++, message[1]);
+            }
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertNull(queue.poll());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.junit.Test;
+
+public class SedaBatchConsumerTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRegistry().bind("lockFreeQueueFactory", new LockFreeArrayBlockingQueueFactory<Exchange>());
+        return context;
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        // send the messages before the consumer is started so they are taken as one batch
+        context.getRouteController().stopRoute("batch");
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("seda:batch", "Message " + i);
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:batch");
+        mock.expectedBodiesReceived("Message 0", "Message 1", "Message 2", "Message 3", "Message 4");
+        mock.message(0).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(0);
+        mock.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(3);
+        mock.message(0).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(false);
+        mock.message(2).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(2);
+        mock.message(2).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(true);
+        mock.message(3).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(0);
+        mock.message(3).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(2);
+        mock.message(4).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(true);
+
+        context.getRouteController().startRoute("batch");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBatchTimeoutAggregate() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregated");
+        mock.expectedMessageCount(1);
+
+        // the consumer waits for the batch to fill up so the messages are aggregated as one batch
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:aggregate", i);
+        }
+
+        assertMockEndpointsSatisfied();
+        List<Integer> body = mock.getReceivedExchanges().get(0).getIn().getBody(List.class);
+        assertEquals(10, body.size());
+    }
+
+    @Test
+    public void testBatchInOut() throws Exception {
+        Object out = template.requestBody("seda:inout", "World");
+        assertEquals("Hello World", out);
+    }
+
+    @Test
+    public void testStopWhileWaitingForBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:linger");
+        mock.expectedBodiesReceived("A", "B", "C");
+
+        template.sendBody("seda:linger", "A");
+        template.sendBody("seda:linger", "B");
+        template.sendBody("seda:linger", "C");
+
+        // the consumer has taken the exchanges from the queue and waits for the batch to fill up
+        SedaEndpoint endpoint = context.getEndpoint("seda:linger", SedaEndpoint.class);
+        while (endpoint.getQueue().size() > 0) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, mock.getReceivedCounter());
+
+        // the exchanges in the batch should be routed when stopping instead of waiting for the batch timeout
+        long start = System.currentTimeMillis();
+        context.getRouteController().stopRoute("linger");
+        long delta = System.currentTimeMillis() - start;
+
+        assertMockEndpointsSatisfied();
+        assertTrue("Should not wait for the batch timeout, was " + delta + " millis", delta < 20000);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:batch?batchSize=3").routeId("batch").to("mock:batch");
+
+                from("seda:aggregate?batchSize=10&batchTimeout=5000&queueFactory=#lockFreeQueueFactory")
+                    .aggregate(constant(true), new GroupedBodyAggregationStrategy()).completionFromBatchConsumer()
+                    .to("mock:aggregated");
+
+                from("seda:linger?batchSize=10&batchTimeout=60000").routeId("linger").to("mock:linger");
+
+                from("seda:inout?batchSize=10&queueFactory=#lockFreeQueueFactory").transform(body().prepend("Hello "));
+            }
+        };
+    }
+}
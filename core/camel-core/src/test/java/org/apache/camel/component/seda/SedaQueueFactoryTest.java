@@ -30,11 +30,13 @@ import org.junit.Test;
  */
 public class SedaQueueFactoryTest extends ContextTestSupport {
     private final ArrayBlockingQueueFactory<Exchange> arrayQueueFactory = new ArrayBlockingQueueFactory<>();
+    private final LockFreeArrayBlockingQueueFactory<Exchange> lockFreeQueueFactory = new LockFreeArrayBlockingQueueFactory<>();
 
     @Override
     protected CamelContext createCamelContext() throws Exception {
         CamelContext context = super.createCamelContext();
         context.getRegistry().bind("arrayQueueFactory", arrayQueueFactory);
+        context.getRegistry().bind("lockFreeQueueFactory", lockFreeQueueFactory);
         return context;
     }
 
@@ -57,6 +59,15 @@ public class SedaQueueFactoryTest extends ContextTestSupport {
         assertEquals("remainingCapacity - custom", 100, blockingQueue.remainingCapacity());
     }
 
+    @Test
+    public void testLockFreeArrayBlockingQueueFactory() throws Exception {
+        SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:lockFreeQueue?queueFactory=#lockFreeQueueFactory&size=100", SedaEndpoint.class);
+
+        BlockingQueue<Exchange> queue = endpoint.getQueue();
+        LockFreeArrayBlockingQueue<Exchange> blockingQueue = assertIsInstanceOf(LockFreeArrayBlockingQueue.class, queue);
+        assertEquals("remainingCapacity - custom", 100, blockingQueue.remainingCapacity());
+    }
+
     @Test
     public void testDefaultBlockingQueueFactory() throws Exception {
         SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:linkedQueue", SedaEndpoint.class);
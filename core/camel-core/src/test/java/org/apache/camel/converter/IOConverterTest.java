@@ -33,9 +33,12 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Properties;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.BufferPool;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.junit.Test;
@@ -59,6 +62,26 @@ public class IOConverterTest extends ContextTestSupport {
         assertTrue("Should contain Hello World!", s.contains("Hello World"));
     }
 
+    @Test
+    public void testToBytesPooled() throws Exception {
+        CamelContext pooled = new DefaultCamelContext();
+        pooled.setStreamCaching(true);
+        pooled.getStreamCachingStrategy().setBufferSize(4);
+        pooled.getStreamCachingStrategy().setBufferPoolSize(10);
+        pooled.start();
+        try {
+            Exchange exchange = new DefaultExchange(pooled);
+            byte[] data = pooled.getTypeConverter().convertTo(byte[].class, exchange, new ByteArrayInputStream(TESTDATA));
+            assertArrayEquals(TESTDATA, data);
+
+            BufferPool pool = pooled.getStreamCachingStrategy().getBufferPool();
+            assertEquals("The buffers should be returned to the pool", 0, pool.getInUse());
+            assertTrue(pool.getAcquiredCounter() > 0);
+        } finally {
+            pooled.stop();
+        }
+    }
+
     @Test
     public void testCopy() throws Exception {
         ByteArrayInputStream bis = new ByteArrayInputStream(TESTDATA);
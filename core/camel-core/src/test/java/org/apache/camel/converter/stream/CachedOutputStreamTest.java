@@ -22,6 +22,9 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.ContextTestSupport;
@@ -32,6 +35,7 @@ import org.apache.camel.converter.IOConverter;
 import org.apache.camel.impl.engine.DefaultUnitOfWork;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.BufferPool;
 import org.apache.camel.util.CollectionStringBuffer;
 import org.apache.camel.util.IOHelper;
 import org.junit.Before;
@@ -183,6 +187,67 @@ public class CachedOutputStreamTest extends ContextTestSupport {
         IOHelper.close(cos);
     }
 
+    @Test
+    public void testCacheStreamToFileMemoryMapped() throws Exception {
+        context.getStreamCachingStrategy().setSpoolMemoryMapped(true);
+
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes("UTF-8"));
+
+        File file = new File("target/cachedir");
+        String[] files = file.list();
+        assertEquals("we should have a temp file", 1, files.length);
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue("Should get the FileInputStreamCache", cache instanceof FileInputStreamCache);
+        assertEquals(TEST_STRING.length(), cache.length());
+        assertEquals("Cached a wrong file", TEST_STRING, toString((InputStream)cache));
+
+        // read again after reset and from a copy which shares the memory mapped file
+        cache.reset();
+        assertEquals("Cached a wrong file", TEST_STRING, toString((InputStream)cache));
+        StreamCache copy = cache.copy(exchange);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        copy.writeTo(bos);
+        assertEquals("Cached a wrong file", TEST_STRING, bos.toString("UTF-8"));
+
+        // writing again should write the full data again
+        bos = new ByteArrayOutputStream();
+        copy.writeTo(bos);
+        assertEquals("Cached a wrong file", TEST_STRING, bos.toString("UTF-8"));
+
+        ((InputStream)cache).close();
+        ((InputStream)copy).close();
+        exchange.getUnitOfWork().done(exchange);
+
+        files = file.list();
+        assertEquals("we should have no temp file", 0, files.length);
+
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamTransferTo() throws Exception {
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes("UTF-8"));
+
+        FileInputStreamCache cache = (FileInputStreamCache) cos.newStreamCache();
+        File target = new File("target/data/cachedir/transfer.txt");
+        target.getParentFile().mkdirs();
+        try (FileChannel channel = FileChannel.open(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            assertEquals(TEST_STRING.length(), cache.transferTo(channel));
+        }
+        assertEquals(TEST_STRING, new String(Files.readAllBytes(target.toPath()), "UTF-8"));
+
+        cache.close();
+        exchange.getUnitOfWork().done(exchange);
+        IOHelper.close(cos);
+    }
+
     @Test
     public void testCacheStreamToFileCloseStreamBeforeDone() throws Exception {
         context.start();
@@ -234,6 +299,68 @@ public class CachedOutputStreamTest extends ContextTestSupport {
         IOHelper.close(cos);
     }
 
+    @Test
+    public void testCacheStreamToMemoryPooled() throws Exception {
+        context.getStreamCachingStrategy().setSpoolThreshold(1024);
+        context.getStreamCachingStrategy().setBufferSize(16);
+        context.getStreamCachingStrategy().setBufferPoolSize(10);
+
+        context.start();
+
+        BufferPool pool = context.getStreamCachingStrategy().getBufferPool();
+        assertNotNull(pool);
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes("UTF-8"));
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue("Should get the PooledInputStreamCache", cache instanceof PooledInputStreamCache);
+        assertEquals(TEST_STRING.length(), cache.length());
+        assertTrue(pool.getInUse() > 0);
+
+        // the copy keeps the buffers in use until its exchange is done as well
+        Exchange other = new DefaultExchange(context);
+        other.adapt(ExtendedExchange.class).setUnitOfWork(new DefaultUnitOfWork(other));
+        StreamCache copy = cache.copy(other);
+
+        assertEquals("Cached a wrong file", TEST_STRING, IOConverter.toString((InputStream)cache, null));
+        cache.reset();
+        assertEquals("Cached a wrong file", TEST_STRING, IOConverter.toString((InputStream)cache, null));
+
+        exchange.getUnitOfWork().done(exchange);
+        assertTrue(pool.getInUse() > 0);
+        assertEquals("Cached a wrong file", TEST_STRING, IOConverter.toString((InputStream)copy, null));
+
+        other.getUnitOfWork().done(other);
+        assertEquals("The buffers should be returned to the pool", 0, pool.getInUse());
+        assertTrue(pool.getPooled() > 0);
+
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamToFilePooled() throws Exception {
+        context.getStreamCachingStrategy().setBufferSize(8);
+        context.getStreamCachingStrategy().setBufferPoolSize(10);
+
+        context.start();
+
+        BufferPool pool = context.getStreamCachingStrategy().getBufferPool();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes("UTF-8"));
+
+        // the data has been spooled to disk so the buffers are returned to the pool
+        assertEquals(0, pool.getInUse());
+        StreamCache cache = cos.newStreamCache();
+        assertTrue("Should get the FileInputStreamCache", cache instanceof FileInputStreamCache);
+        assertEquals("Cached a wrong file", TEST_STRING, IOConverter.toString((InputStream)cache, null));
+
+        ((InputStream)cache).close();
+        exchange.getUnitOfWork().done(exchange);
+        IOHelper.close(cos);
+    }
+
     @Test
     public void testCacheStreamToMemoryAsDiskIsDisabled() throws Exception {
         // -1 disables disk based cache
@@ -16,11 +16,23 @@
  */
 package org.apache.camel.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProducer;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Consumer;
@@ -32,9 +44,10 @@ import org.apache.camel.Producer;
 import org.apache.camel.impl.engine.DefaultProducerCache;
 import org.apache.camel.impl.engine.ProducerServicePool;
 import org.apache.camel.spi.EndpointUtilizationStatistics;
+import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.DefaultComponent;
 import org.apache.camel.support.DefaultEndpoint;
-import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.function.ThrowingFunction;
 import org.junit.Test;
 
@@ -201,8 +214,107 @@ public class DefaultProducerCacheTest extends ContextTestSupport {
 
         cache.stop();
 
-        // should have stopped all 3 when the cache is stopped
-        await().atMost(3, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(3, stopCounter.get()));
+        // p1 is still in use so its not stopped
+        assertEquals(2, stopCounter.get());
+
+        // but stopped when its released
+        cache.releaseProducer(e, p1);
+        assertEquals(3, stopCounter.get());
+    }
+
+    @Test
+    public void testCacheStopWhileInUse() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 5);
+        cache.start();
+
+        Endpoint e = newEndpoint(false, 1);
+        e.setCamelContext(context);
+
+        AsyncProducer p1 = cache.acquireProducer(e);
+        AsyncProducer p2 = cache.acquireProducer(e);
+        cache.releaseProducer(e, p2);
+
+        cache.stop();
+
+        // only the idle producer is stopped
+        assertEquals(1, stopCounter.get());
+        assertTrue(ServiceHelper.isStarted(p1));
+
+        cache.releaseProducer(e, p1);
+        assertEquals(2, stopCounter.get());
+        assertTrue(ServiceHelper.isStopped(p1));
+    }
+
+    @Test
+    public void testCacheConcurrentAcquireReleaseEvict() throws Exception {
+        MyProducerCache cache = new MyProducerCache(this, context, 4);
+        cache.start();
+
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Endpoint e = newEndpoint(false, i);
+            e.setCamelContext(context);
+            endpoints.add(e);
+        }
+
+        AtomicInteger stoppedInUse = new AtomicInteger();
+        AtomicInteger sharedInUse = new AtomicInteger();
+        Set<AsyncProducer> inUse = ConcurrentHashMap.newKeySet();
+        Queue<AsyncProducer> acquired = new ConcurrentLinkedQueue<>();
+        AtomicBoolean done = new AtomicBoolean();
+
+        ExecutorService executor = Executors.newFixedThreadPool(9);
+        try {
+            // keep evicting producers which may be in use
+            Future<?> evictor = executor.submit(() -> {
+                while (!done.get()) {
+                    AsyncProducer p = acquired.poll();
+                    if (p != null) {
+                        cache.forceEvict(p);
+                    }
+                    cache.cleanUp();
+                }
+            });
+
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                workers.add(executor.submit(() -> {
+                    Random random = new Random();
+                    for (int i = 0; i < 2000; i++) {
+                        Endpoint e = endpoints.get(random.nextInt(endpoints.size()));
+                        AsyncProducer p = cache.acquireProducer(e);
+                        if (!inUse.add(p)) {
+                            sharedInUse.incrementAndGet();
+                        }
+                        acquired.add(p);
+                        Thread.yield();
+                        if (!ServiceHelper.isStarted(p)) {
+                            stoppedInUse.incrementAndGet();
+                        }
+                        inUse.remove(p);
+                        cache.releaseProducer(e, p);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+            done.set(true);
+            evictor.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // a non singleton producer must only be used by one thread, and never be stopped while in use
+        assertEquals(0, sharedInUse.get());
+        assertEquals(0, stoppedInUse.get());
+
+        cache.stop();
+
+        // all the created producers are stopped
+        assertEquals(0, cache.size());
+        assertEquals(producerCounter.get(), stopCounter.get());
     }
 
     private class MyProducerCache extends DefaultProducerCache {
@@ -286,7 +398,7 @@ public class DefaultProducerCacheTest extends ContextTestSupport {
         }
     }
 
-    private final class MyProducer extends DefaultProducer {
+    private final class MyProducer extends DefaultAsyncProducer {
 
         private int id;
 
@@ -296,8 +408,10 @@ public class DefaultProducerCacheTest extends ContextTestSupport {
         }
 
         @Override
-        public void process(Exchange exchange) throws Exception {
+        public boolean process(Exchange exchange, AsyncCallback callback) {
             // noop
+            callback.done(true);
+            return true;
         }
 
         @Override
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class LazyStartRoutesTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).setLazyStartRoutes(true);
+        return context;
+    }
+
+    @Test
+    public void testLazyStartDirectRoute() throws Exception {
+        ExtendedCamelContext ecc = context.adapt(ExtendedCamelContext.class);
+        assertEquals("[bar, foo, start]", ecc.getDormantRouteIds().toString());
+        assertNull(context.getRoute("start"));
+        assertNull(context.getRoute("foo"));
+        assertNull(context.getRoute("bar"));
+
+        getMockEndpoint("mock:foo").expectedBodiesReceived("Hello World", "Bye World");
+        getMockEndpoint("mock:bar").expectedMessageCount(0);
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Bye World");
+
+        assertMockEndpointsSatisfied();
+
+        // only the routes in use has been started
+        assertTrue(context.getRouteController().getRouteStatus("start").isStarted());
+        assertTrue(context.getRouteController().getRouteStatus("foo").isStarted());
+        assertNull(context.getRoute("bar"));
+        assertEquals("[bar]", ecc.getDormantRouteIds().toString());
+    }
+
+    @Test
+    public void testLazyStartSedaRoute() throws Exception {
+        getMockEndpoint("mock:bar").expectedBodiesReceived("Hello World");
+
+        template.sendBody("seda:bar", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(context.getRouteController().getRouteStatus("bar").isStarted());
+        assertEquals("[foo, start]", context.adapt(ExtendedCamelContext.class).getDormantRouteIds().toString());
+    }
+
+    @Test
+    public void testNoAutoStartupRouteNotDormant() throws Exception {
+        assertNotNull(context.getRoute("noAutoStartup"));
+        assertTrue(context.getRouteController().getRouteStatus("noAutoStartup").isStopped());
+        assertFalse(context.adapt(ExtendedCamelContext.class).getDormantRouteIds().contains("noAutoStartup"));
+    }
+
+    @Test
+    public void testLazyStartDirectRouteConcurrently() throws Exception {
+        getMockEndpoint("mock:foo").expectedMessageCount(10);
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            for (int i = 0; i < 10; i++) {
+                executor.submit(() -> template.sendBody("direct:start", "Hello World"));
+            }
+            assertMockEndpointsSatisfied();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, context.getRoutes().stream().filter(r -> "foo".equals(r.getId())).count());
+        assertEquals("[bar]", context.adapt(ExtendedCamelContext.class).getDormantRouteIds().toString());
+    }
+
+    @Test
+    public void testDormantRouteStatus() throws Exception {
+        assertEquals(ServiceStatus.Stopped, context.getRouteController().getRouteStatus("foo"));
+        assertNull(context.getRouteController().getRouteStatus("unknown"));
+
+        template.sendBody("direct:foo", "Hello World");
+
+        assertEquals(ServiceStatus.Started, context.getRouteController().getRouteStatus("foo"));
+    }
+
+    @Test
+    public void testStartDormantRoute() throws Exception {
+        context.getRouteController().startRoute("bar");
+
+        assertNotNull(context.getRoute("bar"));
+        assertTrue(context.getRouteController().getRouteStatus("bar").isStarted());
+        assertEquals("[foo, start]", context.adapt(ExtendedCamelContext.class).getDormantRouteIds().toString());
+
+        getMockEndpoint("mock:bar").expectedBodiesReceived("Hello World");
+        template.sendBody("seda:bar", "Hello World");
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testRemoveDormantRoute() throws Exception {
+        assertTrue(context.removeRoute("foo"));
+        assertEquals("[bar, start]", context.adapt(ExtendedCamelContext.class).getDormantRouteIds().toString());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("start").to("direct:foo");
+
+                from("direct:foo").routeId("foo").to("mock:foo");
+
+                from("seda:bar").routeId("bar").to("mock:bar");
+
+                from("direct:noAutoStartup").routeId("noAutoStartup").noAutoStartup().to("mock:noAutoStartup");
+            }
+        };
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.CamelEvent.RouteStartedEvent;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.EventNotifierSupport;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.junit.Test;
+
+public class ParallelRouteStartupTest extends ContextTestSupport {
+
+    // routes a and b must be started at the same time to count down the latch
+    private final CountDownLatch latch = new CountDownLatch(2);
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private final Map<String, Long> startupTimes = new ConcurrentHashMap<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).setRouteStartupParallelism(4);
+        context.getManagementStrategy().addEventNotifier(new EventNotifierSupport() {
+            @Override
+            public void notify(CamelEvent event) throws Exception {
+                RouteStartedEvent rse = (RouteStartedEvent) event;
+                startupTimes.put(rse.getRoute().getId(), rse.getStartupTime());
+            }
+
+            @Override
+            public boolean isEnabled(CamelEvent event) {
+                return event instanceof RouteStartedEvent;
+            }
+        });
+        return context;
+    }
+
+    @Test
+    public void testParallelRouteStartup() throws Exception {
+        assertEquals(4, context.adapt(ExtendedCamelContext.class).getRouteStartupParallelism());
+
+        for (String id : new String[] {"first", "second", "a", "b", "c", "d", "e"}) {
+            assertTrue("Route " + id + " should be started", context.getRouteController().getRouteStatus(id).isStarted());
+        }
+        assertTrue(context.getRouteController().getRouteStatus("noAutoStartup").isStopped());
+
+        getMockEndpoint("mock:first").expectedMessageCount(1);
+        getMockEndpoint("mock:c").expectedBodiesReceived("Hello C");
+        getMockEndpoint("mock:d").expectedBodiesReceived("Hello C", "Hello D");
+
+        template.sendBody("direct:first", "Hello First");
+        template.sendBody("direct:c", "Hello C");
+        template.sendBody("direct:d", "Hello D");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testParallelRouteStartupConcurrently() throws Exception {
+        // a and b are started concurrently as otherwise they would not both have counted down the latch
+        assertTrue(events.contains("a:concurrent"));
+        assertTrue(events.contains("b:concurrent"));
+    }
+
+    @Test
+    public void testParallelRouteStartupSequentially() throws Exception {
+        // the routes with an explicit startup order are started before the other routes
+        assertEquals("first:start", events.get(0));
+        assertEquals("first:done", events.get(1));
+        assertEquals("second:start", events.get(2));
+        assertEquals("second:done", events.get(3));
+
+        // c and d share the mock:d endpoint so d is started after c
+        int cDone = events.indexOf("c:done");
+        int dStart = events.indexOf("d:start");
+        assertTrue(cDone > 0);
+        assertTrue("Route d should be started after c: " + events, dStart > cDone);
+    }
+
+    @Test
+    public void testParallelRouteStartupOrder() throws Exception {
+        List<RouteStartupOrder> orders = context.adapt(ExtendedCamelContext.class).getRouteStartupOrder();
+        assertEquals(7, orders.size());
+
+        // routes are reported in their startup order even if they are started in parallel
+        assertEquals("first", orders.get(0).getRoute().getId());
+        assertEquals("second", orders.get(1).getRoute().getId());
+        for (int i = 1; i < orders.size(); i++) {
+            assertTrue(orders.get(i - 1).getStartupOrder() < orders.get(i).getStartupOrder());
+        }
+        for (RouteStartupOrder order : orders) {
+            assertTrue(order.getStartupTime() >= 0);
+            assertEquals(order.getStartupTime(), startupTimes.get(order.getRoute().getId()).longValue());
+        }
+        // route c is slow to start
+        assertTrue(startupTimes.get("c") >= 100);
+    }
+
+    @Test
+    public void testParallelRouteStartupFailure() throws Exception {
+        CamelContext camel = new DefaultCamelContext(false);
+        camel.adapt(ExtendedCamelContext.class).setRouteStartupParallelism(4);
+        camel.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:a").routeId("a").to("mock:a");
+                from("direct:b").routeId("b").process(new FailToStartProcessor());
+                from("direct:c").routeId("c").to("mock:c");
+            }
+        });
+
+        try {
+            camel.start();
+            fail("Should have thrown exception");
+        } catch (Exception e) {
+            IllegalArgumentException cause = ObjectHelper.getException(IllegalArgumentException.class, e);
+            assertNotNull(cause);
+            assertEquals("Forced", cause.getMessage());
+        } finally {
+            camel.stop();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:first").routeId("first").startupOrder(1).process(new RecordStartProcessor("first", 50)).to("mock:first");
+                from("direct:second").routeId("second").startupOrder(2).process(new RecordStartProcessor("second", 50)).to("mock:second");
+
+                from("direct:a").routeId("a").process(new AwaitStartProcessor("a")).to("mock:a");
+                from("direct:b").routeId("b").process(new AwaitStartProcessor("b")).to("mock:b");
+
+                // these routes share the mock:d endpoint and are started one after another
+                from("direct:c").routeId("c").process(new RecordStartProcessor("c", 100)).to("mock:c").to("mock:d");
+                from("direct:d").routeId("d").process(new RecordStartProcessor("d", 0)).to("mock:d");
+
+                from("seda:e").routeId("e").to("mock:e");
+
+                from("direct:noAutoStartup").routeId("noAutoStartup").noAutoStartup().to("mock:noAutoStartup");
+            }
+        };
+    }
+
+    private class RecordStartProcessor extends ServiceSupport implements Processor {
+
+        private final String id;
+        private final long delay;
+
+        RecordStartProcessor(String id, long delay) {
+            this.id = id;
+            this.delay = delay;
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            // noop
+        }
+
+        @Override
+        protected void doStart() throws Exception {
+            events.add(id + ":start");
+            Thread.sleep(delay);
+            events.add(id + ":done");
+        }
+
+        @Override
+        protected void doStop() throws Exception {
+            // noop
+        }
+    }
+
+    private class AwaitStartProcessor extends ServiceSupport implements Processor {
+
+        private final String id;
+
+        AwaitStartProcessor(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            // noop
+        }
+
+        @Override
+        protected void doStart() throws Exception {
+            latch.countDown();
+            if (latch.await(5, TimeUnit.SECONDS)) {
+                events.add(id + ":concurrent");
+            }
+        }
+
+        @Override
+        protected void doStop() throws Exception {
+            // noop
+        }
+    }
+
+    private static class FailToStartProcessor extends ServiceSupport implements Processor {
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            // noop
+        }
+
+        @Override
+        protected void doStart() throws Exception {
+            throw new IllegalArgumentException("Forced");
+        }
+
+        @Override
+        protected void doStop() throws Exception {
+            // noop
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.PooledExchangeFactory;
+import org.junit.Test;
+
+import static org.awaitility.Awaitility.await;
+
+public class PooledExchangeFactoryTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        PooledExchangeFactory pef = new PooledExchangeFactory();
+        pef.setCapacity(10);
+        context.adapt(ExtendedCamelContext.class).setExchangeFactory(pef);
+        return context;
+    }
+
+    @Test
+    public void testPooledTimer() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timer");
+        mock.expectedMinimumMessageCount(5);
+        mock.expectedPropertyReceived(Exchange.TIMER_NAME, "foo");
+
+        assertMockEndpointsSatisfied();
+
+        context.getRouteController().stopRoute("timer");
+
+        DefaultConsumer consumer = (DefaultConsumer) context.getRoute("timer").getConsumer();
+        PooledExchangeFactory pef = assertIsInstanceOf(PooledExchangeFactory.class, consumer.getExchangeFactory());
+        assertEquals(10, pef.getCapacity());
+        // the timer only uses one exchange at a time so it is reused
+        assertEquals(1, pef.getCreatedCounter());
+        assertTrue(pef.getAcquiredCounter() >= 4);
+    }
+
+    @Test
+    public void testPooledSeda() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:seda");
+        mock.expectedBodiesReceived("A", "B", "C");
+        mock.expectedHeaderReceived("foo", "123");
+
+        template.sendBodyAndHeader("seda:start", "A", "foo", "123");
+        template.sendBodyAndHeader("seda:start", "B", "foo", "123");
+        template.sendBodyAndHeader("seda:start", "C", "foo", "123");
+
+        assertMockEndpointsSatisfied();
+
+        // the mock endpoint keeps copies of the received exchanges
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            assertEquals("seda://start", exchange.getFromEndpoint().getEndpointUri());
+            assertFalse(exchange.getProperties().containsKey("bar"));
+        }
+
+        DefaultConsumer consumer = (DefaultConsumer) context.getRoute("seda").getConsumer();
+        PooledExchangeFactory pef = assertIsInstanceOf(PooledExchangeFactory.class, consumer.getExchangeFactory());
+        assertEquals(3, pef.getCreatedCounter() + pef.getAcquiredCounter());
+        // the exchanges are released when the seda consumer is done after the routing
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(3, pef.getReleasedCounter()));
+    }
+
+    @Test
+    public void testPrototypeOnProducerTemplate() throws Exception {
+        // exchanges created by producers are not pooled
+        Exchange out = template.request("direct:start", e -> e.getIn().setBody("Hello"));
+        assertEquals("Bye Hello", out.getMessage().getBody());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("timer:foo?period=10").routeId("timer").to("mock:timer");
+
+                from("seda:start").routeId("seda")
+                    .to("mock:seda")
+                    .setProperty("bar", constant("456"));
+
+                from("direct:start").transform(body().prepend("Bye "));
+            }
+        };
+    }
+}
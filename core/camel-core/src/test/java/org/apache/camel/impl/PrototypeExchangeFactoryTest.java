@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.PrototypeExchangeFactory;
+import org.apache.camel.support.service.ServiceSupport;
+import org.junit.Test;
+
+public class PrototypeExchangeFactoryTest extends ContextTestSupport {
+
+    @Test
+    public void testStopRouteDoesNotStopSharedFactory() throws Exception {
+        ExchangeFactory factory = context.adapt(ExtendedCamelContext.class).getExchangeFactory();
+        assertIsInstanceOf(PrototypeExchangeFactory.class, factory);
+
+        // the consumers share the factory from the context
+        DefaultConsumer consumer = (DefaultConsumer) context.getRoute("foo").getConsumer();
+        assertSame(factory, consumer.getExchangeFactory());
+
+        context.getRouteController().stopRoute("foo");
+        context.removeRoute("foo");
+
+        // the shared factory is managed by the context and still in use by the other consumers
+        assertTrue(((ServiceSupport) factory).isStarted());
+
+        getMockEndpoint("mock:bar").expectedBodiesReceived("Hello World");
+        template.sendBody("seda:bar", "Hello World");
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo").routeId("foo").to("mock:foo");
+
+                from("seda:bar").routeId("bar").to("mock:bar");
+            }
+        };
+    }
+}
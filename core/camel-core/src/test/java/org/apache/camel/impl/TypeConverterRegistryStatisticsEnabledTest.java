@@ -16,6 +16,8 @@
  */
 package org.apache.camel.impl;
 
+import java.util.Map;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.builder.RouteBuilder;
@@ -61,6 +63,10 @@ public class TypeConverterRegistryStatisticsEnabledTest extends ContextTestSuppo
         miss = reg.getStatistics().getMissCounter();
         assertEquals(0, miss.intValue());
 
+        // the most used conversion
+        Map<String, Long> top = reg.getStatistics().getTopConversions(5);
+        assertTrue(top.get("java.lang.String -> int") >= 3);
+
         // reset
         reg.getStatistics().reset();
 
@@ -68,6 +74,7 @@ public class TypeConverterRegistryStatisticsEnabledTest extends ContextTestSuppo
         assertEquals(0, failed.intValue());
         miss = reg.getStatistics().getMissCounter();
         assertEquals(0, miss.intValue());
+        assertNull(reg.getStatistics().getTopConversions(5).get("java.lang.String -> int"));
     }
 
     @Override
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.junit.Test;
+
+public class VirtualThreadsExecutorServiceManagerTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getExecutorServiceManager().getDefaultThreadPoolProfile().setVirtualThreads(true);
+        return context;
+    }
+
+    @Test
+    public void testVirtualThreadsProfile() throws Exception {
+        ThreadPoolProfile profile = new ThreadPoolProfileBuilder("virtual").poolSize(1).maxPoolSize(1).virtualThreads(true).build();
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", profile);
+        assertNotNull(pool);
+
+        Future<String> future = pool.submit(() -> Thread.currentThread().getName());
+        String name = future.get(5, TimeUnit.SECONDS);
+        assertTrue(name.endsWith("Cool"));
+
+        if (CamelThreadFactory.isVirtualThreadsSupported()) {
+            // a new virtual thread per task which is not bounded by the pool size
+            assertFalse(pool instanceof ThreadPoolExecutor);
+        } else {
+            // fallback to a regular thread pool
+            ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+            assertEquals(1, tp.getMaximumPoolSize());
+        }
+
+        context.getExecutorServiceManager().shutdown(pool);
+        assertTrue(pool.isShutdown());
+    }
+
+    @Test
+    public void testPlatformThreadsProfile() throws Exception {
+        ThreadPoolProfile profile = new ThreadPoolProfileBuilder("platform").poolSize(1).maxPoolSize(1).virtualThreads(false).build();
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", profile);
+        assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+
+        context.getExecutorServiceManager().shutdown(pool);
+    }
+
+    @Test
+    public void testVirtualThreadsInheritedFromDefaultProfile() throws Exception {
+        ThreadPoolProfile profile = new ThreadPoolProfile("custom");
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", profile);
+        assertTrue(profile.isVirtualThreads());
+        assertEquals(CamelThreadFactory.isVirtualThreadsSupported(), !(pool instanceof ThreadPoolExecutor));
+
+        context.getExecutorServiceManager().shutdown(pool);
+    }
+
+    @Test
+    public void testRoute() throws Exception {
+        getMockEndpoint("mock:split").expectedMessageCount(200);
+        getMockEndpoint("mock:result").expectedMessageCount(100);
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("seda:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start?concurrentConsumers=5")
+                    .threads(1, 1)
+                    .split(body().tokenize(" ")).parallelProcessing()
+                        .to("mock:split")
+                    .end()
+                    .to("mock:result");
+            }
+        };
+    }
+}
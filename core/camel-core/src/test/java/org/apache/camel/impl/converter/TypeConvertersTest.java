@@ -17,6 +17,8 @@
 package org.apache.camel.impl.converter;
 
 import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.TypeConverterSupport;
 import org.junit.Test;
 
 public class TypeConvertersTest extends ContextTestSupport {
@@ -42,4 +44,58 @@ public class TypeConvertersTest extends ContextTestSupport {
         assertEquals("en", iso);
     }
 
+    @Test
+    public void testAddAfterConvert() throws Exception {
+        Country country = new Country();
+        country.setIso("en");
+        country.setName("England");
+
+        // no type converters yet so its converted using the fallback converters
+        assertNull(context.getTypeConverter().tryConvertTo(Country.class, "en"));
+        String text = context.getTypeConverter().convertTo(String.class, country);
+        assertNotEquals("en", text);
+
+        context.getTypeConverterRegistry().addTypeConverters(converters);
+
+        // should use the added type converters
+        country = context.getTypeConverter().tryConvertTo(Country.class, "en");
+        assertNotNull(country);
+        assertEquals("England", country.getName());
+        assertEquals("en", context.getTypeConverter().convertTo(String.class, country));
+    }
+
+    @Test
+    public void testFallbackOrder() throws Exception {
+        // the fallback added last has the highest priority, and only converts en
+        context.getTypeConverterRegistry().addFallbackTypeConverter(new MyCountryFallbackConverter(null, "Other"), false);
+        context.getTypeConverterRegistry().addFallbackTypeConverter(new MyCountryFallbackConverter("en", "England"), false);
+
+        assertEquals("Other", context.getTypeConverter().convertTo(Country.class, "de").getName());
+        // should still use the fallback with the highest priority
+        assertEquals("England", context.getTypeConverter().convertTo(Country.class, "en").getName());
+        assertEquals("Other", context.getTypeConverter().convertTo(Country.class, "fr").getName());
+    }
+
+    private static final class MyCountryFallbackConverter extends TypeConverterSupport {
+
+        private final String iso;
+        private final String name;
+
+        private MyCountryFallbackConverter(String iso, String name) {
+            this.iso = iso;
+            this.name = name;
+        }
+
+        @Override
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+            if (type != Country.class || (iso != null && !iso.equals(value))) {
+                return null;
+            }
+            Country country = new Country();
+            country.setIso(value.toString());
+            country.setName(name);
+            return type.cast(country);
+        }
+    }
+
 }
@@ -34,6 +34,7 @@ import org.apache.camel.component.bean.BeanComponent;
 import org.apache.camel.component.direct.DirectComponent;
 import org.apache.camel.component.log.LogComponent;
 import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.NormalizedEndpointUri;
 import org.apache.camel.spi.UuidGenerator;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -279,6 +280,22 @@ public class DefaultCamelContextTest extends TestSupport {
         }
     }
 
+    @Test
+    public void testNormalizeUri() throws Exception {
+        DefaultCamelContext ctx = new DefaultCamelContext(false);
+        ctx.disableJMX();
+
+        NormalizedEndpointUri uri = ctx.normalizeUri("log:foo?showAll=true&level=WARN");
+        assertEquals("log://foo?level=WARN&showAll=true", uri.getUri());
+        // the normalized uri is cached
+        assertSame(uri, ctx.normalizeUri("log:foo?showAll=true&level=WARN"));
+
+        Endpoint endpoint = ctx.getEndpoint("log:foo?showAll=true&level=WARN");
+        assertSame(endpoint, ctx.getEndpoint(uri));
+        assertSame(endpoint, ctx.hasEndpoint(uri));
+        assertSame(endpoint, ctx.getEndpoint("log:foo?level=WARN&showAll=true"));
+    }
+
     @Test
     public void testGetRouteById() throws Exception {
         DefaultCamelContext ctx = new DefaultCamelContext(false);
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.junit.Test;
+
+public class ForkJoinReactiveExecutorTest extends ContextTestSupport {
+
+    private final ForkJoinReactiveExecutor executor = new ForkJoinReactiveExecutor();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        executor.setParallelism(4);
+        context.adapt(ExtendedCamelContext.class).setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testPipeline() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World", "Bye World");
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Bye World");
+
+        assertMockEndpointsSatisfied();
+        assertSame(executor, context.adapt(ExtendedCamelContext.class).getReactiveExecutor());
+        assertTrue(executor.getCreatedWorkers() > 0);
+    }
+
+    @Test
+    public void testMulticast() throws Exception {
+        getMockEndpoint("mock:a").expectedMessageCount(100);
+        getMockEndpoint("mock:b").expectedMessageCount(100);
+        getMockEndpoint("mock:multicast").expectedMessageCount(100);
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("direct:multicast", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplit() throws Exception {
+        getMockEndpoint("mock:split").expectedMessageCount(1);
+
+        template.sendBody("direct:split", "A,B,C,D");
+
+        assertMockEndpointsSatisfied();
+        List<?> body = getMockEndpoint("mock:split").getReceivedExchanges().get(0).getIn().getBody(List.class);
+        assertEquals(4, body.size());
+    }
+
+    @Test
+    public void testRequestFromPool() throws Exception {
+        // more requests than workers, which all block on the pool while waiting for the reply
+        List<Future<Object>> replies = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            replies.add(template.asyncRequestBody("direct:outer", "World " + i));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals("Hello World " + i, replies.get(i).get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("log:foo").to("log:bar").to("mock:result");
+
+                from("direct:multicast").multicast().parallelProcessing().to("mock:a", "mock:b").end().to("mock:multicast");
+
+                from("direct:split").split(body().tokenize(","), new GroupedBodyAggregationStrategy()).parallelProcessing()
+                    .to("log:split").end().to("mock:split");
+
+                from("direct:outer").process(e -> {
+                    assertTrue(Thread.currentThread() instanceof ForkJoinWorkerThread);
+                    e.getMessage().setBody(template.requestBody("direct:inner", e.getMessage().getBody()));
+                });
+
+                from("direct:inner").delay(10).asyncDelayed().transform(body().prepend("Hello "));
+            }
+        };
+    }
+}
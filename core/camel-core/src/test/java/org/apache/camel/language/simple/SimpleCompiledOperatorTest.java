@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Predicate;
+import org.apache.camel.support.ExpressionToPredicateAdapter;
+import org.junit.Test;
+
+/**
+ * Runs the tests of {@link SimpleOperatorTest} with the simple language in compiled mode.
+ */
+public class SimpleCompiledOperatorTest extends SimpleOperatorTest {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        simple.setCompiled(true);
+        return context;
+    }
+
+    @Test
+    public void testCompiledPredicate() throws Exception {
+        String expression = "${header.foo} == 'abc' && ${header.bar} > 100";
+        Predicate predicate = context.resolveLanguage("simple").createPredicate(expression);
+        assertFalse("Should be compiled", predicate instanceof ExpressionToPredicateAdapter);
+        assertSame("Should be cached", predicate, context.resolveLanguage("simple").createPredicate(expression));
+        assertTrue(predicate.matches(exchange));
+
+        exchange.getIn().setHeader("bar", 50);
+        assertFalse(predicate.matches(exchange));
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.processor.idempotent.BloomFilter;
+import org.apache.camel.processor.idempotent.IdempotentConsumer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.processor.idempotent.FileIdempotentRepository;
+import org.apache.camel.support.processor.idempotent.MemoryIdempotentRepository;
+import org.apache.camel.util.ObjectHelper;
+import org.junit.Test;
+
+public class IdempotentConsumerPreFilterTest extends ContextTestSupport {
+
+    private final CountingRepository repo = new CountingRepository();
+
+    @Test
+    public void testDuplicateMessagesAreFilteredOut() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("one", "two", "three");
+
+        sendMessage("1", "one");
+        sendMessage("2", "two");
+        sendMessage("1", "one");
+        sendMessage("2", "two");
+        sendMessage("1", "one");
+        sendMessage("3", "three");
+
+        assertMockEndpointsSatisfied();
+
+        // the new keys are added to the repository when the exchange is done
+        assertTrue(repo.contains("1"));
+        assertTrue(repo.contains("2"));
+        assertTrue(repo.contains("3"));
+
+        IdempotentConsumer consumer = getIdempotentConsumer();
+        assertEquals(3, consumer.getPreFilterHitCount());
+        assertEquals(3, consumer.getPreFilterMissCount());
+        assertEquals(3, consumer.getDuplicateMessageCount());
+        assertEquals(0, consumer.getPreFilterPendingCount());
+        // only the keys which may have been seen before are checked with the repository
+        assertEquals(3, repo.containsCalls.get());
+    }
+
+    @Test
+    public void testFailedExchangesNotAdded() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("one", "three");
+        getMockEndpoint("mock:error").expectedMessageCount(2);
+
+        sendMessage("1", "one");
+        sendMessage("2", "kaboom");
+        sendMessage("1", "one");
+        sendMessage("2", "kaboom");
+        sendMessage("3", "three");
+
+        assertMockEndpointsSatisfied();
+
+        assertFalse(repo.contains("2"));
+        assertEquals(0, getIdempotentConsumer().getPreFilterPendingCount());
+    }
+
+    @Test
+    public void testDuplicateWhilePending() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("outer");
+        getMockEndpoint("mock:duplicate").expectedBodiesReceived("nested");
+
+        // the nested message is sent while the outer message with the same key is being processed
+        sendMessage("1", "outer");
+
+        assertMockEndpointsSatisfied();
+        assertTrue(repo.contains("1"));
+    }
+
+    @Test
+    public void testWarmUpFromRepository() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("one");
+        getMockEndpoint("mock:duplicate").expectedBodiesReceived("two");
+
+        // the key is added to the repository while the route is stopped
+        context.getRouteController().stopRoute("route");
+        repo.add("2");
+        context.getRouteController().startRoute("route");
+
+        sendMessage("1", "one");
+        sendMessage("2", "two");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(1, getIdempotentConsumer().getPreFilterMissCount());
+    }
+
+    @Test
+    public void testWarmUpFromFileRepository() throws Exception {
+        deleteDirectory("target/data/prefilter");
+        File store = new File("target/data/prefilter/store.dat");
+        IdempotentRepository fileRepo = FileIdempotentRepository.fileIdempotentRepository(store);
+        // the keys stored before the route is started
+        fileRepo.start();
+        fileRepo.add("1");
+        fileRepo.add("2");
+        fileRepo.stop();
+
+        CamelContext camel = new DefaultCamelContext();
+        camel.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").idempotentConsumer(header("messageId"), fileRepo).preFilterSize(100).to("mock:result");
+            }
+        });
+        camel.start();
+        try {
+            MockEndpoint mock = camel.getEndpoint("mock:result", MockEndpoint.class);
+            mock.expectedBodiesReceived("three");
+
+            ProducerTemplate producer = camel.createProducerTemplate();
+            producer.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+            producer.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+            producer.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+
+            mock.assertIsSatisfied();
+        } finally {
+            camel.stop();
+        }
+    }
+
+    @Test
+    public void testNotLocalRepository() throws Exception {
+        CamelContext camel = new DefaultCamelContext();
+        camel.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").idempotentConsumer(header("messageId"), new MemoryIdempotentRepository() {
+                    @Override
+                    public Collection<String> getLocalKeys() {
+                        // such as a remote repository
+                        return null;
+                    }
+                }).preFilterSize(100).to("mock:result");
+            }
+        });
+        try {
+            camel.start();
+            fail("Should have thrown exception");
+        } catch (Exception e) {
+            IllegalArgumentException cause = ObjectHelper.getException(IllegalArgumentException.class, e);
+            assertNotNull(cause);
+            assertTrue(cause.getMessage().startsWith("The pre-filter can only be used with an idempotent repository which is local"));
+        } finally {
+            camel.stop();
+        }
+    }
+
+    @Test
+    public void testBloomFilter() throws Exception {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("key" + i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("key" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 1000; i < 11000; i++) {
+            if (filter.mightContain("key" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue("Too many false positives: " + falsePositives, falsePositives < 300);
+        assertEquals(1000, filter.getSize());
+
+        filter.clear();
+        assertFalse(filter.mightContain("key1"));
+    }
+
+    protected void sendMessage(String messageId, String body) {
+        template.sendBodyAndHeader("direct:start", body, "messageId", messageId);
+    }
+
+    private IdempotentConsumer getIdempotentConsumer() {
+        return context.getProcessor("idempotent", IdempotentConsumer.class);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                errorHandler(deadLetterChannel("mock:error"));
+
+                from("direct:start").routeId("route")
+                    .idempotentConsumer(header("messageId"), repo).eager(false).preFilterSize(100).skipDuplicate(false).id("idempotent")
+                        .filter(exchangeProperty(Exchange.DUPLICATE_MESSAGE).isEqualTo(true))
+                            .to("mock:duplicate")
+                            .stop()
+                        .end()
+                        .process(e -> {
+                            if ("kaboom".equals(e.getMessage().getBody())) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                            if ("outer".equals(e.getMessage().getBody())) {
+                                template.sendBodyAndHeader("direct:start", "nested", "messageId", "1");
+                            }
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private static final class CountingRepository extends MemoryIdempotentRepository {
+
+        private final AtomicInteger containsCalls = new AtomicInteger();
+
+        @Override
+        public boolean contains(Exchange exchange, String key) {
+            containsCalls.incrementAndGet();
+            return super.contains(exchange, key);
+        }
+    }
+}
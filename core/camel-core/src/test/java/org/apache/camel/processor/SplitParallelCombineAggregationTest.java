@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.apache.camel.processor.aggregate.StringAggregationStrategy;
+import org.junit.Test;
+
+public class SplitParallelCombineAggregationTest extends ContextTestSupport {
+
+    private final MyGroupedBodyAggregationStrategy grouped = new MyGroupedBodyAggregationStrategy();
+
+    @Test
+    public void testSplitParallelGroupedBody() throws Exception {
+        List<Integer> numbers = numbers(1000);
+
+        Object out = template.requestBody("direct:grouped", numbers);
+        assertEquals(numbers, out);
+        assertTrue("Should combine partial results", grouped.combined.get() > 0);
+    }
+
+    @Test
+    public void testSplitParallelString() throws Exception {
+        List<Integer> numbers = numbers(500);
+        StringBuilder expected = new StringBuilder();
+        for (Integer number : numbers) {
+            // every 7th number is not picked
+            if (number % 7 != 0) {
+                if (number > 1) {
+                    expected.append(",");
+                }
+                expected.append(number);
+            }
+        }
+
+        Object out = template.requestBody("direct:string", numbers);
+        assertEquals(expected.toString(), out);
+    }
+
+    @Test
+    public void testMulticastParallelGroupedBody() throws Exception {
+        Object out = template.requestBody("direct:multicast", "Hello");
+        List<String> expected = new ArrayList<>();
+        expected.add("A");
+        expected.add("B");
+        expected.add("C");
+        assertEquals(expected, out);
+    }
+
+    @Test
+    public void testSplitParallelSingle() throws Exception {
+        List<Integer> numbers = numbers(1);
+
+        Object out = template.requestBody("direct:grouped", numbers);
+        assertEquals(numbers, out);
+    }
+
+    private static List<Integer> numbers(int size) {
+        List<Integer> numbers = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            numbers.add(i);
+        }
+        return numbers;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:grouped")
+                    .split(body(), grouped).parallelProcessing()
+                        .process(e -> randomDelay())
+                    .end();
+
+                from("direct:string")
+                    .split(body(), new StringAggregationStrategy().delimiter(",").pick(header("pick"))).parallelProcessing()
+                        .process(e -> {
+                            randomDelay();
+                            int number = e.getIn().getBody(Integer.class);
+                            if (number % 7 != 0) {
+                                e.getIn().setHeader("pick", number);
+                            }
+                        })
+                    .end();
+
+                from("direct:multicast")
+                    .multicast(new GroupedBodyAggregationStrategy()).parallelProcessing()
+                        .to("direct:a", "direct:b", "direct:c")
+                    .end();
+
+                from("direct:a").delay(100).transform(constant("A"));
+                from("direct:b").delay(50).transform(constant("B"));
+                from("direct:c").transform(constant("C"));
+            }
+        };
+    }
+
+    private static void randomDelay() throws InterruptedException {
+        // shuffle the order the exchanges complete
+        if (ThreadLocalRandom.current().nextInt(10) == 0) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static class MyGroupedBodyAggregationStrategy extends GroupedBodyAggregationStrategy {
+
+        private final AtomicInteger combined = new AtomicInteger();
+
+        @Override
+        public Exchange combine(Exchange oldExchange, Exchange newExchange) {
+            combined.incrementAndGet();
+            return super.combine(oldExchange, newExchange);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class SplitterParallelMaxInflightTest extends ContextTestSupport {
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @Test
+    public void testStreamingMaxInflight() throws Exception {
+        getMockEndpoint("mock:split").expectedMessageCount(50);
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:streaming", createBody(50));
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue("Should not have more than 3 in flight, was: " + maxInflight.get(), maxInflight.get() <= 3);
+        assertEquals(0, inflight.get());
+    }
+
+    @Test
+    public void testOrderedMaxInflight() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        List<String> body = createBody(20);
+        template.sendBody("direct:ordered", body);
+
+        assertMockEndpointsSatisfied();
+
+        // the replies should be aggregated in the same order as splitted even though they complete out of order
+        assertEquals(String.join(",", body), mock.getReceivedExchanges().get(0).getIn().getBody(String.class));
+        assertTrue("Should not have more than 2 in flight, was: " + maxInflight.get(), maxInflight.get() <= 2);
+    }
+
+    private static List<String> createBody(int size) {
+        List<String> body = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            body.add("" + i);
+        }
+        return body;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:streaming")
+                    .split(body()).streaming().parallelProcessing().maxInflight(3)
+                        .process(e -> enter())
+                        .process(e -> Thread.sleep(5))
+                        .process(e -> inflight.decrementAndGet())
+                        .to("mock:split")
+                    .end()
+                    .to("mock:result");
+
+                from("direct:ordered")
+                    .split(body(), new BodyInOrderStrategy()).parallelProcessing().maxInflight(2)
+                        .process(e -> enter())
+                        // let the first message of each pair be the slowest so the replies comes back out of order
+                        .process(e -> Thread.sleep(e.getProperty(Exchange.SPLIT_INDEX, Integer.class) % 2 == 0 ? 20 : 1))
+                        .process(e -> inflight.decrementAndGet())
+                    .end()
+                    .to("mock:result");
+            }
+        };
+    }
+
+    private void enter() {
+        int current = inflight.incrementAndGet();
+        maxInflight.accumulateAndGet(current, Math::max);
+    }
+
+    private static class BodyInOrderStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            if (oldExchange == null) {
+                return newExchange;
+            }
+            oldExchange.getIn().setBody(oldExchange.getIn().getBody(String.class) + "," + newExchange.getIn().getBody(String.class));
+            return oldExchange;
+        }
+    }
+}
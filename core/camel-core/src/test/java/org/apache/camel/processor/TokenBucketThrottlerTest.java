@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.builder.ExpressionBuilder;
+import org.junit.Test;
+
+public class TokenBucketThrottlerTest extends ContextTestSupport {
+
+    @Test
+    public void testBurstThenEvenlySpaced() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        // the first 5 is a burst, and then the next 5 are spaced 100 millis apart
+        long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "Message " + i);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertMockEndpointsSatisfied();
+        assertTrue("Should take at least 450ms, was: " + elapsed, elapsed >= 450);
+        assertTrue("Should take at most 2000ms, was: " + elapsed, elapsed <= 2000);
+    }
+
+    @Test
+    public void testDoesNotBlock() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:async", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue("Should take at least 450ms, was: " + elapsed, elapsed >= 450);
+        // the exchanges are continued when the permit is due, instead of blocking the seda consumer thread
+        assertFalse(mock.getExchanges().get(9).getProperty("threadName", String.class).contains("seda://async"));
+    }
+
+    @Test
+    public void testTransactedWaitsInCurrentThread() throws Exception {
+        TokenBucketThrottler throttler = new TokenBucketThrottler(context, ExpressionBuilder.constantExpression(1), 200, null, false, false, null);
+        throttler.start();
+        try {
+            // take the only permit
+            throttler.process(new DefaultExchange(context));
+
+            Exchange exchange = new DefaultExchange(context);
+            exchange.adapt(ExtendedExchange.class).setTransacted(true);
+            long start = System.nanoTime();
+            // transacted exchanges must continue on the same thread so the throttler waits synchronously
+            assertTrue(throttler.process(exchange, doneSync -> { }));
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertTrue("Should take at least 150ms, was: " + elapsed, elapsed >= 150);
+            assertNull(exchange.getException());
+        } finally {
+            throttler.stop();
+        }
+    }
+
+    @Test
+    public void testRejectExecution() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+        getMockEndpoint("mock:error").expectedMessageCount(4);
+
+        for (int i = 0; i < 6; i++) {
+            template.sendBody("direct:reject", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testCorrelationKeys() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("a", "b", "c");
+        getMockEndpoint("mock:error").expectedBodiesReceived("a2");
+
+        template.sendBodyAndHeader("direct:grouped", "a", "key", "a");
+        template.sendBodyAndHeader("direct:grouped", "b", "key", "b");
+        template.sendBodyAndHeader("direct:grouped", "c", "key", "c");
+        template.sendBodyAndHeader("direct:grouped", "a2", "key", "a");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testEvictIdleKeys() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(3);
+
+        template.sendBodyAndHeader("direct:evict", "a", "key", "a");
+        template.sendBodyAndHeader("direct:evict", "b", "key", "b");
+        template.sendBodyAndHeader("direct:evict", "c", "key", "c");
+
+        assertMockEndpointsSatisfied();
+
+        TokenBucketThrottler throttler = context.getProcessor("evict", TokenBucketThrottler.class);
+        assertEquals(3, throttler.getCurrentMaximumRequestsPerPeriod());
+        // the buckets are full again after 50 millis and are evicted every 500 millis
+        long start = System.currentTimeMillis();
+        while (throttler.getThrottledKeys() > 0 && System.currentTimeMillis() - start < 5000) {
+            Thread.sleep(50);
+        }
+        assertEquals(0, throttler.getThrottledKeys());
+    }
+
+    @Test
+    public void testEvictIdleKeysWithoutExecutor() throws Exception {
+        TokenBucketThrottler throttler = new TokenBucketThrottler(context, ExpressionBuilder.constantExpression(3), 50, null, false, false,
+                ExpressionBuilder.headerExpression("key"));
+        throttler.start();
+        try {
+            for (String key : new String[] {"a", "b", "c"}) {
+                Exchange exchange = new DefaultExchange(context);
+                exchange.getIn().setHeader("key", key);
+                throttler.process(exchange);
+            }
+            assertEquals(3, throttler.getThrottledKeys());
+
+            // the buckets are evicted using the timeout scheduler of the context
+            long start = System.currentTimeMillis();
+            while (throttler.getThrottledKeys() > 0 && System.currentTimeMillis() - start < 5000) {
+                Thread.sleep(50);
+            }
+            assertEquals(0, throttler.getThrottledKeys());
+        } finally {
+            throttler.stop();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                onException(ThrottlerRejectedExecutionException.class).handled(true).to("mock:error");
+
+                from("direct:start").throttle(5).timePeriodMillis(500).tokenBucket().to("mock:result");
+
+                from("seda:async").throttle(5).timePeriodMillis(500).tokenBucket()
+                    .setProperty("threadName", simple("${threadName}")).to("mock:result");
+
+                from("direct:reject").throttle(2).timePeriodMillis(1000).tokenBucket().rejectExecution(true).to("mock:result");
+
+                from("direct:grouped").throttle(constant(1), header("key")).timePeriodMillis(1000).tokenBucket().rejectExecution(true)
+                    .to("mock:result");
+
+                from("direct:evict").throttle(constant(3), header("key")).timePeriodMillis(50).tokenBucket().id("evict")
+                    .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.io.File;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.OffHeapAggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OffHeapAggregationRepositoryTest extends ContextTestSupport {
+
+    private final OffHeapAggregationRepository routeRepo = new OffHeapAggregationRepository();
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/offheap");
+        super.setUp();
+    }
+
+    @Test
+    public void testAddGetRemoveConfirm() throws Exception {
+        OffHeapAggregationRepository repo = new OffHeapAggregationRepository();
+        repo.start();
+        try {
+            assertNull(repo.get(context, "foo"));
+
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody("Hello");
+            exchange.getIn().setHeader("bar", 123);
+            assertNull(repo.add(context, "foo", exchange));
+
+            Exchange actual = repo.get(context, "foo");
+            assertEquals("Hello", actual.getIn().getBody());
+            assertEquals(123, actual.getIn().getHeader("bar"));
+            assertEquals(1, repo.getKeys().size());
+
+            exchange.getIn().setBody("Hello World");
+            repo.add(context, "foo", exchange);
+            assertEquals("Hello World", repo.get(context, "foo").getIn().getBody());
+
+            repo.remove(context, "foo", exchange);
+            assertNull(repo.get(context, "foo"));
+            assertEquals(0, repo.getKeys().size());
+
+            // the completed exchange can be recovered until its confirmed
+            assertEquals(1, repo.scan(context).size());
+            assertEquals("Hello World", repo.recover(context, exchange.getExchangeId()).getIn().getBody());
+
+            repo.confirm(context, exchange.getExchangeId());
+            assertEquals(0, repo.scan(context).size());
+            assertNull(repo.recover(context, exchange.getExchangeId()));
+            assertEquals(0, repo.getLiveSize());
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testReturnOldExchange() throws Exception {
+        OffHeapAggregationRepository repo = new OffHeapAggregationRepository();
+        repo.setReturnOldExchange(true);
+        repo.start();
+        try {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody("Hello");
+            assertNull(repo.add(context, "foo", exchange));
+
+            exchange.getIn().setBody("Bye");
+            Exchange old = repo.add(context, "foo", exchange);
+            assertEquals("Hello", old.getIn().getBody());
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testSpillToFile() throws Exception {
+        OffHeapAggregationRepository repo = new OffHeapAggregationRepository();
+        repo.setSegmentSize(16 * 1024);
+        repo.setMaxMemorySize(32 * 1024);
+        repo.setDirectory(new File("target/data/offheap/spill"));
+        repo.start();
+        try {
+            for (int i = 0; i < 200; i++) {
+                Exchange exchange = new DefaultExchange(context);
+                exchange.getIn().setBody("Message " + i);
+                repo.add(context, "key" + i, exchange);
+            }
+            assertEquals(32 * 1024, repo.getMemorySize());
+            assertTrue("Should spill to file", repo.getFileSize() > 0);
+            for (int i = 0; i < 200; i++) {
+                assertEquals("Message " + i, repo.get(context, "key" + i).getIn().getBody());
+            }
+        } finally {
+            repo.stop();
+        }
+        assertEquals(0, new File("target/data/offheap/spill").list().length);
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        OffHeapAggregationRepository repo = new OffHeapAggregationRepository();
+        repo.setSegmentSize(16 * 1024);
+        repo.start();
+        try {
+            Exchange exchange = new DefaultExchange(context);
+            for (int i = 0; i < 2000; i++) {
+                exchange.getIn().setBody("Message " + i);
+                // keep updating a few aggregates so the segments have a mix of current and outdated exchanges
+                repo.add(context, "key" + (i % 10), exchange);
+                if (i % 100 == 0) {
+                    repo.add(context, "keep" + i, exchange);
+                }
+            }
+            assertTrue("Should compact segments", repo.getCompactions() > 0);
+            // the direct memory should be bounded by the current exchanges
+            assertTrue("Memory size: " + repo.getMemorySize(), repo.getMemorySize() <= 16 * 16 * 1024);
+            for (int i = 0; i < 10; i++) {
+                assertEquals("Message " + (1990 + i), repo.get(context, "key" + i).getIn().getBody());
+            }
+            for (int i = 0; i < 2000; i += 100) {
+                assertEquals("Message " + i, repo.get(context, "keep" + i).getIn().getBody());
+            }
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testPersistentRecovery() throws Exception {
+        File dir = new File("target/data/offheap/persistent");
+
+        OffHeapAggregationRepository repo = new OffHeapAggregationRepository(dir);
+        repo.setSegmentSize(16 * 1024);
+        repo.start();
+        Exchange completed = new DefaultExchange(context);
+        completed.getIn().setBody("Completed");
+        Exchange confirmed = new DefaultExchange(context);
+        confirmed.getIn().setBody("Confirmed");
+        try {
+            for (int i = 0; i < 100; i++) {
+                Exchange exchange = new DefaultExchange(context);
+                exchange.getIn().setBody("Message " + i);
+                repo.add(context, "key" + i, exchange);
+            }
+            repo.add(context, "completed", completed);
+            repo.remove(context, "completed", completed);
+            repo.add(context, "confirmed", confirmed);
+            repo.remove(context, "confirmed", confirmed);
+            repo.confirm(context, confirmed.getExchangeId());
+        } finally {
+            repo.stop();
+        }
+
+        repo = new OffHeapAggregationRepository(dir);
+        repo.setSegmentSize(16 * 1024);
+        repo.start();
+        try {
+            assertEquals(100, repo.getKeys().size());
+            for (int i = 0; i < 100; i++) {
+                assertEquals("Message " + i, repo.get(context, "key" + i).getIn().getBody());
+            }
+            assertEquals(1, repo.scan(context).size());
+            assertEquals("Completed", repo.recover(context, completed.getExchangeId()).getIn().getBody());
+
+            // continue appending after the recovered exchanges
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody("Bye");
+            repo.add(context, "key0", exchange);
+        } finally {
+            repo.stop();
+        }
+
+        repo = new OffHeapAggregationRepository(dir);
+        repo.start();
+        try {
+            assertEquals(100, repo.getKeys().size());
+            assertEquals("Bye", repo.get(context, "key0").getIn().getBody());
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testAggregate() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("A+B+C", "X+Y+Z");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 1);
+        template.sendBodyAndHeader("direct:start", "X", "id", 2);
+        template.sendBodyAndHeader("direct:start", "B", "id", 1);
+        template.sendBodyAndHeader("direct:start", "Y", "id", 2);
+        template.sendBodyAndHeader("direct:start", "C", "id", 1);
+        template.sendBodyAndHeader("direct:start", "Z", "id", 2);
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(0, routeRepo.getKeys().size());
+        assertEquals(0, routeRepo.scan(context).size());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").aggregate(header("id"), new BodyInAggregatingStrategy()).aggregationRepository(routeRepo).completionSize(3).to("mock:result");
+            }
+        };
+    }
+}
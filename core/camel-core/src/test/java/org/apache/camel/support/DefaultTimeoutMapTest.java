@@ -18,12 +18,16 @@ package org.apache.camel.support;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.TimeoutMap;
+import org.apache.camel.impl.DefaultCamelContext;
 import org.junit.Assert;
 import org.junit.Test;
 import org.slf4j.Logger;
@@ -69,6 +73,31 @@ public class DefaultTimeoutMapTest extends Assert {
         map.stop();
     }
 
+    @Test
+    public void testDefaultTimeoutMapCamelContextScheduler() throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        context.start();
+
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(context, executor, 100);
+        assertSame(context.adapt(ExtendedCamelContext.class).getTimeoutScheduler(), map.getTimeoutScheduler());
+        map.start();
+
+        List<String> evicted = new CopyOnWriteArrayList<>();
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                evicted.add(key);
+            }
+        });
+        map.put("A", 123, 50);
+        assertEquals(1, map.size());
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertEquals("[A]", evicted.toString()));
+        assertEquals(0, map.size());
+
+        map.stop();
+        context.stop();
+    }
+
     @Test
     public void testDefaultTimeoutMapForcePurge() throws Exception {
         DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100);
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.spi.TimeoutScheduler;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.awaitility.Awaitility.await;
+
+public class HashedWheelTimeoutSchedulerTest extends Assert {
+
+    private ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSchedule() throws Exception {
+        HashedWheelTimeoutScheduler scheduler = new HashedWheelTimeoutScheduler(executor, 10, 8);
+        scheduler.start();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        TimeoutScheduler.Timeout timeout = scheduler.schedule(latch::countDown, 100, TimeUnit.MILLISECONDS);
+        assertEquals(1, scheduler.getPendingTimeouts());
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 100);
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+        assertEquals(0, scheduler.getPendingTimeouts());
+
+        scheduler.stop();
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        HashedWheelTimeoutScheduler scheduler = new HashedWheelTimeoutScheduler(executor, 10, 8);
+        scheduler.start();
+
+        List<String> run = new CopyOnWriteArrayList<>();
+        TimeoutScheduler.Timeout a = scheduler.schedule(() -> run.add("A"), 50, TimeUnit.MILLISECONDS);
+        scheduler.schedule(() -> run.add("B"), 100, TimeUnit.MILLISECONDS);
+        assertTrue(a.cancel());
+        assertTrue(a.isCancelled());
+        assertFalse(a.cancel());
+        assertEquals(1, scheduler.getPendingTimeouts());
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> run.size() == 1);
+        assertEquals("B", run.get(0));
+        assertEquals(0, scheduler.getPendingTimeouts());
+
+        scheduler.stop();
+    }
+
+    @Test
+    public void testMultipleRounds() throws Exception {
+        // a wheel of 4 ticks of 10 millis, so the timeouts goes around the wheel several times
+        HashedWheelTimeoutScheduler scheduler = new HashedWheelTimeoutScheduler(executor, 10, 4);
+        scheduler.start();
+
+        List<String> run = new CopyOnWriteArrayList<>();
+        scheduler.schedule(() -> run.add("C"), 300, TimeUnit.MILLISECONDS);
+        scheduler.schedule(() -> run.add("A"), 20, TimeUnit.MILLISECONDS);
+        scheduler.schedule(() -> run.add("B"), 150, TimeUnit.MILLISECONDS);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> run.size() == 3);
+        assertEquals("[A, B, C]", run.toString());
+
+        scheduler.stop();
+    }
+
+    @Test
+    public void testSameTickInDeadlineOrder() throws Exception {
+        // use a long tick so all the timeouts expires in the same tick
+        HashedWheelTimeoutScheduler scheduler = new HashedWheelTimeoutScheduler(executor, 500, 8);
+
+        List<String> run = new CopyOnWriteArrayList<>();
+        scheduler.schedule(() -> run.add("C"), 30, TimeUnit.MILLISECONDS);
+        scheduler.schedule(() -> run.add("A"), 10, TimeUnit.MILLISECONDS);
+        scheduler.schedule(() -> run.add("B"), 20, TimeUnit.MILLISECONDS);
+        // scheduled before started
+        scheduler.start();
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> run.size() == 3);
+        assertEquals("[A, B, C]", run.toString());
+
+        scheduler.stop();
+    }
+
+    @Test
+    public void testTimeoutMapWithSharedScheduler() throws Exception {
+        HashedWheelTimeoutScheduler scheduler = new HashedWheelTimeoutScheduler(executor, 10, 64);
+        scheduler.start();
+
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(scheduler);
+        List<String> evicted = new CopyOnWriteArrayList<>();
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                evicted.add(key);
+            }
+        });
+        map.start();
+
+        map.put("A", 1, 200);
+        map.put("B", 2, 50);
+        map.put("C", 3, 100);
+        map.remove("C");
+        assertEquals(2, scheduler.getPendingTimeouts());
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> evicted.size() == 2);
+        assertEquals("[B, A]", evicted.toString());
+        assertEquals(0, map.size());
+
+        map.stop();
+        scheduler.stop();
+    }
+
+}
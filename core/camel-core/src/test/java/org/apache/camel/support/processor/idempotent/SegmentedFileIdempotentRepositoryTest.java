@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.support.processor.idempotent.SegmentedFileIdempotentRepository.SyncPolicy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.apache.camel.TestSupport.deleteDirectory;
+import static org.awaitility.Awaitility.await;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SegmentedFileIdempotentRepositoryTest {
+
+    private final File directory = new File("target/data/segmentedstore");
+    private SegmentedFileIdempotentRepository repository;
+
+    @Before
+    public void setup() {
+        deleteDirectory(directory);
+        repository = new SegmentedFileIdempotentRepository(directory);
+    }
+
+    @After
+    public void tearDown() {
+        repository.stop();
+    }
+
+    @Test
+    public void testAddContainsRemove() throws Exception {
+        repository.start();
+
+        assertTrue(repository.add("A"));
+        assertTrue(repository.add("B"));
+        assertFalse(repository.add("A"));
+        assertTrue(repository.contains("A"));
+        assertTrue(repository.remove("A"));
+        assertFalse(repository.remove("A"));
+        assertFalse(repository.contains("A"));
+        assertTrue(repository.contains("B"));
+
+        // reload from the files
+        restart();
+        assertFalse(repository.contains("A"));
+        assertTrue(repository.contains("B"));
+        assertEquals(1, repository.getSize());
+    }
+
+    @Test
+    public void testSegments() throws Exception {
+        repository.setMaxSegmentSize(100);
+        repository.setSyncPolicy(SyncPolicy.ALWAYS);
+        repository.start();
+
+        for (int i = 0; i < 100; i++) {
+            repository.add("key-" + i);
+        }
+        assertTrue(segments().length > 5);
+
+        restart();
+        assertEquals(100, repository.getSize());
+        for (int i = 0; i < 100; i++) {
+            assertTrue(repository.contains("key-" + i));
+        }
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        repository.setMaxSegmentSize(200);
+        repository.setCompactionThreshold(25);
+        repository.start();
+
+        for (int i = 0; i < 100; i++) {
+            repository.add("key-" + i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            repository.remove("key-" + i);
+        }
+        await().atMost(5, TimeUnit.SECONDS).until(() -> repository.getCompactions() > 0);
+
+        // compacts all the segments (unless a compaction is still running)
+        repository.compact();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> directory.listFiles((dir, name) -> name.startsWith("snapshot-")).length == 1
+                && segments().length == 1);
+
+        restart();
+        assertEquals(50, repository.getSize());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, repository.contains("key-" + i));
+        }
+    }
+
+    @Test
+    public void testIncompleteRecord() throws Exception {
+        repository.start();
+        repository.add("A");
+        repository.stop();
+
+        // simulate a crash while appending a record
+        File segment = segments()[0];
+        try (FileOutputStream fos = new FileOutputStream(segment, true)) {
+            fos.write("+B".getBytes(StandardCharsets.UTF_8));
+        }
+
+        repository.start();
+        assertTrue(repository.contains("A"));
+        assertFalse(repository.contains("B"));
+        assertTrue(repository.add("C"));
+
+        restart();
+        assertTrue(repository.contains("A"));
+        assertFalse(repository.contains("B"));
+        assertTrue(repository.contains("C"));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        repository.start();
+        repository.add("A");
+        repository.add("B");
+        repository.clear();
+        assertFalse(repository.contains("A"));
+        assertTrue(repository.add("C"));
+
+        restart();
+        assertFalse(repository.contains("A"));
+        assertFalse(repository.contains("B"));
+        assertTrue(repository.contains("C"));
+    }
+
+    private void restart() {
+        repository.stop();
+        repository = new SegmentedFileIdempotentRepository(directory);
+        repository.start();
+    }
+
+    private File[] segments() {
+        return directory.listFiles((dir, name) -> name.startsWith("segment-"));
+    }
+}
@@ -1946,6 +1946,40 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("localWorkDirectory", localWorkDirectory);
             return this;
         }
+        /**
+         * Whether to scan the directories using a java.nio DirectoryStream,
+         * which lists the files in a directory lazily instead of all at once,
+         * and reads the attributes of each file only once. When
+         * maxMessagesPerPoll is in use then the scanning stops as soon as
+         * enough files has been found, which is much faster for directories
+         * with many files.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder nioScan(boolean nioScan) {
+            doSetProperty("nioScan", nioScan);
+            return this;
+        }
+        /**
+         * Whether to scan the directories using a java.nio DirectoryStream,
+         * which lists the files in a directory lazily instead of all at once,
+         * and reads the attributes of each file only once. When
+         * maxMessagesPerPoll is in use then the scanning stops as soon as
+         * enough files has been found, which is much faster for directories
+         * with many files.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder nioScan(String nioScan) {
+            doSetProperty("nioScan", nioScan);
+            return this;
+        }
         /**
          * To use a custom org.apache.camel.spi.ExceptionHandler to handle any
          * thrown exceptions that happens during the file on completion process
@@ -1978,6 +2012,40 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("onCompletionExceptionHandler", onCompletionExceptionHandler);
             return this;
         }
+        /**
+         * Whether to list the sub directories in parallel (using a thread pool)
+         * when the consumer is recursive. The files are filtered by the
+         * consumer thread and gathered breadth first, directory by directory.
+         * The directories are listed using a java.nio DirectoryStream as with
+         * the nioScan option.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelScan(
+                boolean parallelScan) {
+            doSetProperty("parallelScan", parallelScan);
+            return this;
+        }
+        /**
+         * Whether to list the sub directories in parallel (using a thread pool)
+         * when the consumer is recursive. The files are filtered by the
+         * consumer thread and gathered breadth first, directory by directory.
+         * The directories are listed using a java.nio DirectoryStream as with
+         * the nioScan option.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelScan(
+                String parallelScan) {
+            doSetProperty("parallelScan", parallelScan);
+            return this;
+        }
         /**
          * A pluggable org.apache.camel.PollingConsumerPollingStrategy allowing
          * you to provide your custom implementation to control error handling
@@ -2144,6 +2212,78 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("startingDirectoryMustHaveAccess", startingDirectoryMustHaveAccess);
             return this;
         }
+        /**
+         * Whether to use a java.nio WatchService to consume the files as soon
+         * as they are created or modified, instead of polling the directory
+         * using the scheduler. Only the changed files are checked (using the
+         * same filters, readLock, idempotent and move options as when polling),
+         * and the directory is scanned in full on startup and periodically (see
+         * watchRescanInterval) to pick up files that the file system did not
+         * report, or which could not be consumed the first time. The scheduler
+         * options such as delay are not in use.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder watch(boolean watch) {
+            doSetProperty("watch", watch);
+            return this;
+        }
+        /**
+         * Whether to use a java.nio WatchService to consume the files as soon
+         * as they are created or modified, instead of polling the directory
+         * using the scheduler. Only the changed files are checked (using the
+         * same filters, readLock, idempotent and move options as when polling),
+         * and the directory is scanned in full on startup and periodically (see
+         * watchRescanInterval) to pick up files that the file system did not
+         * report, or which could not be consumed the first time. The scheduler
+         * options such as delay are not in use.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder watch(String watch) {
+            doSetProperty("watch", watch);
+            return this;
+        }
+        /**
+         * When using watch, the interval in millis to scan the directory in
+         * full, to recover from events which were missed, such as when the file
+         * system reports too many events, or the file is on a network share.
+         * Use zero or a negative value to only scan the directory in full on
+         * startup.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder watchRescanInterval(
+                long watchRescanInterval) {
+            doSetProperty("watchRescanInterval", watchRescanInterval);
+            return this;
+        }
+        /**
+         * When using watch, the interval in millis to scan the directory in
+         * full, to recover from events which were missed, such as when the file
+         * system reports too many events, or the file is on a network share.
+         * Use zero or a negative value to only scan the directory in full on
+         * startup.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder watchRescanInterval(
+                String watchRescanInterval) {
+            doSetProperty("watchRescanInterval", watchRescanInterval);
+            return this;
+        }
         /**
          * Automatically create missing directories in the file's pathname. For
          * the file consumer, that means creating the starting directory. For
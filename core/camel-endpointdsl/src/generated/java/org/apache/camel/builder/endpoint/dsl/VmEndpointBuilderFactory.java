@@ -146,6 +146,69 @@ public interface VmEndpointBuilderFactory {
         default VmEndpointConsumerBuilder basic() {
             return (VmEndpointConsumerBuilder) this;
         }
+        /**
+         * The maximum number of messages the consumer takes from the queue at
+         * once. The messages are then routed one after the other by the
+         * consumer thread without waiting on the queue in between, and with the
+         * batch properties set on the exchanges, such as
+         * org.apache.camel.Exchange#BATCH_SIZE, so the messages can be
+         * aggregated as a batch using completion from batch consumer.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         */
+        default AdvancedVmEndpointConsumerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum number of messages the consumer takes from the queue at
+         * once. The messages are then routed one after the other by the
+         * consumer thread without waiting on the queue in between, and with the
+         * batch properties set on the exchanges, such as
+         * org.apache.camel.Exchange#BATCH_SIZE, so the messages can be
+         * aggregated as a batch using completion from batch consumer.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         */
+        default AdvancedVmEndpointConsumerBuilder batchSize(String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum time in millis the consumer waits for more messages to
+         * fill up the batch, when there are fewer messages on the queue than
+         * the batch size. Is by default 0 which means the consumer takes the
+         * messages which are on the queue without waiting.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Group: consumer (advanced)
+         */
+        default AdvancedVmEndpointConsumerBuilder batchTimeout(long batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
+        /**
+         * The maximum time in millis the consumer waits for more messages to
+         * fill up the batch, when there are fewer messages on the queue than
+         * the batch size. Is by default 0 which means the consumer takes the
+         * messages which are on the queue without waiting.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Group: consumer (advanced)
+         */
+        default AdvancedVmEndpointConsumerBuilder batchTimeout(
+                String batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.
@@ -69,6 +69,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "EndpointLazyStartProducer": target.setEndpointLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "endpointruntimestatisticsenabled":
         case "EndpointRuntimeStatisticsEnabled": target.setEndpointRuntimeStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
+        case "exchangefactory":
+        case "ExchangeFactory": target.setExchangeFactory(property(camelContext, java.lang.String.class, value)); return true;
+        case "exchangefactorycapacity":
+        case "ExchangeFactoryCapacity": target.setExchangeFactoryCapacity(property(camelContext, int.class, value)); return true;
         case "fileconfigurations":
         case "FileConfigurations": target.setFileConfigurations(property(camelContext, java.lang.String.class, value)); return true;
         case "hangupinterceptorenabled":
@@ -85,6 +89,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "JmxManagementNamePattern": target.setJmxManagementNamePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "jmxmanagementstatisticslevel":
         case "JmxManagementStatisticsLevel": target.setJmxManagementStatisticsLevel(property(camelContext, org.apache.camel.ManagementStatisticsLevel.class, value)); return true;
+        case "lazystartroutes":
+        case "LazyStartRoutes": target.setLazyStartRoutes(property(camelContext, boolean.class, value)); return true;
         case "lightweight":
         case "Lightweight": target.setLightweight(property(camelContext, boolean.class, value)); return true;
         case "loadtypeconverters":
@@ -109,6 +115,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
         case "RouteFilterIncludePattern": target.setRouteFilterIncludePattern(property(camelContext, java.lang.String.class, value)); return true;
+        case "routestartupparallelism":
+        case "RouteStartupParallelism": target.setRouteStartupParallelism(property(camelContext, int.class, value)); return true;
         case "routesbuilderclasses":
         case "RoutesBuilderClasses": target.setRoutesBuilderClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "routesbuilders":
@@ -127,6 +135,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "ShutdownTimeout": target.setShutdownTimeout(property(camelContext, int.class, value)); return true;
         case "streamcachinganyspoolrules":
         case "StreamCachingAnySpoolRules": target.setStreamCachingAnySpoolRules(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingbufferpoolleakdetection":
+        case "StreamCachingBufferPoolLeakDetection": target.setStreamCachingBufferPoolLeakDetection(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingbufferpoolsize":
+        case "StreamCachingBufferPoolSize": target.setStreamCachingBufferPoolSize(property(camelContext, int.class, value)); return true;
         case "streamcachingbuffersize":
         case "StreamCachingBufferSize": target.setStreamCachingBufferSize(property(camelContext, int.class, value)); return true;
         case "streamcachingenabled":
@@ -137,6 +149,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolCipher": target.setStreamCachingSpoolCipher(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": target.setStreamCachingSpoolDirectory(property(camelContext, java.lang.String.class, value)); return true;
+        case "streamcachingspoolmemorymapped":
+        case "StreamCachingSpoolMemoryMapped": target.setStreamCachingSpoolMemoryMapped(property(camelContext, boolean.class, value)); return true;
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": target.setStreamCachingSpoolThreshold(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolusedheapmemorylimit":
@@ -157,6 +171,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "UseDataType": target.setUseDataType(property(camelContext, boolean.class, value)); return true;
         case "usemdclogging":
         case "UseMdcLogging": target.setUseMdcLogging(property(camelContext, boolean.class, value)); return true;
+        case "virtualthreads":
+        case "VirtualThreads": target.setVirtualThreads(property(camelContext, boolean.class, value)); return true;
         case "xmlrests":
         case "XmlRests": target.setXmlRests(property(camelContext, java.lang.String.class, value)); return true;
         case "xmlroutes":
@@ -193,6 +209,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         answer.put("EndpointBridgeErrorHandler", boolean.class);
         answer.put("EndpointLazyStartProducer", boolean.class);
         answer.put("EndpointRuntimeStatisticsEnabled", boolean.class);
+        answer.put("ExchangeFactory", java.lang.String.class);
+        answer.put("ExchangeFactoryCapacity", int.class);
         answer.put("FileConfigurations", java.lang.String.class);
         answer.put("HangupInterceptorEnabled", boolean.class);
         answer.put("InflightRepositoryBrowseEnabled", boolean.class);
@@ -201,6 +219,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         answer.put("JmxEnabled", boolean.class);
         answer.put("JmxManagementNamePattern", java.lang.String.class);
         answer.put("JmxManagementStatisticsLevel", org.apache.camel.ManagementStatisticsLevel.class);
+        answer.put("LazyStartRoutes", boolean.class);
         answer.put("Lightweight", boolean.class);
         answer.put("LoadTypeConverters", boolean.class);
         answer.put("LogDebugMaxChars", int.class);
@@ -213,6 +232,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         answer.put("ProducerTemplateCacheSize", int.class);
         answer.put("RouteFilterExcludePattern", java.lang.String.class);
         answer.put("RouteFilterIncludePattern", java.lang.String.class);
+        answer.put("RouteStartupParallelism", int.class);
         answer.put("RoutesBuilderClasses", java.lang.String.class);
         answer.put("RoutesBuilders", java.util.List.class);
         answer.put("RoutesCollectorEnabled", boolean.class);
@@ -222,11 +242,14 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         answer.put("ShutdownSuppressLoggingOnTimeout", boolean.class);
         answer.put("ShutdownTimeout", int.class);
         answer.put("StreamCachingAnySpoolRules", boolean.class);
+        answer.put("StreamCachingBufferPoolLeakDetection", boolean.class);
+        answer.put("StreamCachingBufferPoolSize", int.class);
         answer.put("StreamCachingBufferSize", int.class);
         answer.put("StreamCachingEnabled", boolean.class);
         answer.put("StreamCachingRemoveSpoolDirectoryWhenStopping", boolean.class);
         answer.put("StreamCachingSpoolCipher", java.lang.String.class);
         answer.put("StreamCachingSpoolDirectory", java.lang.String.class);
+        answer.put("StreamCachingSpoolMemoryMapped", boolean.class);
         answer.put("StreamCachingSpoolThreshold", long.class);
         answer.put("StreamCachingSpoolUsedHeapMemoryLimit", java.lang.String.class);
         answer.put("StreamCachingSpoolUsedHeapMemoryThreshold", int.class);
@@ -237,6 +260,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         answer.put("UseBreadcrumb", boolean.class);
         answer.put("UseDataType", boolean.class);
         answer.put("UseMdcLogging", boolean.class);
+        answer.put("VirtualThreads", boolean.class);
         answer.put("XmlRests", java.lang.String.class);
         answer.put("XmlRoutes", java.lang.String.class);
         return answer;
@@ -296,6 +320,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "EndpointLazyStartProducer": return target.isEndpointLazyStartProducer();
         case "endpointruntimestatisticsenabled":
         case "EndpointRuntimeStatisticsEnabled": return target.isEndpointRuntimeStatisticsEnabled();
+        case "exchangefactory":
+        case "ExchangeFactory": return target.getExchangeFactory();
+        case "exchangefactorycapacity":
+        case "ExchangeFactoryCapacity": return target.getExchangeFactoryCapacity();
         case "fileconfigurations":
         case "FileConfigurations": return target.getFileConfigurations();
         case "hangupinterceptorenabled":
@@ -312,6 +340,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "JmxManagementNamePattern": return target.getJmxManagementNamePattern();
         case "jmxmanagementstatisticslevel":
         case "JmxManagementStatisticsLevel": return target.getJmxManagementStatisticsLevel();
+        case "lazystartroutes":
+        case "LazyStartRoutes": return target.isLazyStartRoutes();
         case "lightweight":
         case "Lightweight": return target.isLightweight();
         case "loadtypeconverters":
@@ -336,6 +366,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
         case "RouteFilterIncludePattern": return target.getRouteFilterIncludePattern();
+        case "routestartupparallelism":
+        case "RouteStartupParallelism": return target.getRouteStartupParallelism();
         case "routesbuilderclasses":
         case "RoutesBuilderClasses": return target.getRoutesBuilderClasses();
         case "routesbuilders":
@@ -354,6 +386,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "ShutdownTimeout": return target.getShutdownTimeout();
         case "streamcachinganyspoolrules":
         case "StreamCachingAnySpoolRules": return target.isStreamCachingAnySpoolRules();
+        case "streamcachingbufferpoolleakdetection":
+        case "StreamCachingBufferPoolLeakDetection": return target.isStreamCachingBufferPoolLeakDetection();
+        case "streamcachingbufferpoolsize":
+        case "StreamCachingBufferPoolSize": return target.getStreamCachingBufferPoolSize();
         case "streamcachingbuffersize":
         case "StreamCachingBufferSize": return target.getStreamCachingBufferSize();
         case "streamcachingenabled":
@@ -364,6 +400,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolCipher": return target.getStreamCachingSpoolCipher();
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": return target.getStreamCachingSpoolDirectory();
+        case "streamcachingspoolmemorymapped":
+        case "StreamCachingSpoolMemoryMapped": return target.isStreamCachingSpoolMemoryMapped();
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": return target.getStreamCachingSpoolThreshold();
         case "streamcachingspoolusedheapmemorylimit":
@@ -384,6 +422,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "UseDataType": return target.isUseDataType();
         case "usemdclogging":
         case "UseMdcLogging": return target.isUseMdcLogging();
+        case "virtualthreads":
+        case "VirtualThreads": return target.isVirtualThreads();
         case "xmlrests":
         case "XmlRests": return target.getXmlRests();
         case "xmlroutes":
@@ -93,7 +93,7 @@ public abstract class BaseMainSupport extends BaseService {
 
     private static final String SENSITIVE_KEYS = "passphrase|password|secretkey|accesstoken|clientsecret|authorizationtoken|sasljaasconfig";
 
-    private static final String VALID_THREAD_POOL_KEYS = "id|poolSize|maxPoolSize|keepAliveTime|timeUnit|maxQueueSize|allowCoreThreadTimeout|rejectedPolicy";
+    private static final String VALID_THREAD_POOL_KEYS = "id|poolSize|maxPoolSize|keepAliveTime|timeUnit|maxQueueSize|allowCoreThreadTimeout|rejectedPolicy|virtualThreads";
 
     protected final AtomicBoolean completed = new AtomicBoolean(false);
 
@@ -874,6 +874,7 @@ public abstract class BaseMainSupport extends BaseService {
             String maxQueueSize = map.remove("maxQueueSize");
             String allowCoreThreadTimeOut = map.remove("allowCoreThreadTimeout");
             String rejectedPolicy = map.remove("rejectedPolicy");
+            String virtualThreads = map.remove("virtualThreads");
 
             if (overrideId != null) {
                 id = CamelContextHelper.parseText(camelContext, overrideId);
@@ -905,6 +906,9 @@ public abstract class BaseMainSupport extends BaseService {
                 String text = CamelContextHelper.parseText(camelContext, rejectedPolicy);
                 builder.rejectedPolicy(camelContext.getTypeConverter().convertTo(ThreadPoolRejectedPolicy.class, text));
             }
+            if (virtualThreads != null) {
+                builder.virtualThreads(CamelContextHelper.parseBoolean(camelContext, virtualThreads));
+            }
             ExecutorServiceManager esm = camelContext.adapt(ExtendedCamelContext.class).getExecutorServiceManager();
             if ("default".equals(id)) {
                 esm.setDefaultThreadPoolProfile(builder.build());
@@ -39,6 +39,7 @@ import org.apache.camel.spi.Debugger;
 import org.apache.camel.spi.EndpointStrategy;
 import org.apache.camel.spi.EventFactory;
 import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinderResolver;
 import org.apache.camel.spi.InflightRepository;
@@ -61,8 +62,10 @@ import org.apache.camel.spi.ShutdownStrategy;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.spi.TimeoutScheduler;
 import org.apache.camel.spi.UnitOfWorkFactory;
 import org.apache.camel.spi.UuidGenerator;
+import org.apache.camel.support.PooledExchangeFactory;
 import org.apache.camel.support.jsse.GlobalSSLContextParametersSupplier;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -119,8 +122,11 @@ public final class DefaultConfigurationConfigurer {
         camelContext.setStreamCaching(config.isStreamCachingEnabled());
         camelContext.getStreamCachingStrategy().setAnySpoolRules(config.isStreamCachingAnySpoolRules());
         camelContext.getStreamCachingStrategy().setBufferSize(config.getStreamCachingBufferSize());
+        camelContext.getStreamCachingStrategy().setBufferPoolSize(config.getStreamCachingBufferPoolSize());
+        camelContext.getStreamCachingStrategy().setBufferPoolLeakDetection(config.isStreamCachingBufferPoolLeakDetection());
         camelContext.getStreamCachingStrategy().setRemoveSpoolDirectoryWhenStopping(config.isStreamCachingRemoveSpoolDirectoryWhenStopping());
         camelContext.getStreamCachingStrategy().setSpoolCipher(config.getStreamCachingSpoolCipher());
+        camelContext.getStreamCachingStrategy().setSpoolMemoryMapped(config.isStreamCachingSpoolMemoryMapped());
         if (config.getStreamCachingSpoolDirectory() != null) {
             camelContext.getStreamCachingStrategy().setSpoolDirectory(config.getStreamCachingSpoolDirectory());
         }
@@ -153,6 +159,12 @@ public final class DefaultConfigurationConfigurer {
         camelContext.setUseMDCLogging(config.isUseMdcLogging());
         camelContext.setMDCLoggingKeysPattern(config.getMdcLoggingKeysPattern());
         camelContext.setLoadTypeConverters(config.isLoadTypeConverters());
+        if (config.isLazyStartRoutes()) {
+            camelContext.adapt(ExtendedCamelContext.class).setLazyStartRoutes(true);
+        }
+        if (config.getRouteStartupParallelism() > 1) {
+            camelContext.adapt(ExtendedCamelContext.class).setRouteStartupParallelism(config.getRouteStartupParallelism());
+        }
 
         if (camelContext.getManagementStrategy().getManagementAgent() != null) {
             camelContext.getManagementStrategy().getManagementAgent().setEndpointRuntimeStatisticsEnabled(config.isEndpointRuntimeStatisticsEnabled());
@@ -172,6 +184,17 @@ public final class DefaultConfigurationConfigurer {
         if (config.getThreadNamePattern() != null) {
             camelContext.getExecutorServiceManager().setThreadNamePattern(config.getThreadNamePattern());
         }
+        if (config.isVirtualThreads()) {
+            camelContext.getExecutorServiceManager().getDefaultThreadPoolProfile().setVirtualThreads(true);
+        }
+
+        if ("pooled".equalsIgnoreCase(config.getExchangeFactory())) {
+            PooledExchangeFactory factory = new PooledExchangeFactory();
+            factory.setCapacity(config.getExchangeFactoryCapacity());
+            ecc.setExchangeFactory(factory);
+        } else if (config.getExchangeFactory() != null && !"prototype".equalsIgnoreCase(config.getExchangeFactory())) {
+            throw new IllegalArgumentException("Unknown exchangeFactory: " + config.getExchangeFactory() + ". Should be either prototype or pooled");
+        }
 
         if (config.getRouteFilterIncludePattern() != null || config.getRouteFilterExcludePattern() != null) {
             camelContext.getExtension(Model.class).setRouteFilterPattern(config.getRouteFilterIncludePattern(), config.getRouteFilterExcludePattern());
@@ -274,6 +297,14 @@ public final class DefaultConfigurationConfigurer {
         if (re != null) {
             ecc.setReactiveExecutor(re);
         }
+        ExchangeFactory exf = getSingleBeanOfType(registry, ExchangeFactory.class);
+        if (exf != null) {
+            ecc.setExchangeFactory(exf);
+        }
+        TimeoutScheduler ts = getSingleBeanOfType(registry, TimeoutScheduler.class);
+        if (ts != null) {
+            ecc.setTimeoutScheduler(ts);
+        }
         ShutdownStrategy ss = getSingleBeanOfType(registry, ShutdownStrategy.class);
         if (ss != null) {
             ecc.setShutdownStrategy(ss);
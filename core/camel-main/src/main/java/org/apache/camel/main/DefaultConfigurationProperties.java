@@ -40,15 +40,20 @@ public abstract class DefaultConfigurationProperties<T> {
     private int producerTemplateCacheSize = 1000;
     private int consumerTemplateCacheSize = 1000;
     private boolean loadTypeConverters;
+    private boolean lazyStartRoutes;
+    private int routeStartupParallelism = 1;
     private int logDebugMaxChars;
     private boolean streamCachingEnabled;
     private String streamCachingSpoolDirectory;
     private String streamCachingSpoolCipher;
+    private boolean streamCachingSpoolMemoryMapped;
     private long streamCachingSpoolThreshold;
     private int streamCachingSpoolUsedHeapMemoryThreshold;
     private String streamCachingSpoolUsedHeapMemoryLimit;
     private boolean streamCachingAnySpoolRules;
     private int streamCachingBufferSize;
+    private int streamCachingBufferPoolSize;
+    private boolean streamCachingBufferPoolLeakDetection;
     private boolean streamCachingRemoveSpoolDirectoryWhenStopping = true;
     private boolean streamCachingStatisticsEnabled;
     private boolean backlogTracing;
@@ -71,6 +76,9 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean useMdcLogging;
     private String mdcLoggingKeysPattern;
     private String threadNamePattern;
+    private boolean virtualThreads;
+    private String exchangeFactory = "prototype";
+    private int exchangeFactoryCapacity = 100;
     private String routeFilterIncludePattern;
     private String routeFilterExcludePattern;
     private boolean beanIntrospectionExtendedStatistics;
@@ -277,6 +285,41 @@ public abstract class DefaultConfigurationProperties<T> {
         this.loadTypeConverters = loadTypeConverters;
     }
 
+    public boolean isLazyStartRoutes() {
+        return lazyStartRoutes;
+    }
+
+    /**
+     * Whether routes consuming from direct and seda endpoints should be lazy started. Such routes are then dormant
+     * on startup, and are first created and started when a message is sent to the endpoint the route consumes from.
+     * This reduces startup time and memory footprint when having many routes which are rarely in use.
+     * Routes which are configured to not auto startup are not lazy started.
+     *
+     * This option is not supported with lightweight mode.
+     *
+     * The default value is false.
+     */
+    public void setLazyStartRoutes(boolean lazyStartRoutes) {
+        this.lazyStartRoutes = lazyStartRoutes;
+    }
+
+    public int getRouteStartupParallelism() {
+        return routeStartupParallelism;
+    }
+
+    /**
+     * Sets the maximum number of routes to start in parallel when Camel is starting.
+     * Routes with an explicit startup order are started in that order, after the routes before it and
+     * before the routes after it. Routes which shares endpoints are started one after another in their
+     * startup order, whereas independent routes are started concurrently. This can reduce startup time
+     * when having many routes which are slow to start.
+     *
+     * The default value is 1, which starts the routes one after another.
+     */
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+    }
+
     public int getLogDebugMaxChars() {
         return logDebugMaxChars;
     }
@@ -329,6 +372,20 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingSpoolCipher = streamCachingSpoolCipher;
     }
 
+    public boolean isStreamCachingSpoolMemoryMapped() {
+        return streamCachingSpoolMemoryMapped;
+    }
+
+    /**
+     * Sets whether stream caching should use memory mapped files when reading the data which has been spooled to disk,
+     * which allows re-reading the data without copying the data through the heap.
+     * This is not in use when a spool cipher is in use.
+     * By default this is disabled.
+     */
+    public void setStreamCachingSpoolMemoryMapped(boolean streamCachingSpoolMemoryMapped) {
+        this.streamCachingSpoolMemoryMapped = streamCachingSpoolMemoryMapped;
+    }
+
     public long getStreamCachingSpoolThreshold() {
         return streamCachingSpoolThreshold;
     }
@@ -393,6 +450,33 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingBufferSize = streamCachingBufferSize;
     }
 
+    public int getStreamCachingBufferPoolSize() {
+        return streamCachingBufferPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of free buffers to keep in a pool of buffers shared by the in-memory stream caches,
+     * which are returned to the pool when the exchange is done. The in-memory stream caches must then not be used after
+     * the exchange is done.
+     *
+     * The default is 0 which means the buffers are not pooled.
+     */
+    public void setStreamCachingBufferPoolSize(int streamCachingBufferPoolSize) {
+        this.streamCachingBufferPoolSize = streamCachingBufferPoolSize;
+    }
+
+    public boolean isStreamCachingBufferPoolLeakDetection() {
+        return streamCachingBufferPoolLeakDetection;
+    }
+
+    /**
+     * Sets whether to detect in-memory stream caches which are garbage collected without returning their buffers to the
+     * pool of buffers. By default this is disabled.
+     */
+    public void setStreamCachingBufferPoolLeakDetection(boolean streamCachingBufferPoolLeakDetection) {
+        this.streamCachingBufferPoolLeakDetection = streamCachingBufferPoolLeakDetection;
+    }
+
     public boolean isStreamCachingRemoveSpoolDirectoryWhenStopping() {
         return streamCachingRemoveSpoolDirectoryWhenStopping;
     }
@@ -711,6 +795,50 @@ public abstract class DefaultConfigurationProperties<T> {
         this.threadNamePattern = threadNamePattern;
     }
 
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Whether the default thread pool profile should use virtual threads instead of platform threads.
+     *
+     * A new virtual thread is then created per task, and the thread pools are therefore not bounded by the pool size.
+     * This requires a JVM which supports virtual threads, and platform threads are used as fallback on older JVMs.
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public String getExchangeFactory() {
+        return exchangeFactory;
+    }
+
+    /**
+     * Controls whether the Camel consumers should create a new exchange per message (prototype),
+     * or reuse the exchanges from a pool (pooled) to reduce object allocations.
+     *
+     * The pooled mode requires that exchanges are not used after the consumer is done with the exchange,
+     * such as custom processors which keep references to the exchange.
+     *
+     * The default is prototype mode.
+     */
+    public void setExchangeFactory(String exchangeFactory) {
+        this.exchangeFactory = exchangeFactory;
+    }
+
+    public int getExchangeFactoryCapacity() {
+        return exchangeFactoryCapacity;
+    }
+
+    /**
+     * The capacity of the pool of exchanges per consumer, when using the pooled exchange factory.
+     *
+     * The default capacity is 100.
+     */
+    public void setExchangeFactoryCapacity(int exchangeFactoryCapacity) {
+        this.exchangeFactoryCapacity = exchangeFactoryCapacity;
+    }
+
     public String getRouteFilterIncludePattern() {
         return routeFilterIncludePattern;
     }
@@ -1040,6 +1168,35 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether routes consuming from direct and seda endpoints should be lazy started. Such routes are then dormant
+     * on startup, and are first created and started when a message is sent to the endpoint the route consumes from.
+     * This reduces startup time and memory footprint when having many routes which are rarely in use.
+     * Routes which are configured to not auto startup are not lazy started.
+     *
+     * This option is not supported with lightweight mode.
+     *
+     * The default value is false.
+     */
+    public T withLazyStartRoutes(boolean lazyStartRoutes) {
+        this.lazyStartRoutes = lazyStartRoutes;
+        return (T) this;
+    }
+
+    /**
+     * Sets the maximum number of routes to start in parallel when Camel is starting.
+     * Routes with an explicit startup order are started in that order, after the routes before it and
+     * before the routes after it. Routes which shares endpoints are started one after another in their
+     * startup order, whereas independent routes are started concurrently. This can reduce startup time
+     * when having many routes which are slow to start.
+     *
+     * The default value is 1, which starts the routes one after another.
+     */
+    public T withRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+        return (T) this;
+    }
+
     /**
      * Is used to limit the maximum length of the logging Camel message bodies. If the message body
      * is longer than the limit, the log message is clipped. Use -1 to have unlimited length.
@@ -1080,6 +1237,17 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets whether stream caching should use memory mapped files when reading the data which has been spooled to disk,
+     * which allows re-reading the data without copying the data through the heap.
+     * This is not in use when a spool cipher is in use.
+     * By default this is disabled.
+     */
+    public T withStreamCachingSpoolMemoryMapped(boolean streamCachingSpoolMemoryMapped) {
+        this.streamCachingSpoolMemoryMapped = streamCachingSpoolMemoryMapped;
+        return (T) this;
+    }
+
     /**
      * Stream caching threshold in bytes when overflow to disk is activated.
      * The default threshold is 128kb.
@@ -1129,6 +1297,27 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the maximum number of free buffers to keep in a pool of buffers shared by the in-memory stream caches,
+     * which are returned to the pool when the exchange is done. The in-memory stream caches must then not be used after
+     * the exchange is done.
+     *
+     * The default is 0 which means the buffers are not pooled.
+     */
+    public T withStreamCachingBufferPoolSize(int streamCachingBufferPoolSize) {
+        this.streamCachingBufferPoolSize = streamCachingBufferPoolSize;
+        return (T) this;
+    }
+
+    /**
+     * Sets whether to detect in-memory stream caches which are garbage collected without returning their buffers to the
+     * pool of buffers. By default this is disabled.
+     */
+    public T withStreamCachingBufferPoolLeakDetection(boolean streamCachingBufferPoolLeakDetection) {
+        this.streamCachingBufferPoolLeakDetection = streamCachingBufferPoolLeakDetection;
+        return (T) this;
+    }
+
     /**
      * Whether to remove stream caching temporary directory when stopping.
      * This option is default true.
@@ -1351,6 +1540,41 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether the default thread pool profile should use virtual threads instead of platform threads.
+     *
+     * A new virtual thread is then created per task, and the thread pools are therefore not bounded by the pool size.
+     * This requires a JVM which supports virtual threads, and platform threads are used as fallback on older JVMs.
+     */
+    public T withVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return (T) this;
+    }
+
+    /**
+     * Controls whether the Camel consumers should create a new exchange per message (prototype),
+     * or reuse the exchanges from a pool (pooled) to reduce object allocations.
+     *
+     * The pooled mode requires that exchanges are not used after the consumer is done with the exchange,
+     * such as custom processors which keep references to the exchange.
+     *
+     * The default is prototype mode.
+     */
+    public T withExchangeFactory(String exchangeFactory) {
+        this.exchangeFactory = exchangeFactory;
+        return (T) this;
+    }
+
+    /**
+     * The capacity of the pool of exchanges per consumer, when using the pooled exchange factory.
+     *
+     * The default capacity is 100.
+     */
+    public T withExchangeFactoryCapacity(int exchangeFactoryCapacity) {
+        this.exchangeFactoryCapacity = exchangeFactoryCapacity;
+        return (T) this;
+    }
+
     /**
      * Used for filtering routes routes matching the given pattern, which follows the following rules:
      *
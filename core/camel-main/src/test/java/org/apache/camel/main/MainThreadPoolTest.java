@@ -55,6 +55,7 @@ public class MainThreadPoolTest extends Assert {
         main.addProperty("camel.threadpool[myPool].pool-size", "1");
         main.addProperty("camel.threadpool[myPool].max-pool-size", "2");
         main.addProperty("camel.threadpool[myPool].rejectedPolicy", "DiscardOldest");
+        main.addProperty("camel.threadpool[myPool].virtual-threads", "true");
         main.addProperty("camel.threadpool[myBigPool].id", "myBigPool");
         main.addProperty("camel.threadpool[myBigPool].pool-size", "10");
         main.addProperty("camel.threadpool[myBigPool].max-pool-size", "200");
@@ -70,6 +71,7 @@ public class MainThreadPoolTest extends Assert {
         assertEquals("1", tp.getPoolSize().toString());
         assertEquals("2", tp.getMaxPoolSize().toString());
         assertEquals("DiscardOldest", tp.getRejectedPolicy().toString());
+        assertEquals(Boolean.TRUE, tp.getVirtualThreads());
 
         tp = camelContext.getExecutorServiceManager().getThreadPoolProfile("myBigPool");
         assertEquals("myBigPool", tp.getId());
@@ -42,6 +42,18 @@ public final class CamelOpenMBeanTypes {
                 new OpenType[]{SimpleType.STRING, SimpleType.STRING});
     }
 
+    public static TabularType listTopConversionsTabularType() throws OpenDataException {
+        CompositeType ct = listTopConversionsCompositeType();
+        return new TabularType("listTopConversions", "Lists the most used type conversions (from -> to)", ct, new String[]{"from", "to"});
+    }
+
+    public static CompositeType listTopConversionsCompositeType() throws OpenDataException {
+        return new CompositeType("conversions", "Type conversions",
+                new String[]{"from", "to", "attempts"},
+                new String[]{"From type", "To type", "Attempts"},
+                new OpenType[]{SimpleType.STRING, SimpleType.STRING, SimpleType.LONG});
+    }
+
     public static TabularType listRestServicesTabularType() throws OpenDataException {
         CompositeType ct = listRestServicesCompositeType();
         return new TabularType("listRestServices", "Lists all the rest services in the registry", ct, new String[]{"url", "method"});
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.api.management.mbean;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -92,6 +93,15 @@ public interface ManagedCamelContextMBean extends ManagedPerformanceCounterMBean
     @ManagedAttribute(description = "Current number of started routes")
     Integer getStartedRoutes();
 
+    @ManagedAttribute(description = "Whether routes consuming from direct and seda endpoints are lazy started on first use")
+    boolean isLazyStartRoutes();
+
+    @ManagedAttribute(description = "Current number of dormant routes which are lazy started on first use")
+    Integer getDormantRoutes();
+
+    @ManagedAttribute(description = "Ids of the dormant routes which are lazy started on first use")
+    Collection<String> getDormantRouteIds();
+
     @ManagedAttribute(description = "Shutdown timeout")
     void setTimeout(long timeout);
 
@@ -42,6 +42,27 @@ public interface ManagedIdempotentConsumerMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Current count of duplicate Messages")
     long getDuplicateMessageCount();
 
+    @ManagedAttribute(description = "The expected number of keys used for sizing the pre-filter (0 if not in use)")
+    long getPreFilterSize();
+
+    @ManagedAttribute(description = "The false positive rate of the pre-filter when the expected number of keys has been added")
+    double getPreFilterFalsePositiveRate();
+
+    @ManagedAttribute(description = "Estimated false positive rate of the pre-filter from the number of keys added")
+    double getPreFilterEstimatedFalsePositiveRate();
+
+    @ManagedAttribute(description = "Number of keys regarded as new by the pre-filter without calling the repository")
+    long getPreFilterHitCount();
+
+    @ManagedAttribute(description = "Number of keys which may have been seen before by the pre-filter and therefore checked with the repository")
+    long getPreFilterMissCount();
+
+    @ManagedAttribute(description = "Number of keys checked with the repository and found to be new")
+    long getPreFilterFalsePositiveCount();
+
+    @ManagedAttribute(description = "Number of keys regarded as new by the pre-filter which are not yet added to the repository")
+    int getPreFilterPendingCount();
+
     @ManagedOperation(description = "Reset the current count of duplicate Messages")
     void resetDuplicateMessageCount();
     
@@ -59,6 +59,21 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedAttribute(description = "Delta Processing Time [milliseconds]")
     long getDeltaProcessingTime() throws Exception;
 
+    @ManagedAttribute(description = "50th Percentile (Median) Processing Time [milliseconds]")
+    long getP50ProcessingTime() throws Exception;
+
+    @ManagedAttribute(description = "95th Percentile Processing Time [milliseconds]")
+    long getP95ProcessingTime() throws Exception;
+
+    @ManagedAttribute(description = "99th Percentile Processing Time [milliseconds]")
+    long getP99ProcessingTime() throws Exception;
+
+    @ManagedAttribute(description = "99.9th Percentile Processing Time [milliseconds]")
+    long getP999ProcessingTime() throws Exception;
+
+    @ManagedOperation(description = "Processing Time [milliseconds] at the given percentile (such as 99.9)")
+    long processingTimePercentile(double percentile) throws Exception;
+
     @ManagedAttribute(description = "Last Exchange Completed Timestamp")
     Date getLastExchangeCompletedTimestamp();
 
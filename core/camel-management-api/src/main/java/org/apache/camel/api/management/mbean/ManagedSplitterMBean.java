@@ -26,4 +26,13 @@ public interface ManagedSplitterMBean extends ManagedMulticastMBean {
     @ManagedAttribute(description = "Expression of how to split the message body, such as as-is, using a tokenizer, or using an xpath.")
     String getExpression();
 
+    @ManagedAttribute(description = "The maximum number of splitted messages in flight when using parallel processing (0 is unlimited)")
+    int getMaxInflight();
+
+    @ManagedAttribute(description = "Number of splitted messages currently being processed")
+    int getInflightExchanges();
+
+    @ManagedAttribute(description = "Number of processed splitted messages waiting to be aggregated in order")
+    int getPendingAggregations();
+
 }
\ No newline at end of file
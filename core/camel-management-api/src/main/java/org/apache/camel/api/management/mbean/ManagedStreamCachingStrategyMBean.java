@@ -37,6 +37,9 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Cipher used if writing with encryption")
     String getSpoolCipher();
 
+    @ManagedAttribute(description = "Whether to use memory mapped files when reading data spooled to disk")
+    boolean isSpoolMemoryMapped();
+
     @ManagedAttribute(description = "Threshold in bytes when overflow and spooling to disk instead of keeping in memory")
     void setSpoolThreshold(long threshold);
 
@@ -61,6 +64,30 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Buffer size in bytes to use when coping between buffers")
     int getBufferSize();
 
+    @ManagedAttribute(description = "Maximum number of free buffers to keep in the pool of buffers (0 if not pooled)")
+    int getBufferPoolSize();
+
+    @ManagedAttribute(description = "Whether to detect stream caches which are garbage collected without returning their buffers to the pool")
+    boolean isBufferPoolLeakDetection();
+
+    @ManagedAttribute(description = "Number of free buffers in the pool of buffers")
+    int getBufferPoolPooled();
+
+    @ManagedAttribute(description = "Number of buffers borrowed from the pool of buffers which are not yet returned")
+    long getBufferPoolInUse();
+
+    @ManagedAttribute(description = "Number of buffers allocated by the pool of buffers")
+    long getBufferPoolCreatedCounter();
+
+    @ManagedAttribute(description = "Number of buffers borrowed from the pool of buffers")
+    long getBufferPoolAcquiredCounter();
+
+    @ManagedAttribute(description = "Number of buffers returned to the pool of buffers")
+    long getBufferPoolReleasedCounter();
+
+    @ManagedAttribute(description = "Number of stream caches garbage collected without returning their buffers to the pool (requires leak detection)")
+    long getBufferPoolLeaks();
+
     @ManagedAttribute(description = "Whether to remove spool directory when stopping")
     void setRemoveSpoolDirectoryWhenStopping(boolean remove);
 
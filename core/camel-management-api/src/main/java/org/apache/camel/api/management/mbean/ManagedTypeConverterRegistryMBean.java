@@ -62,4 +62,7 @@ public interface ManagedTypeConverterRegistryMBean extends ManagedServiceMBean {
     @ManagedOperation(description = "Lists all the type converters in the registry (from -> to)")
     TabularData listTypeConverters();
 
+    @ManagedOperation(description = "Lists the most used type conversions (from -> to) with the number of attempts (statistics must be enabled)")
+    TabularData listTopConversions(int limit);
+
 }
@@ -191,6 +191,21 @@ public class ManagedCamelContext extends ManagedPerformanceCounter implements Ti
         return started;
     }
 
+    @Override
+    public boolean isLazyStartRoutes() {
+        return context.adapt(ExtendedCamelContext.class).isLazyStartRoutes();
+    }
+
+    @Override
+    public Integer getDormantRoutes() {
+        return context.adapt(ExtendedCamelContext.class).getDormantRouteIds().size();
+    }
+
+    @Override
+    public Collection<String> getDormantRouteIds() {
+        return context.adapt(ExtendedCamelContext.class).getDormantRouteIds();
+    }
+
     @Override
     public void setTimeout(long timeout) {
         context.getShutdownStrategy().setTimeout(timeout);
@@ -20,6 +20,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedIdempotentConsumerMBean;
 import org.apache.camel.model.IdempotentConsumerDefinition;
+import org.apache.camel.processor.idempotent.BloomFilter;
 import org.apache.camel.processor.idempotent.IdempotentConsumer;
 
 @ManagedResource(description = "Managed Idempotent Consumer")
@@ -74,6 +75,42 @@ public class ManagedIdempotentConsumer extends ManagedProcessor implements Manag
         return getProcessor().getDuplicateMessageCount();
     }
 
+    @Override
+    public long getPreFilterSize() {
+        return getProcessor().getPreFilterSize();
+    }
+
+    @Override
+    public double getPreFilterFalsePositiveRate() {
+        return getProcessor().getPreFilterFalsePositiveRate();
+    }
+
+    @Override
+    public double getPreFilterEstimatedFalsePositiveRate() {
+        BloomFilter filter = getProcessor().getPreFilter();
+        return filter != null ? filter.getFalsePositiveProbability() : 0;
+    }
+
+    @Override
+    public long getPreFilterHitCount() {
+        return getProcessor().getPreFilterHitCount();
+    }
+
+    @Override
+    public long getPreFilterMissCount() {
+        return getProcessor().getPreFilterMissCount();
+    }
+
+    @Override
+    public long getPreFilterFalsePositiveCount() {
+        return getProcessor().getPreFilterFalsePositiveCount();
+    }
+
+    @Override
+    public int getPreFilterPendingCount() {
+        return getProcessor().getPreFilterPendingCount();
+    }
+
     @Override
     public void resetDuplicateMessageCount() {
         getProcessor().resetDuplicateMessageCount();
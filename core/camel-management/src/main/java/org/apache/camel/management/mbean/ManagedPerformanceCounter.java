@@ -43,6 +43,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
     private Statistic lastProcessingTime;
     private Statistic deltaProcessingTime;
     private Statistic meanProcessingTime;
+    private StatisticHistogram processingTimeHistogram;
     private Statistic firstExchangeCompletedTimestamp;
     private String firstExchangeCompletedExchangeId;
     private Statistic firstExchangeFailureTimestamp;
@@ -70,6 +71,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         this.lastProcessingTime = new StatisticValue();
         this.deltaProcessingTime = new StatisticDelta();
         this.meanProcessingTime = new StatisticValue();
+        this.processingTimeHistogram = new StatisticHistogram();
 
         this.firstExchangeCompletedTimestamp = new StatisticValue();
         this.firstExchangeFailureTimestamp = new StatisticValue();
@@ -92,6 +94,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         lastProcessingTime.reset();
         deltaProcessingTime.reset();
         meanProcessingTime.reset();
+        processingTimeHistogram.reset();
         firstExchangeCompletedTimestamp.reset();
         firstExchangeCompletedExchangeId = null;
         firstExchangeFailureTimestamp.reset();
@@ -162,6 +165,31 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         return deltaProcessingTime.getValue();
     }
 
+    @Override
+    public long getP50ProcessingTime() throws Exception {
+        return processingTimeHistogram.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getP95ProcessingTime() throws Exception {
+        return processingTimeHistogram.getValueAtPercentile(95);
+    }
+
+    @Override
+    public long getP99ProcessingTime() throws Exception {
+        return processingTimeHistogram.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getP999ProcessingTime() throws Exception {
+        return processingTimeHistogram.getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public long processingTimePercentile(double percentile) throws Exception {
+        return processingTimeHistogram.getValueAtPercentile(percentile);
+    }
+
     @Override
     public Date getLastExchangeCompletedTimestamp() {
         long value = lastExchangeCompletedTimestamp.getValue();
@@ -239,6 +267,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         totalProcessingTime.updateValue(time);
         lastProcessingTime.updateValue(time);
         deltaProcessingTime.updateValue(time);
+        processingTimeHistogram.updateValue(time);
 
         long now = System.currentTimeMillis();
         if (!firstExchangeCompletedTimestamp.isUpdated()) {
@@ -300,6 +329,10 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         sb.append(String.format(" lastProcessingTime=\"%s\"", lastProcessingTime.getValue()));
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
         sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
+        sb.append(String.format(" p50ProcessingTime=\"%s\"", processingTimeHistogram.getValueAtPercentile(50)));
+        sb.append(String.format(" p95ProcessingTime=\"%s\"", processingTimeHistogram.getValueAtPercentile(95)));
+        sb.append(String.format(" p99ProcessingTime=\"%s\"", processingTimeHistogram.getValueAtPercentile(99)));
+        sb.append(String.format(" p999ProcessingTime=\"%s\"", processingTimeHistogram.getValueAtPercentile(99.9)));
 
         if (fullStats) {
             sb.append(String.format(" startTimestamp=\"%s\"", dateAsString(startTimestamp.getTime())));
@@ -45,4 +45,19 @@ public class ManagedSplitter extends ManagedMulticast implements ManagedSplitter
     public String getExpression() {
         return getDefinition().getExpression().getExpression();
     }
+
+    @Override
+    public int getMaxInflight() {
+        return processor.getMaxInflight();
+    }
+
+    @Override
+    public int getInflightExchanges() {
+        return processor.getInflightExchanges();
+    }
+
+    @Override
+    public int getPendingAggregations() {
+        return processor.getPendingAggregations();
+    }
 }
@@ -20,6 +20,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedStreamCachingStrategyMBean;
 import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.util.BufferPool;
 
 @ManagedResource(description = "Managed StreamCachingStrategy")
 public class ManagedStreamCachingStrategy extends ManagedService implements ManagedStreamCachingStrategyMBean {
@@ -56,6 +57,11 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getSpoolCipher();
     }
 
+    @Override
+    public boolean isSpoolMemoryMapped() {
+        return streamCachingStrategy.isSpoolMemoryMapped();
+    }
+
     @Override
     public void setSpoolThreshold(long threshold) {
         streamCachingStrategy.setSpoolThreshold(threshold);
@@ -123,6 +129,52 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getBufferSize();
     }
 
+    @Override
+    public int getBufferPoolSize() {
+        return streamCachingStrategy.getBufferPoolSize();
+    }
+
+    @Override
+    public boolean isBufferPoolLeakDetection() {
+        return streamCachingStrategy.isBufferPoolLeakDetection();
+    }
+
+    @Override
+    public int getBufferPoolPooled() {
+        BufferPool pool = streamCachingStrategy.getBufferPool();
+        return pool != null ? pool.getPooled() : 0;
+    }
+
+    @Override
+    public long getBufferPoolInUse() {
+        BufferPool pool = streamCachingStrategy.getBufferPool();
+        return pool != null ? pool.getInUse() : 0;
+    }
+
+    @Override
+    public long getBufferPoolCreatedCounter() {
+        BufferPool pool = streamCachingStrategy.getBufferPool();
+        return pool != null ? pool.getCreatedCounter() : 0;
+    }
+
+    @Override
+    public long getBufferPoolAcquiredCounter() {
+        BufferPool pool = streamCachingStrategy.getBufferPool();
+        return pool != null ? pool.getAcquiredCounter() : 0;
+    }
+
+    @Override
+    public long getBufferPoolReleasedCounter() {
+        BufferPool pool = streamCachingStrategy.getBufferPool();
+        return pool != null ? pool.getReleasedCounter() : 0;
+    }
+
+    @Override
+    public long getBufferPoolLeaks() {
+        BufferPool pool = streamCachingStrategy.getBufferPool();
+        return pool != null ? pool.getLeaks() : 0;
+    }
+
     @Override
     public void setRemoveSpoolDirectoryWhenStopping(boolean remove) {
         streamCachingStrategy.setRemoveSpoolDirectoryWhenStopping(remove);
@@ -17,6 +17,7 @@
 package org.apache.camel.management.mbean;
 
 import java.util.List;
+import java.util.Map;
 
 import javax.management.openmbean.CompositeData;
 import javax.management.openmbean.CompositeDataSupport;
@@ -30,6 +31,7 @@ import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.CamelOpenMBeanTypes;
 import org.apache.camel.api.management.mbean.ManagedTypeConverterRegistryMBean;
 import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.util.StringHelper;
 
 /**
  *
@@ -133,4 +135,22 @@ public class ManagedTypeConverterRegistry extends ManagedService implements Mana
             throw RuntimeCamelException.wrapRuntimeCamelException(e);
         }
     }
+
+    @Override
+    public TabularData listTopConversions(int limit) {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.listTopConversionsTabularType());
+            Map<String, Long> conversions = registry.getStatistics().getTopConversions(limit);
+            for (Map.Entry<String, Long> entry : conversions.entrySet()) {
+                CompositeType ct = CamelOpenMBeanTypes.listTopConversionsCompositeType();
+                String from = StringHelper.before(entry.getKey(), " -> ");
+                String to = StringHelper.after(entry.getKey(), " -> ");
+                CompositeData data = new CompositeDataSupport(ct, new String[]{"from", "to", "attempts"}, new Object[]{from, to, entry.getValue()});
+                answer.put(data);
+            }
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
 }
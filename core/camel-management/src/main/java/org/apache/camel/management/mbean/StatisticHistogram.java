@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link Statistic} which records the values in a log-linear histogram so percentiles can be calculated.
+ * <p/>
+ * The values are recorded in buckets where each power of two range is divided into 8 linear sub buckets,
+ * which means the percentiles have a relative error of at most 12.5% (values below 8 are exact).
+ * <p/>
+ * To keep the overhead of recording low, then the counts are striped by the calling thread, so threads
+ * do not contend on the same counters, and the stripes are merged when the histogram is read.
+ * The stripes are created on demand so a histogram which is only updated by a single thread uses a single stripe.
+ * <p/>
+ * The {@link #getValue()} returns the number of recorded values.
+ */
+public class StatisticHistogram extends Statistic {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // values are tracked up till 2^40 (any larger value is recorded in the last bucket)
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final int STRIPES;
+
+    static {
+        // use a power of two number of stripes (at most 16) so we can mask to select the stripe
+        int cpus = Math.min(Runtime.getRuntime().availableProcessors(), 16);
+        STRIPES = Integer.highestOneBit(cpus) < cpus ? Integer.highestOneBit(cpus) << 1 : Integer.highestOneBit(cpus);
+    }
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPES);
+
+    @Override
+    public void updateValue(long newValue) {
+        int index = (int) (Thread.currentThread().getId() & (STRIPES - 1));
+        AtomicLongArray counts = stripes.get(index);
+        if (counts == null) {
+            counts = new AtomicLongArray(BUCKETS);
+            if (!stripes.compareAndSet(index, null, counts)) {
+                counts = stripes.get(index);
+            }
+        }
+        counts.getAndIncrement(bucketIndex(newValue));
+    }
+
+    @Override
+    public long getValue() {
+        long total = 0;
+        for (long count : merge()) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Gets the value at the given percentile (such as 99.9).
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the highest value that is equivalent to the value at the percentile, or 0 if no values has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] counts = merge();
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        double p = Math.min(Math.max(percentile, 0), 100);
+        long rank = Math.max(1, (long) Math.ceil(p / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return highestValue(i);
+            }
+        }
+        return highestValue(counts.length - 1);
+    }
+
+    @Override
+    public boolean isUpdated() {
+        return getValue() > 0;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < STRIPES; i++) {
+            AtomicLongArray counts = stripes.get(i);
+            if (counts != null) {
+                for (int j = 0; j < BUCKETS; j++) {
+                    counts.set(j, 0);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "" + getValue();
+    }
+
+    private long[] merge() {
+        long[] answer = new long[BUCKETS];
+        for (int i = 0; i < STRIPES; i++) {
+            AtomicLongArray counts = stripes.get(i);
+            if (counts != null) {
+                for (int j = 0; j < BUCKETS; j++) {
+                    answer[j] += counts.get(j);
+                }
+            }
+        }
+        return answer;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return value < 0 ? 0 : (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + shift * SUB_BUCKETS + sub;
+    }
+
+    static long highestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int sub = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        long lowest = (long) (SUB_BUCKETS + sub) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Collection;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class ManagedLazyStartRoutesTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).setLazyStartRoutes(true);
+        return context;
+    }
+
+    @Test
+    public void testManagedDormantRoutes() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        MBeanServer mbeanServer = getMBeanServer();
+
+        ObjectName on = ObjectName.getInstance("org.apache.camel:context=camel-1,type=context,name=\"camel-1\"");
+
+        assertEquals(Boolean.TRUE, mbeanServer.getAttribute(on, "LazyStartRoutes"));
+        assertEquals(2, mbeanServer.getAttribute(on, "DormantRoutes"));
+        assertEquals(1, mbeanServer.getAttribute(on, "TotalRoutes"));
+        Collection<?> ids = (Collection<?>) mbeanServer.getAttribute(on, "DormantRouteIds");
+        assertEquals("[bar, foo]", ids.toString());
+
+        getMockEndpoint("mock:foo").expectedMessageCount(1);
+        template.sendBody("direct:foo", "Hello World");
+        assertMockEndpointsSatisfied();
+
+        // the route is started on first use
+        assertEquals(1, mbeanServer.getAttribute(on, "DormantRoutes"));
+        assertEquals(2, mbeanServer.getAttribute(on, "TotalRoutes"));
+        ids = (Collection<?>) mbeanServer.getAttribute(on, "DormantRouteIds");
+        assertEquals("[bar]", ids.toString());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("timer:tick?period=60000").routeId("tick").to("log:tick");
+
+                from("direct:foo").routeId("foo").to("mock:foo");
+
+                from("seda:bar").routeId("bar").to("mock:bar");
+            }
+        };
+    }
+}
@@ -52,6 +52,9 @@ public class ManagedRouteDumpStatsAsXmlTest extends ManagementTestSupport {
 
         int processors = doc.getDocumentElement().getElementsByTagName("processorStat").getLength();
         assertEquals(3, processors);
+
+        String p99 = doc.getDocumentElement().getAttribute("p99ProcessingTime");
+        assertTrue("Should take around 100 millis: was " + p99, Long.parseLong(p99) >= 100);
     }
 
     @Override
@@ -81,6 +81,15 @@ public class ManagedRoutePerformanceCounterTest extends ManagementTestSupport {
         assertTrue("Should take around 1 sec: was " + last, last > 900);
         assertTrue("Should be around 2 sec now: was " + total, total > 1900);
 
+        Long p50 = (Long) mbeanServer.getAttribute(on, "P50ProcessingTime");
+        Long p999 = (Long) mbeanServer.getAttribute(on, "P999ProcessingTime");
+        Long max = (Long) mbeanServer.getAttribute(on, "MaxProcessingTime");
+        assertTrue("Should take around 1 sec: was " + p50, p50 > 900);
+        // the percentiles are approximated with a relative error of at most 12.5%
+        assertTrue("Should be around max: was " + p999, p999 >= max && p999 <= max * 1.125);
+        Long p100 = (Long) mbeanServer.invoke(on, "processingTimePercentile", new Object[]{100d}, new String[]{"double"});
+        assertEquals(p999, p100);
+
         Date reset = (Date) mbeanServer.getAttribute(on, "ResetTimestamp");
         assertNotNull(reset);
 
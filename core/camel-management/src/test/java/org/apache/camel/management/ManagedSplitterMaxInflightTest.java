@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+import static org.awaitility.Awaitility.await;
+
+public class ManagedSplitterMaxInflightTest extends ManagementTestSupport {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    @Test
+    public void testManageSplitterMaxInflight() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        MockEndpoint foo = getMockEndpoint("mock:foo");
+        foo.expectedMessageCount(5);
+
+        // get the stats for the route
+        MBeanServer mbeanServer = getMBeanServer();
+
+        // get the object name for the splitter
+        ObjectName on = ObjectName.getInstance("org.apache.camel:context=camel-1,type=processors,name=\"mysend\"");
+
+        Integer max = (Integer) mbeanServer.getAttribute(on, "MaxInflight");
+        assertEquals(2, max.intValue());
+
+        template.asyncSendBody("direct:start", "A,B,C,D,E");
+
+        // only 2 splitted messages can be in flight while the processing is blocked
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(2, mbeanServer.getAttribute(on, "InflightExchanges")));
+        Thread.sleep(100);
+        assertEquals(2, mbeanServer.getAttribute(on, "InflightExchanges"));
+        assertEquals(0, foo.getReceivedCounter());
+
+        latch.countDown();
+
+        assertMockEndpointsSatisfied();
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(0, mbeanServer.getAttribute(on, "InflightExchanges")));
+        Integer pending = (Integer) mbeanServer.getAttribute(on, "PendingAggregations");
+        assertEquals(0, pending.intValue());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .split(body().tokenize(",")).parallelProcessing().maxInflight(2).id("mysend")
+                        .process(e -> latch.await(10, TimeUnit.SECONDS))
+                        .to("mock:foo");
+            }
+        };
+    }
+
+}
@@ -82,6 +82,12 @@ public class ManagedStreamCachingStrategyTest extends ManagementTestSupport {
 
         Boolean remove = (Boolean) mbeanServer.getAttribute(name, "RemoveSpoolDirectoryWhenStopping");
         assertEquals(Boolean.TRUE, remove);
+
+        Integer poolSize = (Integer) mbeanServer.getAttribute(name, "BufferPoolSize");
+        assertEquals(0, poolSize.intValue());
+
+        Long inUse = (Long) mbeanServer.getAttribute(name, "BufferPoolInUse");
+        assertEquals(0, inUse.longValue());
     }
 
     @Override
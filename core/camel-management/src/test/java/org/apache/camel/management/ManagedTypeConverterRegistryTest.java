@@ -21,6 +21,7 @@ import java.util.Set;
 import javax.management.Attribute;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
 import javax.management.openmbean.TabularData;
 
 import org.apache.camel.builder.RouteBuilder;
@@ -82,6 +83,11 @@ public class ManagedTypeConverterRegistryTest extends ManagementTestSupport {
         miss = (Long) mbeanServer.getAttribute(name, "MissCounter");
         assertEquals(0, miss.intValue());
 
+        TabularData top = (TabularData) mbeanServer.invoke(name, "listTopConversions", new Object[]{10}, new String[]{"int"});
+        CompositeData row = top.get(new Object[]{"java.lang.String", "int"});
+        assertNotNull("Should have conversion from String to int", row);
+        assertEquals(1L, row.get("attempts"));
+
         // reset
         mbeanServer.invoke(name, "resetTypeConversionCounters", null, null);
 
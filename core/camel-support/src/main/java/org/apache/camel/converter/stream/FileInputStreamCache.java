@@ -20,9 +20,15 @@ import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
@@ -49,9 +55,14 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A {@link StreamCache} for {@link File}s
+ * <p/>
+ * If memory mapping is enabled on the {@link StreamCachingStrategy} then the file is read from a read-only
+ * {@link MappedByteBuffer} which is shared by all the stream caches of the same file, instead of re-opening the file
+ * and copying the data through a buffered input stream.
  */
 public final class FileInputStreamCache extends InputStream implements StreamCache {
     private InputStream stream;
+    private ByteBuffer buffer;
     private final long length;
     private final FileInputStreamCache.TempFileManager tempFileManager;
     private final File file;
@@ -76,6 +87,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         if (stream != null) {
             IOHelper.close(stream);
         }
+        buffer = null;
     }
 
     @Override
@@ -92,13 +104,66 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
 
     @Override
     public void writeTo(OutputStream os) throws IOException {
-        if (stream == null && ciphers == null) {
+        if (ciphers == null && (os instanceof FileOutputStream || tempFileManager.isMemoryMapped())) {
+            transferTo(os instanceof FileOutputStream ? ((FileOutputStream) os).getChannel() : Channels.newChannel(os));
+        } else if (stream == null && ciphers == null) {
             Files.copy(file.toPath(), os);
         } else {
             IOHelper.copy(getInputStream(), os);
         }
     }
 
+    /**
+     * Transfers the cached data to the given channel, in the same way as {@link #writeTo(OutputStream)}.
+     * <p/>
+     * When the data is not encrypted then the data is transferred without copying the data through the heap,
+     * which for example allows to write the cached data to a file or socket channel using zero-copy.
+     *
+     * @param channel the channel to write to
+     * @return the number of bytes transferred
+     */
+    public long transferTo(WritableByteChannel channel) throws IOException {
+        if (ciphers != null) {
+            return copy(getInputStream(), channel);
+        }
+        ByteBuffer buffer = getBuffer();
+        if (buffer != null) {
+            // write from a view so the data can be written again
+            ByteBuffer view = buffer.duplicate();
+            long answer = 0;
+            while (view.hasRemaining()) {
+                answer += channel.write(view);
+            }
+            return answer;
+        }
+        if (stream != null) {
+            return copy(stream, channel);
+        }
+        try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long position = 0;
+            while (position < length) {
+                position += in.transferTo(position, length - position, channel);
+            }
+            return position;
+        }
+    }
+
+    private static long copy(InputStream in, WritableByteChannel channel) throws IOException {
+        byte[] data = new byte[IOHelper.DEFAULT_BUFFER_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        long answer = 0;
+        int n;
+        while ((n = in.read(data)) != -1) {
+            buffer.limit(n);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+            answer += n;
+        }
+        return answer;
+    }
+
     @Override
     public StreamCache copy(Exchange exchange) throws IOException {
         tempFileManager.addExchange(exchange);
@@ -118,14 +183,68 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
 
     @Override
     public int available() throws IOException {
+        ByteBuffer buffer = getBuffer();
+        if (buffer != null) {
+            return buffer.remaining();
+        }
         return getInputStream().available();
     }
 
     @Override
     public int read() throws IOException {
+        ByteBuffer buffer = getBuffer();
+        if (buffer != null) {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
         return getInputStream().read();
     }
 
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        ByteBuffer buffer = getBuffer();
+        if (buffer != null) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            len = Math.min(len, buffer.remaining());
+            buffer.get(b, off, len);
+            return len;
+        }
+        return getInputStream().read(b, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        ByteBuffer buffer = getBuffer();
+        if (buffer != null) {
+            if (n <= 0) {
+                return 0;
+            }
+            int skip = (int) Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + skip);
+            return skip;
+        }
+        return getInputStream().skip(n);
+    }
+
+    /**
+     * Gets the view of the memory mapped file of this stream cache, or <tt>null</tt> if memory mapping is not in use.
+     */
+    private ByteBuffer getBuffer() throws IOException {
+        if (buffer == null && stream == null && tempFileManager.isMemoryMapped()) {
+            ByteBuffer mapped = tempFileManager.getMappedBuffer(length);
+            if (mapped != null) {
+                // use a view with its own position so the mapped file can be shared
+                buffer = mapped.duplicate();
+                buffer.limit((int) length);
+            }
+        }
+        return buffer;
+    }
+
     protected InputStream getInputStream() throws IOException {
         if (stream == null) {
             stream = createInputStream(file);
@@ -167,6 +286,9 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private boolean memoryMapped;
+        private MappedByteBuffer mappedBuffer;
+        private PooledByteArrayOutputStream pooledStream;
         
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -202,6 +324,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                         int actualExchanges = exchangeCounter.decrementAndGet();
                         if (actualExchanges == 0) {
                             // only one exchange (one thread) left, therefore we must not synchronize the following lines of code
+                            releasePooledStream();
                             try {                              
                                 closeFileInputStreams();
                                 if (outputStream != null) {
@@ -245,6 +368,9 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             tempFile = FileUtil.createTempFile("cos", ".tmp", strategy.getSpoolDirectory());
 
             LOG.trace("Creating temporary stream cache file: {}", tempFile);
+            // encrypted data must be read using a cipher stream so memory mapping is not in use,
+            // and on windows a file cannot be deleted while its mapped, which is only released by the garbage collector
+            memoryMapped = strategy.isSpoolMemoryMapped() && ObjectHelper.isEmpty(strategy.getSpoolCipher()) && !FileUtil.isWindows();
             OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE));
             if (ObjectHelper.isNotEmpty(strategy.getSpoolCipher())) {
                 try {
@@ -276,6 +402,45 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
         
+        /**
+         * Gets the read-only memory mapped buffer of the temporary file, which is mapped once and shared by the
+         * file input stream caches. Returns <tt>null</tt> if the file is too big to be memory mapped.
+         * <p>
+         * Must be synchronized, because can be accessed by several threads.
+         */
+        synchronized ByteBuffer getMappedBuffer(long length) throws IOException {
+            if (length > Integer.MAX_VALUE) {
+                return null;
+            }
+            if (mappedBuffer == null || mappedBuffer.capacity() < length) {
+                // (re)map as the file may have been written to after the existing buffer was mapped
+                try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.READ)) {
+                    // the mapping stays valid after the channel is closed
+                    mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+                }
+            }
+            return mappedBuffer;
+        }
+
+        boolean isMemoryMapped() {
+            return memoryMapped;
+        }
+
+        /**
+         * Sets the stream with the in-memory data, which buffers are returned to the pool when the exchanges are done.
+         */
+        void setPooledStream(PooledByteArrayOutputStream pooledStream) {
+            this.pooledStream = pooledStream;
+        }
+
+        void releasePooledStream() {
+            PooledByteArrayOutputStream stream = pooledStream;
+            if (stream != null) {
+                pooledStream = null;
+                stream.release();
+            }
+        }
+
         void closeFileInputStreams() {
             if (fileInputStreamCaches != null) {
                 for (FileInputStreamCache fileInputStreamCache : fileInputStreamCaches) {
@@ -288,6 +453,8 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         void cleanUpTempFile() {
             // cleanup temporary file
             try {
+                // the memory mapping is released when the buffer is garbage collected
+                mappedBuffer = null;
                 if (tempFile != null) {
                     FileUtil.deleteFile(tempFile);
                     tempFile = null;
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.util.BufferPool;
+
+/**
+ * An {@link OutputStream} which stores the data in a list of fixed size buffers borrowed from a {@link BufferPool},
+ * so the data is not copied into bigger arrays when the stream grows.
+ * <p/>
+ * The buffers must be returned to the pool using {@link #release()} when the data is no longer in use.
+ * <p/>
+ * This implementation is not thread safe.
+ */
+public final class PooledByteArrayOutputStream extends OutputStream {
+
+    private final BufferPool pool;
+    private final int chunkSize;
+    private final List<byte[]> chunks = new ArrayList<>();
+    private final BufferPool.Tracker tracker;
+    private byte[] current;
+    private int pos;
+    private int count;
+    private boolean released;
+
+    public PooledByteArrayOutputStream(BufferPool pool) {
+        this.pool = pool;
+        this.chunkSize = pool.getBufferSize();
+        this.tracker = pool.track(this);
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity();
+        current[pos++] = (byte) b;
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        while (len > 0) {
+            ensureCapacity();
+            int n = Math.min(len, chunkSize - pos);
+            System.arraycopy(b, off, current, pos, n);
+            pos += n;
+            off += n;
+            len -= n;
+            count += n;
+        }
+    }
+
+    /**
+     * Reads all the data from the input stream directly into the buffers.
+     *
+     * @return the number of bytes read
+     */
+    public long readFrom(InputStream in) throws IOException {
+        long total = 0;
+        while (true) {
+            ensureCapacity();
+            int n = in.read(current, pos, chunkSize - pos);
+            if (n < 0) {
+                break;
+            }
+            pos += n;
+            count += n;
+            total += n;
+        }
+        return total;
+    }
+
+    /**
+     * Writes the data to the output stream.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        writeTo(out, 0);
+    }
+
+    void writeTo(OutputStream out, int offset) throws IOException {
+        checkNotReleased();
+        int remaining = count - offset;
+        int index = offset / chunkSize;
+        int off = offset % chunkSize;
+        while (remaining > 0) {
+            int n = Math.min(remaining, chunkSize - off);
+            out.write(chunks.get(index++), off, n);
+            remaining -= n;
+            off = 0;
+        }
+    }
+
+    /**
+     * Copies the data into the given array.
+     *
+     * @return the number of bytes copied, or <tt>-1</tt> if the offset is at the end of the data
+     */
+    int read(int offset, byte[] b, int off, int len) {
+        checkNotReleased();
+        if (offset >= count) {
+            return -1;
+        }
+        len = Math.min(len, count - offset);
+        int copied = 0;
+        while (copied < len) {
+            int index = (offset + copied) / chunkSize;
+            int from = (offset + copied) % chunkSize;
+            int n = Math.min(len - copied, chunkSize - from);
+            System.arraycopy(chunks.get(index), from, b, off + copied, n);
+            copied += n;
+        }
+        return copied;
+    }
+
+    /**
+     * Gets the byte at the given offset, or <tt>-1</tt> if the offset is at the end of the data
+     */
+    int read(int offset) {
+        checkNotReleased();
+        if (offset >= count) {
+            return -1;
+        }
+        return chunks.get(offset / chunkSize)[offset % chunkSize] & 0xff;
+    }
+
+    /**
+     * Copies the data into a new byte array of the exact size of the data.
+     */
+    public byte[] toByteArray() {
+        byte[] answer = new byte[count];
+        if (count > 0) {
+            read(0, answer, 0, count);
+        }
+        return answer;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Creates a new {@link PooledInputStreamCache} view of the data.
+     */
+    PooledInputStreamCache newInputStreamCache(FileInputStreamCache.TempFileManager tempFileManager) {
+        return new PooledInputStreamCache(this, tempFileManager);
+    }
+
+    /**
+     * Returns the buffers to the pool. The data must not be used after the buffers has been released.
+     */
+    public void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        for (byte[] chunk : chunks) {
+            pool.release(chunk);
+        }
+        chunks.clear();
+        current = null;
+        if (tracker != null) {
+            tracker.close();
+        }
+    }
+
+    public boolean isReleased() {
+        return released;
+    }
+
+    @Override
+    public String toString() {
+        return "PooledByteArrayOutputStream[size: " + count + ", chunks: " + chunks.size() + "]";
+    }
+
+    private void ensureCapacity() {
+        checkNotReleased();
+        if (current == null || pos == chunkSize) {
+            current = pool.acquire();
+            chunks.add(current);
+            pos = 0;
+        }
+    }
+
+    private void checkNotReleased() {
+        if (released) {
+            throw new IllegalStateException("The pooled buffers has been released");
+        }
+    }
+}
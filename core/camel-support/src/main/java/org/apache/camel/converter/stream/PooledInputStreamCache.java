@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+
+/**
+ * A {@link StreamCache} which reads the data stored in the pooled buffers of a {@link PooledByteArrayOutputStream}.
+ * <p/>
+ * The buffers are shared by the copies of this stream cache, and are returned to the pool when all the exchanges using
+ * the stream cache are done. The stream cache must therefore not be used after the exchanges are done.
+ */
+public final class PooledInputStreamCache extends InputStream implements StreamCache {
+
+    private final PooledByteArrayOutputStream data;
+    private final TempFileManager tempFileManager;
+    private int pos;
+    private int mark;
+
+    PooledInputStreamCache(PooledByteArrayOutputStream data, TempFileManager tempFileManager) {
+        this.data = data;
+        this.tempFileManager = tempFileManager;
+    }
+
+    @Override
+    public int read() {
+        int b = data.read(pos);
+        if (b >= 0) {
+            pos++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        int n = data.read(pos, b, off, len);
+        if (n > 0) {
+            pos += n;
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) {
+        long k = Math.max(0, Math.min(n, (long) data.size() - pos));
+        pos += (int) k;
+        return k;
+    }
+
+    @Override
+    public int available() {
+        return data.size() - pos;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        mark = pos;
+    }
+
+    @Override
+    public synchronized void reset() {
+        pos = mark;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        data.writeTo(os, pos);
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        // the buffers must not be released until the exchange of the copy is done
+        tempFileManager.addExchange(exchange);
+        return new PooledInputStreamCache(data, tempFileManager);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return data.size();
+    }
+
+    @Override
+    public String toString() {
+        return "PooledInputStreamCache[size: " + data.size() + "]";
+    }
+}
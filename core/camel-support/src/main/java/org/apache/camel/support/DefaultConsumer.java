@@ -26,6 +26,7 @@ import org.apache.camel.Processor;
 import org.apache.camel.Route;
 import org.apache.camel.RouteAware;
 import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.support.service.ServiceHelper;
@@ -46,6 +47,7 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
     private final Processor processor;
     private final AsyncProcessor asyncProcessor;
     private ExceptionHandler exceptionHandler;
+    private ExchangeFactory exchangeFactory;
     private Route route;
     private String routeId;
 
@@ -84,6 +86,44 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
         this.routeId = routeId;
     }
 
+    /**
+     * The {@link ExchangeFactory} used by this consumer for creating exchanges.
+     */
+    public ExchangeFactory getExchangeFactory() {
+        return exchangeFactory;
+    }
+
+    /**
+     * Creates an {@link Exchange} for a message received by this consumer, using the {@link ExchangeFactory}.
+     * <p/>
+     * The consumer should call {@link #releaseExchange(Exchange)} when it is done with the exchange,
+     * so the exchange can be reused when the exchange factory is pooled.
+     *
+     * @return the exchange
+     */
+    public Exchange createExchange() {
+        if (exchangeFactory == null) {
+            // not initialized (yet)
+            return endpoint.createExchange();
+        }
+        return exchangeFactory.create(endpoint);
+    }
+
+    /**
+     * Releases the {@link Exchange} when the consumer is done with the exchange, which allows
+     * the exchange to be reused when the {@link ExchangeFactory} is pooled.
+     * <p/>
+     * The exchange must not be in use afterwards, so only release the exchange when it has been completely
+     * processed, and not if the routing of the exchange is continued asynchronously.
+     *
+     * @param exchange the exchange
+     */
+    public void releaseExchange(Exchange exchange) {
+        if (exchangeFactory != null) {
+            exchangeFactory.release(exchange);
+        }
+    }
+
     /**
      * If the consumer needs to defer done the {@link org.apache.camel.spi.UnitOfWork} on
      * the processed {@link Exchange} then this method should be use to create and start
@@ -151,19 +191,33 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
     @Override
     protected void doInit() throws Exception {
         LOG.debug("Init consumer: {}", this);
-        ServiceHelper.initService(processor);
+        if (exchangeFactory == null) {
+            exchangeFactory = endpoint.getCamelContext().adapt(ExtendedCamelContext.class).getExchangeFactory().newExchangeFactory(this);
+        }
+        ServiceHelper.initService(getOwnExchangeFactory(), processor);
     }
 
     @Override
     protected void doStop() throws Exception {
         LOG.debug("Stopping consumer: {}", this);
-        ServiceHelper.stopService(processor);
+        ServiceHelper.stopService(getOwnExchangeFactory(), processor);
     }
 
     @Override
     protected void doStart() throws Exception {
         LOG.debug("Starting consumer: {}", this);
-        ServiceHelper.startService(processor);
+        ServiceHelper.startService(getOwnExchangeFactory(), processor);
+    }
+
+    /**
+     * Gets the exchange factory if this consumer has its own factory, or <tt>null</tt> if the
+     * consumer uses the factory shared by all consumers, which is managed by {@link org.apache.camel.CamelContext}.
+     */
+    private ExchangeFactory getOwnExchangeFactory() {
+        if (exchangeFactory == endpoint.getCamelContext().adapt(ExtendedCamelContext.class).getExchangeFactory()) {
+            return null;
+        }
+        return exchangeFactory;
     }
 
     /**
@@ -45,9 +45,9 @@ import org.apache.camel.util.ObjectHelper;
 public final class DefaultExchange implements ExtendedExchange {
 
     private final CamelContext context;
-    private final long created;
-    // optimize to create properties always and with a reasonable small size
-    private final Map<String, Object> properties = new ConcurrentHashMap<>(8);
+    private long created;
+    // optimize to create properties lazy and with a reasonable small size
+    private Map<String, Object> properties;
     private Message in;
     private Message out;
     private Exception exception;
@@ -188,6 +188,9 @@ public final class DefaultExchange implements ExtendedExchange {
 
     @Override
     public Object getProperty(String name) {
+        if (properties == null) {
+            return null;
+        }
         return properties.get(name);
     }
 
@@ -246,10 +249,10 @@ public final class DefaultExchange implements ExtendedExchange {
     public void setProperty(String name, Object value) {
         if (value != null) {
             // avoid the NullPointException
-            properties.put(name, value);
+            getProperties().put(name, value);
         } else {
             // if the value is null, we just remove the key from the map
-            if (name != null) {
+            if (name != null && properties != null) {
                 properties.remove(name);
             }
         }
@@ -257,8 +260,9 @@ public final class DefaultExchange implements ExtendedExchange {
 
     @Override
     public void setProperties(Map<String, Object> properties) {
-        this.properties.clear();
-        this.properties.putAll(properties);
+        Map<String, Object> map = getProperties();
+        map.clear();
+        map.putAll(properties);
     }
 
     @Override
@@ -307,12 +311,15 @@ public final class DefaultExchange implements ExtendedExchange {
 
     @Override
     public Map<String, Object> getProperties() {
+        if (properties == null) {
+            properties = new ConcurrentHashMap<>(8);
+        }
         return properties;
     }
 
     @Override
     public boolean hasProperties() {
-        return !properties.isEmpty();
+        return properties != null && !properties.isEmpty();
     }
 
     @Override
@@ -699,4 +706,53 @@ public final class DefaultExchange implements ExtendedExchange {
         return context.getUuidGenerator().generateUuid();
     }
 
+    /**
+     * Resets this exchange so it can be reused, such as by {@link PooledExchangeFactory}.
+     * <p/>
+     * The properties map is cleared and kept for reuse, and so is the IN message if it is a {@link DefaultMessage}
+     * which is only in use by this exchange. Anything else is de-referenced.
+     */
+    void reset() {
+        if (properties != null) {
+            properties.clear();
+        }
+        if (in != null && in.getClass() == DefaultMessage.class && ((DefaultMessage) in).getExchange() == this) {
+            ((DefaultMessage) in).reset();
+        } else {
+            in = null;
+        }
+        out = null;
+        exception = null;
+        exchangeId = null;
+        unitOfWork = null;
+        pattern = ExchangePattern.InOnly;
+        fromEndpoint = null;
+        fromRouteId = null;
+        onCompletions = null;
+        externalRedelivered = null;
+        historyNodeId = null;
+        historyNodeLabel = null;
+        transacted = false;
+        routeStop = false;
+        rollbackOnly = false;
+        rollbackOnlyLast = false;
+        notifyEvent = false;
+        interrupted = false;
+        interruptable = true;
+        redeliveryExhausted = false;
+        errorHandlerHandled = null;
+    }
+
+    /**
+     * Prepares this exchange, which has previously been reset, for being reused.
+     *
+     * @param fromEndpoint the endpoint the exchange is created from
+     * @param pattern      the exchange pattern
+     */
+    void reuse(Endpoint fromEndpoint, ExchangePattern pattern) {
+        this.created = System.currentTimeMillis();
+        this.fromEndpoint = fromEndpoint;
+        this.pattern = pattern;
+    }
+
 }
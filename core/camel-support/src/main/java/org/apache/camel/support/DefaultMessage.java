@@ -343,4 +343,11 @@ public class DefaultMessage extends MessageSupport {
         return headers != null;
     }
 
+    @Override
+    void reset() {
+        super.reset();
+        // the headers may be shared with other messages (see setHeaders) so we cannot clear and reuse the map
+        headers = null;
+    }
+
 }
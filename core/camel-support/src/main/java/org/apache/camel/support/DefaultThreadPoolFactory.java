@@ -16,6 +16,9 @@
  */
 package org.apache.camel.support;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -30,22 +33,51 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 
 /**
  * Factory for thread pools that uses the JDK {@link Executors} for creating the thread pools.
+ * <p/>
+ * If the thread factory creates virtual threads (see {@link ThreadPoolProfile#isVirtualThreads()}) then
+ * a thread pool which creates a new virtual thread per task is used instead of a regular thread pool.
  */
 public class DefaultThreadPoolFactory implements ThreadPoolFactory {
 
+    // Executors.newThreadPerTaskExecutor is looked up reflectively as its only available on newer JVMs
+    private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        MethodHandle mh = null;
+        if (CamelThreadFactory.isVirtualThreadsSupported()) {
+            try {
+                mh = MethodHandles.publicLookup().findStatic(Executors.class, "newThreadPerTaskExecutor",
+                        MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+            } catch (Exception e) {
+                // not supported on this JVM
+            }
+        }
+        NEW_THREAD_PER_TASK_EXECUTOR = mh;
+    }
+
     @Override
     public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        if (isVirtual(threadFactory)) {
+            return newThreadPerTaskExecutor(threadFactory);
+        }
         return Executors.newCachedThreadPool(threadFactory);
     }
     
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (isVirtual(factory)) {
+            // virtual threads are cheap so there is no need to pool them, and therefore there is no
+            // upper bound on the number of threads, or a task queue which can reject tasks
+            return newThreadPerTaskExecutor(factory);
+        }
+
         // allow core thread timeout is default false if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : false;
         return newThreadPool(profile.getPoolSize(), 
@@ -116,4 +148,19 @@ public class DefaultThreadPoolFactory implements ThreadPoolFactory {
         }
     }
 
+    private static boolean isVirtual(ThreadFactory threadFactory) {
+        return NEW_THREAD_PER_TASK_EXECUTOR != null
+                && threadFactory instanceof CamelThreadFactory && ((CamelThreadFactory) threadFactory).isVirtual();
+    }
+
+    private static ExecutorService newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(threadFactory);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot create thread per task executor", e);
+        }
+    }
+
 }
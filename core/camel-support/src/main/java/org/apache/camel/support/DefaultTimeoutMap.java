@@ -18,16 +18,22 @@ package org.apache.camel.support;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.TimeoutMap;
+import org.apache.camel.spi.TimeoutScheduler;
+import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -44,9 +50,13 @@ import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
  * This implementation supports thread safe and non thread safe, in the manner you can enable locking or not.
  * By default locking is enabled and thus we are thread safe.
  * <p/>
- * You must provide a {@link java.util.concurrent.ScheduledExecutorService} in the constructor which is used
- * to schedule a background task which check for old entries to purge. This implementation will shutdown the scheduler
- * if its being stopped.
+ * Each entry is scheduled on a {@link TimeoutScheduler} when its put in the map, so finding the expired entries does not
+ * require scanning the entire map. You can either provide a {@link java.util.concurrent.ScheduledExecutorService} in the
+ * constructor which is used to tick a private {@link HashedWheelTimeoutScheduler} every purge poll time, or provide a shared
+ * {@link TimeoutScheduler} such as the one from {@link ExtendedCamelContext#getTimeoutScheduler()}, which is used when
+ * creating the map with a {@link CamelContext}.
+ * When using a shared scheduler then the expired entries are evicted using the given executor (if any), to not block the
+ * shared scheduler.
  * You must also invoke {@link #start()} to startup the timeout map, before its ready to be used.
  * And you must invoke {@link #stop()} to stop the map when no longer in use.
  */
@@ -55,10 +65,14 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
     private final ConcurrentMap<K, TimeoutMapEntry<K, V>> map = new ConcurrentHashMap<>();
+    private final Queue<TimeoutMapEntry<K, V>> expired = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean purgeScheduled = new AtomicBoolean();
     private final ScheduledExecutorService executor;
-    private volatile ScheduledFuture<?> future;
+    private final TimeoutScheduler timeoutScheduler;
+    private final boolean privateTimeoutScheduler;
     private final long purgePollTime;
     private final Lock lock;
+    private volatile boolean scheduling;
 
     private final List<Listener<K, V>> listeners = new ArrayList<>(2);
 
@@ -75,7 +89,50 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
     }
 
     public DefaultTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, Lock lock) {
-        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        this(new HashedWheelTimeoutScheduler(ObjectHelper.notNull(executor, "ScheduledExecutorService"), requestMapPollTimeMillis),
+                true, executor, requestMapPollTimeMillis, lock);
+    }
+
+    public DefaultTimeoutMap(CamelContext camelContext, ScheduledExecutorService executor, long requestMapPollTimeMillis) {
+        this(camelContext, executor, requestMapPollTimeMillis, true);
+    }
+
+    /**
+     * Creates the timeout map using the shared {@link TimeoutScheduler} of the {@link CamelContext}.
+     *
+     * @param camelContext             the camel context
+     * @param executor                 optional executor to evict the expired entries, if <tt>null</tt> then the entries
+     *                                 are evicted by the thread of the scheduler
+     * @param requestMapPollTimeMillis the time to wait before checking an entry again, which was not valid for eviction
+     * @param useLock                  whether to use locking
+     */
+    public DefaultTimeoutMap(CamelContext camelContext, ScheduledExecutorService executor, long requestMapPollTimeMillis, boolean useLock) {
+        this(ObjectHelper.notNull(camelContext, "CamelContext").adapt(ExtendedCamelContext.class).getTimeoutScheduler(),
+                executor, requestMapPollTimeMillis, useLock);
+    }
+
+    public DefaultTimeoutMap(TimeoutScheduler timeoutScheduler) {
+        this(timeoutScheduler, null, 1000, true);
+    }
+
+    /**
+     * Creates the timeout map using a shared {@link TimeoutScheduler}.
+     *
+     * @param timeoutScheduler         the shared scheduler
+     * @param executor                 optional executor to evict the expired entries, if <tt>null</tt> then the entries
+     *                                 are evicted by the thread of the scheduler
+     * @param requestMapPollTimeMillis the time to wait before checking an entry again, which was not valid for eviction
+     * @param useLock                  whether to use locking
+     */
+    public DefaultTimeoutMap(TimeoutScheduler timeoutScheduler, ScheduledExecutorService executor, long requestMapPollTimeMillis, boolean useLock) {
+        this(ObjectHelper.notNull(timeoutScheduler, "TimeoutScheduler"), false, executor, requestMapPollTimeMillis,
+                useLock ? new ReentrantLock() : NoLock.INSTANCE);
+    }
+
+    private DefaultTimeoutMap(TimeoutScheduler timeoutScheduler, boolean privateTimeoutScheduler, ScheduledExecutorService executor,
+                              long requestMapPollTimeMillis, Lock lock) {
+        this.timeoutScheduler = timeoutScheduler;
+        this.privateTimeoutScheduler = privateTimeoutScheduler;
         this.executor = executor;
         this.purgePollTime = requestMapPollTimeMillis;
         this.lock = lock;
@@ -90,6 +147,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             if (entry == null) {
                 return null;
             }
+            // the entry is scheduled again when its current timeout expires
             updateExpireTime(entry);
         } finally {
             lock.unlock();
@@ -104,6 +162,10 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         try {
             updateExpireTime(entry);
             TimeoutMapEntry<K, V> result = map.put(key, entry);
+            if (scheduling) {
+                cancelTimeout(result);
+                scheduleTimeout(entry);
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -120,6 +182,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             updateExpireTime(entry);
             //Just make sure we don't override the old entry
             result = map.putIfAbsent(key, entry);
+            if (result == null && scheduling) {
+                scheduleTimeout(entry);
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -134,7 +199,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         V value = null;
         lock.lock();
         try {
-            value = unwrap(map.remove(key));
+            TimeoutMapEntry<K, V> entry = map.remove(key);
+            cancelTimeout(entry);
+            value = unwrap(entry);
             return value;
         } finally {
             lock.unlock();
@@ -150,7 +217,28 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
     }
 
     /**
-     * The timer task which purges old requests and schedules another poll
+     * Invoked by the {@link TimeoutScheduler} when the timeout of the entry expires
+     */
+    private void onTimeout(TimeoutMapEntry<K, V> entry) {
+        expired.add(entry);
+        if (executor == null || privateTimeoutScheduler) {
+            // the private scheduler is already running on the executor
+            purgeTask();
+        } else if (purgeScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    purgeScheduled.set(false);
+                    purgeTask();
+                });
+            } catch (RejectedExecutionException e) {
+                purgeScheduled.set(false);
+                log.debug("Cannot evict expired entries as the executor is shutdown");
+            }
+        }
+    }
+
+    /**
+     * The task which purges the expired entries
      */
     private void purgeTask() {
         // only purge if allowed
@@ -163,45 +251,70 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         try {
             purge();
         } catch (Throwable t) {
-            // must catch and log exception otherwise the executor will now schedule next purgeTask
+            // must catch and log exception otherwise the scheduler may not run the next purgeTask
             log.warn("Exception occurred during purge task. This exception will be ignored.", t);
         }
     }
 
+    /**
+     * Evicts the expired entries.
+     * <p/>
+     * When the map is started then only the entries which the {@link TimeoutScheduler} has found to be expired are checked,
+     * otherwise all the entries in the map are checked.
+     */
     protected void purge() {
         log.trace("There are {} in the timeout map", map.size());
         if (map.isEmpty()) {
+            expired.clear();
             return;
         }
 
         long now = currentTime();
 
-        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>(map.size());
+        List<TimeoutMapEntry<K, V>> evicted = new ArrayList<>();
         lock.lock();
         try {
-            // need to find the expired entries and add to the expired list
-            for (Map.Entry<K, TimeoutMapEntry<K, V>> entry : map.entrySet()) {
-                if (entry.getValue().getExpireTime() < now) {
-                    if (isValidForEviction(entry.getValue())) {
-                        log.debug("Evicting inactive entry ID: {}", entry.getValue());
-                        expired.add(entry.getValue());
+            if (scheduling) {
+                TimeoutMapEntry<K, V> entry;
+                while ((entry = expired.poll()) != null) {
+                    // the entry may have been removed or replaced in the meantime
+                    if (map.get(entry.getKey()) != entry) {
+                        continue;
+                    }
+                    if (entry.getExpireTime() <= now && isValidForEviction(entry)) {
+                        log.debug("Evicting inactive entry ID: {}", entry);
+                        evicted.add(entry);
+                    } else {
+                        // the entry has been accessed in the meantime, or is not allowed to be evicted yet
+                        scheduleTimeout(entry);
+                    }
+                }
+            } else {
+                // need to find the expired entries and add to the expired list
+                for (TimeoutMapEntry<K, V> entry : map.values()) {
+                    if (entry.getExpireTime() < now) {
+                        if (isValidForEviction(entry)) {
+                            log.debug("Evicting inactive entry ID: {}", entry);
+                            evicted.add(entry);
+                        }
                     }
                 }
             }
 
             // if we found any expired then we need to sort, onEviction and remove
-            if (!expired.isEmpty()) {
+            if (!evicted.isEmpty()) {
                 // sort according to the expired time so we got the first expired first
-                expired.sort(comparing(TimeoutMapEntry::getExpireTime));
+                evicted.sort(comparing(TimeoutMapEntry::getExpireTime));
 
                 // and must remove from list after we have fired the notifications
-                for (TimeoutMapEntry<K, V> entry : expired) {
+                for (TimeoutMapEntry<K, V> entry : evicted) {
                     map.remove(entry.getKey());
+                    cancelTimeout(entry);
                 }
             }
         } finally {
             lock.unlock();
-            for (TimeoutMapEntry<K, V> entry : expired) {
+            for (TimeoutMapEntry<K, V> entry : evicted) {
                 emitEvent(Evict, entry.getKey(), entry.getValue());
             }
         }
@@ -218,6 +331,10 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         return executor;
     }
 
+    public TimeoutScheduler getTimeoutScheduler() {
+        return timeoutScheduler;
+    }
+
     // Implementation methods
     // -------------------------------------------------------------------------
 
@@ -241,10 +358,41 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
     }
 
     /**
-     * lets schedule each time to allow folks to change the time at runtime
+     * Schedules the entry to be checked for eviction when it expires
      */
+    private void scheduleTimeout(TimeoutMapEntry<K, V> entry) {
+        long delay = entry.getExpireTime() - currentTime();
+        if (delay <= 0) {
+            // the entry was not valid for eviction so wait a bit before checking again
+            delay = purgePollTime;
+        }
+        entry.scheduled = timeoutScheduler.schedule(() -> onTimeout(entry), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static void cancelTimeout(TimeoutMapEntry<?, ?> entry) {
+        if (entry != null && entry.scheduled != null) {
+            entry.scheduled.cancel();
+            entry.scheduled = null;
+        }
+    }
+
+    /**
+     * Schedules the entries which was put before the map was started.
+     *
+     * @deprecated the entries are scheduled on the {@link TimeoutScheduler} when they are put in the map, so there is no
+     *             longer a poll task to schedule
+     */
+    @Deprecated
     protected void schedulePoll() {
-        future = executor.scheduleWithFixedDelay(this::purgeTask, 0, purgePollTime, TimeUnit.MILLISECONDS);
+        lock.lock();
+        try {
+            scheduling = true;
+            for (TimeoutMapEntry<K, V> entry : map.values()) {
+                scheduleTimeout(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -265,20 +413,32 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
     @Override
     protected void doStart() throws Exception {
-        if (executor.isShutdown()) {
+        if (executor != null && executor.isShutdown()) {
             throw new IllegalStateException("The ScheduledExecutorService is shutdown");
         }
+        if (privateTimeoutScheduler) {
+            ServiceHelper.startService(timeoutScheduler);
+        }
         schedulePoll();
     }
 
     @Override
     protected void doStop() throws Exception {
-        if (future != null) {
-            future.cancel(false);
-            future = null;
+        lock.lock();
+        try {
+            scheduling = false;
+            for (TimeoutMapEntry<K, V> entry : map.values()) {
+                cancelTimeout(entry);
+            }
+            // clear map if we stop
+            map.clear();
+            expired.clear();
+        } finally {
+            lock.unlock();
+        }
+        if (privateTimeoutScheduler) {
+            ServiceHelper.stopService(timeoutScheduler);
         }
-        // clear map if we stop
-        map.clear();
     }
 
 }
@@ -222,6 +222,10 @@ public final class EventHelper {
     }
 
     public static boolean notifyRouteStarted(CamelContext context, Route route) {
+        return notifyRouteStarted(context, route, 0);
+    }
+
+    public static boolean notifyRouteStarted(CamelContext context, Route route, long startupTime) {
         ManagementStrategy management = context.getManagementStrategy();
         if (management == null) {
             return false;
@@ -249,7 +253,7 @@ public final class EventHelper {
 
             if (event == null) {
                 // only create event once
-                event = factory.createRouteStartedEvent(route);
+                event = factory.createRouteStartedEvent(route, startupTime);
                 if (event == null) {
                     // factory could not create event so exit
                     return false;
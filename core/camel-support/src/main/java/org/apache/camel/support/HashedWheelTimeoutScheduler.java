@@ -0,0 +1,363 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.spi.TimeoutScheduler;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Comparator.comparingLong;
+
+/**
+ * A {@link TimeoutScheduler} which keeps the timeouts in a hashed timing wheel.
+ * <p/>
+ * The wheel is an array of buckets, where each bucket is a linked list of the timeouts which expires at the same tick
+ * (or at the same tick in one of the next rounds of the wheel). Scheduling a timeout adds it to a queue which is
+ * transferred into its bucket at the next tick, and cancelling a timeout unlinks it from its bucket, so both are O(1)
+ * regardless of the number of pending timeouts. At every tick the wheel only visits the bucket of the current tick.
+ * <p/>
+ * The timeouts which expires at the same tick are run in the order of their deadline.
+ * <p/>
+ * The wheel is ticked by a {@link ScheduledExecutorService}, which is either given in the constructor,
+ * or created from the {@link org.apache.camel.spi.ExecutorServiceManager} when the scheduler is started
+ * (in which case it is also shutdown when the scheduler is stopped). The timeouts scheduled while the scheduler
+ * is stopped, are run when the scheduler is started again.
+ */
+public class HashedWheelTimeoutScheduler extends ServiceSupport implements TimeoutScheduler, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HashedWheelTimeoutScheduler.class);
+
+    private final Queue<WheelTimeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final LongAdder pendingTimeouts = new LongAdder();
+    private final List<WheelTimeout> expired = new ArrayList<>();
+    private final long startTime = System.nanoTime();
+    private final long tickDuration;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+
+    private CamelContext camelContext;
+    private ScheduledExecutorService executorService;
+    private boolean shutdownExecutorService;
+    private volatile ScheduledFuture<?> future;
+    // the next tick to process, which is only accessed by the tick task
+    private long tick;
+
+    public HashedWheelTimeoutScheduler() {
+        this(null, 10, 512);
+    }
+
+    public HashedWheelTimeoutScheduler(long tickDuration, int ticksPerWheel) {
+        this(null, tickDuration, ticksPerWheel);
+    }
+
+    public HashedWheelTimeoutScheduler(ScheduledExecutorService executorService, long tickDuration) {
+        this(executorService, tickDuration, 512);
+    }
+
+    /**
+     * Creates the scheduler.
+     *
+     * @param executorService the executor service to tick the wheel, or <tt>null</tt> to create a thread pool when started
+     * @param tickDuration    the duration in millis between ticks, which is the precision of the timeouts
+     * @param ticksPerWheel   the number of buckets in the wheel (is rounded up to a power of two)
+     */
+    public HashedWheelTimeoutScheduler(ScheduledExecutorService executorService, long tickDuration, int ticksPerWheel) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("TickDuration must be a positive number, was: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("TicksPerWheel must be between 1 and 2^30, was: " + ticksPerWheel);
+        }
+        this.executorService = executorService;
+        this.tickDuration = tickDuration;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+        int size = 1;
+        while (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public long getTickDuration() {
+        return tickDuration;
+    }
+
+    public int getTicksPerWheel() {
+        return wheel.length;
+    }
+
+    @Override
+    public long getPendingTimeouts() {
+        return pendingTimeouts.sum();
+    }
+
+    @Override
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        ObjectHelper.notNull(task, "task");
+        long delayNanos = Math.max(0, unit.toNanos(delay));
+        // the deadline is relative to the start time of the wheel
+        long deadline = System.nanoTime() - startTime + delayNanos;
+        if (delayNanos > 0 && deadline < 0) {
+            // guard against overflow
+            deadline = Long.MAX_VALUE;
+        }
+        WheelTimeout timeout = new WheelTimeout(this, task, deadline);
+        pendingTimeouts.increment();
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (executorService == null) {
+            ObjectHelper.notNull(camelContext, "camelContext", this);
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "TimeoutScheduler");
+            shutdownExecutorService = true;
+        }
+        future = executorService.scheduleAtFixedRate(this::tick, tickDuration, tickDuration, TimeUnit.MILLISECONDS);
+        LOG.debug("Started TimeoutScheduler with tick duration {} ms and {} ticks per wheel", tickDuration, wheel.length);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+        if (shutdownExecutorService && executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+    }
+
+    /**
+     * Advances the wheel to the current time, and runs the tasks of the expired timeouts.
+     */
+    protected void tick() {
+        try {
+            long current = (System.nanoTime() - startTime) / tickNanos;
+            removeCancelled();
+            transferScheduled();
+            while (tick <= current) {
+                wheel[(int) (tick & mask)].expire(expired);
+                tick++;
+            }
+            if (!expired.isEmpty()) {
+                if (expired.size() > 1) {
+                    expired.sort(comparingLong(t -> t.deadline));
+                }
+                for (WheelTimeout timeout : expired) {
+                    timeout.run();
+                }
+            }
+        } catch (Throwable t) {
+            // must catch and log exception otherwise the executor will not tick the wheel again
+            LOG.warn("Exception occurred during tick of the TimeoutScheduler. This exception will be ignored.", t);
+        } finally {
+            expired.clear();
+        }
+    }
+
+    private void transferScheduled() {
+        WheelTimeout timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            if (timeout.state != WheelTimeout.ST_INIT) {
+                continue;
+            }
+            // round up so a timeout never expires before its deadline
+            long ticks = timeout.deadline / tickNanos + (timeout.deadline % tickNanos == 0 ? 0 : 1);
+            ticks = Math.max(ticks, tick);
+            timeout.remainingRounds = (ticks - tick) / wheel.length;
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        WheelTimeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HashedWheelTimeoutScheduler[tickDuration=" + tickDuration + ", ticksPerWheel=" + wheel.length + "]";
+    }
+
+    private static final class WheelTimeout implements Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE
+                = AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+        private final HashedWheelTimeoutScheduler scheduler;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state = ST_INIT;
+
+        // the following fields are only accessed by the tick task
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTimeout next;
+        private WheelTimeout prev;
+
+        WheelTimeout(HashedWheelTimeoutScheduler scheduler, Runnable task, long deadline) {
+            this.scheduler = scheduler;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            scheduler.pendingTimeouts.decrement();
+            // the tick task removes the timeout from its bucket
+            scheduler.cancelled.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        boolean expire() {
+            if (!STATE.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return false;
+            }
+            scheduler.pendingTimeouts.decrement();
+            return true;
+        }
+
+        void run() {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                LOG.warn("Exception occurred running timeout task: " + task + ". This exception will be ignored.", t);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Timeout[" + task + "]";
+        }
+    }
+
+    /**
+     * A bucket in the wheel, which is a doubly linked list of timeouts
+     */
+    private static final class Bucket {
+
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(WheelTimeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            WheelTimeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void expire(List<WheelTimeout> expired) {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.expire()) {
+                        expired.add(timeout);
+                    }
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+
+}
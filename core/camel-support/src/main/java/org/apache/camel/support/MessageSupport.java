@@ -296,4 +296,13 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
         }
     }
 
+    /**
+     * Resets the message so it can be reused by the same exchange.
+     */
+    void reset() {
+        body = null;
+        messageId = null;
+        dataType = null;
+    }
+
 }
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.spi.ExchangeFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ExchangeFactory} that pools and reuses the {@link Exchange} instances, to reduce object allocations
+ * when consumers receive many messages.
+ * <p/>
+ * Each consumer has its own pool (see {@link #newExchangeFactory(Consumer)}). An exchange is only reused
+ * when the consumer releases the exchange after it is done with it, which means the exchange
+ * must not be used afterwards, such as by keeping a reference to the exchange in a custom processor.
+ * Exchanges created by endpoints that are not a {@link DefaultEndpoint} are not pooled.
+ */
+public class PooledExchangeFactory extends PrototypeExchangeFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PooledExchangeFactory.class);
+
+    private final Consumer consumer;
+    private final LongAdder created = new LongAdder();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private BlockingQueue<DefaultExchange> pool;
+    private int capacity = 100;
+
+    public PooledExchangeFactory() {
+        this(null);
+    }
+
+    public PooledExchangeFactory(Consumer consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public ExchangeFactory newExchangeFactory(Consumer consumer) {
+        PooledExchangeFactory answer = new PooledExchangeFactory(consumer);
+        answer.setCamelContext(consumer.getEndpoint().getCamelContext());
+        answer.setCapacity(capacity);
+        return answer;
+    }
+
+    @Override
+    public Exchange create(Endpoint fromEndpoint) {
+        if (!(fromEndpoint instanceof DefaultEndpoint)) {
+            // endpoints may create custom exchanges so let the endpoint create the exchange
+            return fromEndpoint.createExchange();
+        }
+
+        ExchangePattern pattern = ((DefaultEndpoint) fromEndpoint).getExchangePattern();
+        DefaultExchange exchange = pool != null ? pool.poll() : null;
+        if (exchange == null) {
+            created.increment();
+            return new DefaultExchange(fromEndpoint, pattern);
+        }
+
+        acquired.increment();
+        exchange.reuse(fromEndpoint, pattern);
+        return exchange;
+    }
+
+    @Override
+    public boolean release(Exchange exchange) {
+        if (pool == null || !(exchange instanceof DefaultExchange)) {
+            return false;
+        }
+        if (getCamelContext() != null && exchange.getContext() != getCamelContext()) {
+            // the exchange can only be reused by the same camel context
+            return false;
+        }
+        DefaultExchange de = (DefaultExchange) exchange;
+        // reset the exchange when released so it does not keep references to the message and its payload
+        de.reset();
+        if (pool.offer(de)) {
+            released.increment();
+            return true;
+        }
+        // the pool is full
+        discarded.increment();
+        return false;
+    }
+
+    @Override
+    public boolean isPooled() {
+        return true;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Number of new exchanges created.
+     */
+    public long getCreatedCounter() {
+        return created.sum();
+    }
+
+    /**
+     * Number of exchanges acquired (reused) from the pool.
+     */
+    public long getAcquiredCounter() {
+        return acquired.sum();
+    }
+
+    /**
+     * Number of exchanges released back to the pool.
+     */
+    public long getReleasedCounter() {
+        return released.sum();
+    }
+
+    /**
+     * Number of exchanges discarded (thrown away) because the pool was full.
+     */
+    public long getDiscardedCounter() {
+        return discarded.sum();
+    }
+
+    /**
+     * Number of exchanges currently in the pool.
+     */
+    public int getSize() {
+        return pool != null ? pool.size() : 0;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be a positive number, was: " + capacity);
+        }
+        if (pool == null) {
+            pool = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (pool != null) {
+            if (LOG.isDebugEnabled() && consumer != null) {
+                LOG.debug("PooledExchangeFactory for consumer: {} [created: {}, acquired: {}, released: {}, discarded: {}]",
+                        consumer, getCreatedCounter(), getAcquiredCounter(), getReleasedCounter(), getDiscardedCounter());
+            }
+            pool.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PooledExchangeFactory[capacity=" + capacity + "]";
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.camel.support;
 import java.util.Map;
 
 import org.apache.camel.TimeoutMap;
+import org.apache.camel.spi.TimeoutScheduler;
 
 /**
  * Represents an entry in a {@link TimeoutMap}
@@ -28,6 +29,8 @@ public class TimeoutMapEntry<K, V> implements Comparable<Object>, Map.Entry<K, V
     private V value;
     private long timeout;
     private long expireTime;
+    // the scheduled timeout when the entry is in a started DefaultTimeoutMap
+    volatile TimeoutScheduler.Timeout scheduled;
 
     public TimeoutMapEntry(K id, V handler, long timeout) {
         this.key = id;
@@ -20,8 +20,11 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.camel.RuntimeCamelException;
@@ -193,6 +196,25 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
         }
     }
 
+    @Override
+    public Collection<String> getLocalKeys() {
+        // the 1st level cache may not hold all the keys so load the keys from the file store
+        Set<String> answer = new LinkedHashSet<>();
+        synchronized (cache) {
+            answer.addAll(cache.keySet());
+            if (fileStore != null && fileStore.exists()) {
+                try (Scanner scanner = new Scanner(fileStore, null, STORE_DELIMITER)) {
+                    while (scanner.hasNext()) {
+                        answer.add(scanner.next());
+                    }
+                } catch (IOException e) {
+                    throw RuntimeCamelException.wrapRuntimeCamelException(e);
+                }
+            }
+        }
+        return answer;
+    }
+
     public File getFileStore() {
         return fileStore;
     }
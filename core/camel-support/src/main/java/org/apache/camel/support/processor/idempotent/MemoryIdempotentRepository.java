@@ -16,6 +16,8 @@
  */
 package org.apache.camel.support.processor.idempotent;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Map;
 
 import org.apache.camel.api.management.ManagedAttribute;
@@ -120,6 +122,13 @@ public class MemoryIdempotentRepository extends ServiceSupport implements Idempo
         }
     }
 
+    @Override
+    public Collection<String> getLocalKeys() {
+        synchronized (cache) {
+            return new ArrayList<>(cache.keySet());
+        }
+    }
+
     public Map<String, Object> getCache() {
         return cache;
     }
@@ -0,0 +1,756 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which stores the keys in an
+ * append-only log of segment files in a directory.
+ * <p/>
+ * All the keys are kept in a concurrent in-memory index, so {@link #contains(String)} never touches the files or
+ * takes a lock. Adding a key appends an add record to the current segment, and removing a key appends a tombstone
+ * record, so the files are never rewritten when keys are added or removed (as opposed to {@link FileIdempotentRepository}).
+ * When a segment is bigger than {@link #getMaxSegmentSize()} then a new segment is started.
+ * <p/>
+ * When the number of removed keys hits the {@link #getCompactionThreshold()} then the segments are compacted in
+ * the background into a snapshot with the current keys, which is written to a temporary file and then atomically
+ * renamed, so the store is consistent if the JVM crashes during compaction.
+ * <p/>
+ * The {@link #getSyncPolicy()} controls whether the appended records are forced to disk on every write, periodically,
+ * or left to the operating system (default).
+ * <p/>
+ * The keys must not contain line breaks.
+ */
+@ManagedResource(description = "Segmented file based idempotent repository")
+public class SegmentedFileIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    /**
+     * Policy for forcing the appended records to disk.
+     */
+    public enum SyncPolicy {
+        /**
+         * Leave it to the operating system to write the records to disk
+         */
+        NEVER,
+        /**
+         * Force the records to disk on every add and remove
+         */
+        ALWAYS,
+        /**
+         * Force the records to disk periodically in the background, see {@link #setSyncInterval(long)}
+         */
+        INTERVAL
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentedFileIdempotentRepository.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SUFFIX = ".log";
+    private static final byte ADD = '+';
+    private static final byte REMOVE = '-';
+    private static final byte HEADER = '#';
+    private static final byte DELIMITER = '\n';
+    private static final long SNAPSHOT_CHUNK_SIZE = 8 * 1024 * 1024L;
+
+    private final Lock lock = new ReentrantLock();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final AtomicLong removedKeys = new AtomicLong();
+    private final AtomicLong compactions = new AtomicLong();
+
+    private CamelContext camelContext;
+    private File directory;
+    private long maxSegmentSize = 16 * 1024 * 1024L;
+    private long compactionThreshold = 10000;
+    private SyncPolicy syncPolicy = SyncPolicy.NEVER;
+    private long syncInterval = 1000;
+
+    private volatile Set<String> index = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService executorService;
+    private boolean shutdownExecutorService;
+    private FileChannel channel;
+    private long segmentId;
+    private long segmentSize;
+    private long generation;
+    private volatile boolean dirty;
+
+    public SegmentedFileIdempotentRepository() {
+    }
+
+    public SegmentedFileIdempotentRepository(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates a new segmented file based repository which stores the segment files in the given directory.
+     *
+     * @param directory  the directory for the segment files
+     */
+    public static IdempotentRepository segmentedFileIdempotentRepository(File directory) {
+        return new SegmentedFileIdempotentRepository(directory);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        if (index.contains(key)) {
+            return false;
+        }
+        lock.lock();
+        try {
+            if (!index.add(key)) {
+                return false;
+            }
+            try {
+                append(ADD, key);
+            } catch (IOException e) {
+                index.remove(key);
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        return index.contains(key);
+    }
+
+    @Override
+    public Collection<String> getLocalKeys() {
+        return new ArrayList<>(index);
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        if (!index.contains(key)) {
+            return false;
+        }
+        lock.lock();
+        try {
+            if (!index.remove(key)) {
+                return false;
+            }
+            try {
+                append(REMOVE, key);
+            } catch (IOException e) {
+                index.add(key);
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (compactionThreshold > 0 && removedKeys.incrementAndGet() >= compactionThreshold) {
+            scheduleCompaction();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        lock.lock();
+        try {
+            index.clear();
+            closeSegment();
+            for (File file : listFiles(SEGMENT_PREFIX)) {
+                FileUtil.deleteFile(file);
+            }
+            for (File file : listFiles(SNAPSHOT_PREFIX)) {
+                FileUtil.deleteFile(file);
+            }
+            removedKeys.set(0);
+            // any ongoing compaction is outdated
+            generation++;
+            openSegment(segmentId + 1);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Sets the directory for the segment files.
+     */
+    public void setDirectory(File directory) {
+        this.directory = directory;
+    }
+
+    @ManagedAttribute(description = "The directory for the segment files")
+    public String getDirectoryPath() {
+        return directory.getPath();
+    }
+
+    @ManagedAttribute(description = "The maximum size of a segment file in bytes")
+    public long getMaxSegmentSize() {
+        return maxSegmentSize;
+    }
+
+    /**
+     * Sets the maximum size of a segment file in bytes, before a new segment file is started.
+     * <p/>
+     * The default is 16mb.
+     */
+    public void setMaxSegmentSize(long maxSegmentSize) {
+        this.maxSegmentSize = maxSegmentSize;
+    }
+
+    @ManagedAttribute(description = "Number of removed keys before the segment files are compacted")
+    public long getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the number of removed keys before the segment files are compacted in the background.
+     * You can set the value to 0 or negative to turn this off, and only compact using {@link #compact()}.
+     * <p/>
+     * The default is 10000.
+     */
+    @ManagedAttribute(description = "Number of removed keys before the segment files are compacted")
+    public void setCompactionThreshold(long compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public SyncPolicy getSyncPolicy() {
+        return syncPolicy;
+    }
+
+    /**
+     * Sets the policy for forcing the appended records to disk.
+     * <p/>
+     * The default is {@link SyncPolicy#NEVER} which leaves it to the operating system.
+     */
+    public void setSyncPolicy(SyncPolicy syncPolicy) {
+        this.syncPolicy = syncPolicy;
+    }
+
+    @ManagedAttribute(description = "The policy for forcing the appended records to disk")
+    public String getSyncPolicyName() {
+        return syncPolicy.name();
+    }
+
+    public long getSyncInterval() {
+        return syncInterval;
+    }
+
+    /**
+     * Sets the interval in millis for forcing the appended records to disk, when using {@link SyncPolicy#INTERVAL}.
+     * <p/>
+     * The default is 1000.
+     */
+    public void setSyncInterval(long syncInterval) {
+        this.syncInterval = syncInterval;
+    }
+
+    @ManagedAttribute(description = "The number of keys in the store")
+    public int getSize() {
+        return index.size();
+    }
+
+    @ManagedAttribute(description = "The number of removed keys since the last compaction")
+    public long getRemovedKeys() {
+        return removedKeys.get();
+    }
+
+    @ManagedAttribute(description = "The number of compactions")
+    public long getCompactions() {
+        return compactions.get();
+    }
+
+    /**
+     * Compacts the segment files into a snapshot with the current keys.
+     * <p/>
+     * Keys can be added and removed while compacting, as the new records are appended to a new segment.
+     */
+    @ManagedOperation(description = "Compacts the segment files")
+    public void compact() {
+        if (compacting.compareAndSet(false, true)) {
+            try {
+                doCompact();
+            } finally {
+                compacting.set(false);
+            }
+        }
+    }
+
+    private void scheduleCompaction() {
+        ScheduledExecutorService executor = executorService;
+        if (executor != null && compacting.compareAndSet(false, true)) {
+            executor.submit(() -> {
+                try {
+                    doCompact();
+                } finally {
+                    compacting.set(false);
+                }
+            });
+        }
+    }
+
+    private void doCompact() {
+        try {
+            final long upTo;
+            final long gen;
+            lock.lock();
+            try {
+                if (channel == null) {
+                    return;
+                }
+                // start a new segment so the older segments are not changed while compacting
+                upTo = segmentId;
+                gen = generation;
+                removedKeys.set(0);
+                closeSegment();
+                openSegment(upTo + 1);
+            } finally {
+                lock.unlock();
+            }
+
+            LOG.debug("Compacting segments up to: {} in idempotent filestore: {}", upTo, directory);
+            File tmp = new File(directory, SNAPSHOT_PREFIX + upTo + ".tmp");
+            try (FileOutputStream fos = new FileOutputStream(tmp);
+                 OutputStream out = new BufferedOutputStream(fos, 64 * 1024)) {
+                // the header has the number of keys so the index can be sized when loaded
+                out.write(HEADER);
+                out.write(Integer.toString(index.size()).getBytes(StandardCharsets.UTF_8));
+                out.write(DELIMITER);
+                for (String key : index) {
+                    out.write(ADD);
+                    out.write(key.getBytes(StandardCharsets.UTF_8));
+                    out.write(DELIMITER);
+                }
+                out.flush();
+                fos.getChannel().force(true);
+            }
+            lock.lock();
+            try {
+                if (gen != generation) {
+                    LOG.debug("Discarding compaction of idempotent filestore: {} as the store was cleared or stopped", directory);
+                    FileUtil.deleteFile(tmp);
+                    return;
+                }
+                // the snapshot replaces the older segments when renamed
+                Files.move(tmp.toPath(), new File(directory, SNAPSHOT_PREFIX + upTo + SUFFIX).toPath(), StandardCopyOption.ATOMIC_MOVE);
+                deleteFiles(upTo);
+            } finally {
+                lock.unlock();
+            }
+            compactions.incrementAndGet();
+            LOG.debug("Compacted segments up to: {} in idempotent filestore: {} with {} keys", upTo, directory, index.size());
+        } catch (IOException e) {
+            LOG.warn("Error compacting idempotent filestore: " + directory + ". This exception is ignored.", e);
+        }
+    }
+
+    /**
+     * Loads the snapshot and segment files into the in-memory index
+     */
+    protected void loadStore() throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Cannot create directory: " + directory);
+        }
+
+        LOG.trace("Loading idempotent filestore: {}", directory);
+        File[] snapshots = listFiles(SNAPSHOT_PREFIX);
+        File[] segments = listFiles(SEGMENT_PREFIX);
+
+        // size the index up front as resizing is expensive with many keys (assume keys in segments are about 32 bytes)
+        long capacity = 16;
+        if (snapshots.length > 0) {
+            capacity += readHeader(snapshots[snapshots.length - 1]);
+        }
+        for (File file : segments) {
+            capacity += file.length() / 32;
+        }
+        index = ConcurrentHashMap.newKeySet((int) Math.min(Integer.MAX_VALUE / 2, capacity));
+        removedKeys.set(0);
+
+        // the newest snapshot contains all the keys from the segments it was compacted from
+        long snapshotId = -1;
+        if (snapshots.length > 0) {
+            File snapshot = snapshots[snapshots.length - 1];
+            snapshotId = fileId(snapshot);
+            readSnapshot(snapshot);
+        }
+
+        long lastId = Math.max(snapshotId, 0);
+        File last = null;
+        for (File segment : segments) {
+            long id = fileId(segment);
+            if (id > snapshotId) {
+                long valid = readFile(segment);
+                if (valid < segment.length()) {
+                    // an incomplete record from a crash which we must remove before appending
+                    LOG.warn("Truncating incomplete record in idempotent filestore: {}", segment);
+                    try (FileChannel fc = FileChannel.open(segment.toPath(), StandardOpenOption.WRITE)) {
+                        fc.truncate(valid);
+                    }
+                }
+                lastId = id;
+                last = segment;
+            }
+        }
+        // remove files left over from a crash during compaction
+        deleteFiles(snapshotId);
+
+        // continue on the last segment
+        segmentId = lastId;
+        openSegment(last != null ? lastId : lastId + 1);
+
+        LOG.debug("Loaded {} keys from idempotent filestore: {}", index.size(), directory);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(directory, "directory", this);
+
+        if (executorService == null) {
+            if (camelContext != null) {
+                executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "SegmentedFileIdempotentRepository");
+            } else {
+                executorService = Executors.newSingleThreadScheduledExecutor(new CamelThreadFactory(null, "SegmentedFileIdempotentRepository", true));
+            }
+            shutdownExecutorService = true;
+        }
+
+        lock.lock();
+        try {
+            if (channel == null) {
+                loadStore();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (syncPolicy == SyncPolicy.INTERVAL) {
+            executorService.scheduleWithFixedDelay(this::sync, syncInterval, syncInterval, TimeUnit.MILLISECONDS);
+        }
+        if (compactionThreshold > 0 && removedKeys.get() >= compactionThreshold) {
+            scheduleCompaction();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null && shutdownExecutorService) {
+            if (camelContext != null) {
+                camelContext.getExecutorServiceManager().shutdownGraceful(executorService);
+            } else {
+                executorService.shutdown();
+                executorService.awaitTermination(10, TimeUnit.SECONDS);
+            }
+            executorService = null;
+        }
+
+        lock.lock();
+        try {
+            // any ongoing compaction is outdated
+            generation++;
+            closeSegment();
+            index.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append(byte type, String key) throws IOException {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(data.length + 2);
+        buffer.put(type).put(data).put(DELIMITER);
+        buffer.flip();
+
+        if (segmentSize + buffer.remaining() > maxSegmentSize && segmentSize > 0) {
+            closeSegment();
+            openSegment(segmentId + 1);
+        }
+        while (buffer.hasRemaining()) {
+            segmentSize += channel.write(buffer);
+        }
+        if (syncPolicy == SyncPolicy.ALWAYS) {
+            channel.force(false);
+        } else {
+            dirty = true;
+        }
+    }
+
+    private void sync() {
+        if (!dirty) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (channel != null) {
+                dirty = false;
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            LOG.warn("Error syncing idempotent filestore: " + directory + ". This exception is ignored.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void openSegment(long id) throws IOException {
+        File segment = new File(directory, SEGMENT_PREFIX + id + SUFFIX);
+        channel = FileChannel.open(segment.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segmentId = id;
+        segmentSize = channel.size();
+    }
+
+    private void closeSegment() throws IOException {
+        if (channel != null) {
+            try {
+                if (syncPolicy != SyncPolicy.NEVER && dirty) {
+                    channel.force(false);
+                }
+            } finally {
+                dirty = false;
+                channel.close();
+                channel = null;
+            }
+        }
+    }
+
+    /**
+     * Reads the records from the file into the index.
+     *
+     * @return the length of the file with complete records
+     */
+    private long readFile(File file) throws IOException {
+        try (FileChannel fc = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return readRecords(fc, 0, fc.size());
+        }
+    }
+
+    /**
+     * Reads the snapshot into the index, where large snapshots are read in parallel chunks as they only contain
+     * add records, which can be read in any order.
+     */
+    private void readSnapshot(File snapshot) throws IOException {
+        try (FileChannel fc = FileChannel.open(snapshot.toPath(), StandardOpenOption.READ)) {
+            final long size = fc.size();
+            final int chunks = (int) Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), size / SNAPSHOT_CHUNK_SIZE));
+            if (chunks == 1) {
+                readRecords(fc, 0, size);
+                return;
+            }
+
+            // split the chunks at the start of the records
+            final long[] bounds = new long[chunks + 1];
+            bounds[chunks] = size;
+            for (int i = 1; i < chunks; i++) {
+                bounds[i] = Math.max(bounds[i - 1], nextRecord(fc, size * i / chunks));
+            }
+            try {
+                IntStream.range(0, chunks).parallel().forEach(i -> {
+                    try {
+                        readRecords(fc, bounds[i], bounds[i + 1]);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static long nextRecord(FileChannel fc, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        while (fc.read(buffer, position) > 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position++;
+                if (buffer.get() == DELIMITER) {
+                    return position;
+                }
+            }
+            buffer.clear();
+        }
+        return position;
+    }
+
+    /**
+     * Reads the records between the given positions into the index.
+     *
+     * @return the position after the last complete record
+     */
+    private long readRecords(FileChannel fc, long start, long end) throws IOException {
+        final Set<String> keys = index;
+        long valid = start;
+        long position = start;
+        long removed = 0;
+        byte[] line = new byte[256];
+        int length = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(256 * 1024);
+        while (position < end) {
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            int read = fc.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            byte[] data = buffer.array();
+            for (int i = 0; i < read; i++) {
+                byte b = data[i];
+                position++;
+                if (b == DELIMITER) {
+                    if (length > 1 && line[0] != HEADER) {
+                        String key = new String(line, 1, length - 1, StandardCharsets.UTF_8);
+                        if (line[0] == REMOVE) {
+                            keys.remove(key);
+                            removed++;
+                        } else {
+                            keys.add(key);
+                        }
+                    }
+                    length = 0;
+                    valid = position;
+                } else {
+                    if (length == line.length) {
+                        line = Arrays.copyOf(line, length * 2);
+                    }
+                    line[length++] = b;
+                }
+            }
+            buffer.clear();
+        }
+        removedKeys.addAndGet(removed);
+        return valid;
+    }
+
+    /**
+     * Reads the number of keys from the header of the snapshot.
+     */
+    private static long readHeader(File snapshot) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        try (FileChannel fc = FileChannel.open(snapshot.toPath(), StandardOpenOption.READ)) {
+            fc.read(buffer);
+        }
+        byte[] data = buffer.array();
+        long count = 0;
+        if (buffer.position() > 0 && data[0] == HEADER) {
+            for (int i = 1; i < buffer.position() && data[i] >= '0' && data[i] <= '9'; i++) {
+                count = count * 10 + data[i] - '0';
+            }
+        }
+        return count;
+    }
+
+    private void deleteFiles(long upTo) {
+        List<File> files = new ArrayList<>();
+        for (File file : listFiles(SEGMENT_PREFIX)) {
+            if (fileId(file) <= upTo) {
+                files.add(file);
+            }
+        }
+        for (File file : listFiles(SNAPSHOT_PREFIX)) {
+            if (fileId(file) < upTo) {
+                files.add(file);
+            }
+        }
+        File[] tmp = directory.listFiles((dir, name) -> name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(".tmp"));
+        if (tmp != null) {
+            files.addAll(Arrays.asList(tmp));
+        }
+        for (File file : files) {
+            LOG.trace("Deleting compacted file: {}", file);
+            FileUtil.deleteFile(file);
+        }
+    }
+
+    private File[] listFiles(String prefix) {
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(prefix) && name.endsWith(SUFFIX));
+        if (files == null) {
+            return new File[0];
+        }
+        Arrays.sort(files, (a, b) -> Long.compare(fileId(a), fileId(b)));
+        return files;
+    }
+
+    private static long fileId(File file) {
+        String name = file.getName();
+        String id = name.substring(name.indexOf('-') + 1, name.length() - SUFFIX.length());
+        return Long.parseLong(id);
+    }
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded pool of byte array buffers of a fixed size.
+ * <p/>
+ * Buffers are borrowed using {@link #acquire()} and must be returned using {@link #release(byte[])} when no longer in use,
+ * so they can be reused instead of allocating new short lived arrays. If the pool is empty then a new buffer is allocated,
+ * and if the pool is full when a buffer is released then the buffer is discarded.
+ * <p/>
+ * When leak detection is enabled then the owners of buffers can be tracked using {@link #track(Object)}, and a leak is
+ * reported if an owner is garbage collected without its buffers being released.
+ * <p/>
+ * This implementation is thread safe.
+ */
+public final class BufferPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BufferPool.class);
+
+    private final int bufferSize;
+    private final int maxPooled;
+    private final Queue<byte[]> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    // use adders as they are per thread and thus do not contend when updated from many threads
+    private final LongAdder created = new LongAdder();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder leaks = new LongAdder();
+    private final ReferenceQueue<Object> leakQueue = new ReferenceQueue<>();
+    private final Set<Tracker> trackers = ConcurrentHashMap.newKeySet();
+    private volatile boolean leakDetection;
+
+    /**
+     * Creates a pool of buffers
+     *
+     * @param bufferSize the size of the buffers
+     * @param maxPooled  the maximum number of free buffers to keep in the pool
+     */
+    public BufferPool(int bufferSize, int maxPooled) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("BufferSize must be a positive number, was: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * Borrows a buffer from the pool, or allocates a new buffer if the pool is empty.
+     * <p/>
+     * The content of the buffer is undefined.
+     */
+    public byte[] acquire() {
+        if (leakDetection) {
+            detectLeaks();
+        }
+        acquired.increment();
+        byte[] buffer = pool.poll();
+        if (buffer != null) {
+            pooled.decrementAndGet();
+            return buffer;
+        }
+        created.increment();
+        return new byte[bufferSize];
+    }
+
+    /**
+     * Returns the buffer to the pool.
+     * <p/>
+     * The buffer must not be used after it has been released. Buffers of a different size than the buffers of this pool
+     * are ignored.
+     */
+    public void release(byte[] buffer) {
+        if (buffer == null || buffer.length != bufferSize) {
+            return;
+        }
+        released.increment();
+        if (pooled.incrementAndGet() <= maxPooled) {
+            pool.offer(buffer);
+        } else {
+            // the pool is full so discard the buffer
+            pooled.decrementAndGet();
+        }
+    }
+
+    /**
+     * Tracks the given owner of buffers when leak detection is enabled, to detect if the owner is garbage collected
+     * without releasing its buffers. The returned tracker must be closed when the owner releases its buffers.
+     *
+     * @param owner the owner of the buffers
+     * @return the tracker, or <tt>null</tt> if leak detection is not enabled
+     */
+    public Tracker track(Object owner) {
+        if (!leakDetection) {
+            return null;
+        }
+        Tracker tracker = new Tracker(owner, this);
+        trackers.add(tracker);
+        return tracker;
+    }
+
+    /**
+     * Removes all the free buffers from the pool.
+     */
+    public void clear() {
+        while (pool.poll() != null) {
+            pooled.decrementAndGet();
+        }
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public int getMaxPooled() {
+        return maxPooled;
+    }
+
+    /**
+     * Number of free buffers in the pool
+     */
+    public int getPooled() {
+        return Math.max(0, pooled.get());
+    }
+
+    /**
+     * Number of buffers allocated by the pool
+     */
+    public long getCreatedCounter() {
+        return created.sum();
+    }
+
+    /**
+     * Number of buffers borrowed from the pool
+     */
+    public long getAcquiredCounter() {
+        return acquired.sum();
+    }
+
+    /**
+     * Number of buffers returned to the pool
+     */
+    public long getReleasedCounter() {
+        return released.sum();
+    }
+
+    /**
+     * Number of buffers which are borrowed and not yet returned to the pool
+     */
+    public long getInUse() {
+        return Math.max(0, acquired.sum() - released.sum());
+    }
+
+    /**
+     * Number of owners of buffers which have been garbage collected without releasing their buffers
+     */
+    public long getLeaks() {
+        if (leakDetection) {
+            detectLeaks();
+        }
+        return leaks.sum();
+    }
+
+    public boolean isLeakDetection() {
+        return leakDetection;
+    }
+
+    /**
+     * Whether to detect owners of buffers which are garbage collected without releasing their buffers.
+     * This requires tracking the owners and should only be enabled when troubleshooting.
+     */
+    public void setLeakDetection(boolean leakDetection) {
+        this.leakDetection = leakDetection;
+    }
+
+    private void detectLeaks() {
+        Reference<?> ref;
+        while ((ref = leakQueue.poll()) != null) {
+            Tracker tracker = (Tracker) ref;
+            if (trackers.remove(tracker)) {
+                leaks.increment();
+                LOG.warn("Buffers owned by {} were not released before being garbage collected. This is a leak of pooled buffers.", tracker.name);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BufferPool[bufferSize=" + bufferSize + ", maxPooled=" + maxPooled + ", pooled=" + getPooled() + ", inUse=" + getInUse() + "]";
+    }
+
+    /**
+     * Tracks an owner of buffers for leak detection.
+     */
+    public static final class Tracker extends PhantomReference<Object> {
+
+        private final BufferPool pool;
+        private final String name;
+
+        private Tracker(Object owner, BufferPool pool) {
+            super(owner, pool.leakQueue);
+            this.pool = pool;
+            this.name = owner.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(owner));
+        }
+
+        /**
+         * Marks the buffers of the owner as released.
+         */
+        public void close() {
+            pool.trackers.remove(this);
+            clear();
+        }
+    }
+}
@@ -176,8 +176,34 @@ public final class IOHelper {
             LOG.trace("Copying InputStream: {} -> OutputStream: {} with buffer: {} and flush on each write {}", input, output, bufferSize, flushOnEachWrite);
         }
 
+        return doCopy(input, output, new byte[bufferSize], flushOnEachWrite);
+    }
+
+    /**
+     * Copies the data from the input stream to the output stream, using a buffer borrowed from the given pool of buffers.
+     *
+     * @param input  the input stream
+     * @param output the output stream
+     * @param pool   the pool to borrow the buffer from, or <tt>null</tt> to allocate a new buffer
+     * @return the number of bytes copied
+     */
+    public static int copy(final InputStream input, final OutputStream output, BufferPool pool) throws IOException {
+        if (pool == null) {
+            return copy(input, output);
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Copying InputStream: {} -> OutputStream: {} with pooled buffer: {}", input, output, pool.getBufferSize());
+        }
+        final byte[] buffer = pool.acquire();
+        try {
+            return doCopy(input, output, buffer, false);
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    private static int doCopy(final InputStream input, final OutputStream output, final byte[] buffer, boolean flushOnEachWrite) throws IOException {
         int total = 0;
-        final byte[] buffer = new byte[bufferSize];
         int n = input.read(buffer);
 
         boolean hasData;
@@ -54,6 +54,17 @@ public class AsyncCompletionService<V> {
         this.executor.execute(f);
     }
 
+    /**
+     * Submits the task with the given id, which is the order the results are polled when ordered.
+     * This is used when the tasks may be submitted out of order from different threads.
+     * The ids must be sequential starting from zero, and this method must not be used together with
+     * {@link #submit(Consumer)}.
+     */
+    public void submit(long id, Consumer<Consumer<V>> runner) {
+        Task f = new Task(id, runner);
+        this.executor.execute(f);
+    }
+
     public void skip() {
         index.incrementAndGet();
     }
@@ -16,6 +16,9 @@
  */
 package org.apache.camel.util.concurrent;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.concurrent.ThreadFactory;
 
 import org.slf4j.Logger;
@@ -23,25 +26,79 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Thread factory which creates threads supporting a naming pattern.
+ * <p/>
+ * The factory can create virtual threads instead of platform threads when running on a JVM which supports
+ * virtual threads (see {@link #isVirtualThreadsSupported()}). On older JVMs platform threads are created instead.
  */
 public final class CamelThreadFactory implements ThreadFactory {
     private static final Logger LOG = LoggerFactory.getLogger(CamelThreadFactory.class);
 
+    // the virtual thread API is looked up reflectively as we must be able to compile and run on older JVMs
+    private static final MethodHandle OF_VIRTUAL;
+    private static final MethodHandle UNSTARTED;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle unstarted = null;
+        try {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            Class<?> ofVirtualBuilder = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualBuilder));
+            unstarted = lookup.findVirtual(builder, "unstarted", MethodType.methodType(Thread.class, Runnable.class));
+            // create a thread (which is not started) to detect if virtual threads are a preview feature that is not enabled
+            unstarted.invoke(ofVirtual.invoke(), (Runnable) () -> { });
+        } catch (Throwable e) {
+            LOG.trace("Virtual threads is not supported on this JVM due to: {}", e.getMessage());
+            ofVirtual = null;
+            unstarted = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        UNSTARTED = unstarted;
+    }
+
     private final String pattern;
     private final String name;
     private final boolean daemon;
+    private final boolean virtual;
 
     public CamelThreadFactory(String pattern, String name, boolean daemon) {
+        this(pattern, name, daemon, false);
+    }
+
+    /**
+     * Creates a thread factory.
+     *
+     * @param pattern the thread name pattern
+     * @param name    the thread name
+     * @param daemon  whether the platform threads should be daemon threads (virtual threads are always daemon threads)
+     * @param virtual whether to create virtual threads, which is only in use if the JVM supports virtual threads
+     */
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
         this.pattern = pattern;
         this.name = name;
         this.daemon = daemon;
+        this.virtual = virtual && isVirtualThreadsSupported();
+    }
+
+    /**
+     * Whether the JVM supports virtual threads.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return OF_VIRTUAL != null;
     }
 
     @Override
     public Thread newThread(Runnable runnable) {
         String threadName = ThreadHelper.resolveThreadName(pattern, name);
-        Thread answer = new Thread(runnable, threadName);
-        answer.setDaemon(daemon);
+        Thread answer;
+        if (virtual) {
+            answer = newVirtualThread(runnable);
+            answer.setName(threadName);
+        } else {
+            answer = new Thread(runnable, threadName);
+            answer.setDaemon(daemon);
+        }
 
         LOG.trace("Created thread[{}] -> {}", threadName, answer);
         return answer;
@@ -51,8 +108,25 @@ public final class CamelThreadFactory implements ThreadFactory {
         return name;
     }
 
+    /**
+     * Whether this factory creates virtual threads.
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
     @Override
     public String toString() {
         return "CamelThreadFactory[" + name + "]";
     }
+
+    private static Thread newVirtualThread(Runnable runnable) {
+        try {
+            return (Thread) UNSTARTED.invoke(OF_VIRTUAL.invoke(), runnable);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot create virtual thread", e);
+        }
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BufferPoolTest extends Assert {
+
+    @Test
+    public void testAcquireRelease() throws Exception {
+        BufferPool pool = new BufferPool(16, 2);
+
+        byte[] a = pool.acquire();
+        byte[] b = pool.acquire();
+        byte[] c = pool.acquire();
+        assertEquals(16, a.length);
+        assertEquals(3, pool.getCreatedCounter());
+        assertEquals(3, pool.getInUse());
+        assertEquals(0, pool.getPooled());
+
+        pool.release(a);
+        pool.release(b);
+        // the pool is full so this buffer is discarded
+        pool.release(c);
+        assertEquals(0, pool.getInUse());
+        assertEquals(2, pool.getPooled());
+
+        // reuse the pooled buffers
+        assertSame(a, pool.acquire());
+        assertSame(b, pool.acquire());
+        assertEquals(3, pool.getCreatedCounter());
+        assertEquals(5, pool.getAcquiredCounter());
+
+        // buffers of another size are not pooled
+        pool.release(new byte[8]);
+        assertEquals(0, pool.getPooled());
+    }
+
+    @Test
+    public void testLeakDetection() throws Exception {
+        BufferPool pool = new BufferPool(16, 2);
+        pool.setLeakDetection(true);
+
+        Object released = new Object();
+        pool.track(released).close();
+
+        Object owner = new Object();
+        assertNotNull(pool.track(owner));
+        owner = null;
+        released = null;
+
+        for (int i = 0; i < 50 && pool.getLeaks() == 0; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertEquals(1, pool.getLeaks());
+    }
+
+    @Test
+    public void testCopyWithPool() throws Exception {
+        BufferPool pool = new BufferPool(4, 2);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        int total = IOHelper.copy(new ByteArrayInputStream("Hello World".getBytes()), bos, pool);
+        assertEquals(11, total);
+        assertEquals("Hello World", bos.toString());
+        assertEquals(1, pool.getPooled());
+        assertEquals(0, pool.getInUse());
+    }
+}
@@ -56,6 +56,19 @@ public class AsyncCompletionServiceTest extends Assert {
         assertEquals("B", b);
     }
 
+    @Test
+    public void testSubmitOrderedWithId() throws Exception {
+
+        service.submit(1, result("B"));
+        service.submit(0, result("A"));
+
+        Object a = service.take();
+        Object b = service.take();
+
+        assertEquals("A", a);
+        assertEquals("B", b);
+    }
+
     @Test
     public void testSubmitOrderedFirstTaskIsSlow() throws Exception {
 
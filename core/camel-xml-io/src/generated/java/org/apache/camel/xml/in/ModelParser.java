@@ -79,11 +79,13 @@ public class ModelParser extends BaseParser {
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); break;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); break;
+                case "lockStripes": def.setLockStripes(val); break;
                 case "optimisticLocking": def.setOptimisticLocking(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
                 case "strategyMethodAllowNull": def.setStrategyMethodAllowNull(val); break;
                 case "strategyMethodName": def.setStrategyMethodName(val); break;
                 case "strategyRef": def.setStrategyRef(val); break;
+                case "stripedLocking": def.setStripedLocking(val); break;
                 case "timeoutCheckerExecutorServiceRef": def.setTimeoutCheckerExecutorServiceRef(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
             }
@@ -487,6 +489,8 @@ public class ModelParser extends BaseParser {
                 case "completionEager": def.setCompletionEager(val); break;
                 case "eager": def.setEager(val); break;
                 case "messageIdRepositoryRef": def.setMessageIdRepositoryRef(val); break;
+                case "preFilterFalsePositiveRate": def.setPreFilterFalsePositiveRate(val); break;
+                case "preFilterSize": def.setPreFilterSize(val); break;
                 case "removeOnFailure": def.setRemoveOnFailure(val); break;
                 case "skipDuplicate": def.setSkipDuplicate(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
@@ -1143,6 +1147,7 @@ public class ModelParser extends BaseParser {
         return doParse(new SplitDefinition(), (def, key, val) -> {
             switch (key) {
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
+                case "maxInflight": def.setMaxInflight(val); break;
                 case "onPrepareRef": def.setOnPrepareRef(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
@@ -1178,6 +1183,7 @@ public class ModelParser extends BaseParser {
                 case "poolSize": def.setPoolSize(val); break;
                 case "rejectedPolicy": def.setRejectedPolicy(val); break;
                 case "timeUnit": def.setTimeUnit(val); break;
+                case "virtualThreads": def.setVirtualThreads(val); break;
                 default: return optionalIdentifiedDefinitionAttributeHandler().accept(def, key, val);
             }
             return true;
@@ -1209,6 +1215,7 @@ public class ModelParser extends BaseParser {
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
                 case "rejectExecution": def.setRejectExecution(val); break;
                 case "timePeriodMillis": def.setTimePeriodMillis(val); break;
+                case "tokenBucket": def.setTokenBucket(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
             }
             return true;
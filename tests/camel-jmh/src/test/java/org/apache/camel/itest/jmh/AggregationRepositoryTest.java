@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.leveldb.LevelDBAggregationRepository;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.processor.aggregate.MemoryAggregationRepository;
+import org.apache.camel.processor.aggregate.OffHeapAggregationRepository;
+import org.apache.camel.spi.AggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.FileUtil;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the aggregation repositories with many partial aggregates, as an aggregator would use them.
+ * The GC profiler shows the cost of keeping the aggregates on the heap versus serializing them off the heap,
+ * and the LevelDB repository is included as the persistent alternative to keeping the aggregates off the heap.
+ */
+public class AggregationRepositoryTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.SampleTime)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(10))
+            .measurementIterations(2)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        CamelContext camel;
+        AggregationRepository repository;
+        String body;
+        int keys = 10000;
+        int counter;
+
+        @Param({"memory", "offheap", "leveldb"})
+        String type;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.start();
+
+            if ("offheap".equals(type)) {
+                repository = new OffHeapAggregationRepository();
+            } else if ("leveldb".equals(type)) {
+                FileUtil.removeDir(new File("target/data/leveldb"));
+                repository = new LevelDBAggregationRepository("repo", "target/data/leveldb/aggregation.dat");
+            } else {
+                repository = new MemoryAggregationRepository();
+            }
+            ServiceHelper.startService(repository);
+
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 100; i++) {
+                sb.append("0123456789");
+            }
+            body = sb.toString();
+
+            for (int i = 0; i < keys; i++) {
+                Exchange exchange = new DefaultExchange(camel);
+                exchange.getIn().setBody(body);
+                exchange.getIn().setHeader("id", i);
+                repository.add(camel, "key" + i, exchange);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                ServiceHelper.stopService(repository);
+                camel.stop();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void aggregate(BenchmarkState state, Blackhole bh) {
+        int id = state.counter++ % state.keys;
+        String key = "key" + id;
+        Exchange exchange = state.repository.get(state.camel, key);
+        // aggregate the next message
+        exchange.getIn().setHeader("count", state.counter);
+        state.repository.add(state.camel, key, exchange);
+
+        if (state.counter % 100 == 0) {
+            // complete the aggregate and start a new one
+            state.repository.remove(state.camel, key, exchange);
+            state.repository.confirm(state.camel, exchange.getExchangeId());
+            Exchange next = new DefaultExchange(state.camel);
+            next.getIn().setBody(state.body);
+            next.getIn().setHeader("id", id);
+            state.repository.add(state.camel, key, next);
+        }
+        bh.consume(exchange);
+    }
+
+}
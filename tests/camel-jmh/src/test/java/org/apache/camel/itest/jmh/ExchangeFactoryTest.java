@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.PooledExchangeFactory;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the prototype and pooled exchange factory with the GC profiler, to compare the allocations
+ * per message received by the timer and seda consumers.
+ */
+public class ExchangeFactoryTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.SECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(5))
+            .measurementIterations(2)
+            .threads(1)
+            .forks(1)
+            // see gc.alloc.rate.norm for the allocated bytes per message
+            .addProfiler(GCProfiler.class)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public abstract static class BenchmarkState {
+        @Param({"prototype", "pooled"})
+        String exchangeFactory;
+
+        CamelContext camel;
+        ProducerTemplate producer;
+        // released when a message has been routed, so the benchmarks measure the messages received by the consumer
+        Semaphore done = new Semaphore(0);
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            camel = new DefaultCamelContext();
+            if ("pooled".equals(exchangeFactory)) {
+                camel.adapt(ExtendedCamelContext.class).setExchangeFactory(new PooledExchangeFactory());
+            }
+            try {
+                camel.addRoutes(createRouteBuilder());
+                camel.start();
+                producer = camel.createProducerTemplate();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                producer.stop();
+                camel.stop();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+        abstract RouteBuilder createRouteBuilder();
+    }
+
+    public static class TimerState extends BenchmarkState {
+
+        @Override
+        RouteBuilder createRouteBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    // the throughput is bounded by the timer period, so look at the allocations per message
+                    // and the log level is not enabled so we do not measure the logging
+                    from("timer:foo?period=1&fixedRate=true")
+                        .to("log:foo?level=TRACE")
+                        .process(e -> done.release());
+                }
+            };
+        }
+    }
+
+    public static class SedaState extends BenchmarkState {
+
+        @Override
+        RouteBuilder createRouteBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("seda:foo")
+                        .bean(new MyBean(done), "hello");
+                }
+            };
+        }
+    }
+
+    public static class MyBean {
+
+        private final Semaphore done;
+
+        public MyBean(Semaphore done) {
+            this.done = done;
+        }
+
+        public String hello(String body) {
+            done.release();
+            return "Hello " + body;
+        }
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 100)
+    public void timerToLog(TimerState state) throws Exception {
+        state.done.acquire();
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void sedaToBean(SedaState state) throws Exception {
+        state.producer.sendBody("seda:foo", "World");
+        state.done.acquire();
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.component.file.FileConsumer;
+import org.apache.camel.component.file.FileEndpoint;
+import org.apache.camel.component.file.FileOperations;
+import org.apache.camel.component.file.GenericFile;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.util.FileUtil;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests scanning a large directory tree with the file consumer
+ */
+public class FileScanTest {
+
+    private static final String DIRECTORY = "target/data/scan";
+    private static final int DIRECTORIES = 100;
+    private static final int FILES = 1000;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(10))
+            .measurementIterations(2)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        CamelContext camel;
+        ScanConsumer consumer;
+
+        @Param({"listFiles", "nioScan", "parallelScan"})
+        String scan;
+
+        @Param({"0", "100"})
+        int maxMessagesPerPoll;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            createFiles();
+
+            camel = new DefaultCamelContext();
+            camel.start();
+
+            String uri = "file:" + DIRECTORY + "?recursive=true&startScheduler=false&maxMessagesPerPoll=" + maxMessagesPerPoll;
+            if (!"listFiles".equals(scan)) {
+                uri += "&" + scan + "=true";
+            }
+            FileEndpoint endpoint = camel.getEndpoint(uri, FileEndpoint.class);
+            consumer = new ScanConsumer(endpoint);
+            consumer.setMaxMessagesPerPoll(maxMessagesPerPoll);
+            consumer.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                consumer.stop();
+                camel.stop();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+        private static void createFiles() throws IOException {
+            File root = new File(DIRECTORY);
+            if (new File(root, "" + (DIRECTORIES - 1)).exists()) {
+                return;
+            }
+            FileUtil.removeDir(root);
+            for (int i = 0; i < DIRECTORIES; i++) {
+                File dir = new File(root, "" + i);
+                dir.mkdirs();
+                for (int j = 0; j < FILES; j++) {
+                    new File(dir, "file-" + j + ".txt").createNewFile();
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void scan(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.consumer.scan());
+    }
+
+    /**
+     * Consumer which scans the directory without processing the files
+     */
+    public static class ScanConsumer extends FileConsumer {
+
+        public ScanConsumer(FileEndpoint endpoint) {
+            super(endpoint, exchange -> { }, new FileOperations(endpoint), null);
+        }
+
+        public int scan() {
+            List<GenericFile<File>> files = new ArrayList<>();
+            pollDirectory(DIRECTORY, files, 0);
+            // the files are marked as in progress so remove them again
+            removeExcessiveInProgressFiles(files);
+            return files.size();
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.ForkJoinReactiveExecutor;
+import org.apache.camel.model.RouteDefinition;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the default and the fork join reactive executors with deep pipelines and multicast heavy routes
+ */
+public class ReactiveExecutorTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(5))
+            .measurementIterations(2)
+            .threads(4)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"default", "forkjoin"})
+        String executor;
+
+        CamelContext camel;
+        ProducerTemplate producer;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            camel = new DefaultCamelContext();
+            if ("forkjoin".equals(executor)) {
+                camel.adapt(ExtendedCamelContext.class).setReactiveExecutor(new ForkJoinReactiveExecutor());
+            }
+            try {
+                camel.addRoutes(new RouteBuilder() {
+                    @Override
+                    public void configure() throws Exception {
+                        RouteDefinition pipeline = from("direct:pipeline");
+                        for (int i = 0; i < 50; i++) {
+                            pipeline.setHeader("step", constant(i));
+                        }
+                        pipeline.to("mock:pipeline?retainFirst=0");
+
+                        from("direct:multicast")
+                            .multicast().parallelProcessing()
+                                .to("direct:a", "direct:b", "direct:c", "direct:d", "direct:e", "direct:f", "direct:g", "direct:h")
+                            .end()
+                            .to("mock:multicast?retainFirst=0");
+
+                        from("direct:a").setHeader("foo", constant("a")).to("mock:a?retainFirst=0");
+                        from("direct:b").setHeader("foo", constant("b")).to("mock:b?retainFirst=0");
+                        from("direct:c").setHeader("foo", constant("c")).to("mock:c?retainFirst=0");
+                        from("direct:d").setHeader("foo", constant("d")).to("mock:d?retainFirst=0");
+                        from("direct:e").setHeader("foo", constant("e")).to("mock:e?retainFirst=0");
+                        from("direct:f").setHeader("foo", constant("f")).to("mock:f?retainFirst=0");
+                        from("direct:g").setHeader("foo", constant("g")).to("mock:g?retainFirst=0");
+                        from("direct:h").setHeader("foo", constant("h")).to("mock:h?retainFirst=0");
+                    }
+                });
+                camel.start();
+                producer = camel.createProducerTemplate();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                producer.stop();
+                camel.stop();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void deepPipeline(BenchmarkState state) {
+        state.producer.sendBody("direct:pipeline", "Hello World");
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 100)
+    public void multicast(BenchmarkState state) {
+        state.producer.sendBody("direct:multicast", "Hello World");
+    }
+
+}
@@ -20,14 +20,16 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.Predicate;
 import org.apache.camel.impl.DefaultCamelContext;
-import org.apache.camel.spi.Language;
+import org.apache.camel.language.simple.SimpleLanguage;
 import org.apache.camel.support.DefaultExchange;
 import org.junit.Test;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -71,8 +73,24 @@ public class SimpleExpressionTest {
     public static class BenchmarkState {
         CamelContext camel;
         String expression = "Hello ${body}";
+        // predicates as in a content based router where the last predicate matches
+        String[] predicates = {
+            "${header.type} == 'gold'",
+            "${header.type} == 'silver' && ${header.amount} > 1000",
+            "${header.amount} > 5000",
+            "${exchangeProperty.region} contains 'Asia'",
+            "${body} starts with 'Bye'",
+            "${header.code} regex '[A-Z]{3}-\\d{5}'",
+            "${header.type} in 'platinum,diamond'",
+            "${header.type} == 'iron' || ${header.amount} <= 100",
+            "${header.type} =~ 'COPPER'",
+            "${header.amount} > 500 && ${exchangeProperty.region} == 'Europe'"
+        };
         Exchange exchange;
-        Language simple;
+        SimpleLanguage simple;
+
+        @Param({"false", "true"})
+        boolean compiled;
 
         @Setup(Level.Trial)
         public void initialize() {
@@ -81,7 +99,12 @@ public class SimpleExpressionTest {
                 camel.start();
                 exchange = new DefaultExchange(camel);
                 exchange.getIn().setBody("World");
-                simple = camel.resolveLanguage("simple");
+                exchange.getIn().setHeader("type", "bronze");
+                exchange.getIn().setHeader("amount", 800);
+                exchange.getIn().setHeader("code", "abc-123");
+                exchange.setProperty("region", "Europe");
+                simple = (SimpleLanguage) camel.resolveLanguage("simple");
+                simple.setCompiled(compiled);
 
             } catch (Exception e) {
                 // ignore
@@ -109,4 +132,21 @@ public class SimpleExpressionTest {
         bh.consume(out);
     }
 
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void simplePredicates(BenchmarkState state, Blackhole bh) {
+        int matched = -1;
+        for (int i = 0; i < state.predicates.length; i++) {
+            Predicate predicate = state.simple.createPredicate(state.predicates[i]);
+            if (predicate.matches(state.exchange)) {
+                matched = i;
+                break;
+            }
+        }
+        if (matched != state.predicates.length - 1) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(matched);
+    }
+
 }
@@ -104,4 +104,11 @@ public class SlowTypeConverterTest {
         bh.consume(arr);
     }
 
+    @Benchmark
+    public void typeConvertByteBufToString(BenchmarkCamelContextState state, Blackhole bh) {
+        // the buffer is a sub class of ByteBuf so the type converter is found via its super class
+        String text = state.camel.getTypeConverter().convertTo(String.class, state.buffer);
+        bh.consume(text);
+    }
+
 }
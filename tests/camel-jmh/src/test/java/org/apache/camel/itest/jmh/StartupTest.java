@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.model.FilterDefinition;
+import org.apache.camel.model.FromDefinition;
+import org.apache.camel.model.Model;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.model.SetHeaderDefinition;
+import org.apache.camel.model.ToDefinition;
+import org.apache.camel.model.language.SimpleExpression;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Tests the time to first message when starting Camel with 10, 100 or 1000 routes,
+ * which are either loaded from XML, created with the Java DSL, or added as pre-parsed route model
+ * (such as generated by the camel-maven-plugin) which is still reified when Camel starts,
+ * and with the routes lazy started on first use or started in parallel.
+ */
+public class StartupTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.SingleShotTime)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupIterations(5)
+            .measurementIterations(10)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        String xml;
+
+        @Param({"10", "100", "1000"})
+        int routes;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("<routes xmlns=\"http://camel.apache.org/schema/spring\">\n");
+            for (int i = 0; i < routes; i++) {
+                sb.append("  <route id=\"route").append(i).append("\">\n");
+                sb.append("    <from uri=\"direct:start").append(i).append("\"/>\n");
+                sb.append("    <setHeader name=\"foo\"><simple>${body}</simple></setHeader>\n");
+                sb.append("    <filter><simple>${header.foo} != null</simple><to uri=\"log:foo?level=OFF\"/></filter>\n");
+                sb.append("    <to uri=\"log:result").append(i).append("?level=OFF\"/>\n");
+                sb.append("  </route>\n");
+            }
+            sb.append("</routes>\n");
+            xml = sb.toString();
+        }
+    }
+
+    @Benchmark
+    public void xmlRoutes(BenchmarkState state, Blackhole bh) throws Exception {
+        CamelContext camel = new DefaultCamelContext();
+        ExtendedCamelContext ecc = camel.adapt(ExtendedCamelContext.class);
+        RoutesDefinition routes = (RoutesDefinition) ecc.getXMLRoutesDefinitionLoader()
+            .loadRoutesDefinition(camel, new ByteArrayInputStream(state.xml.getBytes(StandardCharsets.UTF_8)));
+        camel.getExtension(Model.class).addRouteDefinitions(routes.getRoutes());
+        firstMessage(camel, bh);
+    }
+
+    @Benchmark
+    public void javaRoutes(BenchmarkState state, Blackhole bh) throws Exception {
+        CamelContext camel = new DefaultCamelContext();
+        addJavaRoutes(camel, state.routes);
+        firstMessage(camel, bh);
+    }
+
+    @Benchmark
+    public void javaRoutesLazyStart(BenchmarkState state, Blackhole bh) throws Exception {
+        CamelContext camel = new DefaultCamelContext();
+        // only the route in use is created and started
+        camel.adapt(ExtendedCamelContext.class).setLazyStartRoutes(true);
+        addJavaRoutes(camel, state.routes);
+        firstMessage(camel, bh);
+    }
+
+    @Benchmark
+    public void javaRoutesParallelStart(BenchmarkState state, Blackhole bh) throws Exception {
+        CamelContext camel = new DefaultCamelContext();
+        // the routes are independent of each other and started in parallel
+        camel.adapt(ExtendedCamelContext.class).setRouteStartupParallelism(4);
+        addJavaRoutes(camel, state.routes);
+        firstMessage(camel, bh);
+    }
+
+    private static void addJavaRoutes(CamelContext camel, int routes) throws Exception {
+        camel.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                for (int i = 0; i < routes; i++) {
+                    from("direct:start" + i).routeId("route" + i)
+                        .setHeader("foo", simple("${body}"))
+                        .filter(simple("${header.foo} != null"))
+                            .to("log:foo?level=OFF")
+                        .end()
+                        .to("log:result" + i + "?level=OFF");
+                }
+            }
+        });
+    }
+
+    @Benchmark
+    public void generatedRoutes(BenchmarkState state, Blackhole bh) throws Exception {
+        CamelContext camel = new DefaultCamelContext();
+        camel.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                for (int i = 0; i < state.routes; i++) {
+                    getRouteCollection().getRoutes().add(createRoute(i));
+                }
+            }
+        });
+        firstMessage(camel, bh);
+    }
+
+    /**
+     * Creates the route model in the same way as the code generated by the camel-maven-plugin
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static RouteDefinition createRoute(int i) {
+        RouteDefinition v0 = new RouteDefinition();
+        v0.setCustomId(true);
+        v0.setId("route" + i);
+        FromDefinition v1 = new FromDefinition();
+        v1.setUri("direct:start" + i);
+        v0.setInput(v1);
+        List v2 = new ArrayList();
+        SetHeaderDefinition v3 = new SetHeaderDefinition();
+        SimpleExpression v4 = new SimpleExpression();
+        v4.setExpression("${body}");
+        v3.setExpression(v4);
+        v3.setName("foo");
+        v2.add(v3);
+        FilterDefinition v5 = new FilterDefinition();
+        SimpleExpression v6 = new SimpleExpression();
+        v6.setExpression("${header.foo} != null");
+        v5.setExpression(v6);
+        List v7 = new ArrayList();
+        ToDefinition v8 = new ToDefinition();
+        v8.setUri("log:foo?level=OFF");
+        v7.add(v8);
+        v5.setOutputs(v7);
+        v2.add(v5);
+        ToDefinition v9 = new ToDefinition();
+        v9.setUri("log:result" + i + "?level=OFF");
+        v2.add(v9);
+        v0.setOutputs(v2);
+        return v0;
+    }
+
+    private static void firstMessage(CamelContext camel, Blackhole bh) {
+        camel.start();
+        ProducerTemplate producer = camel.createProducerTemplate();
+        bh.consume(producer.requestBody("direct:start0", "Hello World"));
+        producer.stop();
+        camel.stop();
+    }
+
+}
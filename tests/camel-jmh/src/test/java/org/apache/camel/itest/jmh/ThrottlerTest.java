@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.processor.Throttler;
+import org.apache.camel.processor.TokenBucketThrottler;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.support.service.ServiceHelper;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the cost of acquiring a permit from the throttler with many threads and correlation keys,
+ * using the rolling window versus the token bucket.
+ */
+public class ThrottlerTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(10))
+            .measurementIterations(2)
+            .threads(4)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        CamelContext camel;
+        ScheduledExecutorService executor;
+        Throttler throttler;
+        AtomicInteger counter = new AtomicInteger();
+        int keys = 100;
+
+        @Param({"rollingWindow", "tokenBucket"})
+        String type;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.start();
+            executor = Executors.newScheduledThreadPool(1);
+
+            ExpressionAdapter rate = new ExpressionAdapter() {
+                @Override
+                public Object evaluate(Exchange exchange) {
+                    return 10000;
+                }
+            };
+            ExpressionAdapter correlation = new ExpressionAdapter() {
+                @Override
+                public Object evaluate(Exchange exchange) {
+                    return exchange.getIn().getHeader("key");
+                }
+            };
+            // reject when the rate is exceeded so the threads are not blocked
+            if ("tokenBucket".equals(type)) {
+                throttler = new TokenBucketThrottler(camel, rate, 1000, executor, false, true, correlation);
+            } else {
+                throttler = new Throttler(camel, rate, 1000, executor, false, true, correlation);
+            }
+            ServiceHelper.startService(throttler);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                ServiceHelper.stopAndShutdownService(throttler);
+                executor.shutdownNow();
+                camel.stop();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void throttle(BenchmarkState state, Blackhole bh) throws Exception {
+        Exchange exchange = new DefaultExchange(state.camel);
+        exchange.getIn().setHeader("key", "key" + state.counter.incrementAndGet() % state.keys);
+        state.throttler.process(exchange);
+        bh.consume(exchange);
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.support.DefaultTimeoutMap;
+import org.apache.camel.support.HashedWheelTimeoutScheduler;
+import org.apache.camel.support.service.ServiceHelper;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the cost of putting and removing entries in a timeout map which holds millions of pending timeouts,
+ * using the timing wheel versus scanning the entire map at every check (as the timeout map used to do).
+ */
+public class TimeoutSchedulerTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(10))
+            .measurementIterations(2)
+            .threads(4)
+            .forks(1)
+            .jvmArgsAppend("-Xmx2g")
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        // check for timeouts every 10 millis
+        static final long TICK = 10;
+        // the pending timeouts does not expire during the benchmark
+        static final long TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+
+        ScheduledExecutorService executor;
+        HashedWheelTimeoutScheduler scheduler;
+        DefaultTimeoutMap<Long, Long> wheel;
+        Map<Long, Long> scan;
+        Lock lock = new ReentrantLock();
+        AtomicLong counter = new AtomicLong();
+
+        @Param({"1000000", "4000000"})
+        int pending;
+
+        @Param({"wheel", "scan"})
+        String type;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            executor = Executors.newScheduledThreadPool(1);
+            if ("wheel".equals(type)) {
+                scheduler = new HashedWheelTimeoutScheduler(executor, TICK, 4096);
+                ServiceHelper.startService(scheduler);
+                wheel = new DefaultTimeoutMap<>(scheduler);
+                ServiceHelper.startService(wheel);
+            } else {
+                // simulates finding the expired entries by scanning all the entries at every check,
+                // while holding the lock of the map
+                Map<Long, Long> map = new ConcurrentHashMap<>();
+                executor.scheduleWithFixedDelay(() -> {
+                    long now = System.currentTimeMillis();
+                    lock.lock();
+                    try {
+                        map.values().removeIf(expireTime -> expireTime < now);
+                    } finally {
+                        lock.unlock();
+                    }
+                }, TICK, TICK, TimeUnit.MILLISECONDS);
+                scan = map;
+            }
+            for (long i = 0; i < pending; i++) {
+                put(i);
+            }
+            counter.set(pending);
+        }
+
+        void put(long key) {
+            if (wheel != null) {
+                wheel.put(key, key, TIMEOUT);
+            } else {
+                lock.lock();
+                try {
+                    scan.put(key, System.currentTimeMillis() + TIMEOUT);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        Long remove(long key) {
+            if (wheel != null) {
+                return wheel.remove(key);
+            }
+            lock.lock();
+            try {
+                return scan.remove(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                ServiceHelper.stopService(wheel, scheduler);
+                executor.shutdownNow();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void putAndRemove(BenchmarkState state, Blackhole bh) {
+        // add a new timeout, and remove a random pending timeout (such as when a reply is received)
+        // so the number of pending timeouts stays roughly the same
+        long key = state.counter.getAndIncrement();
+        state.put(key);
+        bh.consume(state.remove(ThreadLocalRandom.current().nextLong(key - state.pending, key)));
+    }
+
+}
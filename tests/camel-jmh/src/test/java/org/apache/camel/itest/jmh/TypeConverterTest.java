@@ -77,6 +77,7 @@ public class TypeConverterTest {
         String someIntegerString = String.valueOf(someInteger);
         String xmlAsString;
         byte[] xmlAsBytes;
+        MyOrder order = new MyOrder();
 
         CamelContext camel;
 
@@ -151,4 +152,26 @@ public class TypeConverterTest {
         String string = state.camel.getTypeConverter().convertTo(String.class, state.xmlAsBytes);
         bh.consume(string);
     }
+
+    @Benchmark
+    public void typeConvertFallbackToString(BenchmarkCamelContextState state, Blackhole bh) {
+        // there is no type converter so the fallback converters are used
+        String string = state.camel.getTypeConverter().convertTo(String.class, state.order);
+        bh.consume(string);
+    }
+
+    @Benchmark
+    public void typeConvertMiss(BenchmarkCamelContextState state, Blackhole bh) {
+        // there is no type converter which can convert
+        Document document = state.camel.getTypeConverter().tryConvertTo(Document.class, state.order);
+        bh.consume(document);
+    }
+
+    public static class MyOrder {
+
+        @Override
+        public String toString() {
+            return "MyOrder";
+        }
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.xml.in.ModelParser;
+import org.apache.camel.xml.in.ModelParserXMLRoutesDefinitionLoader;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Generates a RouteBuilder class from the XML routes, which creates the pre-parsed route model
+ * so the XML routes does not have to be parsed when Camel is starting.
+ * <p/>
+ * The generated class can be added as a route builder to Camel (such as with camel-main),
+ * instead of loading the XML routes. The routes are still created from the route model when Camel is starting.
+ */
+@Mojo(name = "generate-routes", defaultPhase = LifecyclePhase.GENERATE_SOURCES, threadSafe = true)
+public class GenerateRoutesMojo extends AbstractMojo {
+
+    /**
+     * The maven project.
+     */
+    @Parameter(property = "project", required = true, readonly = true)
+    protected MavenProject project;
+
+    /**
+     * The directory with the XML routes (files with the .xml extension).
+     */
+    @Parameter(property = "camel.xmlRoutesDirectory", defaultValue = "${project.basedir}/src/main/resources/camel")
+    protected File xmlRoutesDirectory;
+
+    /**
+     * The directory where the generated source code is written.
+     */
+    @Parameter(property = "camel.generatedRoutesDirectory", defaultValue = "${project.build.directory}/generated-sources/camel-routes")
+    protected File outputDirectory;
+
+    /**
+     * The fully qualified class name of the generated RouteBuilder class.
+     */
+    @Parameter(property = "camel.generatedRoutesClassName", defaultValue = "org.apache.camel.generated.GeneratedRoutes")
+    protected String className;
+
+    /**
+     * Optional properties file with property placeholders which are constant, and therefore
+     * are resolved when generating the routes. Any other placeholders are resolved at runtime.
+     */
+    @Parameter(property = "camel.generatedRoutesPropertiesFile")
+    protected File propertiesFile;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        File[] files = xmlRoutesDirectory != null ? xmlRoutesDirectory.listFiles((dir, name) -> name.endsWith(".xml")) : null;
+        if (files == null || files.length == 0) {
+            getLog().info("No XML routes found in " + xmlRoutesDirectory + ". Skipping generating routes.");
+            return;
+        }
+        // sort the files so the generated code is the same on every build
+        Arrays.sort(files);
+
+        List<RoutesDefinition> routes = new ArrayList<>();
+        int count = 0;
+        for (File file : files) {
+            try (InputStream is = new FileInputStream(file)) {
+                RoutesDefinition def = new ModelParser(is, ModelParserXMLRoutesDefinitionLoader.NAMESPACE).parseRoutesDefinition();
+                routes.add(def);
+                count += def.getRoutes().size();
+            } catch (Exception e) {
+                throw new MojoExecutionException("Error parsing XML routes from file: " + file, e);
+            }
+        }
+
+        Properties properties = new Properties();
+        if (propertiesFile != null) {
+            try (InputStream is = new FileInputStream(propertiesFile)) {
+                properties.load(is);
+            } catch (Exception e) {
+                throw new MojoExecutionException("Error loading properties from file: " + propertiesFile, e);
+            }
+        }
+
+        int pos = className.lastIndexOf('.');
+        String packageName = pos > 0 ? className.substring(0, pos) : "";
+        String simpleName = className.substring(pos + 1);
+
+        String source;
+        try {
+            source = new RoutesJavaGenerator(properties).generate(packageName, simpleName, routes);
+        } catch (Exception e) {
+            throw new MojoExecutionException("Error generating routes from XML routes in: " + xmlRoutesDirectory, e);
+        }
+
+        File target = new File(outputDirectory, className.replace('.', File.separatorChar) + ".java");
+        try {
+            // only write the file if changed to not trigger a compile on every build
+            byte[] data = source.getBytes(StandardCharsets.UTF_8);
+            if (!target.exists() || !Arrays.equals(data, Files.readAllBytes(target.toPath()))) {
+                Files.createDirectories(target.getParentFile().toPath());
+                Files.write(target.toPath(), data);
+                getLog().info("Generated " + className + " with " + count + " routes from XML routes in: " + xmlRoutesDirectory);
+            }
+        } catch (Exception e) {
+            throw new MojoExecutionException("Error writing file: " + target, e);
+        }
+
+        project.addCompileSourceRoot(outputDirectory.getPath());
+    }
+
+}
@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RoutesDefinition;
+
+/**
+ * Generates the source code of a {@link org.apache.camel.builder.RouteBuilder} which creates the given route models
+ * directly by calling the setters on the model classes, so the routes does not have to be parsed from XML at runtime.
+ * The routes are still created from the route model when Camel is starting, as with any other route builder.
+ * <p/>
+ * The model is introspected using the getter and setter pairs of the model classes, and only the properties
+ * that differ from a new instance of the model class are set.
+ * <p/>
+ * Property placeholders in the attributes which are defined in the given properties are resolved at build time,
+ * the others are kept as-is and resolved at runtime as usual.
+ */
+public class RoutesJavaGenerator {
+
+    private final Properties properties;
+    private final StringBuilder sb = new StringBuilder();
+    private final Map<Object, Object> path = new IdentityHashMap<>();
+    private int counter;
+
+    public RoutesJavaGenerator(Properties properties) {
+        this.properties = properties != null ? properties : new Properties();
+    }
+
+    /**
+     * Generates the route builder source code
+     *
+     * @param packageName the package name (can be empty to use the default package)
+     * @param className   the simple class name
+     * @param routes      the routes
+     * @return the source code
+     */
+    public String generate(String packageName, String className, List<RoutesDefinition> routes) {
+        sb.setLength(0);
+        if (packageName != null && !packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("/**\n");
+        sb.append(" * Generated by camel-maven-plugin - do not edit this file!\n");
+        sb.append(" */\n");
+        sb.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        sb.append("public class ").append(className).append(" extends org.apache.camel.builder.RouteBuilder {\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    public void configure() throws Exception {\n");
+        int count = 0;
+        for (RoutesDefinition def : routes) {
+            for (RouteDefinition route : def.getRoutes()) {
+                sb.append("        getRouteCollection().getRoutes().add(createRoute").append(count++).append("());\n");
+            }
+        }
+        sb.append("    }\n");
+
+        count = 0;
+        for (RoutesDefinition def : routes) {
+            for (RouteDefinition route : def.getRoutes()) {
+                // use a method per route to not hit the limit of the size of a method
+                counter = 0;
+                sb.append("\n");
+                sb.append("    protected org.apache.camel.model.RouteDefinition createRoute").append(count++).append("() {\n");
+                String var = writeObject(route);
+                sb.append("        return ").append(var).append(";\n");
+                sb.append("    }\n");
+            }
+        }
+
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private String writeObject(Object node) {
+        Class<?> type = node.getClass();
+        Object defaults;
+        try {
+            defaults = type.getDeclaredConstructor().newInstance();
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Cannot generate code for " + type.getName() + " as it cannot be created using a no-arg constructor", e);
+        }
+
+        String var = "v" + counter++;
+        String typeName = type.getCanonicalName();
+        sb.append("        ").append(typeName).append(" ").append(var).append(" = new ").append(typeName).append("();\n");
+
+        path.put(node, node);
+        try {
+            // sort the methods so the generated code is the same on every build
+            Method[] methods = type.getMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName));
+            for (Method getter : methods) {
+                Method setter = findSetter(type, getter);
+                if (setter == null) {
+                    continue;
+                }
+                Object value = invoke(getter, node);
+                if (value == null || path.containsKey(value) || isEmpty(value) || Objects.equals(value, invoke(getter, defaults))) {
+                    continue;
+                }
+                String code = writeValue(value, node, getter);
+                sb.append("        ").append(var).append(".").append(setter.getName()).append("(").append(code).append(");\n");
+            }
+        } finally {
+            path.remove(node);
+        }
+        return var;
+    }
+
+    private String writeValue(Object value, Object node, Method getter) {
+        if (value instanceof String) {
+            return quote(resolvePlaceholders((String) value));
+        } else if (value instanceof Boolean || value instanceof Integer) {
+            return value.toString();
+        } else if (value instanceof Long) {
+            return value + "L";
+        } else if (value instanceof Double) {
+            return value + "d";
+        } else if (value instanceof Float) {
+            return value + "f";
+        } else if (value instanceof Short || value instanceof Byte) {
+            return "(" + value.getClass().getSimpleName().toLowerCase() + ") " + value;
+        } else if (value instanceof Character) {
+            return "'" + (value.equals('\'') ? "\\'" : escape(value.toString())) + "'";
+        } else if (value instanceof Enum) {
+            return ((Enum<?>) value).getDeclaringClass().getCanonicalName() + "." + ((Enum<?>) value).name();
+        } else if (value instanceof Collection) {
+            String var = "v" + counter++;
+            sb.append("        java.util.List ").append(var).append(" = new java.util.ArrayList();\n");
+            for (Object element : (Collection<?>) value) {
+                String code = element != null ? writeValue(element, node, getter) : "null";
+                sb.append("        ").append(var).append(".add(").append(code).append(");\n");
+            }
+            return var;
+        } else if (value.getClass().isArray()) {
+            List<String> codes = new ArrayList<>();
+            for (int i = 0; i < Array.getLength(value); i++) {
+                Object element = Array.get(value, i);
+                codes.add(element != null ? writeValue(element, node, getter) : "null");
+            }
+            return "new " + value.getClass().getComponentType().getCanonicalName() + "[]{" + String.join(", ", codes) + "}";
+        } else if (value.getClass().getName().startsWith("org.apache.camel.model.")) {
+            return writeObject(value);
+        }
+        throw new IllegalArgumentException("Cannot generate code for the value of type " + value.getClass().getName()
+                + " from " + getter.getName() + " on " + node.getClass().getName());
+    }
+
+    private String resolvePlaceholders(String text) {
+        String answer = text;
+        int start = answer.indexOf("{{");
+        while (start != -1) {
+            int end = answer.indexOf("}}", start);
+            if (end == -1) {
+                break;
+            }
+            String key = answer.substring(start + 2, end);
+            String value = properties.getProperty(key);
+            if (value != null) {
+                answer = answer.substring(0, start) + value + answer.substring(end + 2);
+                start = answer.indexOf("{{", start + value.length());
+            } else {
+                start = answer.indexOf("{{", end);
+            }
+        }
+        return answer;
+    }
+
+    private static Method findSetter(Class<?> type, Method getter) {
+        if (getter.getParameterCount() != 0 || Modifier.isStatic(getter.getModifiers()) || getter.getDeclaringClass() == Object.class) {
+            return null;
+        }
+        String name = getter.getName();
+        if (name.startsWith("get")) {
+            name = name.substring(3);
+        } else if (name.startsWith("is") && (getter.getReturnType() == boolean.class || getter.getReturnType() == Boolean.class)) {
+            name = name.substring(2);
+        } else {
+            return null;
+        }
+        if (name.isEmpty()) {
+            return null;
+        }
+        Method setter;
+        try {
+            setter = type.getMethod("set" + name, getter.getReturnType());
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        if (Modifier.isStatic(setter.getModifiers())) {
+            return null;
+        }
+
+        // only use the properties which are mapped in the XML model (such as the parent is not)
+        Field field = findField(type, Character.toLowerCase(name.charAt(0)) + name.substring(1));
+        if (isXmlTransient(getter) || isXmlTransient(setter) || (field != null && isXmlTransient(field))) {
+            return null;
+        }
+        if (field == null && !hasXmlAnnotation(getter) && !hasXmlAnnotation(setter)) {
+            return null;
+        }
+        return setter;
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            try {
+                Field field = clazz.getDeclaredField(name);
+                return Modifier.isStatic(field.getModifiers()) ? null : field;
+            } catch (NoSuchFieldException e) {
+                // try the super class
+            }
+        }
+        return null;
+    }
+
+    private static boolean isXmlTransient(AnnotatedElement element) {
+        // match the annotations by name, so we do not depend on the JAXB API
+        for (Annotation annotation : element.getAnnotations()) {
+            if ("XmlTransient".equals(annotation.annotationType().getSimpleName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasXmlAnnotation(AnnotatedElement element) {
+        for (Annotation annotation : element.getAnnotations()) {
+            if (annotation.annotationType().getSimpleName().startsWith("Xml")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object invoke(Method getter, Object target) {
+        try {
+            return getter.invoke(target);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Cannot invoke " + getter + " on " + target, e);
+        }
+    }
+
+    private static boolean isEmpty(Object value) {
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).isEmpty();
+        } else if (value instanceof Map) {
+            return ((Map<?, ?>) value).isEmpty();
+        } else if (value.getClass().isArray()) {
+            return Array.getLength(value) == 0;
+        }
+        return false;
+    }
+
+    private static String quote(String text) {
+        return "\"" + escape(text) + "\"";
+    }
+
+    private static String escape(String text) {
+        StringBuilder answer = new StringBuilder(text.length());
+        for (char ch : text.toCharArray()) {
+            switch (ch) {
+                case '\\': answer.append("\\\\"); break;
+                case '"': answer.append("\\\""); break;
+                case '\n': answer.append("\\n"); break;
+                case '\r': answer.append("\\r"); break;
+                case '\t': answer.append("\\t"); break;
+                default:
+                    if (ch < 0x20) {
+                        answer.append(String.format("\\u%04x", (int) ch));
+                    } else {
+                        answer.append(ch);
+                    }
+            }
+        }
+        return answer.toString();
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.model.ChoiceDefinition;
+import org.apache.camel.model.LogDefinition;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.model.SetHeaderDefinition;
+import org.apache.camel.model.SplitDefinition;
+import org.apache.camel.model.ToDefinition;
+import org.apache.camel.xml.in.ModelParser;
+import org.apache.camel.xml.in.ModelParserXMLRoutesDefinitionLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RoutesJavaGeneratorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testGenerateRoutes() throws Exception {
+        RoutesDefinition xml;
+        try (InputStream is = getClass().getResourceAsStream("generate-routes.xml")) {
+            xml = new ModelParser(is, ModelParserXMLRoutesDefinitionLoader.NAMESPACE).parseRoutesDefinition();
+        }
+        Properties properties = new Properties();
+        properties.setProperty("fooUri", "mock:foo");
+
+        String source = new RoutesJavaGenerator(properties).generate("org.apache.camel.generated", "MyRoutes", Collections.singletonList(xml));
+        RoutesDefinition java = compile(source, "org.apache.camel.generated.MyRoutes").configureRoutes(new DefaultCamelContext());
+
+        // the generated routes should be the same as the XML routes (with the known placeholders resolved)
+        List<RouteDefinition> routes = java.getRoutes();
+        assertEquals(xml.getRoutes().size(), routes.size());
+        for (int i = 0; i < routes.size(); i++) {
+            assertEquals(xml.getRoutes().get(i).toString().replace("{{fooUri}}", "mock:foo"), routes.get(i).toString());
+        }
+        // and generate the same source code
+        assertEquals(source, new RoutesJavaGenerator(properties).generate("org.apache.camel.generated", "MyRoutes", Collections.singletonList(java)));
+
+        RouteDefinition foo = routes.get(0);
+        assertEquals("foo", foo.getId());
+        assertEquals("10", foo.getStartupOrder().toString());
+        assertEquals("direct:foo", foo.getInput().getEndpointUri());
+        assertEquals("${body} \"quoted\"", ((SetHeaderDefinition) foo.getOutputs().get(0)).getExpression().getExpression());
+        ChoiceDefinition choice = (ChoiceDefinition) foo.getOutputs().get(1);
+        // the placeholder is resolved at build time
+        assertEquals("mock:foo", ((ToDefinition) choice.getWhenClauses().get(0).getOutputs().get(0)).getUri());
+        // and the unknown placeholder is kept
+        assertEquals("Other {{other}}", ((LogDefinition) choice.getOtherwise().getOutputs().get(0)).getMessage());
+
+        RouteDefinition bar = routes.get(1);
+        assertEquals("false", bar.getAutoStartup());
+        SplitDefinition split = (SplitDefinition) bar.getOutputs().get(0);
+        assertEquals("true", split.getStreaming());
+        assertEquals("true", split.getParallelProcessing());
+        assertEquals(2, split.getOutputs().size());
+    }
+
+    private RouteBuilder compile(String source, String className) throws Exception {
+        Path file = dir.resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(file.getParent());
+        Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        OutputStream out = new ByteArrayOutputStream();
+        int rc = compiler.run(null, out, new PrintStream(out), "-classpath", System.getProperty("java.class.path"),
+                "-d", dir.toString(), file.toString());
+        assertTrue(rc == 0, () -> "Generated source does not compile: " + out + "\n" + source);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {dir.toUri().toURL()}, getClass().getClassLoader())) {
+            return (RouteBuilder) loader.loadClass(className).getDeclaredConstructor().newInstance();
+        }
+    }
+
+}